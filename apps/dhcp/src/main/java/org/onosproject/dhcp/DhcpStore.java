@@ -19,6 +19,7 @@ import org.onlab.packet.Ip4Address;
 import org.onlab.packet.MacAddress;
 import org.onosproject.net.HostId;
 
+import java.util.Date;
 import java.util.Map;
 
 /**
@@ -81,6 +82,14 @@ public interface DhcpStore {
      */
     Map<HostId, IpAssignment> listAllMapping();
 
+    /**
+     * Returns a collection of the MacAddress to IPAddress mappings whose lease has expired.
+     *
+     * @param dateNow the current time
+     * @return the collection of the expired mappings
+     */
+    Map<HostId, IpAssignment> listExpiredMapping(Date dateNow);
+
     /**
      * Assigns the requested IP to the MAC ID (if available) for an indefinite period of time.
      *
@@ -36,6 +36,7 @@ import org.onlab.packet.MacAddress;
 import org.onlab.packet.TpPort;
 import org.onlab.packet.UDP;
 import org.onlab.packet.VlanId;
+import org.onlab.util.KeyedExecutor;
 import org.onlab.util.Timer;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.CoreService;
@@ -79,6 +80,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.onlab.packet.MacAddress.valueOf;
+import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.net.config.basics.SubjectFactories.APP_SUBJECT_FACTORY;
 
 /**
@@ -158,6 +160,11 @@ public class DhcpManager implements DhcpService {
 
     protected static int timerDelay = 2;
 
+    private static final int PACKET_LANES = 4;
+
+    // Handles the DHCP messages of each client in order, off the packet thread
+    protected KeyedExecutor packetExecutor;
+
     @Activate
     protected void activate() {
         // start the dhcp server
@@ -168,6 +175,7 @@ public class DhcpManager implements DhcpService {
         cfgListener.reconfigureNetwork(cfgService.getConfig(appId, DhcpConfig.class));
 
         hostProviderService = hostProviderRegistry.register(hostProvider);
+        packetExecutor = new KeyedExecutor(PACKET_LANES, groupedThreads("onos/dhcp", "packet-%d"));
         packetService.addProcessor(processor, PacketProcessor.director(0));
         requestPackets();
         timeout = Timer.getTimer().newTimeout(new PurgeListTask(), timerDelay, TimeUnit.MINUTES);
@@ -179,6 +187,7 @@ public class DhcpManager implements DhcpService {
         cfgService.removeListener(cfgListener);
         factories.forEach(cfgService::unregisterConfigFactory);
         packetService.removeProcessor(processor);
+        packetExecutor.shutdown();
         hostProviderRegistry.unregister(hostProvider);
         hostProviderService = null;
         cancelPackets();
@@ -553,7 +562,13 @@ public class DhcpManager implements DhcpService {
                         // This is meant for the dhcp server so process the packet here.
 
                         DHCP dhcpPayload = (DHCP) udpPacket.getPayload();
-                        processDHCPPacket(context, dhcpPayload);
+                        if (dhcpPayload == null) {
+                            return;
+                        }
+                        // Claim the packet now, the reply is sent later on
+                        context.block();
+                        MacAddress clientMAC = new MacAddress(dhcpPayload.getClientHardwareAddress());
+                        packetExecutor.execute(clientMAC, () -> processDHCPPacket(context, dhcpPayload));
                     }
                 }
             } else if (packet.getEtherType() == Ethernet.TYPE_ARP) {
@@ -655,21 +670,14 @@ public class DhcpManager implements DhcpService {
 
         @Override
         public void run(Timeout to) {
-            IpAssignment ipAssignment;
             Date dateNow = new Date();
 
-            Map<HostId, IpAssignment> ipAssignmentMap = dhcpStore.listAllMapping();
+            // Only the expired leases are visited
+            Map<HostId, IpAssignment> ipAssignmentMap = dhcpStore.listExpiredMapping(dateNow);
             for (Map.Entry<HostId, IpAssignment> entry: ipAssignmentMap.entrySet()) {
-                ipAssignment = entry.getValue();
-
-                long timeLapsed = dateNow.getTime() - ipAssignment.timestamp().getTime();
-                if ((ipAssignment.assignmentStatus() != IpAssignment.AssignmentStatus.Option_Expired) &&
-                        (ipAssignment.leasePeriod() > 0) && (timeLapsed > (ipAssignment.leasePeriodMs()))) {
-
-                    dhcpStore.releaseIP(entry.getKey());
-                    // TODO remove only the IP from the host entry when the API is in place.
-                    hostProviderService.hostVanished(entry.getKey());
-                }
+                dhcpStore.releaseIP(entry.getKey());
+                // TODO remove only the IP from the host entry when the API is in place.
+                hostProviderService.hostVanished(entry.getKey());
             }
             timeout = Timer.getTimer().newTimeout(new PurgeListTask(), timerDelay, TimeUnit.MINUTES);
         }
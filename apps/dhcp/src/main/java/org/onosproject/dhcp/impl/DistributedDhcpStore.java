@@ -31,7 +31,11 @@ import org.onosproject.net.HostId;
 import org.onosproject.store.serializers.KryoNamespaces;
 import org.onosproject.store.service.ConsistentMap;
 import org.onosproject.store.service.DistributedSet;
+import org.onosproject.store.service.MapEvent;
+import org.onosproject.store.service.MapEventListener;
 import org.onosproject.store.service.Serializer;
+import org.onosproject.store.service.SetEvent;
+import org.onosproject.store.service.SetEventListener;
 import org.onosproject.store.service.StorageService;
 import org.onosproject.store.service.Versioned;
 import org.slf4j.Logger;
@@ -60,6 +64,16 @@ public class DistributedDhcpStore implements DhcpStore {
 
     private DistributedSet<Ip4Address> freeIPPool;
 
+    // Local indexes of the distributed state, maintained from its events
+    private volatile FreeIpBitmap freeIPIndex;
+
+    private final LeaseExpiryIndex leaseExpiryIndex = new LeaseExpiryIndex();
+
+    private final MapEventListener<HostId, IpAssignment> allocationListener =
+            new InternalAllocationListener();
+
+    private final SetEventListener<Ip4Address> freeIPListener = new InternalFreeIPListener();
+
     private static Ip4Address startIPRange;
 
     private static Ip4Address endIPRange;
@@ -88,11 +102,19 @@ public class DistributedDhcpStore implements DhcpStore {
                 .withSerializer(Serializer.using(KryoNamespaces.API))
                 .build();
 
+        allocationMap.addListener(allocationListener);
+        freeIPPool.addListener(freeIPListener);
+        for (Map.Entry<HostId, Versioned<IpAssignment>> entry : allocationMap.entrySet()) {
+            leaseExpiryIndex.update(entry.getKey(), entry.getValue().value());
+        }
+
         log.info("Started");
     }
 
     @Deactivate
     protected void deactivate() {
+        allocationMap.removeListener(allocationListener);
+        freeIPPool.removeListener(freeIPListener);
         log.info("Stopped");
     }
 
@@ -114,32 +136,28 @@ public class DistributedDhcpStore implements DhcpStore {
 
             } else if (status == IpAssignment.AssignmentStatus.Option_Expired) {
                 // Client has a Released or Expired Binding.
-                if (freeIPPool.contains(ipAddr)) {
+                if (takeFreeIP(ipAddr)) {
                     assignmentInfo = IpAssignment.builder()
                             .ipAddress(ipAddr)
                             .timestamp(new Date())
                             .leasePeriod(timeoutForPendingAssignments)
                             .assignmentStatus(IpAssignment.AssignmentStatus.Option_Requested)
                             .build();
-                    if (freeIPPool.remove(ipAddr)) {
-                        allocationMap.put(hostId, assignmentInfo);
-                        return ipAddr;
-                    }
+                    allocationMap.put(hostId, assignmentInfo);
+                    return ipAddr;
                 }
             }
         } else if (requestedIP.toInt() != 0) {
             // Client has requested an IP.
-            if (freeIPPool.contains(requestedIP)) {
+            if (takeFreeIP(requestedIP)) {
                 assignmentInfo = IpAssignment.builder()
                         .ipAddress(requestedIP)
                         .timestamp(new Date())
                         .leasePeriod(timeoutForPendingAssignments)
                         .assignmentStatus(IpAssignment.AssignmentStatus.Option_Requested)
                         .build();
-                if (freeIPPool.remove(requestedIP)) {
-                    allocationMap.put(hostId, assignmentInfo);
-                    return requestedIP;
-                }
+                allocationMap.put(hostId, assignmentInfo);
+                return requestedIP;
             }
         }
 
@@ -182,31 +200,27 @@ public class DistributedDhcpStore implements DhcpStore {
                     return true;
                 } else if (status == IpAssignment.AssignmentStatus.Option_Expired) {
                     // Client has an expired binding with the server.
-                    if (freeIPPool.contains(ipAddr)) {
+                    if (takeFreeIP(ipAddr)) {
                         assignmentInfo = IpAssignment.builder()
                                 .ipAddress(ipAddr)
                                 .timestamp(new Date())
                                 .leasePeriod(leaseTime)
                                 .assignmentStatus(IpAssignment.AssignmentStatus.Option_Assigned)
                                 .build();
-                        if (freeIPPool.remove(ipAddr)) {
-                            allocationMap.put(hostId, assignmentInfo);
-                            return true;
-                        }
+                        allocationMap.put(hostId, assignmentInfo);
+                        return true;
                     }
                 }
             }
-        } else if (freeIPPool.contains(ipAddr)) {
+        } else if (takeFreeIP(ipAddr)) {
             assignmentInfo = IpAssignment.builder()
                                     .ipAddress(ipAddr)
                                     .timestamp(new Date())
                                     .leasePeriod(leaseTime)
                                     .assignmentStatus(IpAssignment.AssignmentStatus.Option_Assigned)
                                     .build();
-            if (freeIPPool.remove(ipAddr)) {
-                allocationMap.put(hostId, assignmentInfo);
-                return true;
-            }
+            allocationMap.put(hostId, assignmentInfo);
+            return true;
         }
         return false;
     }
@@ -220,7 +234,7 @@ public class DistributedDhcpStore implements DhcpStore {
             Ip4Address freeIP = newAssignment.ipAddress();
             allocationMap.put(hostId, newAssignment);
             if (ipWithinRange(freeIP)) {
-                freeIPPool.add(freeIP);
+                releaseFreeIP(freeIP);
             }
         }
     }
@@ -253,6 +267,26 @@ public class DistributedDhcpStore implements DhcpStore {
         return validMapping;
     }
 
+    @Override
+    public Map<HostId, IpAssignment> listExpiredMapping(Date dateNow) {
+        Map<HostId, IpAssignment> expiredMapping = new HashMap<>();
+        IpAssignment assignment;
+        for (HostId hostId : leaseExpiryIndex.expiredBefore(dateNow.getTime())) {
+            // The index may lag behind the map; check the current assignment
+            Versioned<IpAssignment> versioned = allocationMap.get(hostId);
+            if (versioned == null) {
+                continue;
+            }
+            assignment = versioned.value();
+            if ((assignment.assignmentStatus() != IpAssignment.AssignmentStatus.Option_Expired) &&
+                    (assignment.leasePeriod() > 0) &&
+                    (LeaseExpiryIndex.expiry(assignment) < dateNow.getTime())) {
+                expiredMapping.put(hostId, assignment);
+            }
+        }
+        return expiredMapping;
+    }
+
     @Override
     public boolean assignStaticIP(MacAddress macID, Ip4Address ipAddr) {
         HostId host = HostId.hostId(macID);
@@ -268,7 +302,7 @@ public class DistributedDhcpStore implements DhcpStore {
             if (assignment.leasePeriod() < 0) {
                 allocationMap.remove(host);
                 if (ipWithinRange(freeIP)) {
-                    freeIPPool.add(freeIP);
+                    releaseFreeIP(freeIP);
                 }
                 return true;
             }
@@ -278,7 +312,11 @@ public class DistributedDhcpStore implements DhcpStore {
 
     @Override
     public Iterable<Ip4Address> getAvailableIPs() {
-        return ImmutableSet.copyOf(freeIPPool);
+        FreeIpBitmap index = freeIPIndex;
+        if (index == null) {
+            return ImmutableSet.copyOf(freeIPPool);
+        }
+        return ImmutableSet.copyOf(index.addresses());
     }
 
     @Override
@@ -288,6 +326,8 @@ public class DistributedDhcpStore implements DhcpStore {
         freeIPPool.clear();
         startIPRange = startIP;
         endIPRange = endIP;
+        leaseExpiryIndex.clear();
+        freeIPIndex = new FreeIpBitmap(startIP, endIP);
 
         int lastIP = endIP.toInt();
         Ip4Address nextIP;
@@ -299,18 +339,60 @@ public class DistributedDhcpStore implements DhcpStore {
 
     /**
      * Fetches the next available IP from the free pool pf IPs.
+     * <p>
+     * Candidates are taken from the local bitmap of free IPs, so each one
+     * costs a single removal from the distributed pool.
+     * </p>
      *
      * @return the next available IP address
      */
     private Ip4Address fetchNextIP() {
-        for (Ip4Address freeIP : freeIPPool) {
-            if (freeIPPool.remove(freeIP)) {
+        FreeIpBitmap index = freeIPIndex;
+        if (index == null) {
+            return null;
+        }
+        Ip4Address freeIP;
+        while ((freeIP = index.next()) != null) {
+            if (takeFreeIP(freeIP)) {
                 return freeIP;
             }
         }
         return null;
     }
 
+    /**
+     * Removes the given IP from the free pool of IPs, if it is available.
+     *
+     * @param ip IP address
+     * @return true if the IP was available and is now taken, false otherwise
+     */
+    private boolean takeFreeIP(Ip4Address ip) {
+        FreeIpBitmap index = freeIPIndex;
+        if (index != null && !index.contains(ip)) {
+            // Known to be taken; spares a round trip to the pool
+            return false;
+        }
+        boolean taken = freeIPPool.remove(ip);
+        if (index != null) {
+            // The removal event may take a while; do not offer the IP again
+            index.remove(ip);
+        }
+        return taken;
+    }
+
+    /**
+     * Adds the given IP back to the free pool of IPs.
+     *
+     * @param ip IP address
+     */
+    private void releaseFreeIP(Ip4Address ip) {
+        freeIPPool.add(ip);
+        FreeIpBitmap index = freeIPIndex;
+        if (index != null) {
+            index.add(ip);
+        }
+    }
+
     /**
      * Returns true if the given ip is within the range of available IPs.
      *
@@ -323,4 +405,30 @@ public class DistributedDhcpStore implements DhcpStore {
         }
         return false;
     }
+
+    private class InternalAllocationListener implements MapEventListener<HostId, IpAssignment> {
+        @Override
+        public void event(MapEvent<HostId, IpAssignment> event) {
+            if (event.type() == MapEvent.Type.REMOVE) {
+                leaseExpiryIndex.remove(event.key());
+            } else {
+                leaseExpiryIndex.update(event.key(), event.value().value());
+            }
+        }
+    }
+
+    private class InternalFreeIPListener implements SetEventListener<Ip4Address> {
+        @Override
+        public void event(SetEvent<Ip4Address> event) {
+            FreeIpBitmap index = freeIPIndex;
+            if (index == null) {
+                return;
+            }
+            if (event.type() == SetEvent.Type.ADD) {
+                index.add(event.entry());
+            } else {
+                index.remove(event.entry());
+            }
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.dhcp.impl;
+
+import org.onlab.packet.Ip4Address;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Bitmap of the free addresses of an IP address range, one bit per address.
+ * <p>
+ * Allocation is next-fit: the search for a free address resumes after the
+ * last address handed out, so recently released addresses are reused last.
+ * </p>
+ */
+final class FreeIpBitmap {
+
+    private final long start;
+    private final int size;
+    private final BitSet free;
+    private int cursor;
+
+    /**
+     * Creates a bitmap for the given range, with all addresses free.
+     *
+     * @param startIP first address of the range
+     * @param endIP   last address of the range
+     */
+    FreeIpBitmap(Ip4Address startIP, Ip4Address endIP) {
+        this.start = unsigned(startIP);
+        long length = unsigned(endIP) - start + 1;
+        checkArgument(length > 0 && length <= Integer.MAX_VALUE,
+                      "Invalid address range %s - %s", startIP, endIP);
+        this.size = (int) length;
+        this.free = new BitSet(size);
+        free.set(0, size);
+    }
+
+    /**
+     * Marks an address as free.
+     *
+     * @param ip IP address
+     * @return true if the address is within the range
+     */
+    synchronized boolean add(Ip4Address ip) {
+        int index = index(ip);
+        if (index < 0) {
+            return false;
+        }
+        free.set(index);
+        return true;
+    }
+
+    /**
+     * Marks an address as in use.
+     *
+     * @param ip IP address
+     * @return true if the address was free
+     */
+    synchronized boolean remove(Ip4Address ip) {
+        int index = index(ip);
+        if (index < 0 || !free.get(index)) {
+            return false;
+        }
+        free.clear(index);
+        return true;
+    }
+
+    /**
+     * Returns whether an address is free.
+     *
+     * @param ip IP address
+     * @return true if the address is within the range and free
+     */
+    synchronized boolean contains(Ip4Address ip) {
+        int index = index(ip);
+        return index >= 0 && free.get(index);
+    }
+
+    /**
+     * Returns the next free address, without marking it as in use.
+     *
+     * @return free IP address, or null if the range is exhausted
+     */
+    synchronized Ip4Address next() {
+        int index = free.nextSetBit(cursor);
+        if (index < 0) {
+            index = free.nextSetBit(0);
+            if (index < 0) {
+                return null;
+            }
+        }
+        cursor = index + 1 < size ? index + 1 : 0;
+        return Ip4Address.valueOf((int) (start + index));
+    }
+
+    /**
+     * Returns the number of free addresses.
+     *
+     * @return free address count
+     */
+    synchronized int size() {
+        return free.cardinality();
+    }
+
+    /**
+     * Returns the free addresses, in ascending order.
+     *
+     * @return list of free IP addresses
+     */
+    synchronized List<Ip4Address> addresses() {
+        List<Ip4Address> addresses = new ArrayList<>(free.cardinality());
+        for (int i = free.nextSetBit(0); i >= 0; i = free.nextSetBit(i + 1)) {
+            addresses.add(Ip4Address.valueOf((int) (start + i)));
+        }
+        return addresses;
+    }
+
+    private int index(Ip4Address ip) {
+        long offset = unsigned(ip) - start;
+        return offset >= 0 && offset < size ? (int) offset : -1;
+    }
+
+    private static long unsigned(Ip4Address ip) {
+        return ip.toInt() & 0xffffffffL;
+    }
+}
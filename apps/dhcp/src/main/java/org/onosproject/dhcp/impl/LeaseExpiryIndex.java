@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.dhcp.impl;
+
+import org.onosproject.dhcp.IpAssignment;
+import org.onosproject.net.HostId;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the hosts holding an expiring IP assignment, sorted by the time
+ * their lease expires.
+ * <p>
+ * Static assignments and assignments already expired or released are not
+ * indexed, so a purge only visits the leases that are due.
+ * </p>
+ */
+final class LeaseExpiryIndex {
+
+    private final NavigableMap<Long, Set<HostId>> byExpiry = new TreeMap<>();
+    private final Map<HostId, Long> expiries = new HashMap<>();
+
+    /**
+     * Indexes the current assignment of a host, replacing its previous one.
+     *
+     * @param hostId     host identifier
+     * @param assignment IP assignment of the host
+     */
+    synchronized void update(HostId hostId, IpAssignment assignment) {
+        remove(hostId);
+        if (assignment.assignmentStatus() == IpAssignment.AssignmentStatus.Option_Expired ||
+                assignment.leasePeriod() <= 0) {
+            return;
+        }
+        long expiry = expiry(assignment);
+        expiries.put(hostId, expiry);
+        byExpiry.computeIfAbsent(expiry, e -> new HashSet<>()).add(hostId);
+    }
+
+    /**
+     * Removes a host from the index.
+     *
+     * @param hostId host identifier
+     */
+    synchronized void remove(HostId hostId) {
+        Long expiry = expiries.remove(hostId);
+        if (expiry == null) {
+            return;
+        }
+        Set<HostId> hosts = byExpiry.get(expiry);
+        hosts.remove(hostId);
+        if (hosts.isEmpty()) {
+            byExpiry.remove(expiry);
+        }
+    }
+
+    /**
+     * Returns the hosts whose lease expired before the given time.
+     *
+     * @param timeMs time in milliseconds since the epoch
+     * @return set of host identifiers
+     */
+    synchronized Set<HostId> expiredBefore(long timeMs) {
+        Set<HostId> expired = new HashSet<>();
+        byExpiry.headMap(timeMs, false).values().forEach(expired::addAll);
+        return expired;
+    }
+
+    /**
+     * Returns the number of indexed hosts.
+     *
+     * @return number of hosts
+     */
+    synchronized int size() {
+        return expiries.size();
+    }
+
+    /**
+     * Removes all hosts from the index.
+     */
+    synchronized void clear() {
+        byExpiry.clear();
+        expiries.clear();
+    }
+
+    /**
+     * Returns the time at which the lease of an assignment expires.
+     *
+     * @param assignment IP assignment
+     * @return expiry time in milliseconds since the epoch
+     */
+    static long expiry(IpAssignment assignment) {
+        return assignment.timestamp().getTime() + assignment.leasePeriodMs();
+    }
+}
@@ -55,8 +55,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 import static org.onosproject.net.NetTestTools.connectPoint;
 
@@ -82,6 +86,8 @@ public class DhcpManagerTest {
 
     private static final ProviderId PID = new ProviderId("of", "foo");
 
+    private final BlockingQueue<OutboundPacket> emittedPackets = new LinkedBlockingQueue<>();
+
     @Before
     public void setUp() {
         dhcpXManager = new DhcpManager();
@@ -119,7 +125,8 @@ public class DhcpManagerTest {
     }
 
     /**
-     * Sends an Ethernet packet to the process method of the Packet Processor.
+     * Sends an Ethernet packet to the process method of the Packet Processor
+     * and validates the reply, which is sent asynchronously.
      * @param reply Ethernet packet
      */
     private void sendPacket(Ethernet reply) {
@@ -130,6 +137,16 @@ public class DhcpManagerTest {
 
         PacketContext context = new TestPacketContext(127L, inPacket, null, false);
         packetProcessor.process(context);
+
+        try {
+            OutboundPacket packet = emittedPackets.poll(5, TimeUnit.SECONDS);
+            assertNotNull("No reply was sent", packet);
+            Ethernet eth = Ethernet.deserializer().deserialize(packet.data().array(),
+                    0, packet.data().array().length);
+            validatePacket(eth);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
     }
 
     /**
@@ -241,6 +258,10 @@ public class DhcpManagerTest {
             return listAllMapping();
         }
 
+        public Map<HostId, IpAssignment> listExpiredMapping(Date dateNow) {
+            return new HashMap<>();
+        }
+
         public Map<HostId, IpAssignment> listAllMapping() {
             Map<HostId, IpAssignment> map = new HashMap<>();
             IpAssignment assignment = IpAssignment.builder()
@@ -284,7 +305,7 @@ public class DhcpManagerTest {
     }
 
     /**
-     * Keeps a reference to the PacketProcessor and verifies the OutboundPackets.
+     * Keeps a reference to the PacketProcessor and records the OutboundPackets.
      */
     private class TestPacketService extends PacketServiceAdapter {
 
@@ -295,13 +316,7 @@ public class DhcpManagerTest {
 
         @Override
         public void emit(OutboundPacket packet) {
-            try {
-                Ethernet eth = Ethernet.deserializer().deserialize(packet.data().array(),
-                        0, packet.data().array().length);
-                validatePacket(eth);
-            } catch (Exception e) {
-                fail(e.getMessage());
-            }
+            emittedPackets.add(packet);
         }
     }
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.dhcp.impl;
+
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit Tests for FreeIpBitmap class.
+ */
+public class FreeIpBitmapTest {
+
+    private static final Ip4Address IP1 = Ip4Address.valueOf("10.1.0.254");
+    private static final Ip4Address IP2 = Ip4Address.valueOf("10.1.0.255");
+    private static final Ip4Address IP3 = Ip4Address.valueOf("10.1.1.0");
+
+    /**
+     * Tests that a new bitmap holds exactly the addresses of its range.
+     */
+    @Test
+    public void testRange() {
+        FreeIpBitmap bitmap = new FreeIpBitmap(IP1, IP3);
+        assertThat(bitmap.size(), is(3));
+        assertThat(bitmap.addresses(), contains(IP1, IP2, IP3));
+        assertThat(bitmap.contains(Ip4Address.valueOf("10.1.1.1")), is(false));
+        assertThat(bitmap.add(Ip4Address.valueOf("10.1.1.1")), is(false));
+    }
+
+    /**
+     * Tests that allocation is next-fit and skips the addresses in use.
+     */
+    @Test
+    public void testNext() {
+        FreeIpBitmap bitmap = new FreeIpBitmap(IP1, IP3);
+        assertThat(bitmap.remove(IP2), is(true));
+        assertThat(bitmap.remove(IP2), is(false));
+
+        assertThat(bitmap.next(), is(IP1));
+        bitmap.remove(IP1);
+        // Released addresses are only reused once the cursor wraps around
+        bitmap.add(IP2);
+        assertThat(bitmap.next(), is(IP2));
+        bitmap.remove(IP2);
+        assertThat(bitmap.next(), is(IP3));
+        bitmap.remove(IP3);
+        assertThat(bitmap.next(), nullValue());
+
+        bitmap.add(IP1);
+        assertThat(bitmap.next(), is(IP1));
+    }
+}
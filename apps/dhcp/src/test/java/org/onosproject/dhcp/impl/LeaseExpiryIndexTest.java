@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.dhcp.impl;
+
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.MacAddress;
+import org.onosproject.dhcp.IpAssignment;
+import org.onosproject.net.HostId;
+
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit Tests for LeaseExpiryIndex class.
+ */
+public class LeaseExpiryIndexTest {
+
+    private static final HostId HOST1 = HostId.hostId(MacAddress.valueOf("1a:1a:1a:1a:1a:1a"));
+    private static final HostId HOST2 = HostId.hostId(MacAddress.valueOf("2b:2b:2b:2b:2b:2b"));
+    private static final HostId HOST3 = HostId.hostId(MacAddress.valueOf("3c:3c:3c:3c:3c:3c"));
+
+    private static final long NOW = 1_000_000L;
+
+    private static IpAssignment assignment(int leasePeriod, IpAssignment.AssignmentStatus status) {
+        return IpAssignment.builder()
+                .ipAddress(Ip4Address.valueOf("10.10.10.10"))
+                .leasePeriod(leasePeriod)
+                .assignmentStatus(status)
+                .timestamp(new Date(NOW))
+                .build();
+    }
+
+    /**
+     * Tests that only the leases expired by the given time are returned.
+     */
+    @Test
+    public void testExpiredBefore() {
+        LeaseExpiryIndex index = new LeaseExpiryIndex();
+        index.update(HOST1, assignment(10, IpAssignment.AssignmentStatus.Option_Assigned));
+        index.update(HOST2, assignment(20, IpAssignment.AssignmentStatus.Option_Requested));
+        index.update(HOST3, assignment(10, IpAssignment.AssignmentStatus.Option_Assigned));
+
+        assertThat(index.size(), is(3));
+        assertThat(index.expiredBefore(NOW + 10_000), is(empty()));
+        assertThat(index.expiredBefore(NOW + 10_001), containsInAnyOrder(HOST1, HOST3));
+        assertThat(index.expiredBefore(NOW + 20_001), containsInAnyOrder(HOST1, HOST2, HOST3));
+    }
+
+    /**
+     * Tests that static, expired and removed assignments are not indexed.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        LeaseExpiryIndex index = new LeaseExpiryIndex();
+        index.update(HOST1, assignment(10, IpAssignment.AssignmentStatus.Option_Assigned));
+        index.update(HOST2, assignment(-1, IpAssignment.AssignmentStatus.Option_Assigned));
+        index.update(HOST3, assignment(10, IpAssignment.AssignmentStatus.Option_Expired));
+        assertThat(index.size(), is(1));
+
+        // A renewed lease replaces the previous one
+        index.update(HOST1, assignment(30, IpAssignment.AssignmentStatus.Option_Assigned));
+        assertThat(index.expiredBefore(NOW + 20_000), is(empty()));
+        assertThat(index.size(), is(1));
+
+        index.remove(HOST1);
+        assertThat(index.size(), is(0));
+        assertThat(index.expiredBefore(Long.MAX_VALUE), is(empty()));
+    }
+}
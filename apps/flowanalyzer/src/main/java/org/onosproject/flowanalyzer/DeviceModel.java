@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.onosproject.flowanalyzer.TernaryMatch.Field;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.instructions.Instruction;
+import org.onosproject.net.flow.instructions.Instructions.OutputInstruction;
+import org.onosproject.net.flow.instructions.Instructions.TableTypeTransition;
+import org.onosproject.net.flow.instructions.L2ModificationInstruction;
+import org.onosproject.net.flow.instructions.L2ModificationInstruction.ModEtherInstruction;
+import org.onosproject.net.flow.instructions.L2ModificationInstruction.ModMplsLabelInstruction;
+import org.onosproject.net.flow.instructions.L2ModificationInstruction.ModVlanIdInstruction;
+import org.onosproject.net.flow.instructions.L3ModificationInstruction;
+import org.onosproject.net.flow.instructions.L3ModificationInstruction.ModIPInstruction;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Header space model of the flow tables of a single device.
+ * <p>
+ * Each rule is compiled into a ternary match and the list of actions it
+ * applies. Rewrites of fields outside of the model and group actions are
+ * not followed.
+ * </p>
+ */
+final class DeviceModel {
+
+    /**
+     * Receiver of the outcome of pushing headers through the tables.
+     */
+    interface Sink {
+        /**
+         * Notifies that headers leave the device through the given port.
+         *
+         * @param port  output port
+         * @param space headers, as rewritten by the device
+         */
+        void output(PortNumber port, HeaderSpace space);
+
+        /**
+         * Notifies that headers matched no rule of a table and are dropped.
+         *
+         * @param tableId table identifier
+         * @param space   headers
+         */
+        void miss(int tableId, HeaderSpace space);
+    }
+
+    private static final Comparator<Rule> BY_PRIORITY =
+            (a, b) -> Integer.compare(b.priority, a.priority);
+
+    private final DeviceId deviceId;
+    private final Map<Integer, List<Rule>> tables;
+    private final int flowCount;
+
+    private DeviceModel(DeviceId deviceId, Map<Integer, List<Rule>> tables, int flowCount) {
+        this.deviceId = deviceId;
+        this.tables = tables;
+        this.flowCount = flowCount;
+    }
+
+    /**
+     * Compiles the model of the installed flow entries of a device.
+     *
+     * @param deviceId device identifier
+     * @param entries  flow entries of the device
+     * @return device model
+     */
+    static DeviceModel compile(DeviceId deviceId, Iterable<FlowEntry> entries) {
+        Map<Integer, List<Rule>> tables = Maps.newHashMap();
+        int count = 0;
+        for (FlowEntry entry : entries) {
+            if (entry.state() != FlowEntry.FlowEntryState.ADDED) {
+                continue;
+            }
+            tables.computeIfAbsent(entry.tableId(), t -> Lists.newArrayList())
+                    .add(new Rule(entry));
+            count++;
+        }
+        ImmutableMap.Builder<Integer, List<Rule>> builder = ImmutableMap.builder();
+        tables.forEach((id, rules) -> {
+            rules.sort(BY_PRIORITY);
+            builder.put(id, ImmutableList.copyOf(rules));
+        });
+        return new DeviceModel(deviceId, builder.build(), count);
+    }
+
+    /**
+     * Returns the device identifier.
+     *
+     * @return device identifier
+     */
+    DeviceId deviceId() {
+        return deviceId;
+    }
+
+    /**
+     * Returns the number of flow entries in the model.
+     *
+     * @return flow entry count
+     */
+    int flowCount() {
+        return flowCount;
+    }
+
+    /**
+     * Pushes the given headers through the flow tables of the device,
+     * starting with the first table.
+     *
+     * @param space headers entering the device
+     * @param sink  receiver of the outcome
+     */
+    void process(HeaderSpace space, Sink sink) {
+        process(0, space, sink);
+    }
+
+    private void process(int tableId, HeaderSpace space, Sink sink) {
+        HeaderSpace remaining = space;
+        for (Rule rule : tables.getOrDefault(tableId, ImmutableList.of())) {
+            HeaderSpace hit = remaining.intersect(rule.match);
+            if (hit == null) {
+                continue;
+            }
+            apply(tableId, rule, hit, sink);
+            remaining = remaining.subtract(rule.match);
+            if (remaining == null) {
+                return;
+            }
+        }
+        sink.miss(tableId, remaining);
+    }
+
+    private void apply(int tableId, Rule rule, HeaderSpace space, Sink sink) {
+        HeaderSpace current = space;
+        for (Instruction instruction : rule.instructions) {
+            if (instruction instanceof OutputInstruction) {
+                PortNumber port = ((OutputInstruction) instruction).port();
+                if (PortNumber.IN_PORT.equals(port)) {
+                    Long inPort = current.match().exactValue(Field.IN_PORT);
+                    if (inPort != null) {
+                        sink.output(PortNumber.portNumber(inPort), current);
+                    }
+                } else if (!port.isLogical()) {
+                    sink.output(port, current);
+                }
+                // Other logical ports leave the modelled data plane
+            } else {
+                current = rewrite(instruction, current);
+            }
+        }
+        // OpenFlow only allows transitions to later tables
+        if (rule.nextTable != null && rule.nextTable > tableId) {
+            process(rule.nextTable, current, sink);
+        }
+    }
+
+    private static HeaderSpace rewrite(Instruction instruction, HeaderSpace space) {
+        if (instruction instanceof ModEtherInstruction) {
+            ModEtherInstruction i = (ModEtherInstruction) instruction;
+            Field field = i.subtype() == L2ModificationInstruction.L2SubType.ETH_SRC ?
+                    Field.ETH_SRC : Field.ETH_DST;
+            return space.set(field, i.mac().toLong());
+        } else if (instruction instanceof ModVlanIdInstruction) {
+            return space.set(Field.VLAN_VID, ((ModVlanIdInstruction) instruction).vlanId().toShort());
+        } else if (instruction instanceof ModMplsLabelInstruction) {
+            return space.set(Field.MPLS_LABEL, ((ModMplsLabelInstruction) instruction).label());
+        } else if (instruction instanceof ModIPInstruction) {
+            ModIPInstruction i = (ModIPInstruction) instruction;
+            if (!i.ip().isIp4()) {
+                return space;
+            }
+            Field field = i.subtype() == L3ModificationInstruction.L3SubType.IPV4_SRC ?
+                    Field.IPV4_SRC : Field.IPV4_DST;
+            return space.set(field, i.ip().getIp4Address().toInt() & 0xffffffffL);
+        }
+        return space;
+    }
+
+    // Compiled flow rule
+    private static final class Rule {
+        private final int priority;
+        private final TernaryMatch match;
+        private final List<Instruction> instructions;
+        private final Integer nextTable;
+
+        private Rule(FlowRule rule) {
+            this.priority = rule.priority();
+            this.match = TernaryMatch.of(rule.selector());
+            this.instructions = rule.treatment() == null ? ImmutableList.of() :
+                    ImmutableList.copyOf(rule.treatment().allInstructions());
+            TableTypeTransition transition = rule.treatment() == null ? null :
+                    rule.treatment().tableTransition();
+            this.nextTable = transition == null ? null : transition.tableId();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.HostId;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Outcome of a verification of the data plane.
+ */
+public final class FlowAnalysis {
+
+    private static final long FLOWS_PER_UNIT = 100_000;
+
+    private final Set<List<ConnectPoint>> loops;
+    private final Set<ConnectPoint> blackHoles;
+    private final SetMultimap<HostId, HostId> unreachable;
+    private final int flowCount;
+    private final int hostCount;
+    private final int recomputed;
+    private final long durationNanos;
+
+    FlowAnalysis(Set<List<ConnectPoint>> loops, Set<ConnectPoint> blackHoles,
+                 SetMultimap<HostId, HostId> unreachable, int flowCount,
+                 int hostCount, int recomputed, long durationNanos) {
+        this.loops = ImmutableSet.copyOf(loops);
+        this.blackHoles = ImmutableSet.copyOf(blackHoles);
+        this.unreachable = ImmutableSetMultimap.copyOf(unreachable);
+        this.flowCount = flowCount;
+        this.hostCount = hostCount;
+        this.recomputed = recomputed;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Returns the forwarding loops found, each as the sequence of ingress
+     * points that headers keep cycling through.
+     *
+     * @return set of loops
+     */
+    public Set<List<ConnectPoint>> loops() {
+        return loops;
+    }
+
+    /**
+     * Returns the ingress points of traffic that is dropped because it
+     * matches no flow rule.
+     *
+     * @return set of black holes
+     */
+    public Set<ConnectPoint> blackHoles() {
+        return blackHoles;
+    }
+
+    /**
+     * Returns the hosts that cannot reach one another, keyed by the source
+     * host.
+     *
+     * @return unreachable host pairs
+     */
+    public SetMultimap<HostId, HostId> unreachable() {
+        return unreachable;
+    }
+
+    /**
+     * Returns the number of flow entries analyzed.
+     *
+     * @return flow entry count
+     */
+    public int flowCount() {
+        return flowCount;
+    }
+
+    /**
+     * Returns the number of hosts the traffic was injected from.
+     *
+     * @return host count
+     */
+    public int hostCount() {
+        return hostCount;
+    }
+
+    /**
+     * Returns the number of hosts whose traffic was traced again by this
+     * analysis, as opposed to reused from the previous one.
+     *
+     * @return number of recomputed hosts
+     */
+    public int recomputed() {
+        return recomputed;
+    }
+
+    /**
+     * Returns the time the analysis took.
+     *
+     * @param unit time unit
+     * @return analysis time
+     */
+    public long duration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the analysis time normalized to 100k flow entries.
+     *
+     * @param unit time unit
+     * @return analysis time per 100k flow entries
+     */
+    public double durationPer100kFlows(TimeUnit unit) {
+        if (flowCount == 0) {
+            return 0;
+        }
+        return (double) durationNanos * FLOWS_PER_UNIT / flowCount / unit.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("loops", loops.size())
+                .add("blackHoles", blackHoles.size())
+                .add("unreachable", unreachable.size())
+                .add("flowCount", flowCount)
+                .add("hostCount", hostCount)
+                .add("recomputed", recomputed)
+                .add("durationMs", duration(TimeUnit.MILLISECONDS))
+                .toString();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.commands.Option;
+import org.onosproject.cli.AbstractShellCommand;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies the data plane for loops, black holes and unreachable hosts.
+ */
+@Command(scope = "onos", name = "flow-analysis",
+        description = "Verifies the data plane for loops, black holes and unreachable hosts")
+public class FlowAnalysisCommand extends AbstractShellCommand {
+
+    private static final String SUMMARY =
+            "flows=%d, hosts=%d, retraced=%d, loops=%d, blackHoles=%d, unreachable=%d";
+    private static final String TIME = "analysis time=%d ms (%.1f ms per 100k flows)";
+
+    @Option(name = "-c", aliases = "--cached",
+            description = "Show the outcome of the last analysis instead of running one",
+            required = false, multiValued = false)
+    private boolean cached = false;
+
+    @Option(name = "-v", aliases = "--verbose",
+            description = "List the loops, black holes and unreachable hosts found",
+            required = false, multiValued = false)
+    private boolean verbose = false;
+
+    @Override
+    protected void execute() {
+        FlowAnalyzer analyzer = get(FlowAnalyzer.class);
+        FlowAnalysis analysis = cached ? analyzer.lastAnalysis() : analyzer.analyze();
+        if (analysis == null) {
+            print("No analysis has been run yet");
+            return;
+        }
+
+        print(SUMMARY, analysis.flowCount(), analysis.hostCount(), analysis.recomputed(),
+              analysis.loops().size(), analysis.blackHoles().size(),
+              analysis.unreachable().size());
+        print(TIME, analysis.duration(TimeUnit.MILLISECONDS),
+              analysis.durationPer100kFlows(TimeUnit.MILLISECONDS));
+        if (verbose) {
+            analysis.loops().forEach(loop -> print("loop: %s", loop));
+            analysis.blackHoles().forEach(cp -> print("black hole: %s", cp));
+            analysis.unreachable().entries()
+                    .forEach(e -> print("unreachable: %s -> %s", e.getKey(), e.getValue()));
+        }
+    }
+}
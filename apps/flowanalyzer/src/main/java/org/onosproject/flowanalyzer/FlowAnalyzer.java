@@ -15,27 +15,62 @@
  */
 package org.onosproject.flowanalyzer;
 
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Host;
+import org.onosproject.net.HostId;
+import org.onosproject.net.Link;
+import org.onosproject.net.device.DeviceService;
+import org.onosproject.net.flow.FlowRuleEvent;
+import org.onosproject.net.flow.FlowRuleListener;
 import org.onosproject.net.flow.FlowRuleService;
 import org.onosproject.net.host.HostService;
 import org.onosproject.net.link.LinkService;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.onlab.util.Tools.groupedThreads;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Simple flow space analyzer app.
+ * <p>
+ * Verifies the data plane by pushing the header space of the traffic each
+ * host may send through a model of the installed flow tables, looking for
+ * forwarding loops, black holes and host pairs that cannot reach each other.
+ * The analysis is repeated shortly after flow rules change; only the device
+ * models of changed devices are recompiled, and only the traffic of hosts
+ * that went through those devices is traced again.
+ * </p>
  */
 @Component(immediate = true)
 @Service(value = FlowAnalyzer.class)
 public class FlowAnalyzer {
 
+    private static final long ANALYSIS_DELAY_MS = 1000;
+
     private final Logger log = getLogger(getClass());
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
@@ -47,23 +82,152 @@ public class FlowAnalyzer {
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected HostService hostService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected DeviceService deviceService;
+
+    private final FlowRuleListener flowRuleListener = new InternalFlowRuleListener();
+
+    private final Set<DeviceId> dirtyDevices = Sets.newConcurrentHashSet();
+    private final AtomicBoolean analysisScheduled = new AtomicBoolean();
+
+    // Guarded by this
+    private final Map<DeviceId, DeviceModel> models = Maps.newHashMap();
+    private final Map<HostId, HostTrace> traces = Maps.newHashMap();
+    private Map<HostId, Host> hosts = ImmutableMap.of();
+    private Map<ConnectPoint, ConnectPoint> links = ImmutableMap.of();
+
+    private volatile FlowAnalysis lastAnalysis;
+
+    private ForkJoinPool analysisPool;
+    private ScheduledExecutorService scheduler;
 
     @Activate
     public void activate(ComponentContext context) {
+        analysisPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        scheduler = newSingleThreadScheduledExecutor(groupedThreads("onos/flowanalyzer", "scheduler"));
+        flowRuleService.addListener(flowRuleListener);
         log.info("Started");
     }
 
     @Deactivate
     public void deactivate() {
+        flowRuleService.removeListener(flowRuleListener);
+        scheduler.shutdownNow();
+        analysisPool.shutdownNow();
         log.info("Stopped");
     }
 
 
     /**
-     * ...
+     * Verifies the current data plane. Only the parts affected by changes
+     * since the previous analysis are recomputed.
+     *
+     * @return outcome of the analysis
+     */
+    public synchronized FlowAnalysis analyze() {
+        long start = System.nanoTime();
+
+        // Recompile the models of new and changed devices, in parallel
+        Set<DeviceId> devices = Sets.newHashSet();
+        for (Device device : deviceService.getDevices()) {
+            devices.add(device.id());
+        }
+        Set<DeviceId> changed = Sets.newHashSet();
+        changed.addAll(dirtyDevices);
+        dirtyDevices.removeAll(changed);
+        models.keySet().stream().filter(id -> !devices.contains(id)).forEach(changed::add);
+        devices.stream().filter(id -> !models.containsKey(id)).forEach(changed::add);
+        models.keySet().removeAll(changed);
+        Map<DeviceId, DeviceModel> compiled = analysisPool.submit(
+                () -> changed.parallelStream()
+                        .filter(devices::contains)
+                        .map(id -> DeviceModel.compile(id, flowRuleService.getFlowEntries(id)))
+                        .collect(Collectors.toMap(DeviceModel::deviceId, m -> m))).join();
+        models.putAll(compiled);
+        Map<DeviceId, DeviceModel> modelSnapshot = ImmutableMap.copyOf(models);
+
+        // Trace again the traffic of hosts that are new, have moved or went
+        // through changed devices; everything, if links have changed
+        Map<ConnectPoint, ConnectPoint> newLinks = Maps.newHashMap();
+        for (Link link : linkService.getLinks()) {
+            newLinks.put(link.src(), link.dst());
+        }
+        Map<HostId, Host> newHosts = Maps.newHashMap();
+        for (Host host : hostService.getHosts()) {
+            newHosts.put(host.id(), host);
+        }
+        boolean linksChanged = !newLinks.equals(links);
+        links = ImmutableMap.copyOf(newLinks);
+        traces.keySet().retainAll(newHosts.keySet());
+        List<Host> stale = newHosts.values().stream()
+                .filter(host -> linksChanged || !host.equals(hosts.get(host.id())) ||
+                        !traces.containsKey(host.id()) ||
+                        traces.get(host.id()).visitedAny(changed))
+                .collect(Collectors.toList());
+        hosts = ImmutableMap.copyOf(newHosts);
+        Map<ConnectPoint, ConnectPoint> linkSnapshot = links;
+        traces.putAll(analysisPool.submit(
+                () -> stale.parallelStream()
+                        .collect(Collectors.toMap(Host::id,
+                                host -> HostTrace.trace(host, modelSnapshot, linkSnapshot))))
+                              .join());
+
+        Set<List<ConnectPoint>> loops = Sets.newHashSet();
+        Set<ConnectPoint> blackHoles = Sets.newHashSet();
+        SetMultimap<HostId, HostId> unreachable = HashMultimap.create();
+        traces.forEach((id, trace) -> {
+            loops.addAll(trace.loops());
+            blackHoles.addAll(trace.blackHoles());
+            hosts.values().stream()
+                    .filter(dst -> !dst.id().equals(id) && !trace.reaches(dst))
+                    .forEach(dst -> unreachable.put(id, dst.id()));
+        });
+        int flowCount = models.values().stream().mapToInt(DeviceModel::flowCount).sum();
+
+        lastAnalysis = new FlowAnalysis(loops, blackHoles, unreachable, flowCount,
+                                        hosts.size(), stale.size(),
+                                        System.nanoTime() - start);
+        log.debug("Flow analysis completed: {}", lastAnalysis);
+        return lastAnalysis;
+    }
+
+    /**
+     * Returns the outcome of the most recent analysis.
+     *
+     * @return outcome of the analysis; null if none has run yet
      */
-    public void analyze() {
-        // TODO: implement this
+    public FlowAnalysis lastAnalysis() {
+        return lastAnalysis;
+    }
+
+    // Coalesces the flow rule changes of a short period into one analysis.
+    private void scheduleAnalysis() {
+        if (analysisScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                analysisScheduled.set(false);
+                try {
+                    analyze();
+                } catch (Exception e) {
+                    log.warn("Unable to analyze flows", e);
+                }
+            }, ANALYSIS_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Marks the devices whose flow tables change for analysis.
+    private class InternalFlowRuleListener implements FlowRuleListener {
+        @Override
+        public void event(FlowRuleEvent event) {
+            switch (event.type()) {
+                case RULE_ADDED:
+                case RULE_REMOVED:
+                    dirtyDevices.add(event.subject().deviceId());
+                    scheduleAnalysis();
+                    break;
+                default:
+                    break;
+            }
+        }
     }
 
 }
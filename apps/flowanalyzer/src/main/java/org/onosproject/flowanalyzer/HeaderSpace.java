@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.collect.ImmutableList;
+import org.onosproject.flowanalyzer.TernaryMatch.Field;
+
+import java.util.List;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Set of packet headers, represented as a ternary match less a list of
+ * ternary matches that have been subtracted from it.
+ * <p>
+ * Subtraction is kept symbolic and emptiness is only detected when a single
+ * subtracted match covers the whole space, so a space may be reported
+ * non-empty when it is in fact empty. Rewrites drop the subtracted matches
+ * that constrain the rewritten field. Both make the analysis conservative:
+ * a header space is never smaller than the headers it stands for.
+ * </p>
+ */
+final class HeaderSpace {
+
+    // Bounds the cost of operations on heavily fragmented spaces
+    private static final int MAX_EXCLUDED = 64;
+
+    private final TernaryMatch match;
+    private final List<TernaryMatch> excluded;
+
+    private HeaderSpace(TernaryMatch match, List<TernaryMatch> excluded) {
+        this.match = match;
+        this.excluded = excluded;
+    }
+
+    /**
+     * Returns the header space of all headers matching the given match.
+     *
+     * @param match ternary match
+     * @return header space
+     */
+    static HeaderSpace of(TernaryMatch match) {
+        return new HeaderSpace(match, ImmutableList.of());
+    }
+
+    /**
+     * Returns the ternary match enclosing the space.
+     *
+     * @return enclosing match
+     */
+    TernaryMatch match() {
+        return match;
+    }
+
+    /**
+     * Returns the headers of this space that also match the given match.
+     *
+     * @param other ternary match
+     * @return header space, or null if empty
+     */
+    HeaderSpace intersect(TernaryMatch other) {
+        TernaryMatch m = match.intersect(other);
+        if (m == null) {
+            return null;
+        }
+        ImmutableList.Builder<TernaryMatch> builder = ImmutableList.builder();
+        for (TernaryMatch e : excluded) {
+            TernaryMatch overlap = e.intersect(m);
+            if (overlap == null) {
+                continue;
+            }
+            if (overlap.covers(m)) {
+                return null;
+            }
+            builder.add(overlap);
+        }
+        return new HeaderSpace(m, builder.build());
+    }
+
+    /**
+     * Returns the headers of this space that do not match the given match.
+     *
+     * @param other ternary match
+     * @return header space, or null if empty
+     */
+    HeaderSpace subtract(TernaryMatch other) {
+        TernaryMatch overlap = match.intersect(other);
+        if (overlap == null) {
+            return this;
+        }
+        if (overlap.covers(match)) {
+            return null;
+        }
+        if (excluded.size() >= MAX_EXCLUDED) {
+            // Keep the space wider than it is rather than let it grow
+            return this;
+        }
+        return new HeaderSpace(match, ImmutableList.<TernaryMatch>builder()
+                .addAll(excluded).add(overlap).build());
+    }
+
+    /**
+     * Returns the space of headers after setting the given field to a value.
+     *
+     * @param field field
+     * @param value new field value
+     * @return header space
+     */
+    HeaderSpace set(Field field, long value) {
+        ImmutableList.Builder<TernaryMatch> builder = ImmutableList.builder();
+        for (TernaryMatch e : excluded) {
+            // Headers excluded on other fields stay excluded after the rewrite
+            if (!e.constrains(field)) {
+                builder.add(e);
+            }
+        }
+        return new HeaderSpace(match.set(field, value), builder.build());
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("match", match)
+                .add("excluded", excluded.size())
+                .toString();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.onosproject.flowanalyzer.TernaryMatch.Field;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Host;
+import org.onosproject.net.PortNumber;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trace of all traffic a host may send into the network, through the
+ * header space models of the devices.
+ */
+final class HostTrace {
+
+    private static final int MAX_HOPS = 64;
+
+    private final Map<DeviceId, DeviceModel> models;
+    private final Map<ConnectPoint, ConnectPoint> links;
+
+    private final Set<DeviceId> visited = Sets.newHashSet();
+    private final Set<List<ConnectPoint>> loops = Sets.newHashSet();
+    private final Set<ConnectPoint> blackHoles = Sets.newHashSet();
+    private final ListMultimap<ConnectPoint, HeaderSpace> delivered = ArrayListMultimap.create();
+    private final List<Visit> path = Lists.newArrayList();
+
+    private HostTrace(Map<DeviceId, DeviceModel> models,
+                      Map<ConnectPoint, ConnectPoint> links) {
+        this.models = models;
+        this.links = links;
+    }
+
+    /**
+     * Traces the traffic sent by the given host.
+     *
+     * @param host   source host
+     * @param models device models
+     * @param links  destination of the link leaving each connect point
+     * @return host trace
+     */
+    static HostTrace trace(Host host, Map<DeviceId, DeviceModel> models,
+                           Map<ConnectPoint, ConnectPoint> links) {
+        HostTrace trace = new HostTrace(models, links);
+        ConnectPoint ingress = new ConnectPoint(host.location().deviceId(),
+                                                host.location().port());
+        TernaryMatch sent = TernaryMatch.ALL
+                .set(Field.IN_PORT, ingress.port().toLong())
+                .set(Field.ETH_SRC, host.mac().toLong());
+        trace.walk(ingress, HeaderSpace.of(sent));
+        return trace;
+    }
+
+    private void walk(ConnectPoint ingress, HeaderSpace space) {
+        for (int i = 0; i < path.size(); i++) {
+            Visit visit = path.get(i);
+            if (visit.ingress.equals(ingress) &&
+                    visit.match.intersect(space.match()) != null) {
+                loop(i, ingress);
+                return;
+            }
+        }
+        if (path.size() >= MAX_HOPS) {
+            loop(0, ingress);
+            return;
+        }
+
+        visited.add(ingress.deviceId());
+        DeviceModel model = models.get(ingress.deviceId());
+        if (model == null) {
+            blackHoles.add(ingress);
+            return;
+        }
+        path.add(new Visit(ingress, space.match()));
+        model.process(space, new DeviceModel.Sink() {
+            @Override
+            public void output(PortNumber port, HeaderSpace out) {
+                ConnectPoint egress = new ConnectPoint(ingress.deviceId(), port);
+                ConnectPoint next = links.get(egress);
+                if (next == null) {
+                    delivered.put(egress, out);
+                } else {
+                    walk(next, out.set(Field.IN_PORT, next.port().toLong()));
+                }
+            }
+
+            @Override
+            public void miss(int tableId, HeaderSpace missed) {
+                blackHoles.add(ingress);
+            }
+        });
+        path.remove(path.size() - 1);
+    }
+
+    private void loop(int from, ConnectPoint ingress) {
+        ImmutableList.Builder<ConnectPoint> cycle = ImmutableList.builder();
+        for (int i = from; i < path.size(); i++) {
+            cycle.add(path.get(i).ingress);
+        }
+        loops.add(cycle.add(ingress).build());
+    }
+
+    /**
+     * Returns whether the traffic went through any of the given devices.
+     *
+     * @param devices device identifiers
+     * @return true if any of the devices was visited
+     */
+    boolean visitedAny(Collection<DeviceId> devices) {
+        return devices.stream().anyMatch(visited::contains);
+    }
+
+    /**
+     * Returns whether some of the traffic addressed to the given host is
+     * delivered to its location.
+     *
+     * @param host destination host
+     * @return true if the host is reachable
+     */
+    boolean reaches(Host host) {
+        ConnectPoint location = new ConnectPoint(host.location().deviceId(),
+                                                 host.location().port());
+        TernaryMatch addressed = TernaryMatch.ALL.set(Field.ETH_DST, host.mac().toLong());
+        return delivered.get(location).stream()
+                .anyMatch(space -> space.intersect(addressed) != null);
+    }
+
+    /**
+     * Returns the forwarding loops found.
+     *
+     * @return loops
+     */
+    Set<List<ConnectPoint>> loops() {
+        return loops;
+    }
+
+    /**
+     * Returns the ingress points where traffic matched no rule.
+     *
+     * @return black holes
+     */
+    Set<ConnectPoint> blackHoles() {
+        return blackHoles;
+    }
+
+    // Ingress point on the current path, with the headers entering it
+    private static final class Visit {
+        private final ConnectPoint ingress;
+        private final TernaryMatch match;
+
+        private Visit(ConnectPoint ingress, TernaryMatch match) {
+            this.ingress = ingress;
+            this.match = match;
+        }
+    }
+}
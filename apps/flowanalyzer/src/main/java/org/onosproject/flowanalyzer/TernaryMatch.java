@@ -0,0 +1,254 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.base.MoreObjects.ToStringHelper;
+import org.onlab.packet.IpPrefix;
+import org.onosproject.net.flow.TrafficSelector;
+import org.onosproject.net.flow.criteria.Criterion;
+import org.onosproject.net.flow.criteria.EthCriterion;
+import org.onosproject.net.flow.criteria.EthTypeCriterion;
+import org.onosproject.net.flow.criteria.IPCriterion;
+import org.onosproject.net.flow.criteria.IPProtocolCriterion;
+import org.onosproject.net.flow.criteria.MplsCriterion;
+import org.onosproject.net.flow.criteria.PortCriterion;
+import org.onosproject.net.flow.criteria.TcpPortCriterion;
+import org.onosproject.net.flow.criteria.UdpPortCriterion;
+import org.onosproject.net.flow.criteria.VlanIdCriterion;
+
+import java.util.Arrays;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Ternary match over a fixed set of packet header fields. Each field is
+ * matched on the bits selected by its mask; all other bits are wildcards.
+ * Instances are immutable.
+ */
+final class TernaryMatch {
+
+    /**
+     * Header fields covered by the model, with their width in bits.
+     */
+    enum Field {
+        IN_PORT(64), ETH_TYPE(16), ETH_SRC(48), ETH_DST(48), VLAN_VID(12),
+        MPLS_LABEL(20), IP_PROTO(8), IPV4_SRC(32), IPV4_DST(32),
+        TP_SRC(16), TP_DST(16);
+
+        private final long exact;
+
+        Field(int bits) {
+            this.exact = bits == 64 ? -1L : (1L << bits) - 1;
+        }
+
+        /**
+         * Returns the mask selecting all bits of the field.
+         *
+         * @return exact match mask
+         */
+        long exact() {
+            return exact;
+        }
+    }
+
+    private static final int FIELDS = Field.values().length;
+
+    /**
+     * Match of all headers.
+     */
+    static final TernaryMatch ALL = new TernaryMatch(new long[FIELDS], new long[FIELDS]);
+
+    private final long[] values;
+    private final long[] masks;
+
+    private TernaryMatch(long[] values, long[] masks) {
+        this.values = values;
+        this.masks = masks;
+    }
+
+    /**
+     * Returns the match of the given traffic selector. Criteria on fields
+     * not covered by the model are treated as wildcards, so the result may
+     * be wider than the selector.
+     *
+     * @param selector traffic selector
+     * @return ternary match
+     */
+    static TernaryMatch of(TrafficSelector selector) {
+        TernaryMatch match = ALL;
+        for (Criterion c : selector.criteria()) {
+            switch (c.type()) {
+                case IN_PORT:
+                    match = match.set(Field.IN_PORT, ((PortCriterion) c).port().toLong());
+                    break;
+                case ETH_TYPE:
+                    match = match.set(Field.ETH_TYPE, ((EthTypeCriterion) c).ethType().toShort());
+                    break;
+                case ETH_SRC:
+                    match = match.set(Field.ETH_SRC, ((EthCriterion) c).mac().toLong());
+                    break;
+                case ETH_DST:
+                    match = match.set(Field.ETH_DST, ((EthCriterion) c).mac().toLong());
+                    break;
+                case VLAN_VID:
+                    match = match.set(Field.VLAN_VID, ((VlanIdCriterion) c).vlanId().toShort());
+                    break;
+                case MPLS_LABEL:
+                    match = match.set(Field.MPLS_LABEL, ((MplsCriterion) c).label().toInt());
+                    break;
+                case IP_PROTO:
+                    match = match.set(Field.IP_PROTO, ((IPProtocolCriterion) c).protocol());
+                    break;
+                case IPV4_SRC:
+                    match = match.prefix(Field.IPV4_SRC, ((IPCriterion) c).ip());
+                    break;
+                case IPV4_DST:
+                    match = match.prefix(Field.IPV4_DST, ((IPCriterion) c).ip());
+                    break;
+                case TCP_SRC:
+                    match = match.set(Field.TP_SRC, ((TcpPortCriterion) c).tcpPort().toInt());
+                    break;
+                case TCP_DST:
+                    match = match.set(Field.TP_DST, ((TcpPortCriterion) c).tcpPort().toInt());
+                    break;
+                case UDP_SRC:
+                    match = match.set(Field.TP_SRC, ((UdpPortCriterion) c).udpPort().toInt());
+                    break;
+                case UDP_DST:
+                    match = match.set(Field.TP_DST, ((UdpPortCriterion) c).udpPort().toInt());
+                    break;
+                default:
+                    // Not modelled; over-approximate with a wildcard
+                    break;
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Returns a copy of this match with the given field set to an exact
+     * value, regardless of its previous value.
+     *
+     * @param field field
+     * @param value field value
+     * @return ternary match
+     */
+    TernaryMatch set(Field field, long value) {
+        return with(field, value & field.exact(), field.exact());
+    }
+
+    private TernaryMatch prefix(Field field, IpPrefix prefix) {
+        int length = prefix.prefixLength();
+        long mask = length == 0 ? 0 : (field.exact() << (32 - length)) & field.exact();
+        long value = prefix.address().getIp4Address().toInt() & 0xffffffffL;
+        return with(field, value & mask, mask);
+    }
+
+    private TernaryMatch with(Field field, long value, long mask) {
+        long[] v = values.clone();
+        long[] m = masks.clone();
+        v[field.ordinal()] = value;
+        m[field.ordinal()] = mask;
+        return new TernaryMatch(v, m);
+    }
+
+    /**
+     * Returns whether the match constrains any bit of the given field.
+     *
+     * @param field field
+     * @return true if the field is not a wildcard
+     */
+    boolean constrains(Field field) {
+        return masks[field.ordinal()] != 0;
+    }
+
+    /**
+     * Returns the exact value of the given field, if the match has one.
+     *
+     * @param field field
+     * @return field value, or null if not matched exactly
+     */
+    Long exactValue(Field field) {
+        int i = field.ordinal();
+        return masks[i] == field.exact() ? values[i] : null;
+    }
+
+    /**
+     * Returns the headers matched by both this and the given match.
+     *
+     * @param other other match
+     * @return intersection, or null if no header matches both
+     */
+    TernaryMatch intersect(TernaryMatch other) {
+        long[] v = new long[FIELDS];
+        long[] m = new long[FIELDS];
+        for (int i = 0; i < FIELDS; i++) {
+            long common = masks[i] & other.masks[i];
+            if (((values[i] ^ other.values[i]) & common) != 0) {
+                return null;
+            }
+            m[i] = masks[i] | other.masks[i];
+            v[i] = values[i] | other.values[i];
+        }
+        return new TernaryMatch(v, m);
+    }
+
+    /**
+     * Returns whether every header matched by the given match is matched
+     * by this one too.
+     *
+     * @param other other match
+     * @return true if this match covers the other
+     */
+    boolean covers(TernaryMatch other) {
+        for (int i = 0; i < FIELDS; i++) {
+            if ((masks[i] & ~other.masks[i]) != 0 ||
+                    ((values[i] ^ other.values[i]) & masks[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(masks);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof TernaryMatch) {
+            TernaryMatch that = (TernaryMatch) obj;
+            return Arrays.equals(values, that.values) && Arrays.equals(masks, that.masks);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        ToStringHelper helper = toStringHelper(this);
+        for (Field field : Field.values()) {
+            int i = field.ordinal();
+            if (masks[i] != 0) {
+                helper.add(field.name(), Long.toHexString(values[i]) + "/" + Long.toHexString(masks[i]));
+            }
+        }
+        return helper.toString();
+    }
+}
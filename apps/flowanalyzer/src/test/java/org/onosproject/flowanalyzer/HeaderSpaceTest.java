@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import org.junit.Test;
+import org.onlab.packet.Ip4Prefix;
+import org.onlab.packet.MacAddress;
+import org.onosproject.flowanalyzer.TernaryMatch.Field;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the ternary match and header space operations.
+ */
+public class HeaderSpaceTest {
+
+    private static final MacAddress MAC1 = MacAddress.valueOf("00:00:00:00:00:01");
+    private static final MacAddress MAC2 = MacAddress.valueOf("00:00:00:00:00:02");
+
+    private static TernaryMatch ipDst(String prefix) {
+        return TernaryMatch.of(DefaultTrafficSelector.builder()
+                                       .matchIPDst(Ip4Prefix.valueOf(prefix)).build());
+    }
+
+    @Test
+    public void prefixes() {
+        TernaryMatch wide = ipDst("10.0.0.0/8");
+        TernaryMatch narrow = ipDst("10.1.0.0/16");
+        TernaryMatch other = ipDst("11.0.0.0/8");
+
+        assertTrue(wide.covers(narrow));
+        assertFalse(narrow.covers(wide));
+        assertEquals(narrow, wide.intersect(narrow));
+        assertNull(wide.intersect(other));
+        assertTrue(TernaryMatch.ALL.covers(wide));
+    }
+
+    @Test
+    public void subtract() {
+        HeaderSpace space = HeaderSpace.of(ipDst("10.0.0.0/8"));
+        HeaderSpace rest = space.subtract(ipDst("10.1.0.0/16"));
+
+        assertNotNull(rest);
+        assertNull("subtracted part still present", rest.intersect(ipDst("10.1.2.0/24")));
+        assertNotNull(rest.intersect(ipDst("10.2.0.0/16")));
+        assertNull("fully covered space not empty", rest.subtract(ipDst("10.0.0.0/8")));
+        assertEquals(space, space.subtract(ipDst("11.0.0.0/8")));
+    }
+
+    @Test
+    public void rewrite() {
+        TernaryMatch toMac1 = TernaryMatch.ALL.set(Field.ETH_DST, MAC1.toLong());
+        HeaderSpace space = HeaderSpace.of(TernaryMatch.ALL)
+                .subtract(toMac1)
+                .subtract(ipDst("10.0.0.0/8"));
+
+        assertNull(space.intersect(toMac1));
+        HeaderSpace rewritten = space.set(Field.ETH_DST, MAC1.toLong());
+        assertNotNull("exclusion on the rewritten field kept", rewritten.intersect(toMac1));
+        assertNull("exclusion on other fields dropped", rewritten.intersect(ipDst("10.1.0.0/16")));
+        assertNull(rewritten.intersect(TernaryMatch.ALL.set(Field.ETH_DST, MAC2.toLong())));
+        assertEquals(Long.valueOf(MAC1.toLong()), rewritten.match().exactValue(Field.ETH_DST));
+    }
+}
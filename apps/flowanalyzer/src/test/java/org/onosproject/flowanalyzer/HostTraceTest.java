@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowanalyzer;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+import org.onosproject.core.DefaultApplicationId;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DefaultHost;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Host;
+import org.onosproject.net.HostId;
+import org.onosproject.net.HostLocation;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.flow.DefaultFlowEntry;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.net.flow.TrafficSelector;
+import org.onosproject.net.provider.ProviderId;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onosproject.net.DeviceId.deviceId;
+import static org.onosproject.net.PortNumber.portNumber;
+
+/**
+ * Tests of tracing host traffic through device models.
+ */
+public class HostTraceTest {
+
+    private static final DeviceId D1 = deviceId("of:1");
+    private static final DeviceId D2 = deviceId("of:2");
+    private static final MacAddress MAC1 = MacAddress.valueOf("00:00:00:00:00:01");
+    private static final MacAddress MAC2 = MacAddress.valueOf("00:00:00:00:00:02");
+    private static final Host H1 = host(MAC1, D1);
+    private static final Host H2 = host(MAC2, D2);
+
+    // of:1 port 2 <-> of:2 port 2; hosts on port 1
+    private static final Map<ConnectPoint, ConnectPoint> LINKS = ImmutableMap.of(
+            cp(D1, 2), cp(D2, 2),
+            cp(D2, 2), cp(D1, 2));
+
+    private static Host host(MacAddress mac, DeviceId deviceId) {
+        return new DefaultHost(ProviderId.NONE, HostId.hostId(mac, VlanId.NONE), mac,
+                               VlanId.NONE, new HostLocation(deviceId, portNumber(1), 0),
+                               ImmutableSet.of());
+    }
+
+    private static ConnectPoint cp(DeviceId deviceId, long port) {
+        return new ConnectPoint(deviceId, portNumber(port));
+    }
+
+    private static FlowEntry rule(DeviceId deviceId, int priority,
+                                  TrafficSelector selector, long outPort) {
+        return new DefaultFlowEntry(
+                DefaultFlowRule.builder()
+                        .forDevice(deviceId)
+                        .withSelector(selector)
+                        .withTreatment(DefaultTrafficTreatment.builder()
+                                               .setOutput(portNumber(outPort)).build())
+                        .withPriority(priority)
+                        .fromApp(new DefaultApplicationId(1, "test"))
+                        .makePermanent()
+                        .build(),
+                FlowEntry.FlowEntryState.ADDED, 0, 0, 0);
+    }
+
+    private static TrafficSelector toMac(MacAddress mac) {
+        return DefaultTrafficSelector.builder().matchEthDst(mac).build();
+    }
+
+    private static TrafficSelector any() {
+        return DefaultTrafficSelector.emptySelector();
+    }
+
+    private static Map<DeviceId, DeviceModel> models(FlowEntry... entries) {
+        ImmutableList<FlowEntry> all = ImmutableList.copyOf(entries);
+        return ImmutableMap.of(
+                D1, DeviceModel.compile(D1, all.stream()
+                        .filter(e -> e.deviceId().equals(D1))::iterator),
+                D2, DeviceModel.compile(D2, all.stream()
+                        .filter(e -> e.deviceId().equals(D2))::iterator));
+    }
+
+    @Test
+    public void reachable() {
+        Map<DeviceId, DeviceModel> models = models(
+                rule(D1, 10, toMac(MAC2), 2),
+                rule(D1, 10, toMac(MAC1), 1),
+                rule(D1, 0, any(), PortNumber.CONTROLLER.toLong()),
+                rule(D2, 10, toMac(MAC2), 1),
+                rule(D2, 10, toMac(MAC1), 2),
+                rule(D2, 0, any(), PortNumber.CONTROLLER.toLong()));
+
+        HostTrace trace = HostTrace.trace(H1, models, LINKS);
+        assertTrue(trace.reaches(H2));
+        assertTrue(trace.loops().isEmpty());
+        assertTrue(trace.blackHoles().isEmpty());
+        assertTrue(trace.visitedAny(ImmutableSet.of(D2)));
+        assertTrue(HostTrace.trace(H2, models, LINKS).reaches(H1));
+    }
+
+    @Test
+    public void blackHole() {
+        Map<DeviceId, DeviceModel> models = models(
+                rule(D1, 10, toMac(MAC2), 2),
+                rule(D2, 10, toMac(MAC1), 2));
+
+        HostTrace trace = HostTrace.trace(H1, models, LINKS);
+        assertFalse(trace.reaches(H2));
+        assertEquals(ImmutableSet.of(cp(D1, 1), cp(D2, 2)), trace.blackHoles());
+    }
+
+    @Test
+    public void loop() {
+        Map<DeviceId, DeviceModel> models = models(
+                rule(D1, 10, toMac(MAC2), 2),
+                rule(D1, 0, any(), PortNumber.CONTROLLER.toLong()),
+                rule(D2, 10, toMac(MAC2), PortNumber.IN_PORT.toLong()),
+                rule(D2, 0, any(), PortNumber.CONTROLLER.toLong()));
+
+        HostTrace trace = HostTrace.trace(H1, models, LINKS);
+        assertFalse(trace.reaches(H2));
+        assertEquals(ImmutableSet.of(ImmutableList.of(cp(D2, 2), cp(D1, 2), cp(D2, 2))),
+                     trace.loops());
+    }
+}
@@ -138,7 +138,11 @@ class BgpFrameDecoder extends FrameDecoder {
         //
         int type = buf.readUnsignedByte();
         remainingMessageLen--;      // Adjust after reading the type
-        ChannelBuffer message = buf.readBytes(remainingMessageLen);
+        //
+        // NOTE: The message is processed before this method returns, hence
+        // it can refer to the received data instead of a copy of it.
+        //
+        ChannelBuffer message = buf.readSlice(remainingMessageLen);
 
         //
         // Process the remaining of the message based on the message type
@@ -191,14 +191,7 @@ public class BgpRouteEntry extends RouteEntry {
      * @return true if the AS Path contains a loop, otherwise false
      */
     boolean hasAsPathLoop(long localAsNumber) {
-        for (PathSegment pathSegment : asPath.getPathSegments()) {
-            for (Long asNumber : pathSegment.getSegmentAsNumbers()) {
-                if (asNumber.equals(localAsNumber)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return asPath.containsAsNumber(localAsNumber);
     }
 
     /**
@@ -350,6 +343,7 @@ public class BgpRouteEntry extends RouteEntry {
     public static class AsPath {
         private final ArrayList<PathSegment> pathSegments;
         private final int asPathLength;         // Precomputed AS Path Length
+        private final int hashCode;             // Precomputed hash code
 
         /**
          * Constructor.
@@ -385,6 +379,7 @@ public class BgpRouteEntry extends RouteEntry {
                  }
              }
              asPathLength = pl;
+             hashCode = Objects.hash(pathSegments);
          }
 
         /**
@@ -405,6 +400,24 @@ public class BgpRouteEntry extends RouteEntry {
             return asPathLength;
         }
 
+        /**
+         * Tests whether the AS Path contains an AS number.
+         *
+         * @param asNumber the AS number to look for
+         * @return true if any of the Path Segments contains the AS number,
+         * otherwise false
+         */
+        boolean containsAsNumber(long asNumber) {
+            for (PathSegment pathSegment : pathSegments) {
+                for (Long segmentAsNumber : pathSegment.getSegmentAsNumbers()) {
+                    if (segmentAsNumber == asNumber) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         @Override
         public boolean equals(Object other) {
             if (this == other) {
@@ -416,12 +429,13 @@ public class BgpRouteEntry extends RouteEntry {
             }
 
             AsPath otherAsPath = (AsPath) other;
-            return Objects.equals(this.pathSegments, otherAsPath.pathSegments);
+            return (this.hashCode == otherAsPath.hashCode) &&
+                Objects.equals(this.pathSegments, otherAsPath.pathSegments);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(pathSegments);
+            return hashCode;
         }
 
         @Override
@@ -20,17 +20,30 @@ import org.onosproject.routing.RouteUpdate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Class to receive and process the BGP routes from each BGP Session/Peer.
+ * <p>
+ * The route selection for a prefix only depends on the routes for that
+ * prefix, hence the prefixes are split across a number of shards, each with
+ * its own lock. Route updates from different BGP Sessions are processed
+ * concurrently unless they fall in the same shard.
+ * </p>
  */
 class BgpRouteSelector {
     private static final Logger log =
         LoggerFactory.getLogger(BgpRouteSelector.class);
 
+    private static final int SHARDS = 64;
+
     private BgpSessionManager bgpSessionManager;
+    private final Lock[] shardLocks = new Lock[SHARDS];
 
     /**
      * Constructor.
@@ -39,6 +52,9 @@ class BgpRouteSelector {
      */
     BgpRouteSelector(BgpSessionManager bgpSessionManager) {
         this.bgpSessionManager = bgpSessionManager;
+        for (int i = 0; i < SHARDS; i++) {
+            shardLocks[i] = new ReentrantLock();
+        }
     }
 
     /**
@@ -50,15 +66,80 @@ class BgpRouteSelector {
      * @param addedBgpRouteEntries the added/updated route entries to process
      * @param deletedBgpRouteEntries the deleted route entries to process
      */
-    synchronized void routeUpdates(BgpSession bgpSession,
+    void routeUpdates(BgpSession bgpSession,
+                      Collection<BgpRouteEntry> addedBgpRouteEntries,
+                      Collection<BgpRouteEntry> deletedBgpRouteEntries) {
+        if (bgpSessionManager.isShutdown()) {
+            return;         // Ignore any leftover updates if shutdown
+        }
+
+        List<List<BgpRouteEntry>> deletedByShard =
+            splitByShard(deletedBgpRouteEntries);
+        List<List<BgpRouteEntry>> addedByShard =
+            splitByShard(addedBgpRouteEntries);
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            List<BgpRouteEntry> deleted = deletedByShard.get(shard);
+            List<BgpRouteEntry> added = addedByShard.get(shard);
+            if (deleted.isEmpty() && added.isEmpty()) {
+                continue;
+            }
+
+            //
+            // NOTE: The Route Listener is updated while holding the shard
+            // lock, so the updates for a prefix reach it in the order
+            // they were selected.
+            //
+            shardLocks[shard].lock();
+            try {
+                Collection<RouteUpdate> routeUpdates =
+                    processRouteUpdates(bgpSession, added, deleted);
+                if (!routeUpdates.isEmpty()) {
+                    bgpSessionManager.getRouteListener().update(routeUpdates);
+                }
+            } finally {
+                shardLocks[shard].unlock();
+            }
+        }
+    }
+
+    /**
+     * Splits route entries by the shard of their prefix.
+     *
+     * @param bgpRouteEntries the route entries to split
+     * @return the route entries of each shard
+     */
+    private static List<List<BgpRouteEntry>> splitByShard(
+                        Collection<BgpRouteEntry> bgpRouteEntries) {
+        List<List<BgpRouteEntry>> shards = new ArrayList<>(SHARDS);
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (BgpRouteEntry bgpRouteEntry : bgpRouteEntries) {
+            int hash = bgpRouteEntry.prefix().hashCode();
+            shards.get((hash ^ (hash >>> 16)) & (SHARDS - 1))
+                .add(bgpRouteEntry);
+        }
+        return shards;
+    }
+
+    /**
+     * Processes the route entry updates of a single shard.
+     *
+     * @param bgpSession the BGP session the route entry updates were
+     * received on
+     * @param addedBgpRouteEntries the added/updated route entries to process
+     * @param deletedBgpRouteEntries the deleted route entries to process
+     * @return the route updates that should be forwarded to the Route
+     * Listener
+     */
+    private Collection<RouteUpdate> processRouteUpdates(
+                        BgpSession bgpSession,
                         Collection<BgpRouteEntry> addedBgpRouteEntries,
                         Collection<BgpRouteEntry> deletedBgpRouteEntries) {
         Collection<RouteUpdate> routeUpdates = new LinkedList<>();
         RouteUpdate routeUpdate;
 
-        if (bgpSessionManager.isShutdown()) {
-            return;         // Ignore any leftover updates if shutdown
-        }
         // Process the deleted route entries
         for (BgpRouteEntry bgpRouteEntry : deletedBgpRouteEntries) {
             routeUpdate = processDeletedRoute(bgpSession, bgpRouteEntry);
@@ -74,7 +155,7 @@ class BgpRouteSelector {
                 routeUpdates.add(routeUpdate);
             }
         }
-        bgpSessionManager.getRouteListener().update(routeUpdates);
+        return routeUpdates;
     }
 
     /**
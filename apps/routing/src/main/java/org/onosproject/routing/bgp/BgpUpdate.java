@@ -15,6 +15,8 @@
  */
 package org.onosproject.routing.bgp;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jboss.netty.buffer.ChannelBuffer;
 import org.jboss.netty.buffer.ChannelBuffers;
@@ -37,6 +39,14 @@ import java.util.Map;
 final class BgpUpdate {
     private static final Logger log = LoggerFactory.getLogger(BgpUpdate.class);
 
+    //
+    // Most routes share their AS Path with many others, within and across
+    // BGP peers. Interning keeps one instance of each distinct AS Path
+    // for as long as a route refers to it.
+    //
+    private static final Interner<BgpRouteEntry.AsPath> AS_PATHS =
+        Interners.newWeakInterner();
+
     /**
      * Default constructor.
      * <p>
@@ -419,17 +429,18 @@ final class BgpUpdate {
         //
         // Generate the added routes
         //
+        // NOTE: All routes of the message share the same AS Path, hence
+        // the AS Path loop check is done only once.
+        //
+        boolean asPathLoop = (asPath != null) &&
+            asPath.containsAsNumber(bgpSession.localInfo().asNumber());
         mpNlriReachList.add(legacyNlri);
         for (MpNlri mpNlri : mpNlriReachList) {
             BgpRouteEntry bgpRouteEntry;
 
             // The added IPv4 routes
             for (Ip4Prefix prefix : mpNlri.nlri4) {
-                bgpRouteEntry =
-                    new BgpRouteEntry(bgpSession, prefix, mpNlri.nextHop4,
-                                      origin.byteValue(), asPath, localPref);
-                bgpRouteEntry.setMultiExitDisc(multiExitDisc);
-                if (bgpRouteEntry.hasAsPathLoop(bgpSession.localInfo().asNumber())) {
+                if (asPathLoop) {
                     log.debug("BGP RX UPDATE message IGNORED from {}: {} " +
                               "nextHop {}: contains AS Path loop",
                               bgpSession.remoteInfo().address(), prefix,
@@ -440,6 +451,10 @@ final class BgpUpdate {
                               bgpSession.remoteInfo().address(), prefix,
                               mpNlri.nextHop4);
                 }
+                bgpRouteEntry =
+                    new BgpRouteEntry(bgpSession, prefix, mpNlri.nextHop4,
+                                      origin.byteValue(), asPath, localPref);
+                bgpRouteEntry.setMultiExitDisc(multiExitDisc);
                 // Remove from the collection of deleted routes
                 decodedBgpRoutes.deletedUnicastRoutes4.remove(prefix);
                 decodedBgpRoutes.addedUnicastRoutes4.put(prefix,
@@ -448,11 +463,7 @@ final class BgpUpdate {
 
             // The added IPv6 routes
             for (Ip6Prefix prefix : mpNlri.nlri6) {
-                bgpRouteEntry =
-                    new BgpRouteEntry(bgpSession, prefix, mpNlri.nextHop6,
-                                      origin.byteValue(), asPath, localPref);
-                bgpRouteEntry.setMultiExitDisc(multiExitDisc);
-                if (bgpRouteEntry.hasAsPathLoop(bgpSession.localInfo().asNumber())) {
+                if (asPathLoop) {
                     log.debug("BGP RX UPDATE message IGNORED from {}: {} " +
                               "nextHop {}: contains AS Path loop",
                               bgpSession.remoteInfo().address(), prefix,
@@ -463,6 +474,10 @@ final class BgpUpdate {
                               bgpSession.remoteInfo().address(), prefix,
                               mpNlri.nextHop6);
                 }
+                bgpRouteEntry =
+                    new BgpRouteEntry(bgpSession, prefix, mpNlri.nextHop6,
+                                      origin.byteValue(), asPath, localPref);
+                bgpRouteEntry.setMultiExitDisc(multiExitDisc);
                 // Remove from the collection of deleted routes
                 decodedBgpRoutes.deletedUnicastRoutes6.remove(prefix);
                 decodedBgpRoutes.addedUnicastRoutes6.put(prefix,
@@ -788,7 +803,7 @@ final class BgpUpdate {
             pathSegments.add(pathSegment);
         }
 
-        return new BgpRouteEntry.AsPath(pathSegments);
+        return AS_PATHS.intern(new BgpRouteEntry.AsPath(pathSegments));
     }
 
     /**
@@ -1231,19 +1246,23 @@ final class BgpUpdate {
             return result;
         }
 
-        // Parse the data
-        byte[] buffer = new byte[Ip4Address.BYTE_LENGTH];
+        // Parse the data: the address octets are read straight from the
+        // message, without copying them to an intermediate buffer
         int dataEnd = message.readerIndex() + totalLength;
         while (message.readerIndex() < dataEnd) {
             int prefixBitlen = message.readUnsignedByte();
             int prefixBytelen = (prefixBitlen + 7) / 8;     // Round-up
-            if (message.readerIndex() + prefixBytelen > dataEnd) {
+            if ((prefixBitlen > Ip4Address.BIT_LENGTH) ||
+                (message.readerIndex() + prefixBytelen > dataEnd)) {
                 String errorMsg = "Malformed Network Prefixes";
                 throw new BgpMessage.BgpParseException(errorMsg);
             }
 
-            message.readBytes(buffer, 0, prefixBytelen);
-            Ip4Prefix prefix = Ip4Prefix.valueOf(Ip4Address.valueOf(buffer),
+            int address = 0;
+            for (int i = 0; i < prefixBytelen; i++) {
+                address |= message.readUnsignedByte() << (24 - 8 * i);
+            }
+            Ip4Prefix prefix = Ip4Prefix.valueOf(Ip4Address.valueOf(address),
                                                  prefixBitlen);
             result.add(prefix);
         }
@@ -1280,7 +1299,8 @@ final class BgpUpdate {
         while (message.readerIndex() < dataEnd) {
             int prefixBitlen = message.readUnsignedByte();
             int prefixBytelen = (prefixBitlen + 7) / 8;     // Round-up
-            if (message.readerIndex() + prefixBytelen > dataEnd) {
+            if ((prefixBitlen > Ip6Address.BIT_LENGTH) ||
+                (message.readerIndex() + prefixBytelen > dataEnd)) {
                 String errorMsg = "Malformed Network Prefixes";
                 throw new BgpMessage.BgpParseException(errorMsg);
             }
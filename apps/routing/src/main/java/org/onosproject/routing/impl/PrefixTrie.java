@@ -0,0 +1,356 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routing.impl;
+
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Path-compressed binary trie mapping IP prefixes of a single address family
+ * to values, with longest prefix match lookups.
+ * <p>
+ * Keys are held as two longs in each node rather than as strings or arrays,
+ * so a node costs a few dozen bytes and a trie of n prefixes has at most
+ * 2n - 1 nodes. The trie is safe for use by concurrent readers and writers.
+ * </p>
+ *
+ * @param <V> value type
+ */
+final class PrefixTrie<V> {
+
+    private final int bitLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Node<V> root;
+    private int size;
+
+    /**
+     * Creates an empty trie for addresses of the given length.
+     *
+     * @param bitLength address length in bits, 32 for IPv4 or 128 for IPv6
+     */
+    PrefixTrie(int bitLength) {
+        checkArgument(bitLength > 0 && bitLength <= 128,
+                      "Unsupported address length %s", bitLength);
+        this.bitLength = bitLength;
+    }
+
+    /**
+     * Returns the number of prefixes in the trie.
+     *
+     * @return number of prefixes
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value stored for exactly the given prefix.
+     *
+     * @param prefix IP prefix
+     * @return value, or null if the prefix is not in the trie
+     */
+    V get(IpPrefix prefix) {
+        Key key = key(prefix.address(), prefix.prefixLength());
+        lock.readLock().lock();
+        try {
+            Node<V> node = root;
+            while (node != null && node.length <= key.length && node.isPrefixOf(key)) {
+                if (node.length == key.length) {
+                    return node.value;
+                }
+                node = node.child(key.bit(node.length));
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value stored for the longest prefix containing the given
+     * address.
+     *
+     * @param address IP address
+     * @return value, or null if no prefix contains the address
+     */
+    V longestMatch(IpAddress address) {
+        Key key = key(address, bitLength);
+        lock.readLock().lock();
+        try {
+            V best = null;
+            Node<V> node = root;
+            while (node != null && node.isPrefixOf(key)) {
+                if (node.value != null) {
+                    best = node.value;
+                }
+                if (node.length == bitLength) {
+                    break;
+                }
+                node = node.child(key.bit(node.length));
+            }
+            return best;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores a value for a prefix, replacing any previous value.
+     *
+     * @param prefix IP prefix
+     * @param value  value to store
+     * @return previous value, or null if the prefix was not in the trie
+     */
+    V put(IpPrefix prefix, V value) {
+        checkArgument(value != null, "Value cannot be null");
+        Key key = key(prefix.address(), prefix.prefixLength());
+        lock.writeLock().lock();
+        try {
+            Node<V> parent = null;
+            Node<V> node = root;
+            while (true) {
+                if (node == null) {
+                    replace(parent, null, new Node<>(key, value), key);
+                    size++;
+                    return null;
+                }
+                int common = node.commonLength(key, Math.min(node.length, key.length));
+                if (common == node.length && common == key.length) {
+                    V old = node.value;
+                    node.value = value;
+                    if (old == null) {
+                        size++;
+                    }
+                    return old;
+                }
+                if (common == node.length) {
+                    parent = node;
+                    node = node.child(key.bit(node.length));
+                    continue;
+                }
+                Node<V> split;
+                if (common == key.length) {
+                    // New prefix sits above the existing node
+                    split = new Node<>(key, value);
+                    split.setChild(node.bit(common), node);
+                } else {
+                    // Prefixes diverge; join them under an empty node
+                    split = new Node<>(key.truncate(common), null);
+                    split.setChild(key.bit(common), new Node<>(key, value));
+                    split.setChild(node.bit(common), node);
+                }
+                replace(parent, node, split, key);
+                size++;
+                return null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a prefix from the trie.
+     *
+     * @param prefix IP prefix
+     * @return removed value, or null if the prefix was not in the trie
+     */
+    V remove(IpPrefix prefix) {
+        Key key = key(prefix.address(), prefix.prefixLength());
+        lock.writeLock().lock();
+        try {
+            Node<V> grandParent = null;
+            Node<V> parent = null;
+            Node<V> node = root;
+            while (node != null && node.length < key.length && node.isPrefixOf(key)) {
+                grandParent = parent;
+                parent = node;
+                node = node.child(key.bit(node.length));
+            }
+            if (node == null || node.length != key.length ||
+                    !node.isPrefixOf(key) || node.value == null) {
+                return null;
+            }
+            V old = node.value;
+            node.value = null;
+            size--;
+
+            if (node.left != null && node.right != null) {
+                // Still needed to join its subtrees
+                return old;
+            }
+            Node<V> onlyChild = node.left != null ? node.left : node.right;
+            replace(parent, node, onlyChild, key);
+            if (onlyChild == null && parent != null && parent.value == null) {
+                // Parent was only joining the removed node with its sibling
+                Node<V> sibling = parent.left != null ? parent.left : parent.right;
+                replace(grandParent, parent, sibling, key);
+            }
+            return old;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of all values in the trie, in prefix order.
+     *
+     * @return list of values
+     */
+    List<V> values() {
+        lock.readLock().lock();
+        try {
+            List<V> values = new ArrayList<>(size);
+            Deque<Node<V>> stack = new ArrayDeque<>();
+            if (root != null) {
+                stack.push(root);
+            }
+            while (!stack.isEmpty()) {
+                Node<V> node = stack.pop();
+                if (node.value != null) {
+                    values.add(node.value);
+                }
+                if (node.right != null) {
+                    stack.push(node.right);
+                }
+                if (node.left != null) {
+                    stack.push(node.left);
+                }
+            }
+            return values;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all prefixes from the trie.
+     */
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Puts the replacement where the node hangs off its parent; the key is
+    // any key under the parent leading towards the node
+    private void replace(Node<V> parent, Node<V> node, Node<V> replacement, Key key) {
+        if (parent == null) {
+            root = replacement;
+        } else if (node != null) {
+            parent.setChild(parent.left == node ? 0 : 1, replacement);
+        } else {
+            parent.setChild(key.bit(parent.length), replacement);
+        }
+    }
+
+    private Key key(IpAddress address, int length) {
+        byte[] octets = address.toOctets();
+        checkArgument(octets.length * Byte.SIZE == bitLength,
+                      "Address %s does not belong to this trie", address);
+        long hi = 0;
+        long lo = 0;
+        for (int i = 0; i < octets.length; i++) {
+            long octet = octets[i] & 0xffL;
+            if (i < 8) {
+                hi |= octet << (56 - 8 * i);
+            } else {
+                lo |= octet << (56 - 8 * (i - 8));
+            }
+        }
+        return new Key(hi, lo, length).truncate(length);
+    }
+
+    // Bits of a prefix, left aligned in two longs
+    private static class Key {
+        final long hi;
+        final long lo;
+        final int length;
+
+        Key(long hi, long lo, int length) {
+            this.hi = hi;
+            this.lo = lo;
+            this.length = length;
+        }
+
+        int bit(int index) {
+            return (int) (index < 64 ? hi >>> (63 - index) : lo >>> (127 - index)) & 1;
+        }
+
+        Key truncate(int newLength) {
+            return new Key(mask(hi, newLength), mask(lo, newLength - 64), newLength);
+        }
+
+        int commonLength(Key other, int max) {
+            long diff = hi ^ other.hi;
+            int common = diff != 0 ? Long.numberOfLeadingZeros(diff) :
+                    64 + Long.numberOfLeadingZeros(lo ^ other.lo);
+            return Math.min(common, max);
+        }
+
+        boolean isPrefixOf(Key other) {
+            return commonLength(other, length) == length;
+        }
+
+        private static long mask(long bits, int length) {
+            if (length <= 0) {
+                return 0;
+            }
+            return length >= 64 ? bits : bits & (-1L << (64 - length));
+        }
+    }
+
+    private static final class Node<V> extends Key {
+        V value;
+        Node<V> left;
+        Node<V> right;
+
+        Node(Key key, V value) {
+            super(key.hi, key.lo, key.length);
+            this.value = value;
+        }
+
+        Node<V> child(int bit) {
+            return bit == 0 ? left : right;
+        }
+
+        void setChild(int bit, Node<V> child) {
+            if (bit == 0) {
+                left = child;
+            } else {
+                right = child;
+            }
+        }
+    }
+}
@@ -16,13 +16,8 @@
 package org.onosproject.routing.impl;
 
 import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import com.googlecode.concurrenttrees.common.KeyValuePair;
-import com.googlecode.concurrenttrees.radix.node.concrete.DefaultByteArrayNodeFactory;
-import com.googlecode.concurrenttrees.radixinverted.ConcurrentInvertedRadixTree;
-import com.googlecode.concurrenttrees.radixinverted.InvertedRadixTree;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
@@ -55,9 +50,10 @@ import org.onosproject.routing.config.RoutingConfigurationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -70,7 +66,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.onosproject.routing.RouteEntry.createBinaryString;
 
 /**
  * This class processes route updates and maintains a Routing Information Base
@@ -83,17 +78,19 @@ public class Router implements RoutingService {
 
     private static final Logger log = LoggerFactory.getLogger(Router.class);
 
-    // Route entries are stored in a radix tree.
-    // The key in this tree is the binary string of prefix of the route.
-    private InvertedRadixTree<RouteEntry> ribTable4;
-    private InvertedRadixTree<RouteEntry> ribTable6;
+    // Maximum number of queued route update collections processed together
+    private static final int MAX_UPDATE_BATCH = 1000;
+
+    // Route entries are stored in a binary trie keyed by prefix.
+    private PrefixTrie<RouteEntry> ribTable4;
+    private PrefixTrie<RouteEntry> ribTable6;
 
     // Stores all incoming route updates in a queue.
     private final BlockingQueue<Collection<RouteUpdate>> routeUpdatesQueue =
             new LinkedBlockingQueue<>();
 
     // Next-hop IP address to route entry mapping for next hops pending MAC
-    // resolution
+    // resolution. Only accessed while synchronized on this.
     private SetMultimap<IpAddress, RouteEntry> routesWaitingOnArp;
 
     // The IPv4 address to MAC address mapping
@@ -122,13 +119,10 @@ public class Router implements RoutingService {
 
     @Activate
     public void activate() {
-        ribTable4 = new ConcurrentInvertedRadixTree<>(
-                new DefaultByteArrayNodeFactory());
-        ribTable6 = new ConcurrentInvertedRadixTree<>(
-                new DefaultByteArrayNodeFactory());
+        ribTable4 = new PrefixTrie<>(Ip4Address.BIT_LENGTH);
+        ribTable6 = new PrefixTrie<>(Ip6Address.BIT_LENGTH);
 
-        routesWaitingOnArp = Multimaps.synchronizedSetMultimap(
-                HashMultimap.<IpAddress, RouteEntry>create());
+        routesWaitingOnArp = HashMultimap.create();
 
         coreService.registerApplication(ROUTER_APP_ID);
 
@@ -173,10 +167,8 @@ public class Router implements RoutingService {
 
         synchronized (this) {
             // Cleanup all local state
-            ribTable4 = new ConcurrentInvertedRadixTree<>(
-                    new DefaultByteArrayNodeFactory());
-            ribTable6 = new ConcurrentInvertedRadixTree<>(
-                    new DefaultByteArrayNodeFactory());
+            ribTable4.clear();
+            ribTable6.clear();
             routeUpdatesQueue.clear();
             routesWaitingOnArp.clear();
             ip2Mac.clear();
@@ -199,14 +191,22 @@ public class Router implements RoutingService {
 
     /**
      * Thread for handling route updates.
+     * <p>
+     * All route updates queued by the time the thread gets to them are
+     * processed as a single batch.
+     * </p>
      */
     private void doUpdatesThread() {
         boolean interrupted = false;
+        List<Collection<RouteUpdate>> queued = new ArrayList<>();
         try {
             while (!interrupted) {
                 try {
-                    Collection<RouteUpdate> routeUpdates =
-                            routeUpdatesQueue.take();
+                    queued.add(routeUpdatesQueue.take());
+                    routeUpdatesQueue.drainTo(queued, MAX_UPDATE_BATCH - 1);
+                    List<RouteUpdate> routeUpdates = new ArrayList<>();
+                    queued.forEach(routeUpdates::addAll);
+                    queued.clear();
                     processRouteUpdates(routeUpdates);
                 } catch (InterruptedException e) {
                     log.error("Interrupted while taking from updates queue", e);
@@ -229,17 +229,7 @@ public class Router implements RoutingService {
      */
     @Override
     public Collection<RouteEntry> getRoutes4() {
-        Iterator<KeyValuePair<RouteEntry>> it =
-                ribTable4.getKeyValuePairsForKeysStartingWith("").iterator();
-
-        List<RouteEntry> routes = new LinkedList<>();
-
-        while (it.hasNext()) {
-            KeyValuePair<RouteEntry> entry = it.next();
-            routes.add(entry.getValue());
-        }
-
-        return routes;
+        return ribTable4.values();
     }
 
     /**
@@ -249,17 +239,7 @@ public class Router implements RoutingService {
      */
     @Override
     public Collection<RouteEntry> getRoutes6() {
-        Iterator<KeyValuePair<RouteEntry>> it =
-                ribTable6.getKeyValuePairsForKeysStartingWith("").iterator();
-
-        List<RouteEntry> routes = new LinkedList<>();
-
-        while (it.hasNext()) {
-            KeyValuePair<RouteEntry> entry = it.next();
-            routes.add(entry.getValue());
-        }
-
-        return routes;
+        return ribTable6.values();
     }
 
     /**
@@ -270,13 +250,12 @@ public class Router implements RoutingService {
      * @return the route if found, otherwise null
      */
     RouteEntry findRibRoute(IpPrefix prefix) {
-        String binaryString = createBinaryString(prefix);
         if (prefix.isIp4()) {
             // IPv4
-            return ribTable4.getValueForExactKey(binaryString);
+            return ribTable4.get(prefix);
         }
         // IPv6
-        return ribTable6.getValueForExactKey(binaryString);
+        return ribTable6.get(prefix);
     }
 
     /**
@@ -287,12 +266,10 @@ public class Router implements RoutingService {
     void addRibRoute(RouteEntry routeEntry) {
         if (routeEntry.isIp4()) {
             // IPv4
-            ribTable4.put(createBinaryString(routeEntry.prefix()),
-                    routeEntry);
+            ribTable4.put(routeEntry.prefix(), routeEntry);
         } else {
             // IPv6
-            ribTable6.put(createBinaryString(routeEntry.prefix()),
-                    routeEntry);
+            ribTable6.put(routeEntry.prefix(), routeEntry);
         }
     }
 
@@ -306,24 +283,38 @@ public class Router implements RoutingService {
     boolean removeRibRoute(IpPrefix prefix) {
         if (prefix.isIp4()) {
             // IPv4
-            return ribTable4.remove(createBinaryString(prefix));
+            return ribTable4.remove(prefix) != null;
         }
         // IPv6
-        return ribTable6.remove(createBinaryString(prefix));
+        return ribTable6.remove(prefix) != null;
     }
 
     /**
      * Processes route updates.
+     * <p>
+     * Only the last update of each prefix is applied, so a prefix that
+     * flaps within the batch results in at most one FIB change.
+     * </p>
      *
      * @param routeUpdates the route updates to process
      */
     void processRouteUpdates(Collection<RouteUpdate> routeUpdates) {
+        Map<IpPrefix, RouteUpdate> latestUpdates =
+                new LinkedHashMap<>(routeUpdates.size() * 2);
+        for (RouteUpdate update : routeUpdates) {
+            latestUpdates.put(update.routeEntry().prefix(), update);
+        }
+        if (latestUpdates.size() < routeUpdates.size()) {
+            log.debug("Coalesced {} route updates into {}",
+                      routeUpdates.size(), latestUpdates.size());
+        }
+
         synchronized (this) {
             Collection<IpPrefix> withdrawPrefixes = new LinkedList<>();
             Collection<FibUpdate> fibUpdates = new LinkedList<>();
             Collection<FibUpdate> fibWithdraws = new LinkedList<>();
 
-            for (RouteUpdate update : routeUpdates) {
+            for (RouteUpdate update : latestUpdates.values()) {
                 switch (update.type()) {
                 case UPDATE:
 
@@ -356,7 +347,7 @@ public class Router implements RoutingService {
     /**
      * Processes adding a route entry.
      * <p>
-     * The route entry is added to the radix tree. If there was an existing
+     * The route entry is added to the RIB. If there was an existing
      * next hop for this prefix, but the next hop was different, then the
      * old route entry is deleted.
      * </p>
@@ -437,7 +428,7 @@ public class Router implements RoutingService {
     /**
      * Processes the deletion of a route entry.
      * <p>
-     * The prefix for the routing entry is removed from radix tree.
+     * The prefix for the routing entry is removed from the RIB.
      * If the operation is successful, the prefix is added to the collection
      * of prefixes whose intents that will be withdrawn.
      * </p>
@@ -454,7 +445,7 @@ public class Router implements RoutingService {
         if (isRemoved) {
             //
             // Only withdraw intents if an entry was actually removed from the
-            // tree. If no entry was removed, the <prefix, nexthop> wasn't
+            // RIB. If no entry was removed, the <prefix, nexthop> wasn't
             // there so it's probably already been removed and we don't
             // need to do anything.
             //
@@ -478,9 +469,9 @@ public class Router implements RoutingService {
                 macAddress);
 
         //
-        // We synchronize on "this" to prevent changes to the Radix tree
-        // while we're pushing intents. If the tree changes, the
-        // tree and the intents could get out of sync.
+        // We synchronize on "this" to prevent changes to the RIB
+        // while we're pushing intents. If the RIB changes, the
+        // RIB and the intents could get out of sync.
         //
         synchronized (this) {
             Collection<FibUpdate> submitFibEntries = new LinkedList<>();
@@ -494,7 +485,7 @@ public class Router implements RoutingService {
                 if (foundRouteEntry != null &&
                         foundRouteEntry.nextHop().equals(routeEntry.nextHop())) {
                     // We only push FIB updates if the prefix is still in the
-                    // radix tree and the next hop is the same as our entry.
+                    // RIB and the next hop is the same as our entry.
                     // The prefix could have been removed while we were waiting
                     // for the ARP, or the next hop could have changed.
                     submitFibEntries.add(new FibUpdate(FibUpdate.Type.UPDATE,
@@ -565,26 +556,10 @@ public class Router implements RoutingService {
 
     @Override
     public RouteEntry getLongestMatchableRouteEntry(IpAddress ipAddress) {
-        RouteEntry routeEntry = null;
-        Iterable<RouteEntry> routeEntries;
-
         if (ipAddress.isIp4()) {
-            routeEntries = ribTable4.getValuesForKeysPrefixing(
-                    createBinaryString(
-                    IpPrefix.valueOf(ipAddress, Ip4Address.BIT_LENGTH)));
-        } else {
-            routeEntries = ribTable6.getValuesForKeysPrefixing(
-                    createBinaryString(
-                    IpPrefix.valueOf(ipAddress, Ip6Address.BIT_LENGTH)));
-        }
-        if (routeEntries == null) {
-            return null;
-        }
-        Iterator<RouteEntry> it = routeEntries.iterator();
-        while (it.hasNext()) {
-            routeEntry = it.next();
+            return ribTable4.longestMatch(ipAddress);
         }
-        return routeEntry;
+        return ribTable6.longestMatch(ipAddress);
     }
 
     @Override
@@ -888,4 +888,66 @@ public class BgpSessionManagerTest {
         bgpRoutes = waitForBgpRoutes(0);
         assertThat(bgpRoutes, hasSize(0));
     }
+
+    /**
+     * Tests that a large table, sent by every peer in full UPDATE messages,
+     * is processed completely within a bounded time.
+     * <p>
+     * Each UPDATE message carries 800 prefixes and the routes use 10
+     * distinct AS Paths, as in a full table replayed by a BGP peer.
+     * </p>
+     */
+    @Test(timeout = 60_000)
+    public void testLargeTableThroughput() throws InterruptedException {
+        final int tableSize = 20_000;
+        final int prefixesPerUpdate = 800;
+        final int asPaths = 10;
+
+        // Initiate the connections
+        peer1.connect(connectToSocket);
+        peer2.connect(connectToSocket);
+        peer3.connect(connectToSocket);
+
+        for (int first = 0; first < tableSize; first += prefixesPerUpdate) {
+            Collection<Ip4Prefix> addedRoutes = new ArrayList<>();
+            for (int i = first; i < first + prefixesPerUpdate; i++) {
+                addedRoutes.add(Ip4Prefix.valueOf(
+                        Ip4Address.valueOf((1 << 24) + (i << 8)), 24));
+            }
+            int update = first / prefixesPerUpdate;
+            ArrayList<Long> segmentAsNumbers = new ArrayList<>();
+            segmentAsNumbers.add(64000L + update % asPaths);
+            segmentAsNumbers.add(65020L);
+            ArrayList<BgpRouteEntry.PathSegment> pathSegments = new ArrayList<>();
+            pathSegments.add(new BgpRouteEntry.PathSegment(
+                    (byte) BgpConstants.Update.AsPath.AS_SEQUENCE,
+                    segmentAsNumbers));
+            BgpRouteEntry.AsPath asPath = new BgpRouteEntry.AsPath(pathSegments);
+
+            for (TestBgpPeer peer : peers) {
+                ChannelBuffer message = peer.peerChannelHandler.prepareBgpUpdate(
+                        NEXT_HOP1_ROUTER,
+                        DEFAULT_LOCAL_PREF,
+                        DEFAULT_MULTI_EXIT_DISC,
+                        asPath,
+                        addedRoutes,
+                        new LinkedList<>());
+                peer.peerChannelHandler.savedCtx.getChannel().write(message);
+            }
+        }
+
+        //
+        // Check that every peer's table has been received and merged
+        //
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        assertThat(bgpSessionManager.getBgpSessions(), hasSize(3));
+        for (BgpSession bgpSession : bgpSessionManager.getBgpSessions()) {
+            while (bgpSession.getBgpRibIn4().size() < tableSize &&
+                    System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(bgpSession.getBgpRibIn4(), hasSize(tableSize));
+        }
+        assertThat(waitForBgpRoutes(tableSize), hasSize(tableSize));
+    }
 }
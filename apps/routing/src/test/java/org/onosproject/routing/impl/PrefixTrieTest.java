@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routing.impl;
+
+import org.junit.Test;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.Ip4Prefix;
+import org.onlab.packet.Ip6Address;
+import org.onlab.packet.Ip6Prefix;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the prefix trie backing the RIB.
+ */
+public class PrefixTrieTest {
+
+    private final PrefixTrie<String> trie4 = new PrefixTrie<>(Ip4Address.BIT_LENGTH);
+
+    private void put(String prefix) {
+        trie4.put(Ip4Prefix.valueOf(prefix), prefix);
+    }
+
+    private String lookup(String address) {
+        return trie4.longestMatch(Ip4Address.valueOf(address));
+    }
+
+    /**
+     * Tests exact and longest prefix match lookups.
+     */
+    @Test
+    public void testLookups() {
+        put("0.0.0.0/0");
+        put("10.0.0.0/8");
+        put("10.1.0.0/16");
+        put("10.1.1.0/24");
+        put("11.0.0.0/8");
+
+        assertEquals(5, trie4.size());
+        assertEquals("10.1.0.0/16", trie4.get(Ip4Prefix.valueOf("10.1.0.0/16")));
+        assertNull(trie4.get(Ip4Prefix.valueOf("10.1.0.0/17")));
+        assertNull(trie4.get(Ip4Prefix.valueOf("10.0.0.0/7")));
+
+        assertEquals("10.1.1.0/24", lookup("10.1.1.1"));
+        assertEquals("10.1.0.0/16", lookup("10.1.2.1"));
+        assertEquals("10.0.0.0/8", lookup("10.2.0.1"));
+        assertEquals("11.0.0.0/8", lookup("11.255.255.255"));
+        assertEquals("0.0.0.0/0", lookup("12.0.0.1"));
+    }
+
+    /**
+     * Tests that removals keep the remaining prefixes reachable.
+     */
+    @Test
+    public void testRemove() {
+        put("10.0.0.0/8");
+        put("10.1.0.0/16");
+        put("10.2.0.0/16");
+        put("10.1.1.1/32");
+
+        assertEquals("10.1.0.0/16", trie4.remove(Ip4Prefix.valueOf("10.1.0.0/16")));
+        assertNull(trie4.remove(Ip4Prefix.valueOf("10.1.0.0/16")));
+        assertEquals("10.0.0.0/8", lookup("10.1.2.1"));
+        assertEquals("10.1.1.1/32", lookup("10.1.1.1"));
+
+        assertEquals("10.1.1.1/32", trie4.remove(Ip4Prefix.valueOf("10.1.1.1/32")));
+        assertEquals("10.0.0.0/8", trie4.remove(Ip4Prefix.valueOf("10.0.0.0/8")));
+        assertEquals("10.2.0.0/16", lookup("10.2.3.4"));
+        assertNull(lookup("10.1.1.1"));
+        assertEquals(1, trie4.size());
+        assertEquals(1, trie4.values().size());
+    }
+
+    /**
+     * Tests IPv6 prefixes spanning both halves of the key.
+     */
+    @Test
+    public void testIp6() {
+        PrefixTrie<String> trie6 = new PrefixTrie<>(Ip6Address.BIT_LENGTH);
+        trie6.put(Ip6Prefix.valueOf("2001:db8::/32"), "a");
+        trie6.put(Ip6Prefix.valueOf("2001:db8::1:0:0:0/80"), "b");
+        trie6.put(Ip6Prefix.valueOf("2001:db8::1/128"), "c");
+
+        assertEquals("c", trie6.longestMatch(Ip6Address.valueOf("2001:db8::1")));
+        assertEquals("a", trie6.longestMatch(Ip6Address.valueOf("2001:db8::2")));
+        assertEquals("b", trie6.longestMatch(Ip6Address.valueOf("2001:db8:0:0:1::5")));
+        assertNull(trie6.longestMatch(Ip6Address.valueOf("2001:db9::1")));
+    }
+
+    /**
+     * Tests random updates and lookups against a linear scan of all
+     * prefixes.
+     */
+    @Test
+    public void testRandomized() {
+        Random random = new Random(42);
+        Map<IpPrefix, String> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            // Few distinct high bits so that prefixes nest
+            int address = random.nextInt(64) << 24 | random.nextInt();
+            IpPrefix prefix = Ip4Prefix.valueOf(Ip4Address.valueOf(address & 0x3fffffff),
+                                                random.nextInt(33));
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(prefix), trie4.remove(prefix));
+            } else {
+                assertEquals(expected.put(prefix, prefix.toString()),
+                             trie4.put(prefix, prefix.toString()));
+            }
+        }
+        assertEquals(expected.size(), trie4.size());
+        assertTrue(trie4.values().containsAll(expected.values()));
+
+        for (int i = 0; i < 5000; i++) {
+            IpAddress address = Ip4Address.valueOf(random.nextInt() & 0x3fffffff);
+            IpPrefix best = null;
+            for (IpPrefix prefix : expected.keySet()) {
+                if (prefix.contains(address) &&
+                        (best == null || prefix.prefixLength() > best.prefixLength())) {
+                    best = prefix;
+                }
+            }
+            assertEquals(best == null ? null : best.toString(),
+                         trie4.longestMatch(address));
+        }
+    }
+}
@@ -36,6 +36,8 @@ import org.onosproject.net.flow.criteria.IPCriterion;
 import org.onosproject.net.host.HostService;
 import org.onosproject.net.intent.Constraint;
 import org.onosproject.net.intent.Intent;
+import org.onosproject.net.intent.IntentEvent;
+import org.onosproject.net.intent.IntentListener;
 import org.onosproject.net.intent.IntentService;
 import org.onosproject.net.intent.IntentState;
 import org.onosproject.net.intent.Key;
@@ -72,6 +74,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public class IntentSynchronizer implements FibListener, IntentRequestListener {
     private static final int PRIORITY_OFFSET = 100;
     private static final int PRIORITY_MULTIPLIER = 5;
+    // Rate control for the intents pushed by a synchronization
+    private static final int SYNC_BATCH_SIZE = 1000;
+    private static final long SYNC_BATCH_INTERVAL_MS = 20;
     protected static final ImmutableList<Constraint> CONSTRAINTS
             = ImmutableList.of(new PartialFailureConstraint());
 
@@ -93,6 +98,17 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
     private volatile boolean isElectedLeader = false;
     private volatile boolean isActivatedLeader = false;
 
+    //
+    // State for incremental synchronization, guarded by this. The
+    // fingerprints hold the route intent believed to be in the Intent
+    // framework for each prefix; the dirty prefixes are those whose local
+    // intent may differ from it.
+    //
+    private final Map<IpPrefix, IntentKey> routeFingerprints = new HashMap<>();
+    private final Set<IpPrefix> dirtyPrefixes = new HashSet<>();
+    private boolean fullSyncRequired = true;
+    private final IntentListener intentListener = new InternalIntentListener();
+
     private final RoutingConfigurationService configService;
 
     /**
@@ -126,6 +142,7 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
      * Starts the synchronizer.
      */
     public void start() {
+        intentService.addListener(intentListener);
         bgpIntentsSynchronizerExecutor.execute(this::doIntentSynchronizationThread);
     }
 
@@ -134,6 +151,8 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
      */
     public void stop() {
         synchronized (this) {
+            intentService.removeListener(intentListener);
+
             // Stop the thread(s)
             bgpIntentsSynchronizerExecutor.shutdownNow();
 
@@ -270,6 +289,9 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
                     log.trace("SDN-IP Submitting intents: {}", intent);
                     intentService.submit(intent);
                 }
+            } else {
+                // Peer intents are only reconciled by a full synchronization
+                fullSyncRequired = true;
             }
         }
     }
@@ -289,6 +311,9 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
             if (isElectedLeader && isActivatedLeader) {
                 log.trace("SDN-IP submitting reactive routing intent: {}", intent);
                 intentService.submit(intent);
+                routeFingerprints.put(ipPrefix, new IntentKey(intent));
+            } else {
+                dirtyPrefixes.add(ipPrefix);
             }
         }
     }
@@ -454,6 +479,9 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
                 if (isElectedLeader && isActivatedLeader) {
                     log.trace("SDN-IP Withdrawing intent: {}", intent);
                     intentService.withdraw(intent);
+                    routeFingerprints.remove(prefix);
+                } else {
+                    dirtyPrefixes.add(prefix);
                 }
             }
 
@@ -485,6 +513,9 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
                     }
                     log.trace("SDN-IP Submitting intent: {}", intent);
                     intentService.submit(intent);
+                    routeFingerprints.put(prefix, new IntentKey(intent));
+                } else {
+                    dirtyPrefixes.add(prefix);
                 }
             }
         }
@@ -493,125 +524,259 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
     /**
      * Synchronize the in-memory Intents with the Intents in the Intent
      * framework.
+     * <p>
+     * The first synchronization compares all intents. Later ones only
+     * compare the route intents of the prefixes that changed since the
+     * intents were last pushed, against the fingerprints of the intents in
+     * the Intent framework. The resulting intents are pushed in batches,
+     * without holding the lock, and the prefixes that change meanwhile are
+     * synchronized by another pass before the leader is activated.
+     * </p>
      */
     void synchronizeIntents() {
-        synchronized (this) {
-
-            Map<IntentKey, Intent> localIntents = new HashMap<>();
-            Map<IntentKey, Intent> fetchedIntents = new HashMap<>();
-            Collection<Intent> storeInMemoryIntents = new LinkedList<>();
+        while (true) {
             Collection<Intent> addIntents = new LinkedList<>();
             Collection<Intent> deleteIntents = new LinkedList<>();
 
-            if (!isElectedLeader) {
-                return;         // Nothing to do: not the leader anymore
+            synchronized (this) {
+                if (!isElectedLeader) {
+                    return;         // Nothing to do: not the leader anymore
+                }
+
+                if (fullSyncRequired) {
+                    log.debug("SDN-IP synchronizing all intents...");
+                    computeFullDelta(addIntents, deleteIntents);
+                    fullSyncRequired = false;
+                } else {
+                    log.debug("SDN-IP synchronizing intents of {} prefixes...",
+                              dirtyPrefixes.size());
+                    computeDirtyDelta(addIntents, deleteIntents);
+                }
+                dirtyPrefixes.clear();
+
+                if (addIntents.isEmpty() && deleteIntents.isEmpty()) {
+                    isActivatedLeader = true;       // Allow push of Intents
+                    log.debug("SDN-IP intent synchronization completed");
+                    return;
+                }
             }
-            log.debug("SDN-IP synchronizing all intents...");
 
-            // Prepare the local intents
-            for (Intent intent : routeIntents.values()) {
-                localIntents.put(new IntentKey(intent), intent);
+            if (!pushIntents(addIntents, deleteIntents)) {
+                synchronized (this) {
+                    // The fingerprints already account for the intents
+                    // that were not pushed
+                    fullSyncRequired = true;
+                    isActivatedLeader = false;
+                }
+                return;
             }
-            for (Intent intent : peerIntents.values()) {
-                localIntents.put(new IntentKey(intent), intent);
+        }
+    }
+
+    /**
+     * Computes the intents to add and delete by comparing all local
+     * in-memory Intents with all Intents fetched from the Intent framework,
+     * and resets the route intent fingerprints accordingly.
+     *
+     * @param addIntents the Intents that should be added to the Intent
+     * framework
+     * @param deleteIntents the Intents that should be deleted from the Intent
+     * framework
+     */
+    private void computeFullDelta(Collection<Intent> addIntents,
+                                  Collection<Intent> deleteIntents) {
+        Map<IntentKey, Intent> localIntents = new HashMap<>();
+        Map<IntentKey, Intent> fetchedIntents = new HashMap<>();
+        Collection<Intent> storeInMemoryIntents = new LinkedList<>();
+
+        // Prepare the local intents
+        for (Intent intent : routeIntents.values()) {
+            localIntents.put(new IntentKey(intent), intent);
+        }
+        for (Intent intent : peerIntents.values()) {
+            localIntents.put(new IntentKey(intent), intent);
+        }
+
+        // Fetch all intents for this application
+        for (Intent intent : intentService.getIntents()) {
+            if (!intent.appId().equals(appId)) {
+                continue;
             }
+            fetchedIntents.put(new IntentKey(intent), intent);
+        }
+        if (log.isDebugEnabled()) {
+            for (Intent intent: fetchedIntents.values()) {
+                log.trace("SDN-IP Intent Synchronizer: fetched intent: {}",
+                          intent);
+            }
+        }
 
-            // Fetch all intents for this application
-            for (Intent intent : intentService.getIntents()) {
-                if (!intent.appId().equals(appId)) {
+        computeIntentsDelta(localIntents, fetchedIntents,
+                            storeInMemoryIntents, addIntents,
+                            deleteIntents);
+
+        //
+        // Store in memory fetched intents that are same. Can be done
+        // even if we are not the leader anymore
+        //
+        for (Intent intent : storeInMemoryIntents) {
+            // Store the intent in memory based on its type
+            if (intent instanceof MultiPointToSinglePointIntent) {
+                MultiPointToSinglePointIntent mp2pIntent =
+                    (MultiPointToSinglePointIntent) intent;
+                IpPrefix ipPrefix = getIpPrefix(mp2pIntent);
+                if (ipPrefix == null) {
+                    log.warn("SDN-IP no IPV4_DST or IPV6_DST criterion found for Intent {}",
+                             mp2pIntent.id());
                     continue;
                 }
-                fetchedIntents.put(new IntentKey(intent), intent);
+                log.trace("SDN-IP Intent Synchronizer: updating " +
+                          "in-memory Route Intent for prefix {}",
+                          ipPrefix);
+                routeIntents.put(ipPrefix, mp2pIntent);
+                continue;
             }
-            if (log.isDebugEnabled()) {
-                for (Intent intent: fetchedIntents.values()) {
-                    log.trace("SDN-IP Intent Synchronizer: fetched intent: {}",
-                              intent);
-                }
+            if (intent instanceof PointToPointIntent) {
+                PointToPointIntent p2pIntent = (PointToPointIntent) intent;
+                log.trace("SDN-IP Intent Synchronizer: updating " +
+                          "in-memory Peer Intent {}", p2pIntent);
+                peerIntents.put(new IntentKey(intent), p2pIntent);
+                continue;
             }
+        }
 
-            computeIntentsDelta(localIntents, fetchedIntents,
-                                storeInMemoryIntents, addIntents,
-                                deleteIntents);
+        // Once the delta is pushed, the Intent framework holds the local
+        // route intents
+        routeFingerprints.clear();
+        for (Map.Entry<IpPrefix, MultiPointToSinglePointIntent> entry :
+            routeIntents.entrySet()) {
+            routeFingerprints.put(entry.getKey(), new IntentKey(entry.getValue()));
+        }
+    }
 
-            //
-            // Perform the actions:
-            // 1. Store in memory fetched intents that are same. Can be done
-            //    even if we are not the leader anymore
-            // 2. Delete intents: check if the leader before the operation
-            // 3. Add intents: check if the leader before the operation
-            //
-            for (Intent intent : storeInMemoryIntents) {
-                // Store the intent in memory based on its type
-                if (intent instanceof MultiPointToSinglePointIntent) {
-                    MultiPointToSinglePointIntent mp2pIntent =
-                        (MultiPointToSinglePointIntent) intent;
-                    // Find the IP prefix
-                    Criterion c =
-                        mp2pIntent.selector().getCriterion(Criterion.Type.IPV4_DST);
-                    if (c == null) {
-                        // Try IPv6
-                        c =
-                            mp2pIntent.selector().getCriterion(Criterion.Type.IPV6_DST);
-                    }
-                    if (c != null && c instanceof IPCriterion) {
-                        IPCriterion ipCriterion = (IPCriterion) c;
-                        IpPrefix ipPrefix = ipCriterion.ip();
-                        if (ipPrefix == null) {
-                            continue;
-                        }
-                        log.trace("SDN-IP Intent Synchronizer: updating " +
-                                  "in-memory Route Intent for prefix {}",
-                                  ipPrefix);
-                        routeIntents.put(ipPrefix, mp2pIntent);
-                    } else {
-                        log.warn("SDN-IP no IPV4_DST or IPV6_DST criterion found for Intent {}",
-                                 mp2pIntent.id());
-                    }
-                    continue;
-                }
-                if (intent instanceof PointToPointIntent) {
-                    PointToPointIntent p2pIntent = (PointToPointIntent) intent;
-                    log.trace("SDN-IP Intent Synchronizer: updating " +
-                              "in-memory Peer Intent {}", p2pIntent);
-                    peerIntents.put(new IntentKey(intent), p2pIntent);
-                    continue;
+    /**
+     * Computes the intents to add and delete for the dirty prefixes by
+     * comparing their local in-memory route Intents with the fingerprints,
+     * and updates the fingerprints accordingly.
+     *
+     * @param addIntents the Intents that should be added to the Intent
+     * framework
+     * @param deleteIntents the Intents that should be deleted from the Intent
+     * framework
+     */
+    private void computeDirtyDelta(Collection<Intent> addIntents,
+                                   Collection<Intent> deleteIntents) {
+        for (IpPrefix prefix : dirtyPrefixes) {
+            MultiPointToSinglePointIntent localIntent = routeIntents.get(prefix);
+            IntentKey fingerprint = routeFingerprints.get(prefix);
+
+            if (localIntent == null) {
+                if (fingerprint != null) {
+                    deleteIntents.add(fingerprint.intent());
+                    routeFingerprints.remove(prefix);
                 }
+                continue;
             }
 
-            // Withdraw Intents
-            for (Intent intent : deleteIntents) {
-                intentService.withdraw(intent);
-                log.trace("SDN-IP Intent Synchronizer: withdrawing intent: {}",
-                      intent);
+            IntentKey localKey = new IntentKey(localIntent);
+            if (localKey.equals(fingerprint)) {
+                // Keep the installed Intent to preserve its Intent ID
+                routeIntents.put(prefix,
+                        (MultiPointToSinglePointIntent) fingerprint.intent());
+                continue;
             }
-            if (!isElectedLeader) {
-                log.trace("SDN-IP Intent Synchronizer: cannot withdraw intents: " +
-                          "not elected leader anymore");
-                isActivatedLeader = false;
-                return;
+            if (fingerprint != null) {
+                deleteIntents.add(fingerprint.intent());
             }
+            addIntents.add(localIntent);
+            routeFingerprints.put(prefix, localKey);
+        }
+    }
 
-            // Add Intents
-            for (Intent intent : addIntents) {
-                intentService.submit(intent);
-                log.trace("SDN-IP Intent Synchronizer: submitting intent: {}",
-                          intent);
-            }
-            if (!isElectedLeader) {
-                log.trace("SDN-IP Intent Synchronizer: cannot submit intents: " +
-                          "not elected leader anymore");
-                isActivatedLeader = false;
-                return;
+    /**
+     * Withdraws and then submits Intents in batches of at most
+     * SYNC_BATCH_SIZE operations, pausing between batches so that a large
+     * synchronization does not flood the Intent framework.
+     *
+     * @param addIntents the Intents to submit
+     * @param deleteIntents the Intents to withdraw
+     * @return true if all Intents were pushed, false if the synchronization
+     * was interrupted or this instance is not the leader anymore
+     */
+    private boolean pushIntents(Collection<Intent> addIntents,
+                                Collection<Intent> deleteIntents) {
+        int pushed = 0;
+
+        // Withdraw Intents
+        for (Intent intent : deleteIntents) {
+            if (!awaitNextBatch(pushed++)) {
+                return false;
             }
+            intentService.withdraw(intent);
+            log.trace("SDN-IP Intent Synchronizer: withdrawing intent: {}",
+                      intent);
+        }
+        if (!isElectedLeader) {
+            log.trace("SDN-IP Intent Synchronizer: cannot withdraw intents: " +
+                      "not elected leader anymore");
+            return false;
+        }
 
-            if (isElectedLeader) {
-                isActivatedLeader = true;       // Allow push of Intents
-            } else {
-                isActivatedLeader = false;
+        // Add Intents
+        for (Intent intent : addIntents) {
+            if (!awaitNextBatch(pushed++)) {
+                return false;
             }
-            log.debug("SDN-IP intent synchronization completed");
+            intentService.submit(intent);
+            log.trace("SDN-IP Intent Synchronizer: submitting intent: {}",
+                      intent);
+        }
+        if (!isElectedLeader) {
+            log.trace("SDN-IP Intent Synchronizer: cannot submit intents: " +
+                      "not elected leader anymore");
+            return false;
         }
+        return true;
+    }
+
+    /**
+     * Paces the push of Intents at a batch boundary.
+     *
+     * @param pushed the number of Intents pushed so far
+     * @return true if the push may continue, otherwise false
+     */
+    private boolean awaitNextBatch(int pushed) {
+        if (pushed == 0 || pushed % SYNC_BATCH_SIZE != 0) {
+            return true;
+        }
+        if (!isElectedLeader) {
+            return false;
+        }
+        try {
+            Thread.sleep(SYNC_BATCH_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return isElectedLeader;
+    }
+
+    /**
+     * Gets the IP prefix matched by a route Intent.
+     *
+     * @param intent the route Intent
+     * @return the destination IP prefix, or null if none is matched
+     */
+    private static IpPrefix getIpPrefix(MultiPointToSinglePointIntent intent) {
+        Criterion c = intent.selector().getCriterion(Criterion.Type.IPV4_DST);
+        if (c == null) {
+            // Try IPv6
+            c = intent.selector().getCriterion(Criterion.Type.IPV6_DST);
+        }
+        if (c instanceof IPCriterion) {
+            return ((IPCriterion) c).ip();
+        }
+        return null;
     }
 
     /**
@@ -720,6 +885,15 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
             this.intent = intent;
         }
 
+        /**
+         * Gets the intent the key was computed for.
+         *
+         * @return the intent
+         */
+        Intent intent() {
+            return intent;
+        }
+
         /**
          * Compares two Multi-Point to Single-Point Intents whether they
          * represent same logical intention.
@@ -977,4 +1151,46 @@ public class IntentSynchronizer implements FibListener, IntentRequestListener {
         checkNotNull(ipPrefix);
         return routeIntents.get(ipPrefix);
     }
+
+    /**
+     * Listener for the events of the SDN-IP route Intents. Keeps the
+     * fingerprints in line with the Intent framework, and marks the prefixes
+     * whose Intents were installed, withdrawn or failed behind our back.
+     */
+    private class InternalIntentListener implements IntentListener {
+        @Override
+        public void event(IntentEvent event) {
+            Intent intent = event.subject();
+            if (!appId.equals(intent.appId()) ||
+                !(intent instanceof MultiPointToSinglePointIntent)) {
+                return;
+            }
+            IpPrefix prefix = getIpPrefix((MultiPointToSinglePointIntent) intent);
+            if (prefix == null) {
+                return;
+            }
+
+            IntentKey intentKey = new IntentKey(intent);
+            synchronized (IntentSynchronizer.this) {
+                IntentKey fingerprint = routeFingerprints.get(prefix);
+                switch (event.type()) {
+                case INSTALLED:
+                    if (!intentKey.equals(fingerprint)) {
+                        routeFingerprints.put(prefix, intentKey);
+                        dirtyPrefixes.add(prefix);
+                    }
+                    break;
+                case WITHDRAWN:
+                case FAILED:
+                    if (intentKey.equals(fingerprint)) {
+                        routeFingerprints.remove(prefix);
+                        dirtyPrefixes.add(prefix);
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+    }
 }
@@ -459,6 +459,50 @@ public class IntentSyncTest extends AbstractIntentTest {
         verify(intentService);
     }
 
+    /**
+     * Tests that a synchronization following a full one only pushes the
+     * intents of the prefixes that changed in the meantime.
+     *
+     * @throws TestUtilsException
+     */
+    @Test
+    public void testIncrementalIntentSync() throws TestUtilsException {
+        // Firstly add a route, as the activated leader
+        testFibAdd();
+        Intent addedIntent =
+                intentSynchronizer.getRouteIntents().iterator().next();
+        TestUtils.setField(intentSynchronizer, "fullSyncRequired", false);
+
+        // Change the routes while not the leader
+        intentSynchronizer.leaderChanged(false);
+
+        FibEntry deletedEntry = new FibEntry(
+                Ip4Prefix.valueOf("1.1.1.0/24"), null, null);
+        FibEntry addedEntry = new FibEntry(
+                Ip4Prefix.valueOf("2.2.2.0/24"),
+                Ip4Address.valueOf("192.168.10.1"),
+                MacAddress.valueOf("00:00:00:00:00:01"));
+        intentSynchronizer.update(
+                Collections.singletonList(
+                        new FibUpdate(FibUpdate.Type.UPDATE, addedEntry)),
+                Collections.singletonList(
+                        new FibUpdate(FibUpdate.Type.DELETE, deletedEntry)));
+
+        // Only the changed prefixes are synchronized: the intents are not
+        // fetched from the IntentService
+        reset(intentService);
+        intentService.withdraw(addedIntent);
+        intentService.submit(eqExceptId(intentBuilder(
+                addedEntry.prefix(), "00:00:00:00:00:01", SW1_ETH1)));
+        replay(intentService);
+
+        intentSynchronizer.leaderChanged(true);
+        intentSynchronizer.synchronizeIntents();
+
+        assertEquals(intentSynchronizer.getRouteIntents().size(), 1);
+        verify(intentService);
+    }
+
     /**
      * This method tests the behavior of intent Synchronizer.
      *
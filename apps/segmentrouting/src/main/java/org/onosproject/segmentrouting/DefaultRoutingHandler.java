@@ -15,6 +15,9 @@
  */
 package org.onosproject.segmentrouting;
 
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.onlab.packet.Ip4Address;
@@ -28,10 +31,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -46,7 +56,14 @@ public class DefaultRoutingHandler {
     private RoutingRulePopulator rulePopulator;
     private HashMap<DeviceId, ECMPShortestPathGraph> currentEcmpSpgMap;
     private HashMap<DeviceId, ECMPShortestPathGraph> updatedEcmpSpgMap;
+    private ListMultimap<DeviceId, Link> currentLinks;
     private DeviceConfiguration config;
+    // Computes the ECMP graphs of different roots in parallel
+    private final ForkJoinPool spgPool =
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                             DefaultRoutingHandler::newSpgThread,
+                             (t, e) -> log.error("Uncaught exception on " + t.getName(), e),
+                             false);
     private final Lock statusLock = new ReentrantLock();
     private volatile Status populationStatus;
 
@@ -81,6 +98,13 @@ public class DefaultRoutingHandler {
         this.currentEcmpSpgMap = Maps.newHashMap();
     }
 
+    /**
+     * Stops the computation of ECMP graphs and releases its threads.
+     */
+    public void shutdown() {
+        spgPool.shutdownNow();
+    }
+
     /**
      * Populates all routing rules to all connected routers, including default
      * routing rules, adjacency rules, and policy rules if any.
@@ -96,24 +120,27 @@ public class DefaultRoutingHandler {
             log.info("Starts to populate routing rules");
             log.debug("populateAllRoutingRules: populationStatus is STARTED");
 
-            for (Device sw : srManager.deviceService.getDevices()) {
-                if (srManager.mastershipService.getLocalRole(sw.id()) != MastershipRole.MASTER) {
-                    log.debug("populateAllRoutingRules: skipping device {}...we are not master",
-                              sw.id());
-                    continue;
-                }
-
-                ECMPShortestPathGraph ecmpSpg = new ECMPShortestPathGraph(sw.id(), srManager);
-                if (!populateEcmpRoutingRules(sw.id(), ecmpSpg)) {
+            // The graphs are computed in parallel over a snapshot of the
+            // links; the rules of each device are pushed as soon as its
+            // graph is ready, while the remaining ones are still computed.
+            ListMultimap<DeviceId, Link> links = getLinkSnapshot();
+            Map<DeviceId, CompletableFuture<ECMPShortestPathGraph>> spgs =
+                    computeEcmpSpgs(getLocalMasters(), links);
+            for (Map.Entry<DeviceId, CompletableFuture<ECMPShortestPathGraph>> entry
+                    : spgs.entrySet()) {
+                ECMPShortestPathGraph ecmpSpg = entry.getValue().join();
+                if (!populateEcmpRoutingRules(entry.getKey(), ecmpSpg)) {
                     log.debug("populateAllRoutingRules: populationStatus is ABORTED");
                     populationStatus = Status.ABORTED;
                     log.debug("Abort routing rule population");
+                    spgs.values().forEach(f -> f.cancel(false));
                     return false;
                 }
-                currentEcmpSpgMap.put(sw.id(), ecmpSpg);
+                currentEcmpSpgMap.put(entry.getKey(), ecmpSpg);
 
                 // TODO: Set adjacency routing rule for all switches
             }
+            currentLinks = links;
 
             log.debug("populateAllRoutingRules: populationStatus is SUCCEEDED");
             populationStatus = Status.SUCCEEDED;
@@ -143,16 +170,18 @@ public class DefaultRoutingHandler {
                 return true;
             }
 
-            // Take the snapshots of the links
+            // Take the snapshots of the links, and recompute only the graphs
+            // that the link changes can affect
+            ListMultimap<DeviceId, Link> links = getLinkSnapshot();
+            List<DeviceId> masters = getLocalMasters();
+            Map<DeviceId, CompletableFuture<ECMPShortestPathGraph>> spgs =
+                    computeEcmpSpgs(getAffectedRoots(masters, linkFail, links), links);
+            log.debug("Recomputing {} of {} ECMP graphs", spgs.size(), masters.size());
             updatedEcmpSpgMap = new HashMap<>();
-            for (Device sw : srManager.deviceService.getDevices()) {
-                if (srManager.mastershipService.
-                        getLocalRole(sw.id()) != MastershipRole.MASTER) {
-                    continue;
-                }
-                ECMPShortestPathGraph ecmpSpgUpdated =
-                        new ECMPShortestPathGraph(sw.id(), srManager);
-                updatedEcmpSpgMap.put(sw.id(), ecmpSpgUpdated);
+            for (DeviceId root : masters) {
+                CompletableFuture<ECMPShortestPathGraph> spg = spgs.get(root);
+                updatedEcmpSpgMap.put(root, spg != null ? spg.join()
+                        : currentEcmpSpgMap.get(root));
             }
 
             log.info("Starts rule population from link change");
@@ -173,11 +202,13 @@ public class DefaultRoutingHandler {
                 log.info("No route changes for the link status change");
                 log.debug("populateRoutingRulesForLinkStatusChange: populationStatus is SUCCEEDED");
                 populationStatus = Status.SUCCEEDED;
+                currentLinks = links;
                 return true;
             }
 
             if (repopulateRoutingRulesForRoutes(routeChanges)) {
                 log.debug("populateRoutingRulesForLinkStatusChange: populationStatus is SUCCEEDED");
+                currentLinks = links;
                 populationStatus = Status.SUCCEEDED;
                 log.info("Complete to repopulate the rules. # of rules populated : {}",
                         rulePopulator.getCounter());
@@ -201,7 +232,7 @@ public class DefaultRoutingHandler {
             // When only the source device is defined, reinstall routes to all other devices
             if (link.size() == 1) {
                 log.trace("repopulateRoutingRulesForRoutes: running ECMP graph for device {}", link.get(0));
-                ECMPShortestPathGraph ecmpSpg = new ECMPShortestPathGraph(link.get(0), srManager);
+                ECMPShortestPathGraph ecmpSpg = updatedEcmpSpgMap.get(link.get(0));
                 if (populateEcmpRoutingRules(link.get(0), ecmpSpg)) {
                     log.debug("Populating flow rules from {} to all is successful",
                               link.get(0));
@@ -342,6 +373,10 @@ public class DefaultRoutingHandler {
                 continue;
             }
             ECMPShortestPathGraph newEcmpSpg = updatedEcmpSpgMap.get(sw.id());
+            if (newEcmpSpg == ecmpSpg) {
+                // Not affected by the link changes
+                continue;
+            }
             //currentEcmpSpgMap.put(sw.id(), newEcmpSpg);
             HashMap<Integer, HashMap<DeviceId, ArrayList<ArrayList<DeviceId>>>> switchVia =
                     ecmpSpg.getAllLearnedSwitchesAndVia();
@@ -377,6 +412,83 @@ public class DefaultRoutingHandler {
         return routes;
     }
 
+    // Takes an immutable snapshot of the egress links of all devices.
+    private ListMultimap<DeviceId, Link> getLinkSnapshot() {
+        ImmutableListMultimap.Builder<DeviceId, Link> builder =
+                ImmutableListMultimap.builder();
+        srManager.linkService.getLinks()
+                .forEach(link -> builder.put(link.src().deviceId(), link));
+        return builder.build();
+    }
+
+    private List<DeviceId> getLocalMasters() {
+        List<DeviceId> masters = new ArrayList<>();
+        for (Device sw : srManager.deviceService.getDevices()) {
+            if (srManager.mastershipService.getLocalRole(sw.id()) == MastershipRole.MASTER) {
+                masters.add(sw.id());
+            } else {
+                log.debug("Skipping device {}...we are not master", sw.id());
+            }
+        }
+        return masters;
+    }
+
+    // Names the workers of the ECMP graph pool as groupedThreads would
+    private static ForkJoinWorkerThread newSpgThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread =
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("onos-segmentrouting-spg-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    // Starts computing the ECMP graphs of the given roots on the fork-join pool.
+    private Map<DeviceId, CompletableFuture<ECMPShortestPathGraph>> computeEcmpSpgs(
+            Collection<DeviceId> roots, ListMultimap<DeviceId, Link> links) {
+        Map<DeviceId, CompletableFuture<ECMPShortestPathGraph>> spgs = new LinkedHashMap<>();
+        for (DeviceId root : roots) {
+            spgs.put(root, CompletableFuture.supplyAsync(
+                    () -> new ECMPShortestPathGraph(root, srManager, links), spgPool));
+        }
+        return spgs;
+    }
+
+    /*
+     * Returns the roots whose ECMP graph may be changed by the links added or
+     * removed since the current graphs were computed. A link can only be on
+     * a shortest path from the root if its ends are at different distances
+     * from the root, so graphs in which both ends are equally far (or both
+     * unreachable) are kept as they are.
+     */
+    private Set<DeviceId> getAffectedRoots(List<DeviceId> roots, Link linkFail,
+                                           ListMultimap<DeviceId, Link> links) {
+        if (currentLinks == null) {
+            return ImmutableSet.copyOf(roots);
+        }
+        Set<Link> before = ImmutableSet.copyOf(currentLinks.values());
+        Set<Link> after = ImmutableSet.copyOf(links.values());
+        Set<Link> changed = Sets.newHashSet(Sets.symmetricDifference(before, after));
+        if (linkFail != null) {
+            changed.add(linkFail);
+        }
+
+        Set<DeviceId> affected = Sets.newHashSet();
+        for (DeviceId root : roots) {
+            ECMPShortestPathGraph ecmpSpg = currentEcmpSpgMap.get(root);
+            if (ecmpSpg == null) {
+                affected.add(root);
+                continue;
+            }
+            for (Link link : changed) {
+                if (!Objects.equals(ecmpSpg.getDistance(link.src().deviceId()),
+                                    ecmpSpg.getDistance(link.dst().deviceId()))) {
+                    affected.add(root);
+                    break;
+                }
+            }
+        }
+        return affected;
+    }
+
     private ArrayList<ArrayList<DeviceId>> getVia(HashMap<Integer, HashMap<DeviceId,
             ArrayList<ArrayList<DeviceId>>>> switchVia, DeviceId srcSw) {
         for (Integer itrIdx : switchVia.keySet()) {
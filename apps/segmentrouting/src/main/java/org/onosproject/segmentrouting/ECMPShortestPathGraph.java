@@ -15,6 +15,7 @@
  */
 package org.onosproject.segmentrouting;
 
+import com.google.common.collect.Multimap;
 import org.onosproject.net.DefaultLink;
 import org.onosproject.net.DefaultPath;
 import org.onosproject.net.Device;
@@ -45,6 +46,7 @@ public class ECMPShortestPathGraph {
     HashMap<Integer, ArrayList<DeviceId>> distanceDeviceMap = new HashMap<>();
     DeviceId rootDevice;
     private SegmentRoutingManager srManager;
+    private Multimap<DeviceId, Link> egressLinks;
     private static final Logger log = LoggerFactory
             .getLogger(ECMPShortestPathGraph.class);
 
@@ -73,6 +75,30 @@ public class ECMPShortestPathGraph {
         calcECMPShortestPathGraph();
     }
 
+    /**
+     * Constructor computing the graph over a snapshot of the links rather
+     * than the live link service, so that graphs can be computed
+     * concurrently over the same consistent topology.
+     *
+     * @param rootDevice root of the BFS tree
+     * @param srManager SegmentRoutingManager object
+     * @param egressLinks egress links of each device
+     */
+    public ECMPShortestPathGraph(DeviceId rootDevice, SegmentRoutingManager srManager,
+                                 Multimap<DeviceId, Link> egressLinks) {
+        this.rootDevice = rootDevice;
+        this.srManager = srManager;
+        this.egressLinks = egressLinks;
+        calcECMPShortestPathGraph();
+    }
+
+    private Iterable<Link> getDeviceEgressLinks(DeviceId deviceId) {
+        if (egressLinks != null) {
+            return egressLinks.get(deviceId);
+        }
+        return srManager.linkService.getDeviceEgressLinks(deviceId);
+    }
+
     /**
      * Calculates the BFS tree using any provided constraints and Intents.
      */
@@ -86,7 +112,7 @@ public class ECMPShortestPathGraph {
             DeviceId prevSw = null;
             currDistance = distanceQueue.poll();
 
-            for (Link link : srManager.linkService.getDeviceEgressLinks(sw)) {
+            for (Link link : getDeviceEgressLinks(sw)) {
                 DeviceId reachedDevice = link.dst().deviceId();
                 if ((prevSw != null)
                         && (prevSw.equals(reachedDevice))) {
@@ -249,6 +275,16 @@ public class ECMPShortestPathGraph {
         }
     }
 
+    /**
+     * Return the number of hops from the root Device to a given Device.
+     *
+     * @param targetDevice the target Device
+     * @return the distance, or null if the target Device is not reachable
+     */
+    public Integer getDistance(DeviceId targetDevice) {
+        return deviceSearched.get(targetDevice);
+    }
+
     /**
      * Return root Device for the graph.
      *
@@ -232,6 +232,7 @@ public class SegmentRoutingManager implements SegmentRoutingService {
     protected void deactivate() {
         packetService.removeProcessor(processor);
         processor = null;
+        defaultRoutingHandler.shutdown();
         log.info("Stopped");
     }
 
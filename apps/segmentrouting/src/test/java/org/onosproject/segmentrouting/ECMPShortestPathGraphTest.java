@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.segmentrouting;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.net.link.LinkServiceAdapter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.onosproject.net.NetTestTools.did;
+import static org.onosproject.net.NetTestTools.link;
+
+/**
+ * Tests of ECMP graphs computed in parallel over a snapshot of the links.
+ */
+public class ECMPShortestPathGraphTest {
+
+    private static final List<String> SPINES = ImmutableList.of("s1", "s2");
+    private static final List<String> LEAVES = ImmutableList.of("l1", "l2", "l3", "l4");
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private SegmentRoutingManager srManager;
+    private ListMultimap<DeviceId, Link> links;
+
+    @Before
+    public void setUp() {
+        // Leaf-spine fabric with every leaf linked to every spine
+        ImmutableListMultimap.Builder<DeviceId, Link> builder = ImmutableListMultimap.builder();
+        int port = 1;
+        for (String spine : SPINES) {
+            for (String leaf : LEAVES) {
+                builder.put(did(spine), link(spine, port, leaf, port));
+                builder.put(did(leaf), link(leaf, port, spine, port));
+                port++;
+            }
+        }
+        links = builder.build();
+
+        srManager = new SegmentRoutingManager();
+        srManager.linkService = new TestLinkService();
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void parallelMatchesSequential() {
+        List<DeviceId> roots = links.keySet().stream().collect(Collectors.toList());
+        List<CompletableFuture<ECMPShortestPathGraph>> spgs = roots.stream()
+                .map(root -> CompletableFuture.supplyAsync(
+                        () -> new ECMPShortestPathGraph(root, srManager, links), pool))
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < roots.size(); i++) {
+            ECMPShortestPathGraph expected = new ECMPShortestPathGraph(roots.get(i), srManager);
+            ECMPShortestPathGraph actual = spgs.get(i).join();
+            assertEquals(roots.get(i), actual.getRootDevice());
+            assertEquals("graph of " + roots.get(i) + " should match",
+                         expected.getAllLearnedSwitchesAndVia(),
+                         actual.getAllLearnedSwitchesAndVia());
+        }
+    }
+
+    @Test
+    public void distances() {
+        ECMPShortestPathGraph spg = new ECMPShortestPathGraph(did("l1"), srManager, links);
+        assertEquals(Integer.valueOf(1), spg.getDistance(did("s1")));
+        assertEquals(Integer.valueOf(2), spg.getDistance(did("l4")));
+        assertEquals("both spines should lead to another leaf",
+                     2, spg.getECMPPaths(did("l2")).size());
+    }
+
+    // Link service backed by the same links as the snapshot
+    private class TestLinkService extends LinkServiceAdapter {
+        @Override
+        public Set<Link> getDeviceEgressLinks(DeviceId deviceId) {
+            return ImmutableSet.copyOf(links.get(deviceId));
+        }
+    }
+}
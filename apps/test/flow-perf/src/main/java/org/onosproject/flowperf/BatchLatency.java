@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowperf;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentiles of the time taken to apply flow rule batches.
+ */
+final class BatchLatency {
+
+    static final BatchLatency NONE = new BatchLatency(0, 0, 0, 0, 0);
+
+    final int count;
+    final double p50;
+    final double p90;
+    final double p99;
+    final double max;
+
+    private BatchLatency(int count, double p50, double p90, double p99, double max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    /**
+     * Computes the percentiles of the given batch latencies.
+     *
+     * @param nanos latencies in nanoseconds; sorted in place
+     * @param count number of latencies to use from the start of the array
+     * @return latency percentiles in milliseconds
+     */
+    static BatchLatency of(long[] nanos, int count) {
+        if (count == 0) {
+            return NONE;
+        }
+        Arrays.sort(nanos, 0, count);
+        return new BatchLatency(count, millis(nanos, count, 0.50),
+                                millis(nanos, count, 0.90),
+                                millis(nanos, count, 0.99),
+                                millis(nanos, count, 1.0));
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double millis(long[] sorted, int count, double percentile) {
+        int rank = (int) Math.ceil(percentile * count);
+        long value = sorted[Math.max(rank, 1) - 1];
+        return (double) value / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
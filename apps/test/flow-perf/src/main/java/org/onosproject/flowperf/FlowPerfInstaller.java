@@ -0,0 +1,537 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.flowperf;
+
+import com.google.common.collect.Lists;
+import org.apache.felix.scr.annotations.Activate;
+import org.apache.felix.scr.annotations.Component;
+import org.apache.felix.scr.annotations.Deactivate;
+import org.apache.felix.scr.annotations.Modified;
+import org.apache.felix.scr.annotations.Property;
+import org.apache.felix.scr.annotations.Reference;
+import org.apache.felix.scr.annotations.Service;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.MacAddress;
+import org.onlab.util.Counter;
+import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.cfg.ConfigProperty;
+import org.onosproject.cluster.ClusterService;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.CoreService;
+import org.onosproject.mastership.MastershipService;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.device.DeviceService;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleOperations;
+import org.onosproject.net.flow.FlowRuleOperationsContext;
+import org.onosproject.net.flow.FlowRuleService;
+import org.onosproject.store.cluster.messaging.ClusterCommunicationService;
+import org.onosproject.store.cluster.messaging.ClusterMessage;
+import org.onosproject.store.cluster.messaging.ClusterMessageHandler;
+import org.onosproject.store.cluster.messaging.MessageSubject;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.Dictionary;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static org.apache.felix.scr.annotations.ReferenceCardinality.MANDATORY_UNARY;
+import static org.onlab.util.Tools.get;
+import static org.onlab.util.Tools.groupedThreads;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Application to test sustained flow rule throughput.
+ * <p>
+ * Each instance drives the devices it is master for through repeated cycles
+ * of installing, modifying and removing flow rules in batches, using a fixed
+ * number of closed-loop workers that each wait for their batch to complete
+ * before applying the next one. Throughput and per-batch latency are
+ * reported every second; the flow rule store backups are enabled or disabled
+ * for the run, so their overhead can be measured by comparing runs.
+ * </p>
+ */
+@Component(immediate = true)
+@Service(value = FlowPerfInstaller.class)
+public class FlowPerfInstaller {
+
+    private final Logger log = getLogger(getClass());
+
+    private static final int DEFAULT_FLOWS_PER_DEVICE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_NUM_WORKERS = 4;
+    private static final boolean DEFAULT_BACKUP_ENABLED = true;
+
+    private static final int REPORT_PERIOD = 1_000; // ms
+    private static final int BATCH_TIMEOUT = 10_000; // ms
+    private static final int STOP_TIMEOUT = 30_000; // ms
+
+    // Number of batch latencies kept to compute the run-wide percentiles
+    private static final int LATENCY_RESERVOIR_SIZE = 10_000;
+
+    private static final int PRIORITY = 1000;
+    private static final String FLOW_STORE =
+            "org.onosproject.store.flow.impl.NewDistributedFlowRuleStore";
+    private static final String BACKUP_ENABLED = "backupEnabled";
+
+    private static final String START = "start";
+    private static final String STOP = "stop";
+    private static final MessageSubject CONTROL = new MessageSubject("flow-perf-ctl");
+
+    @Property(name = "flowsPerDevice", intValue = DEFAULT_FLOWS_PER_DEVICE,
+            label = "Number of flow rules to cycle through on each device")
+    private int flowsPerDevice = DEFAULT_FLOWS_PER_DEVICE;
+
+    @Property(name = "batchSize", intValue = DEFAULT_BATCH_SIZE,
+            label = "Number of flow rule operations per batch")
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @Property(name = "numWorkers", intValue = DEFAULT_NUM_WORKERS,
+            label = "Number of concurrent installer threads per instance")
+    private int numWorkers = DEFAULT_NUM_WORKERS;
+
+    @Property(name = "backupEnabled", boolValue = DEFAULT_BACKUP_ENABLED,
+            label = "Whether the flow rule store backs up flow entries during the test run")
+    private boolean backupEnabled = DEFAULT_BACKUP_ENABLED;
+
+    // Value of the flow store backup setting before the test run; null if unset
+    private String savedBackupEnabled;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected CoreService coreService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected FlowRuleService flowRuleService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected ClusterService clusterService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected DeviceService deviceService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected MastershipService mastershipService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected ComponentConfigService configService;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected FlowPerfCollector sampleCollector;
+
+    @Reference(cardinality = MANDATORY_UNARY)
+    protected ClusterCommunicationService communicationService;
+
+    private ExecutorService messageHandlingExecutor;
+
+    private ExecutorService workers;
+    private ApplicationId appId;
+    private volatile boolean stopped = true;
+
+    private Timer reportTimer;
+    private TimerTask reporterTask;
+    private Reporter reporter;
+
+    @Activate
+    public void activate(ComponentContext context) {
+        configService.registerProperties(getClass());
+
+        appId = coreService.registerApplication("org.onosproject.flowperf." +
+                                                        clusterService.getLocalNode().id());
+
+        reportTimer = new Timer("onos-flow-perf-reporter");
+
+        messageHandlingExecutor = Executors.newSingleThreadExecutor(
+                groupedThreads("onos/flow-perf", "command-handler"));
+
+        communicationService.addSubscriber(CONTROL, new InternalControl(),
+                                           messageHandlingExecutor);
+
+        modify(context);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        stopTestRun();
+
+        configService.unregisterProperties(getClass(), false);
+        messageHandlingExecutor.shutdown();
+        communicationService.removeSubscriber(CONTROL);
+        reportTimer.cancel();
+        reportTimer = null;
+    }
+
+    @Modified
+    public void modify(ComponentContext context) {
+        if (context == null) {
+            logConfig("Reconfigured");
+            return;
+        }
+
+        Dictionary<?, ?> properties = context.getProperties();
+        int newFlowsPerDevice, newBatchSize, newNumWorkers;
+        boolean newBackupEnabled;
+        try {
+            String s = get(properties, "flowsPerDevice");
+            newFlowsPerDevice = isNullOrEmpty(s) ? flowsPerDevice : Integer.parseInt(s.trim());
+
+            s = get(properties, "batchSize");
+            newBatchSize = isNullOrEmpty(s) ? batchSize : Integer.parseInt(s.trim());
+
+            s = get(properties, "numWorkers");
+            newNumWorkers = isNullOrEmpty(s) ? numWorkers : Integer.parseInt(s.trim());
+
+            s = get(properties, "backupEnabled");
+            newBackupEnabled = isNullOrEmpty(s) ? backupEnabled : Boolean.parseBoolean(s.trim());
+
+        } catch (NumberFormatException | ClassCastException e) {
+            log.warn("Malformed configuration detected; using defaults", e);
+            newFlowsPerDevice = DEFAULT_FLOWS_PER_DEVICE;
+            newBatchSize = DEFAULT_BATCH_SIZE;
+            newNumWorkers = DEFAULT_NUM_WORKERS;
+            newBackupEnabled = DEFAULT_BACKUP_ENABLED;
+        }
+
+        if (newFlowsPerDevice < 1 || newBatchSize < 1 || newNumWorkers < 1) {
+            log.warn("Flow count, batch size and worker count must be positive; using defaults");
+            newFlowsPerDevice = DEFAULT_FLOWS_PER_DEVICE;
+            newBatchSize = DEFAULT_BATCH_SIZE;
+            newNumWorkers = DEFAULT_NUM_WORKERS;
+        }
+
+        if (newFlowsPerDevice != flowsPerDevice || newBatchSize != batchSize ||
+                newNumWorkers != numWorkers || newBackupEnabled != backupEnabled) {
+            flowsPerDevice = newFlowsPerDevice;
+            batchSize = newBatchSize;
+            numWorkers = newNumWorkers;
+            backupEnabled = newBackupEnabled;
+            logConfig("Reconfigured");
+        }
+    }
+
+    public void start() {
+        if (stopped) {
+            communicationService.broadcast(START, CONTROL, str -> str.getBytes());
+            startTestRun();
+        }
+    }
+
+    public void stop() {
+        if (!stopped) {
+            communicationService.broadcast(STOP, CONTROL, str -> str.getBytes());
+            stopTestRun();
+        }
+    }
+
+    private void logConfig(String prefix) {
+        log.info("{} with appId {}; flowsPerDevice = {}; batchSize = {}; numWorkers = {}; backupEnabled = {}",
+                 prefix, appId.id(), flowsPerDevice, batchSize, numWorkers, backupEnabled);
+    }
+
+    private synchronized void startTestRun() {
+        if (!stopped) {
+            return;
+        }
+        sampleCollector.clearSamples();
+
+        savedBackupEnabled = getStoreBackupEnabled();
+        configService.setProperty(FLOW_STORE, BACKUP_ENABLED, String.valueOf(backupEnabled));
+        sampleCollector.setBackupEnabled(backupEnabled);
+
+        // Spread the locally mastered devices across the workers
+        List<DeviceId> devices = Lists.newArrayList(deviceService.getAvailableDevices()).stream()
+                .map(Device::id)
+                .filter(mastershipService::isLocalMaster)
+                .sorted((a, b) -> a.toString().compareTo(b.toString()))
+                .collect(Collectors.toList());
+        int workerCount = Math.min(numWorkers, devices.size());
+        if (workerCount == 0) {
+            log.warn("There are no devices mastered by this instance");
+        }
+
+        reporter = new Reporter();
+        reporterTask = new ReporterTask();
+        reportTimer.scheduleAtFixedRate(reporterTask,
+                                        REPORT_PERIOD - currentTimeMillis() % REPORT_PERIOD,
+                                        REPORT_PERIOD);
+
+        stopped = false;
+        workers = Executors.newFixedThreadPool(Math.max(workerCount, 1),
+                                               groupedThreads("onos/flow-perf", "worker-%d"));
+        for (int i = 0; i < workerCount; i++) {
+            List<DeviceId> subset = Lists.newArrayList();
+            for (int j = i; j < devices.size(); j += workerCount) {
+                subset.add(devices.get(j));
+            }
+            workers.submit(new Worker(subset, i));
+        }
+        log.info("Started test run on {} devices with {} workers", devices.size(), workerCount);
+    }
+
+    // Returns the backup setting of the flow store, or null if it is not set
+    private String getStoreBackupEnabled() {
+        Set<ConfigProperty> properties = configService.getProperties(FLOW_STORE);
+        if (properties == null) {
+            return null;
+        }
+        return properties.stream()
+                .filter(p -> p.name().equals(BACKUP_ENABLED) && p.isSet())
+                .map(ConfigProperty::value)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // Puts the backup setting of the flow store back as it was before the run
+    private void restoreStoreBackupEnabled() {
+        if (savedBackupEnabled != null) {
+            configService.setProperty(FLOW_STORE, BACKUP_ENABLED, savedBackupEnabled);
+        } else {
+            configService.unsetProperty(FLOW_STORE, BACKUP_ENABLED);
+        }
+    }
+
+    private synchronized void stopTestRun() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(STOP_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                log.warn("Workers did not finish in time");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while stopping workers", e);
+            Thread.currentThread().interrupt();
+        }
+        workers = null;
+
+        reporterTask.cancel();
+        reporterTask = null;
+        reporter.report();
+
+        flowRuleService.removeFlowRulesById(appId);
+        restoreStoreBackupEnabled();
+
+        sampleCollector.recordSample(0, 0);
+        sampleCollector.recordSample(0, 0);
+
+        log.info("Stopped test run");
+    }
+
+    // Phases of the flow rule cycle
+    private enum Phase {
+        ADD, MODIFY, REMOVE
+    }
+
+    // Cycles the flow rules of a set of devices, one batch at a time.
+    final class Worker implements Runnable {
+
+        private final List<DeviceId> devices;
+        private final long macPrefix;
+
+        private Worker(List<DeviceId> devices, int index) {
+            this.devices = devices;
+            this.macPrefix = ((long) index) << 32;
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                for (Phase phase : Phase.values()) {
+                    for (DeviceId deviceId : devices) {
+                        for (int first = 0; first < flowsPerDevice && !stopped; first += batchSize) {
+                            applyBatch(phase, deviceId, first,
+                                       Math.min(first + batchSize, flowsPerDevice));
+                        }
+                    }
+                }
+            }
+        }
+
+        // Applies a single batch and waits for it to complete.
+        private void applyBatch(Phase phase, DeviceId deviceId, int first, int last) {
+            FlowRuleOperations.Builder ops = FlowRuleOperations.builder();
+            for (int slot = first; slot < last; slot++) {
+                switch (phase) {
+                    case ADD:
+                        ops.add(flowRule(deviceId, slot, PortNumber.portNumber(1)));
+                        break;
+                    case MODIFY:
+                        ops.modify(flowRule(deviceId, slot, PortNumber.portNumber(2)));
+                        break;
+                    default:
+                        ops.remove(flowRule(deviceId, slot, PortNumber.portNumber(2)));
+                        break;
+                }
+            }
+
+            CompletableFuture<Boolean> done = new CompletableFuture<>();
+            long start = System.nanoTime();
+            flowRuleService.apply(ops.build(new FlowRuleOperationsContext() {
+                @Override
+                public void onSuccess(FlowRuleOperations ops) {
+                    done.complete(true);
+                }
+
+                @Override
+                public void onError(FlowRuleOperations ops) {
+                    done.complete(false);
+                }
+            }));
+
+            try {
+                boolean success = done.get(BATCH_TIMEOUT, TimeUnit.MILLISECONDS);
+                reporter.record(System.nanoTime() - start, last - first, success);
+            } catch (TimeoutException e) {
+                log.warn("Batch for {} did not complete in {} ms", deviceId, BATCH_TIMEOUT);
+                reporter.record(System.nanoTime() - start, last - first, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopped = true;
+            } catch (ExecutionException e) {
+                log.warn("Batch for {} failed", deviceId, e.getCause());
+            }
+        }
+
+        private FlowRule flowRule(DeviceId deviceId, int slot, PortNumber output) {
+            return DefaultFlowRule.builder()
+                    .forDevice(deviceId)
+                    .fromApp(appId)
+                    .withPriority(PRIORITY)
+                    .withSelector(DefaultTrafficSelector.builder()
+                                          .matchEthType(Ethernet.TYPE_IPV4)
+                                          .matchEthDst(MacAddress.valueOf(macPrefix + slot))
+                                          .build())
+                    .withTreatment(DefaultTrafficTreatment.builder()
+                                           .setOutput(output)
+                                           .build())
+                    .makePermanent()
+                    .build();
+        }
+    }
+
+    // Accumulates completed operations and batch latencies to report throughput.
+    final class Reporter {
+
+        private final Counter runningTotal = new Counter();
+        private final Random random = new Random();
+        private final long[] reservoir = new long[LATENCY_RESERVOIR_SIZE];
+        private long batchCount;
+
+        private Counter current = new Counter();
+        private long[] latencies = new long[256];
+        private int latencyCount;
+        private int failedBatches;
+
+        // Records a completed batch.
+        synchronized void record(long latencyNanos, int operations, boolean success) {
+            if (!success) {
+                failedBatches++;
+                return;
+            }
+            current.add(operations);
+
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencyCount * 2);
+            }
+            latencies[latencyCount++] = latencyNanos;
+
+            // Reservoir sample of all batch latencies of the run
+            if (batchCount < LATENCY_RESERVOIR_SIZE) {
+                reservoir[(int) batchCount] = latencyNanos;
+            } else {
+                long index = (long) (random.nextDouble() * (batchCount + 1));
+                if (index < LATENCY_RESERVOIR_SIZE) {
+                    reservoir[(int) index] = latencyNanos;
+                }
+            }
+            batchCount++;
+        }
+
+        // Reports throughput and latency since the previous report.
+        void report() {
+            Counter reportCounter;
+            BatchLatency currentLatency;
+            BatchLatency overallLatency;
+            int failed;
+            synchronized (this) {
+                reportCounter = current;
+                current = new Counter();
+                currentLatency = BatchLatency.of(latencies, latencyCount);
+                latencyCount = 0;
+                int sampled = (int) Math.min(batchCount, LATENCY_RESERVOIR_SIZE);
+                overallLatency = BatchLatency.of(reservoir.clone(), sampled);
+                failed = failedBatches;
+                failedBatches = 0;
+            }
+
+            runningTotal.add(reportCounter.total());
+            double throughput = reportCounter.throughput();
+
+            log.info("Throughput: OVERALL={}; CURRENT={}; " +
+                             "batch latency p50={} p90={} p99={} ms; failed batches={}",
+                     format("%.2f", runningTotal.throughput()), format("%.2f", throughput),
+                     format("%.2f", currentLatency.p50), format("%.2f", currentLatency.p90),
+                     format("%.2f", currentLatency.p99), failed);
+
+            sampleCollector.recordSample(runningTotal.throughput(), throughput);
+            sampleCollector.recordLatency(currentLatency, overallLatency);
+        }
+    }
+
+    private class InternalControl implements ClusterMessageHandler {
+        @Override
+        public void handle(ClusterMessage message) {
+            String cmd = new String(message.payload());
+            log.info("Received command {}", cmd);
+            if (cmd.equals(START)) {
+                startTestRun();
+            } else {
+                stopTestRun();
+            }
+        }
+    }
+
+    private class ReporterTask extends TimerTask {
+        @Override
+        public void run() {
+            reporter.report();
+        }
+    }
+
+}
@@ -25,7 +25,7 @@ import org.onosproject.incubator.net.resource.label.LabelResourceService;
 public class GlobalLabelCommand extends AbstractShellCommand {
     private static final String FMT = "deviceid=%s, beginLabel=%s,"
             + "endLabel=%s, totalNum=%s, usedNum=%s, currentUsedMaxLabelId=%s,"
-            + "releaseLabelIds=%s";
+            + "freeLabels=%s";
 
     @Override
     protected void execute() {
@@ -34,7 +34,7 @@ public class GlobalLabelCommand extends AbstractShellCommand {
         if (pool != null) {
             print(FMT, pool.deviceId().toString(), pool.beginLabel(),
                   pool.endLabel(), pool.totalNum(), pool.usedNum(),
-                  pool.currentUsedMaxLabelId(), pool.releaseLabelId()
+                  pool.currentUsedMaxLabelId(), pool.freeLabels()
                           .toString());
         }
     }
@@ -30,7 +30,7 @@ public class LabelResourceCommand extends AbstractShellCommand {
     String deviceId = null;
     private static final String FMT = "deviceid=%s, beginLabel=%s,"
             + "endLabel=%s, totalNum=%s, usedNum=%s, currentUsedMaxLabelId=%s,"
-            + "releaseLabelIds=%s";
+            + "freeLabels=%s";
 
     @Override
     protected void execute() {
@@ -40,7 +40,7 @@ public class LabelResourceCommand extends AbstractShellCommand {
         if (pool != null) {
             print(FMT, pool.deviceId().toString(), pool.beginLabel(),
                   pool.endLabel(), pool.totalNum(), pool.usedNum(),
-                  pool.currentUsedMaxLabelId(), pool.releaseLabelId()
+                  pool.currentUsedMaxLabelId(), pool.freeLabels()
                           .toString());
         } else {
             print(FMT, deviceId, null, null, null, null, null, null);
@@ -16,6 +16,8 @@
 package org.onosproject.net;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import java.util.Objects;
 
@@ -28,8 +30,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
  */
 public class ConnectPoint {
 
+    private static final Interner<ConnectPoint> CANONICAL_POINTS = Interners.newWeakInterner();
+
     private final ElementId elementId;
     private final PortNumber portNumber;
+    private final int hash;
 
     /**
      * Creates a new connection point.
@@ -40,6 +45,20 @@ public class ConnectPoint {
     public ConnectPoint(ElementId elementId, PortNumber portNumber) {
         this.elementId = elementId;
         this.portNumber = portNumber;
+        this.hash = Objects.hash(elementId, portNumber);
+    }
+
+    /**
+     * Returns the canonical connection point for the given element and port.
+     * Prefer this over the constructor for connection points kept in
+     * long-lived or large collections.
+     *
+     * @param elementId  network element identifier
+     * @param portNumber port number
+     * @return connection point
+     */
+    public static ConnectPoint connectPoint(ElementId elementId, PortNumber portNumber) {
+        return CANONICAL_POINTS.intern(new ConnectPoint(elementId, portNumber));
     }
 
     /**
@@ -123,8 +142,8 @@ public class ConnectPoint {
         checkArgument(splitted.length == 2,
                       "Connect point must be in \"deviceUri/portNumber\" format");
 
-        return new ConnectPoint(DeviceId.deviceId(splitted[0]),
-                                PortNumber.portNumber(splitted[1]));
+        return connectPoint(DeviceId.deviceId(splitted[0]),
+                            PortNumber.portNumber(splitted[1]));
     }
 
     /**
@@ -142,13 +161,13 @@ public class ConnectPoint {
 
         int lastSlash = string.lastIndexOf("/");
 
-        return new ConnectPoint(HostId.hostId(string.substring(0, lastSlash)),
-                                PortNumber.portNumber(string.substring(lastSlash + 1, string.length())));
+        return connectPoint(HostId.hostId(string.substring(0, lastSlash)),
+                            PortNumber.portNumber(string.substring(lastSlash + 1, string.length())));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(elementId, portNumber);
+        return hash;
     }
 
     @Override
@@ -158,7 +177,8 @@ public class ConnectPoint {
         }
         if (obj instanceof ConnectPoint) {
             final ConnectPoint other = (ConnectPoint) obj;
-            return Objects.equals(this.elementId, other.elementId) &&
+            return this.hash == other.hash &&
+                    Objects.equals(this.elementId, other.elementId) &&
                     Objects.equals(this.portNumber, other.portNumber);
         }
         return false;
@@ -15,14 +15,27 @@
  */
 package org.onosproject.net;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import java.net.URI;
 import java.util.Objects;
 
 /**
  * Immutable representation of a device identity.
+ * <p>
+ * Device ids are canonical: ids created from the same URI are the same
+ * instance for as long as any of them is in use, which makes equality
+ * checks mostly identity checks and spares parsing the URI again.
+ * </p>
  */
 public final class DeviceId extends ElementId {
 
+    // Canonical ids by URI string, held weakly so that the ids of devices
+    // gone from the system can be collected
+    private static final Cache<String, DeviceId> CANONICAL_IDS =
+            CacheBuilder.newBuilder().weakValues().build();
+
     /**
      * Represents either no device, or an unspecified device.
      */
@@ -30,11 +43,13 @@ public final class DeviceId extends ElementId {
 
     private final URI uri;
     private final String str;
+    private final int hash;
 
     // Public construction is prohibited
     private DeviceId(URI uri) {
         this.uri = uri;
         this.str = uri.toString().toLowerCase();
+        this.hash = Objects.hash(str);
     }
 
 
@@ -42,6 +57,7 @@ public final class DeviceId extends ElementId {
     protected DeviceId() {
         this.uri = null;
         this.str = null;
+        this.hash = 0;
     }
 
     /**
@@ -51,7 +67,8 @@ public final class DeviceId extends ElementId {
      * @return DeviceId
      */
     public static DeviceId deviceId(URI uri) {
-        return new DeviceId(uri);
+        DeviceId id = CANONICAL_IDS.getIfPresent(uri.toString());
+        return id != null ? id : canonical(new DeviceId(uri));
     }
 
     /**
@@ -61,7 +78,14 @@ public final class DeviceId extends ElementId {
      * @return DeviceId
      */
     public static DeviceId deviceId(String string) {
-        return deviceId(URI.create(string));
+        DeviceId id = CANONICAL_IDS.getIfPresent(string);
+        return id != null ? id : canonical(new DeviceId(URI.create(string)));
+    }
+
+    // Returns the canonical instance of the given id
+    private static DeviceId canonical(DeviceId id) {
+        DeviceId existing = CANONICAL_IDS.asMap().putIfAbsent(id.uri.toString(), id);
+        return existing != null ? existing : id;
     }
 
     /**
@@ -75,7 +99,7 @@ public final class DeviceId extends ElementId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(str);
+        return hash;
     }
 
     @Override
@@ -86,6 +110,7 @@ public final class DeviceId extends ElementId {
         if (obj instanceof DeviceId) {
             final DeviceId that = (DeviceId) obj;
             return this.getClass() == that.getClass() &&
+                    this.hash == that.hash &&
                     Objects.equals(this.str, that.str);
         }
         return false;
@@ -15,6 +15,8 @@
  */
 package org.onosproject.net;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.onlab.packet.MacAddress;
 import org.onlab.packet.VlanId;
 
@@ -24,31 +26,39 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Immutable representation of a host identity.
+ * <p>
+ * Host ids created through the factory methods are canonical instances.
+ * </p>
  */
 public final class HostId extends ElementId {
 
+    private static final Interner<HostId> CANONICAL_IDS = Interners.newWeakInterner();
+
     /**
      * Represents either no host, or an unspecified host; used for creating
      * open ingress/egress edge links.
      */
-    public static final HostId NONE = new HostId(MacAddress.ZERO, VlanId.NONE);
+    public static final HostId NONE = hostId(MacAddress.ZERO, VlanId.NONE);
 
     private static final int MAC_LENGTH = 17;
     private static final int MIN_ID_LENGTH = 19;
 
     private final MacAddress mac;
     private final VlanId vlanId;
+    private final int hash;
 
     // Public construction is prohibited
     private HostId(MacAddress mac, VlanId vlanId) {
         this.mac = mac;
         this.vlanId = vlanId;
+        this.hash = Objects.hash(mac, vlanId);
     }
 
     // Default constructor for serialization
     private HostId() {
         this.mac = null;
         this.vlanId = null;
+        this.hash = 0;
     }
 
     /**
@@ -80,7 +90,7 @@ public final class HostId extends ElementId {
                       "Host ID must be at least %s characters", MIN_ID_LENGTH);
         MacAddress mac = MacAddress.valueOf(string.substring(0, MAC_LENGTH));
         VlanId vlanId = VlanId.vlanId(Short.parseShort(string.substring(MAC_LENGTH + 1)));
-        return new HostId(mac, vlanId);
+        return hostId(mac, vlanId);
     }
 
     /**
@@ -91,7 +101,7 @@ public final class HostId extends ElementId {
      * @return host identifier
      */
     public static HostId hostId(MacAddress mac, VlanId vlanId) {
-        return new HostId(mac, vlanId);
+        return CANONICAL_IDS.intern(new HostId(mac, vlanId));
     }
 
     /**
@@ -110,7 +120,7 @@ public final class HostId extends ElementId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mac, vlanId);
+        return hash;
     }
 
     @Override
@@ -120,7 +130,8 @@ public final class HostId extends ElementId {
         }
         if (obj instanceof HostId) {
             final HostId other = (HostId) obj;
-            return Objects.equals(this.mac, other.mac) &&
+            return this.hash == other.hash &&
+                    Objects.equals(this.mac, other.mac) &&
                     Objects.equals(this.vlanId, other.vlanId);
         }
         return false;
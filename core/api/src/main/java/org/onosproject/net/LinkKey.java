@@ -20,17 +20,25 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.util.Objects;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 // TODO Consider renaming.
 // it's an identifier for a Link, but it's not ElementId, so not using LinkId.
 
 /**
  * Immutable representation of a link identity.
+ * <p>
+ * Link keys created through the factory methods are canonical instances.
+ * </p>
  */
 public final class LinkKey {
 
+    private static final Interner<LinkKey> CANONICAL_KEYS = Interners.newWeakInterner();
+
     private final ConnectPoint src;
     private final ConnectPoint dst;
+    private final int hash;
 
     /**
      * Returns source connection point.
@@ -59,6 +67,7 @@ public final class LinkKey {
     private LinkKey(ConnectPoint src, ConnectPoint dst) {
         this.src = checkNotNull(src);
         this.dst = checkNotNull(dst);
+        this.hash = Objects.hash(src, dst);
     }
 
     /**
@@ -69,7 +78,7 @@ public final class LinkKey {
      * @return a link identifier
      */
     public static LinkKey linkKey(ConnectPoint src, ConnectPoint dst) {
-        return new LinkKey(src, dst);
+        return CANONICAL_KEYS.intern(new LinkKey(src, dst));
     }
 
     /**
@@ -79,12 +88,12 @@ public final class LinkKey {
      * @return a link identifier
      */
     public static LinkKey linkKey(Link link) {
-        return new LinkKey(link.src(), link.dst());
+        return linkKey(link.src(), link.dst());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(src, dst);
+        return hash;
     }
 
     @Override
@@ -94,7 +103,8 @@ public final class LinkKey {
         }
         if (obj instanceof LinkKey) {
             final LinkKey other = (LinkKey) obj;
-            return Objects.equals(this.src, other.src) &&
+            return this.hash == other.hash &&
+                    Objects.equals(this.src, other.src) &&
                     Objects.equals(this.dst, other.dst);
         }
         return false;
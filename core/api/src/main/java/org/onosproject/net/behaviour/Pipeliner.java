@@ -20,6 +20,12 @@ import org.onosproject.net.driver.HandlerBehaviour;
 import org.onosproject.net.flowobjective.FilteringObjective;
 import org.onosproject.net.flowobjective.ForwardingObjective;
 import org.onosproject.net.flowobjective.NextObjective;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveError;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Behaviour for handling various pipelines.
@@ -54,4 +60,42 @@ public interface Pipeliner extends HandlerBehaviour {
      * @param nextObjective a next objectives
      */
     void next(NextObjective nextObjective);
+
+    /**
+     * Installs a batch of filtering, forwarding and next objectives onto the
+     * device, in the given order.
+     * <p>
+     * Drivers may translate the whole batch into a single set of flow rule
+     * operations; by default the objectives are processed one at a time.
+     * Either way, an objective that cannot be processed is reported failed
+     * through its context without holding up the rest of the batch.
+     * </p>
+     * <p>
+     * Each objective is handed to {@code accepted} before this method
+     * returns, once its outcome is certain to be reported through its
+     * context. Should this method throw, the caller fails the objectives
+     * that were not accepted.
+     * </p>
+     *
+     * @param objectives list of objectives
+     * @param accepted   consumer of the objectives whose outcome will be reported
+     */
+    default void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+        for (Objective objective : objectives) {
+            try {
+                if (objective instanceof NextObjective) {
+                    next((NextObjective) objective);
+                } else if (objective instanceof ForwardingObjective) {
+                    forward((ForwardingObjective) objective);
+                } else {
+                    filter((FilteringObjective) objective);
+                }
+            } catch (Exception e) {
+                LoggerFactory.getLogger(getClass())
+                        .warn("Exception while installing flow objective", e);
+                objective.context().ifPresent(c -> c.onError(objective, ObjectiveError.UNKNOWN));
+            }
+            accepted.accept(objective);
+        }
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow;
+
+import org.onosproject.net.DeviceId;
+
+import java.util.Set;
+
+/**
+ * Entity capable of receiving the progress of a bulk flow rule operation.
+ */
+public interface FlowRuleBulkListener {
+
+    /**
+     * Notifies that a device acknowledged a window of the bulk operation.
+     *
+     * @param deviceId  device identifier
+     * @param completed number of operations acknowledged so far by the device
+     * @param total     number of operations destined for the device
+     * @param failures  rules of the window that the device failed to apply
+     */
+    void windowCompleted(DeviceId deviceId, int completed, int total,
+                         Set<FlowRule> failures);
+
+}
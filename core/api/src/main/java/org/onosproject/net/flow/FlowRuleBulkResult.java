@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.onosproject.net.DeviceId;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Outcome of a bulk flow rule operation.
+ */
+public final class FlowRuleBulkResult {
+
+    private final int total;
+    private final Map<DeviceId, Set<FlowRule>> failures;
+    private final Set<DeviceId> timedOut;
+
+    /**
+     * Creates a bulk operation result.
+     *
+     * @param total    number of operations in the bulk operation
+     * @param failures failed rules keyed by device; devices without
+     *                 failures may be omitted
+     */
+    public FlowRuleBulkResult(int total, Map<DeviceId, ? extends Set<FlowRule>> failures) {
+        this(total, failures, Collections.emptySet());
+    }
+
+    /**
+     * Creates a bulk operation result.
+     *
+     * @param total    number of operations in the bulk operation
+     * @param failures failed rules keyed by device; devices without
+     *                 failures may be omitted
+     * @param timedOut devices that stopped acknowledging their operations;
+     *                 their unacknowledged rules are counted as failures
+     */
+    public FlowRuleBulkResult(int total, Map<DeviceId, ? extends Set<FlowRule>> failures,
+                              Set<DeviceId> timedOut) {
+        this.total = total;
+        this.timedOut = ImmutableSet.copyOf(timedOut);
+        ImmutableMap.Builder<DeviceId, Set<FlowRule>> builder = ImmutableMap.builder();
+        failures.forEach((deviceId, rules) -> {
+            if (!rules.isEmpty()) {
+                builder.put(deviceId, ImmutableSet.copyOf(rules));
+            }
+        });
+        this.failures = builder.build();
+    }
+
+    /**
+     * Returns whether every operation was applied successfully.
+     *
+     * @return true if there were no failures
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty() && timedOut.isEmpty();
+    }
+
+    /**
+     * Returns the number of operations in the bulk operation.
+     *
+     * @return operation count
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Returns the rules which failed to be applied, keyed by device.
+     *
+     * @return failed rules of devices that reported failures
+     */
+    public Map<DeviceId, Set<FlowRule>> failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the devices that did not acknowledge a window of operations
+     * in time.
+     *
+     * @return timed out devices
+     */
+    public Set<DeviceId> timedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Returns the number of failed operations across all devices.
+     *
+     * @return failure count
+     */
+    public int failureCount() {
+        return failures.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("total", total)
+                .add("failures", failureCount())
+                .add("timedOut", timedOut)
+                .toString();
+    }
+}
@@ -19,6 +19,9 @@ import org.onosproject.core.ApplicationId;
 import org.onosproject.event.ListenerService;
 import org.onosproject.net.DeviceId;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service for injecting flow rules into the environment and for obtaining
  * information about flow rules already in the environment. This implements
@@ -104,4 +107,25 @@ public interface FlowRuleService
      */
     void apply(FlowRuleOperations ops);
 
+    /**
+     * Applies a potentially very large set of flow rule operations. The
+     * operations are streamed to each device in windows, each acknowledged
+     * by the device before its result is known, with a bounded number of
+     * windows outstanding per device at any time. No ordering is guaranteed
+     * between operations on different devices.
+     * <p>
+     * A device that does not acknowledge a window in time is given up on:
+     * its unacknowledged operations are reported as failures and the device
+     * as timed out, so the operation completes even if a device never
+     * answers.
+     * </p>
+     *
+     * @param operations flow rule operations to apply
+     * @param listener   optional listener notified as each window completes
+     * @return future completed once all devices acknowledged their operations
+     *         or timed out
+     */
+    CompletableFuture<FlowRuleBulkResult> applyBulk(Collection<FlowRuleOperation> operations,
+                                                    FlowRuleBulkListener listener);
+
 }
@@ -16,10 +16,12 @@
 package org.onosproject.net.resource.link;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.onosproject.net.Link;
 import org.onosproject.net.intent.IntentId;
 import org.onosproject.net.resource.ResourceAllocation;
+import org.onosproject.net.resource.ResourceType;
 
 /**
  * Manages link resources.
@@ -33,6 +35,19 @@ public interface LinkResourceStore {
      */
     Set<ResourceAllocation> getFreeResources(Link link);
 
+    /**
+     * Returns free resources of the given type for given link.
+     *
+     * @param link a target link
+     * @param type resource type
+     * @return free resources of the given type for given link
+     */
+    default Set<ResourceAllocation> getFreeResources(Link link, ResourceType type) {
+        return getFreeResources(link).stream()
+                .filter(resource -> resource.type() == type)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Allocates resources.
      *
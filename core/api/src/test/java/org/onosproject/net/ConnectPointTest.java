@@ -20,6 +20,7 @@ import org.junit.Test;
 
 import static junit.framework.TestCase.fail;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.onosproject.net.DeviceId.deviceId;
 import static org.onosproject.net.PortNumber.portNumber;
@@ -50,6 +51,14 @@ public class ConnectPointTest {
                 .testEquals();
     }
 
+    @Test
+    public void testCanonical() {
+        ConnectPoint p = ConnectPoint.connectPoint(DID1, P1);
+        assertSame(p, ConnectPoint.connectPoint(deviceId("1"), portNumber(1)));
+        assertSame(p, ConnectPoint.deviceConnectPoint("1/1"));
+        assertEquals(new ConnectPoint(DID1, P1), p);
+    }
+
     @Test
     public void testParseDeviceConnectPoint() {
         String cp = "of:0011223344556677/1";
@@ -18,6 +18,9 @@ package org.onosproject.net;
 import com.google.common.testing.EqualsTester;
 import org.junit.Test;
 
+import java.net.URI;
+
+import static org.junit.Assert.assertSame;
 import static org.onosproject.net.DeviceId.deviceId;
 
 /**
@@ -34,4 +37,11 @@ public class DeviceIdTest {
                 .testEquals();
     }
 
+    @Test
+    public void canonical() {
+        DeviceId id = deviceId("of:foo");
+        assertSame(id, deviceId("of:foo"));
+        assertSame(id, deviceId(URI.create("of:foo")));
+    }
+
 }
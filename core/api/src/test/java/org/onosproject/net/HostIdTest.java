@@ -21,6 +21,7 @@ import org.junit.Test;
 import org.onlab.packet.MacAddress;
 import org.onlab.packet.VlanId;
 
+import static org.junit.Assert.assertSame;
 import static org.onosproject.net.HostId.hostId;
 
 /**
@@ -41,4 +42,9 @@ public class HostIdTest {
                 .testEquals();
     }
 
+    @Test
+    public void canonical() {
+        assertSame(hostId(MAC1, VLAN1), hostId("00:11:00:00:00:01/11"));
+    }
+
 }
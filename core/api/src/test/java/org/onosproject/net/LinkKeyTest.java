@@ -22,6 +22,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.onlab.junit.ImmutableClassChecker.assertThatClassIsImmutable;
 import static org.onosproject.net.DeviceId.deviceId;
@@ -115,6 +116,17 @@ public class LinkKeyTest {
         assertThat(k1.hashCode(), is(not(equalTo(k2.hashCode()))));
     }
 
+    /**
+     * Checks that equal link keys are the same instance.
+     */
+    @Test
+    public void testCanonical() {
+        LinkKey k1 = LinkKey.linkKey(SRC1, DST1);
+        LinkKey k2 = LinkKey.linkKey(new ConnectPoint(D1, P1), new ConnectPoint(D2, P1));
+
+        assertThat(k1, is(sameInstance(k2)));
+    }
+
     /**
      * Check the toString() method of LinkKey.
      */
@@ -19,6 +19,10 @@ package org.onosproject.net.flow;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.net.DeviceId;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Test adapter for flow rule service.
  */
@@ -63,6 +67,13 @@ public class FlowRuleServiceAdapter implements FlowRuleService {
 
     }
 
+    @Override
+    public CompletableFuture<FlowRuleBulkResult> applyBulk(Collection<FlowRuleOperation> operations,
+                                                           FlowRuleBulkListener listener) {
+        return CompletableFuture.completedFuture(
+                new FlowRuleBulkResult(operations.size(), Collections.emptyMap()));
+    }
+
     @Override
     public void addListener(FlowRuleListener listener) {
 
@@ -17,6 +17,7 @@ package org.onosproject.net.flow.impl;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -30,6 +31,7 @@ import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.util.SharedExecutors;
 import org.onlab.util.Tools;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.net.provider.AbstractListenerProviderRegistry;
@@ -47,6 +49,8 @@ import org.onosproject.net.flow.FlowRuleBatchEntry;
 import org.onosproject.net.flow.FlowRuleBatchEvent;
 import org.onosproject.net.flow.FlowRuleBatchOperation;
 import org.onosproject.net.flow.FlowRuleBatchRequest;
+import org.onosproject.net.flow.FlowRuleBulkListener;
+import org.onosproject.net.flow.FlowRuleBulkResult;
 import org.onosproject.net.flow.FlowRuleEvent;
 import org.onosproject.net.flow.FlowRuleListener;
 import org.onosproject.net.flow.FlowRuleOperation;
@@ -62,15 +66,23 @@ import org.onosproject.net.provider.AbstractProviderService;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Dictionary;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onlab.util.Tools.groupedThreads;
@@ -99,6 +111,32 @@ public class FlowRuleManager
             label = "Allow flow rules in switch not installed by ONOS")
     private boolean allowExtraneousRules = ALLOW_EXTRANEOUS_RULES;
 
+    private static final int DEFAULT_RECONCILE_BATCH_SIZE = 1000;
+    @Property(name = "reconcileBatchSize", intValue = DEFAULT_RECONCILE_BATCH_SIZE,
+            label = "Maximum number of corrective flow operations issued to a " +
+                    "device per statistics poll; default is 1000")
+    private int reconcileBatchSize = DEFAULT_RECONCILE_BATCH_SIZE;
+
+    private static final long RECONCILE_TIMEOUT_MS = 30_000;
+
+    private static final int DEFAULT_BULK_WINDOW_SIZE = 1000;
+    @Property(name = "bulkWindowSize", intValue = DEFAULT_BULK_WINDOW_SIZE,
+            label = "Number of flow operations sent to a device per window " +
+                    "during bulk installation; default is 1000")
+    private int bulkWindowSize = DEFAULT_BULK_WINDOW_SIZE;
+
+    private static final int DEFAULT_BULK_WINDOWS_IN_FLIGHT = 4;
+    @Property(name = "bulkWindowsInFlight", intValue = DEFAULT_BULK_WINDOWS_IN_FLIGHT,
+            label = "Maximum number of unacknowledged windows per device " +
+                    "during bulk installation; default is 4")
+    private int bulkWindowsInFlight = DEFAULT_BULK_WINDOWS_IN_FLIGHT;
+
+    private static final int DEFAULT_BULK_WINDOW_TIMEOUT = 30;
+    @Property(name = "bulkWindowTimeout", intValue = DEFAULT_BULK_WINDOW_TIMEOUT,
+            label = "Seconds a device may take to acknowledge a window during " +
+                    "bulk installation before it is given up on; default is 30")
+    private int bulkWindowTimeout = DEFAULT_BULK_WINDOW_TIMEOUT;
+
     private final Logger log = getLogger(getClass());
 
     private final FlowRuleStoreDelegate delegate = new InternalStoreDelegate();
@@ -114,6 +152,14 @@ public class FlowRuleManager
     private Map<Long, FlowOperationsProcessor> pendingFlowOperations
             = new ConcurrentHashMap<>();
 
+    // Bulk operation windows awaiting completion, keyed by batch id
+    private final Map<Long, BulkOperationsProcessor.DeviceWindows> pendingBulkWindows
+            = new ConcurrentHashMap<>();
+
+    // Corrective batches awaiting completion, at most one per device
+    private final Map<DeviceId, PendingReconcile> pendingReconciles
+            = new ConcurrentHashMap<>();
+
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected FlowRuleStore store;
 
@@ -162,6 +208,29 @@ public class FlowRuleManager
         if (allowExtraneousRules) {
             log.info("Allowing flow rules not installed by ONOS");
         }
+
+        reconcileBatchSize = getPositiveInt(properties, "reconcileBatchSize",
+                                            DEFAULT_RECONCILE_BATCH_SIZE);
+        bulkWindowSize = getPositiveInt(properties, "bulkWindowSize",
+                                        DEFAULT_BULK_WINDOW_SIZE);
+        bulkWindowsInFlight = getPositiveInt(properties, "bulkWindowsInFlight",
+                                             DEFAULT_BULK_WINDOWS_IN_FLIGHT);
+        bulkWindowTimeout = getPositiveInt(properties, "bulkWindowTimeout",
+                                           DEFAULT_BULK_WINDOW_TIMEOUT);
+        log.info("Settings: reconcileBatchSize={}, bulkWindowSize={}, bulkWindowsInFlight={}, " +
+                         "bulkWindowTimeout={}",
+                 reconcileBatchSize, bulkWindowSize, bulkWindowsInFlight, bulkWindowTimeout);
+    }
+
+    private int getPositiveInt(Dictionary<?, ?> properties, String name, int defaultValue) {
+        String s = Tools.get(properties, name);
+        try {
+            int value = Strings.isNullOrEmpty(s) ? defaultValue : Integer.parseInt(s.trim());
+            return value > 0 ? value : defaultValue;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} value {}", name, s);
+            return defaultValue;
+        }
     }
 
     @Override
@@ -241,6 +310,18 @@ public class FlowRuleManager
         operationsService.submit(new FlowOperationsProcessor(ops));
     }
 
+    @Override
+    public CompletableFuture<FlowRuleBulkResult> applyBulk(Collection<FlowRuleOperation> operations,
+                                                           FlowRuleBulkListener listener) {
+        checkPermission(FLOWRULE_WRITE);
+        checkNotNull(operations, "Flow rule operations cannot be null");
+        BulkOperationsProcessor processor =
+                new BulkOperationsProcessor(operations, listener, bulkWindowSize,
+                                            bulkWindowsInFlight, bulkWindowTimeout);
+        operationsService.submit(processor::start);
+        return processor.future;
+    }
+
     @Override
     protected FlowRuleProviderService createProviderService(
             FlowRuleProvider provider) {
@@ -290,28 +371,21 @@ public class FlowRuleManager
         }
 
 
-        private void flowMissing(FlowEntry flowRule) {
+        private void flowMissing(FlowEntry flowRule, List<FlowRuleBatchEntry> corrections) {
             checkNotNull(flowRule, FLOW_RULE_NULL);
             checkValidity();
-            Device device = deviceService.getDevice(flowRule.deviceId());
-            FlowRuleProvider frp = getProvider(device.providerId());
             FlowRuleEvent event = null;
             switch (flowRule.state()) {
                 case PENDING_REMOVE:
                 case REMOVED:
                     event = store.removeFlowRule(flowRule);
-                    frp.removeFlowRule(flowRule);
+                    corrections.add(new FlowRuleBatchEntry(
+                            FlowRuleBatchEntry.FlowRuleOperation.REMOVE, flowRule));
                     break;
                 case ADDED:
                 case PENDING_ADD:
-                    try {
-                        frp.applyFlowRule(flowRule);
-                    } catch (UnsupportedOperationException e) {
-                        log.warn(e.getMessage());
-                        if (flowRule instanceof DefaultFlowEntry) {
-                            ((DefaultFlowEntry) flowRule).setState(FlowEntry.FlowEntryState.FAILED);
-                        }
-                    }
+                    corrections.add(new FlowRuleBatchEntry(
+                            FlowRuleBatchEntry.FlowRuleOperation.ADD, flowRule));
                     break;
                 default:
                     log.debug("Flow {} has not been installed.", flowRule);
@@ -325,11 +399,11 @@ public class FlowRuleManager
         }
 
 
-        private void extraneousFlow(FlowRule flowRule) {
+        private void extraneousFlow(FlowRule flowRule, List<FlowRuleBatchEntry> corrections) {
             checkNotNull(flowRule, FLOW_RULE_NULL);
             checkValidity();
-            FlowRuleProvider frp = getProvider(flowRule.deviceId());
-            frp.removeFlowRule(flowRule);
+            corrections.add(new FlowRuleBatchEntry(
+                    FlowRuleBatchEntry.FlowRuleOperation.REMOVE, flowRule));
             log.debug("Flow {} is on switch but not in store.", flowRule);
         }
 
@@ -388,26 +462,64 @@ public class FlowRuleManager
 
         @Override
         public void pushFlowMetrics(DeviceId deviceId, Iterable<FlowEntry> flowEntries) {
+            List<FlowRuleBatchEntry> corrections = reconcile(deviceId, flowEntries, true);
+            applyCorrections(this, deviceId, flowEntries, corrections, Collections.emptySet());
+        }
+
+        // Compares the flow entries reported by a device with the store and
+        // returns the corrections needed to bring the device in line; the
+        // statistics of the rules in sync are updated only for a fresh report
+        private List<FlowRuleBatchEntry> reconcile(DeviceId deviceId, Iterable<FlowEntry> flowEntries,
+                                                   boolean fresh) {
+            Iterable<FlowEntry> storedEntries = store.getFlowEntries(deviceId);
+
+            // Only tables whose contents differ need to be compared rule by rule
+            Map<Integer, FlowTableDigest> switchDigests = FlowTableDigest.digest(flowEntries);
+            Map<Integer, FlowTableDigest> storeDigests = FlowTableDigest.digest(storedEntries);
+            Set<Integer> dirtyTables = Sets.newHashSet();
+            for (Integer table : Sets.union(switchDigests.keySet(), storeDigests.keySet())) {
+                if (!Objects.equals(switchDigests.get(table), storeDigests.get(table))) {
+                    dirtyTables.add(table);
+                }
+            }
+
             Map<FlowEntry, FlowEntry> storedRules = Maps.newHashMap();
-            store.getFlowEntries(deviceId).forEach(f -> storedRules.put(f, f));
+            if (!dirtyTables.isEmpty()) {
+                log.debug("Reconciling tables {} of {}", dirtyTables, deviceId);
+                for (FlowEntry f : storedEntries) {
+                    if (dirtyTables.contains(f.tableId())) {
+                        storedRules.put(f, f);
+                    }
+                }
+            }
 
+            List<FlowRuleBatchEntry> corrections = Lists.newArrayList();
             for (FlowEntry rule : flowEntries) {
                 try {
+                    if (!dirtyTables.contains(rule.tableId())) {
+                        // table in sync; only the statistics need updating
+                        if (fresh) {
+                            flowAdded(rule);
+                        }
+                        continue;
+                    }
                     FlowEntry storedRule = storedRules.remove(rule);
                     if (storedRule != null) {
                         if (storedRule.exactMatch(rule)) {
                             // we both have the rule, let's update some info then.
-                            flowAdded(rule);
+                            if (fresh) {
+                                flowAdded(rule);
+                            }
                         } else {
                             // the two rules are not an exact match - remove the
                             // switch's rule and install our rule
-                            extraneousFlow(rule);
-                            flowMissing(storedRule);
+                            extraneousFlow(rule, corrections);
+                            flowMissing(storedRule, corrections);
                         }
                     } else {
                         // the device has a rule the store does not have
                         if (!allowExtraneousRules) {
-                            extraneousFlow(rule);
+                            extraneousFlow(rule, corrections);
                         }
                     }
                 } catch (Exception e) {
@@ -419,13 +531,13 @@ public class FlowRuleManager
                 try {
                     // there are rules in the store that aren't on the switch
                     log.debug("Adding rule in store, but not on switch {}", rule);
-                    flowMissing(rule);
+                    flowMissing(rule, corrections);
                 } catch (Exception e) {
                     log.debug("Can't add missing flow rule {}", e.getMessage());
                     continue;
                 }
             }
-
+            return corrections;
         }
 
         @Override
@@ -484,12 +596,28 @@ public class FlowRuleManager
 
             case BATCH_OPERATION_COMPLETED:
 
+                BulkOperationsProcessor.DeviceWindows windows =
+                        pendingBulkWindows.remove(event.subject().batchId());
+                if (windows != null) {
+                    windows.windowCompleted(event.subject().batchId(), event.result());
+                    break;
+                }
+
+                PendingReconcile reconcile = pendingReconciles.get(event.deviceId());
+                if (reconcile != null && reconcile.batchId == event.subject().batchId()) {
+                    if (pendingReconciles.remove(event.deviceId(), reconcile)) {
+                        resumeReconcile(event.deviceId(), reconcile);
+                    }
+                    break;
+                }
+
                 FlowOperationsProcessor fops = pendingFlowOperations.remove(
                         event.subject().batchId());
+                if (fops == null) {
+                    break;
+                }
                 if (event.result().isSuccess()) {
-                    if (fops != null) {
-                        fops.satisfy(event.deviceId());
-                    }
+                    fops.satisfy(event.deviceId());
                 } else {
                     fops.fail(event.deviceId(), event.result().failedItems());
                 }
@@ -502,6 +630,139 @@ public class FlowRuleManager
         }
     }
 
+    // Sends the corrections found by reconciling a device as a single batch,
+    // or notes that the device needs reconciling again once the batch already
+    // in progress for it completes
+    private void applyCorrections(InternalFlowRuleProviderService reporter, DeviceId deviceId,
+                                  Iterable<FlowEntry> deviceEntries,
+                                  List<FlowRuleBatchEntry> corrections,
+                                  Set<FlowRuleBatchEntry> sent) {
+        if (corrections.isEmpty()) {
+            return;
+        }
+        PendingReconcile pending = pendingReconciles.get(deviceId);
+        if (pending != null && !pending.isExpired()) {
+            log.debug("Corrections for {} still in progress; reconciling again once done",
+                      deviceId);
+            pending.reconcileAgain(reporter, deviceEntries);
+            return;
+        }
+
+        FlowRuleProvider frp = getProvider(deviceId);
+        List<FlowRuleBatchEntry> batch = corrections;
+        if (corrections.size() > reconcileBatchSize) {
+            log.debug("Limiting corrections for {} to {} of {}",
+                      deviceId, reconcileBatchSize, corrections.size());
+            batch = corrections.subList(0, reconcileBatchSize);
+        }
+
+        long batchId = idGenerator.getNewId();
+        PendingReconcile reconcile =
+                new PendingReconcile(batchId, batch, reporter, deviceEntries, sent);
+        if (batch.size() < corrections.size()) {
+            reconcile.reconcileAgain(reporter, deviceEntries);
+        }
+        pendingReconciles.put(deviceId, reconcile);
+        try {
+            frp.executeBatch(new FlowRuleBatchOperation(batch, deviceId, batchId));
+        } catch (UnsupportedOperationException e) {
+            // provider cannot batch; fall back to one rule at a time
+            pendingReconciles.remove(deviceId);
+            corrections.forEach(entry -> applyCorrection(frp, entry));
+        }
+    }
+
+    // Works out afresh, against the current contents of the store, the
+    // corrections for a device whose reconciliation was held up by the
+    // corrective batch that just completed
+    private void resumeReconcile(DeviceId deviceId, PendingReconcile completed) {
+        if (!completed.needsReconciling()) {
+            return;
+        }
+        InternalFlowRuleProviderService reporter = completed.reporter();
+        Iterable<FlowEntry> deviceEntries = completed.deviceEntries();
+        Set<FlowRuleBatchEntry> sent = completed.sent();
+        List<FlowRuleBatchEntry> corrections = reporter.reconcile(deviceId, deviceEntries, false)
+                .stream()
+                .filter(entry -> !sent.contains(entry))
+                .collect(Collectors.toList());
+        applyCorrections(reporter, deviceId, deviceEntries, corrections, sent);
+    }
+
+    private void applyCorrection(FlowRuleProvider frp, FlowRuleBatchEntry entry) {
+        FlowRule rule = entry.target();
+        if (entry.operator() == FlowRuleBatchEntry.FlowRuleOperation.REMOVE) {
+            frp.removeFlowRule(rule);
+            return;
+        }
+        try {
+            frp.applyFlowRule(rule);
+        } catch (UnsupportedOperationException e) {
+            log.warn(e.getMessage());
+            if (rule instanceof DefaultFlowEntry) {
+                ((DefaultFlowEntry) rule).setState(FlowEntry.FlowEntryState.FAILED);
+            }
+        }
+    }
+
+    // Tracks the corrective batch issued to a device by flow reconciliation.
+    // Corrections found while it is in progress are not kept, as they may be
+    // stale by the time it completes; only the latest flow entries reported
+    // by the device are, so that the corrections can be worked out afresh.
+    private static final class PendingReconcile {
+        private final long batchId;
+        private final long issued = System.currentTimeMillis();
+        private final Set<FlowRuleBatchEntry> inFlight;
+        private InternalFlowRuleProviderService reporter;
+        private Iterable<FlowEntry> deviceEntries;
+        // corrections sent since the device reported deviceEntries
+        private Set<FlowRuleBatchEntry> sent;
+        private boolean needsReconciling;
+
+        private PendingReconcile(long batchId, List<FlowRuleBatchEntry> batch,
+                                 InternalFlowRuleProviderService reporter,
+                                 Iterable<FlowEntry> deviceEntries,
+                                 Set<FlowRuleBatchEntry> sent) {
+            this.batchId = batchId;
+            this.inFlight = ImmutableSet.copyOf(batch);
+            this.reporter = reporter;
+            this.deviceEntries = deviceEntries;
+            this.sent = Sets.union(sent, inFlight).immutableCopy();
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - issued > RECONCILE_TIMEOUT_MS;
+        }
+
+        // Marks the device as needing reconciling again; a new report of the
+        // device supersedes earlier ones, but may not yet reflect this batch
+        private synchronized void reconcileAgain(InternalFlowRuleProviderService reporter,
+                                                 Iterable<FlowEntry> deviceEntries) {
+            if (this.deviceEntries != deviceEntries) {
+                this.reporter = reporter;
+                this.deviceEntries = deviceEntries;
+                this.sent = inFlight;
+            }
+            needsReconciling = true;
+        }
+
+        private synchronized boolean needsReconciling() {
+            return needsReconciling;
+        }
+
+        private synchronized InternalFlowRuleProviderService reporter() {
+            return reporter;
+        }
+
+        private synchronized Iterable<FlowEntry> deviceEntries() {
+            return deviceEntries;
+        }
+
+        private synchronized Set<FlowRuleBatchEntry> sent() {
+            return sent;
+        }
+    }
+
     private class FlowOperationsProcessor implements Runnable {
 
         private final List<Set<FlowRuleOperation>> stages;
@@ -590,4 +851,159 @@ public class FlowRuleManager
         }
 
     }
+
+    // Streams a large set of operations to each device in bounded windows
+    private class BulkOperationsProcessor {
+
+        private final CompletableFuture<FlowRuleBulkResult> future = new CompletableFuture<>();
+        private final FlowRuleBulkListener listener;
+        private final int windowsInFlight;
+        private final long windowTimeoutMs;
+        private final int total;
+        private final List<DeviceWindows> devices = Lists.newArrayList();
+        private final AtomicInteger pendingDevices;
+
+        BulkOperationsProcessor(Collection<FlowRuleOperation> operations,
+                                FlowRuleBulkListener listener,
+                                int windowSize, int windowsInFlight, int windowTimeout) {
+            this.listener = listener;
+            this.windowsInFlight = windowsInFlight;
+            this.windowTimeoutMs = TimeUnit.SECONDS.toMillis(windowTimeout);
+            this.total = operations.size();
+
+            Map<DeviceId, List<FlowRuleBatchEntry>> perDevice = Maps.newLinkedHashMap();
+            for (FlowRuleOperation op : operations) {
+                perDevice.computeIfAbsent(op.rule().deviceId(), d -> Lists.newArrayList())
+                        .add(new FlowRuleBatchEntry(batchOperator(op), op.rule()));
+            }
+            perDevice.forEach((deviceId, entries) ->
+                    devices.add(new DeviceWindows(deviceId, Lists.partition(entries, windowSize))));
+            pendingDevices = new AtomicInteger(devices.size());
+        }
+
+        private FlowRuleBatchEntry.FlowRuleOperation batchOperator(FlowRuleOperation op) {
+            switch (op.type()) {
+                case ADD:
+                    return FlowRuleBatchEntry.FlowRuleOperation.ADD;
+                case MODIFY:
+                    return FlowRuleBatchEntry.FlowRuleOperation.MODIFY;
+                case REMOVE:
+                    return FlowRuleBatchEntry.FlowRuleOperation.REMOVE;
+                default:
+                    throw new UnsupportedOperationException("Unknown flow rule type " + op.type());
+            }
+        }
+
+        void start() {
+            if (devices.isEmpty()) {
+                future.complete(new FlowRuleBulkResult(total, Collections.emptyMap()));
+                return;
+            }
+            devices.forEach(DeviceWindows::sendWindows);
+        }
+
+        private void deviceCompleted() {
+            if (pendingDevices.decrementAndGet() == 0) {
+                Map<DeviceId, Set<FlowRule>> failures = Maps.newHashMap();
+                Set<DeviceId> timedOut = Sets.newHashSet();
+                devices.forEach(d -> {
+                    failures.put(d.deviceId, d.failures);
+                    if (d.timedOut) {
+                        timedOut.add(d.deviceId);
+                    }
+                });
+                future.complete(new FlowRuleBulkResult(total, failures, timedOut));
+            }
+        }
+
+        // Windows of a single device; at most windowsInFlight are outstanding
+        private class DeviceWindows {
+
+            private final DeviceId deviceId;
+            private final Iterator<List<FlowRuleBatchEntry>> windows;
+            private final Map<Long, List<FlowRuleBatchEntry>> inFlight = Maps.newHashMap();
+            // Timeout of each window in flight, cancelled once it is acknowledged
+            private final Map<Long, TimerTask> timeouts = Maps.newHashMap();
+            private final Set<FlowRule> failures = Sets.newHashSet();
+            private final int deviceTotal;
+            private int completed;
+            private volatile boolean timedOut;
+
+            DeviceWindows(DeviceId deviceId, List<List<FlowRuleBatchEntry>> windows) {
+                this.deviceId = deviceId;
+                this.windows = windows.iterator();
+                this.deviceTotal = windows.stream().mapToInt(List::size).sum();
+            }
+
+            private synchronized void sendWindows() {
+                while (inFlight.size() < windowsInFlight && windows.hasNext()) {
+                    List<FlowRuleBatchEntry> window = windows.next();
+                    long id = idGenerator.getNewId();
+                    inFlight.put(id, window);
+                    pendingBulkWindows.put(id, this);
+                    FlowRuleBatchOperation b = new FlowRuleBatchOperation(window, deviceId, id);
+                    deviceInstallers.submit(() -> store.storeBatch(b));
+                    TimerTask timeout = new TimerTask() {
+                        @Override
+                        public void run() {
+                            windowTimedOut(id);
+                        }
+                    };
+                    timeouts.put(id, timeout);
+                    SharedExecutors.getTimer().schedule(timeout, windowTimeoutMs);
+                }
+            }
+
+            // Gives up on the device if the window is still unacknowledged;
+            // whatever it has not acknowledged is counted as failed
+            private void windowTimedOut(long batchId) {
+                synchronized (this) {
+                    if (!inFlight.containsKey(batchId)) {
+                        return;
+                    }
+                    log.warn("{} did not acknowledge bulk window {} in time; giving up on {} operations",
+                             deviceId, batchId, deviceTotal - completed);
+                    timedOut = true;
+                    inFlight.forEach((id, window) -> {
+                        pendingBulkWindows.remove(id);
+                        window.forEach(entry -> failures.add(entry.target()));
+                    });
+                    inFlight.clear();
+                    timeouts.values().forEach(TimerTask::cancel);
+                    timeouts.clear();
+                    windows.forEachRemaining(window -> window.forEach(entry -> failures.add(entry.target())));
+                }
+                deviceCompleted();
+            }
+
+            void windowCompleted(long batchId, CompletedBatchOperation result) {
+                Set<FlowRule> windowFailures = result.failedItems();
+                int done;
+                boolean finished;
+                synchronized (this) {
+                    List<FlowRuleBatchEntry> window = inFlight.remove(batchId);
+                    if (window == null) {
+                        return;
+                    }
+                    timeouts.remove(batchId).cancel();
+                    completed += window.size();
+                    failures.addAll(windowFailures);
+                    done = completed;
+                    finished = completed == deviceTotal;
+                    sendWindows();
+                }
+
+                if (listener != null) {
+                    try {
+                        listener.windowCompleted(deviceId, done, deviceTotal, windowFailures);
+                    } catch (Exception e) {
+                        log.warn("Bulk operation listener failed", e);
+                    }
+                }
+                if (finished) {
+                    deviceCompleted();
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow.impl;
+
+import com.google.common.collect.Maps;
+import org.onosproject.net.flow.FlowRule;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Order-independent digest of the flow rules of a single flow table.
+ * <p>
+ * Two digests are equal if, with high probability, they were computed over
+ * rules that exactly match one another, i.e. rules with the same identity,
+ * flow id and treatment. Statistics and state do not contribute.
+ * </p>
+ */
+final class FlowTableDigest {
+
+    private long sum;
+    private int count;
+
+    /**
+     * Computes the digests of all tables spanned by the given rules.
+     *
+     * @param rules flow rules of a single device
+     * @return digests keyed by table id
+     */
+    static Map<Integer, FlowTableDigest> digest(Iterable<? extends FlowRule> rules) {
+        Map<Integer, FlowTableDigest> digests = Maps.newHashMap();
+        for (FlowRule rule : rules) {
+            digests.computeIfAbsent(rule.tableId(), t -> new FlowTableDigest()).add(rule);
+        }
+        return digests;
+    }
+
+    private void add(FlowRule rule) {
+        int h = Objects.hash(rule.hashCode(), rule.priority(), rule.id(), rule.treatment());
+        sum += mix(h);
+        count++;
+    }
+
+    // Spreads a 32-bit hash over 64 bits so that sums of hashes collide rarely
+    private static long mix(int h) {
+        long z = h * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the number of rules covered by the digest.
+     *
+     * @return rule count
+     */
+    int count() {
+        return count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sum, count);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof FlowTableDigest) {
+            FlowTableDigest that = (FlowTableDigest) obj;
+            return sum == that.sum && count == that.count;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("sum", Long.toHexString(sum))
+                .add("count", count)
+                .toString();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.onosproject.net.flowobjective.impl;
 
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.felix.scr.annotations.Activate;
@@ -23,10 +25,13 @@ import org.apache.felix.scr.annotations.Deactivate;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsService;
 import org.onlab.osgi.DefaultServiceDirectory;
 import org.onlab.osgi.ServiceDirectory;
 import org.onlab.util.ItemNotFoundException;
 import org.onosproject.cluster.ClusterService;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.mastership.MastershipEvent;
 import org.onosproject.mastership.MastershipListener;
 import org.onosproject.mastership.MastershipService;
@@ -53,12 +58,20 @@ import org.onosproject.net.group.GroupService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.security.AppGuard.checkPermission;
 import static org.onosproject.security.AppPermission.Type.*;
@@ -70,11 +83,20 @@ import static org.onosproject.security.AppPermission.Type.*;
  */
 @Component(immediate = true)
 @Service
-public class FlowObjectiveManager implements FlowObjectiveService {
+public class FlowObjectiveManager implements FlowObjectiveService, MetricsHelper {
 
     public static final int INSTALL_RETRY_ATTEMPTS = 5;
     public static final long INSTALL_RETRY_INTERVAL = 1000; // ms
 
+    // Maximum number of consecutive objectives of a device handed to its
+    // pipeliner by a single installer task
+    private static final int INSTALL_BATCH_SIZE = 128;
+    private static final int NUM_THREADS = 4;
+
+    private static final String METRICS_COMPONENT = "FlowObjective";
+    private static final String DEVICE_FEATURE = "devices";
+    private static final String PIPELINER_FEATURE = "pipeliners";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
@@ -89,6 +111,9 @@ public class FlowObjectiveManager implements FlowObjectiveService {
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ClusterService clusterService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     // Note: The following dependencies are added on behalf of the pipeline
     // driver behaviours to assure these services are available for their
     // initialization.
@@ -118,13 +143,18 @@ public class FlowObjectiveManager implements FlowObjectiveService {
 
     protected ServiceDirectory serviceDirectory = new DefaultServiceDirectory();
 
-    private Map<Integer, Set<PendingNext>> pendingForwards = Maps.newConcurrentMap();
+    private final Map<Integer, Set<PendingNext>> pendingForwards = Maps.newConcurrentMap();
+
+    private final Map<DeviceId, ObjectiveQueue> objectiveQueues = Maps.newConcurrentMap();
+    private final Map<String, Timer> pipelinerTimers = Maps.newConcurrentMap();
 
     private ExecutorService executorService;
+    private ScheduledExecutorService retryExecutor;
 
     @Activate
     protected void activate() {
-        executorService = newFixedThreadPool(4, groupedThreads("onos/objective-installer", "%d"));
+        executorService = newFixedThreadPool(NUM_THREADS, groupedThreads("onos/objective-installer", "%d"));
+        retryExecutor = newSingleThreadScheduledExecutor(groupedThreads("onos/objective-installer", "retry"));
         flowObjectiveStore.setDelegate(delegate);
         mastershipService.addListener(mastershipListener);
         deviceService.addListener(deviceListener);
@@ -137,80 +167,253 @@ public class FlowObjectiveManager implements FlowObjectiveService {
         flowObjectiveStore.unsetDelegate(delegate);
         mastershipService.removeListener(mastershipListener);
         deviceService.removeListener(deviceListener);
+        retryExecutor.shutdownNow();
         executorService.shutdown();
+        objectiveQueues.keySet().forEach(deviceId -> removeMetric(DEVICE_FEATURE, deviceId.toString()));
+        objectiveQueues.clear();
+        pipelinerTimers.keySet().forEach(name -> removeMetric(PIPELINER_FEATURE, name));
+        pipelinerTimers.clear();
         pipeliners.clear();
         driverHandlers.clear();
         log.info("Stopped");
     }
 
     /**
-     * Task that passes the flow objective down to the driver. The task will
-     * make a few attempts to find the appropriate driver, then eventually give
-     * up and report an error if no suitable driver could be found.
+     * Queue of the flow objectives of a single device, passed down to the
+     * device driver in submission order.
+     * <p>
+     * At most one installer task per device is queued or running at any
+     * time, so objectives of one device never run concurrently or out of
+     * order. Consecutive objectives are handed to the pipeliner as one batch.
+     * If the device pipeliner is not yet available, the queue is
+     * retried a few times after a delay, without holding an installer thread,
+     * and then all objectives waiting in it are failed.
+     * </p>
+     * <p>
+     * Once the device is removed, the queue is closed: it is dropped as soon
+     * as it has no installer task queued or running. Until then it keeps
+     * taking objectives, so that a new queue never runs alongside it.
+     * </p>
      */
-    private class ObjectiveInstaller implements Runnable {
+    private final class ObjectiveQueue {
         private final DeviceId deviceId;
-        private final Objective objective;
+        private final Deque<QueuedObjective> queue = new ArrayDeque<>();
+        private final Timer latency;
 
-        private final int numAttempts;
+        // Guarded by this
+        private boolean scheduled;
+        private int numAttempts;
+        private boolean closed;
+        private boolean removed;
 
-        public ObjectiveInstaller(DeviceId deviceId, Objective objective) {
-            this(deviceId, objective, 1);
+        private ObjectiveQueue(DeviceId deviceId) {
+            this.deviceId = deviceId;
+            this.latency = createTimer(METRICS_COMPONENT, DEVICE_FEATURE, deviceId.toString());
         }
 
-        public ObjectiveInstaller(DeviceId deviceId, Objective objective, int attemps) {
-            this.deviceId = checkNotNull(deviceId);
-            this.objective = checkNotNull(objective);
-            this.numAttempts = checkNotNull(attemps);
+        // Returns false if the queue was dropped and can take no more objectives
+        private synchronized boolean add(Objective objective) {
+            if (removed) {
+                return false;
+            }
+            queue.add(new QueuedObjective(objective, System.nanoTime()));
+            schedule();
+            return true;
         }
 
-        @Override
-        public void run() {
+        // Puts objectives back at the head of the queue, in the given order
+        private synchronized boolean addFirst(List<? extends Objective> objectives) {
+            if (removed) {
+                return false;
+            }
+            long now = System.nanoTime();
+            Lists.reverse(objectives).forEach(o -> queue.addFirst(new QueuedObjective(o, now)));
+            schedule();
+            return true;
+        }
+
+        private void schedule() {
+            if (!scheduled) {
+                scheduled = true;
+                executorService.execute(this::install);
+            }
+        }
+
+        private synchronized void close() {
+            closed = true;
+            // Otherwise the installer task drops the queue once it is done
+            if (!scheduled) {
+                drop();
+            }
+        }
+
+        // Called with the installer task done and nothing left to install
+        private void idle() {
+            scheduled = false;
+            if (closed) {
+                drop();
+            }
+        }
+
+        private void drop() {
+            removed = true;
+            if (objectiveQueues.remove(deviceId, this)) {
+                removeMetric(DEVICE_FEATURE, deviceId.toString());
+            }
+        }
+
+        private void install() {
+            Pipeliner pipeliner = getDevicePipeliner(deviceId);
+            if (pipeliner == null) {
+                retryOrFail();
+                return;
+            }
+
+            List<QueuedObjective> batch = Lists.newArrayList();
+            synchronized (this) {
+                numAttempts = 0;
+                while (batch.size() < INSTALL_BATCH_SIZE && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+            }
+
+            List<Objective> objectives = Lists.newArrayListWithCapacity(batch.size());
+            for (QueuedObjective queued : batch) {
+                Objective objective = queued.objective;
+                if (objective instanceof ForwardingObjective &&
+                        queueObjective(deviceId, (ForwardingObjective) objective)) {
+                    continue;
+                }
+                objectives.add(objective);
+            }
+
+            Timer.Context timer = pipelinerTimer(pipeliner).time();
+            Set<Objective> accepted = Sets.newIdentityHashSet();
             try {
-                Pipeliner pipeliner = getDevicePipeliner(deviceId);
-
-                if (pipeliner != null) {
-                    if (objective instanceof NextObjective) {
-                        pipeliner.next((NextObjective) objective);
-                    } else if (objective instanceof ForwardingObjective) {
-                        pipeliner.forward((ForwardingObjective) objective);
-                    } else {
-                        pipeliner.filter((FilteringObjective) objective);
-                    }
-                } else if (numAttempts < INSTALL_RETRY_ATTEMPTS) {
-                    Thread.sleep(INSTALL_RETRY_INTERVAL);
-                    executorService.submit(new ObjectiveInstaller(deviceId, objective, numAttempts + 1));
-                } else {
-                    // Otherwise we've tried a few times and failed, report an
-                    // error back to the user.
-                    objective.context().ifPresent(
-                            c -> c.onError(objective, ObjectiveError.DEVICEMISSING));
+                if (!objectives.isEmpty()) {
+                    pipeliner.batch(objectives, accepted::add);
                 }
             } catch (Exception e) {
-                log.warn("Exception while installing flow objective", e);
+                // The pipeliner gave up on the batch; fail whatever it did not accept
+                log.warn("Exception while installing flow objectives", e);
+                objectives.stream()
+                        .filter(objective -> !accepted.contains(objective))
+                        .forEach(objective -> objective.context().ifPresent(
+                                c -> c.onError(objective, ObjectiveError.UNKNOWN)));
+            } finally {
+                timer.stop();
+                long now = System.nanoTime();
+                if (latency != null) {
+                    batch.forEach(q -> latency.update(now - q.queued, TimeUnit.NANOSECONDS));
+                }
+            }
+
+            synchronized (this) {
+                if (queue.isEmpty()) {
+                    idle();
+                } else {
+                    // Yield to the queues of other devices before continuing
+                    executorService.execute(this::install);
+                }
+            }
+        }
+
+        private void retryOrFail() {
+            List<QueuedObjective> failed;
+            synchronized (this) {
+                numAttempts++;
+                if (numAttempts < INSTALL_RETRY_ATTEMPTS) {
+                    retryExecutor.schedule(() -> executorService.execute(this::install),
+                                           INSTALL_RETRY_INTERVAL, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                // We've tried a few times and failed; report an error back
+                // to the users of everything queued so far.
+                failed = Lists.newArrayList(queue);
+                queue.clear();
+                numAttempts = 0;
+                idle();
+            }
+            log.warn("No pipeliner for device {}; failing {} objectives",
+                     deviceId, failed.size());
+            failed.forEach(q -> q.objective.context().ifPresent(
+                    c -> c.onError(q.objective, ObjectiveError.DEVICEMISSING)));
+        }
+    }
+
+    // Objective waiting in a device queue, with the time it was queued.
+    private static final class QueuedObjective {
+        private final Objective objective;
+        private final long queued;
+
+        private QueuedObjective(Objective objective, long queued) {
+            this.objective = objective;
+            this.queued = queued;
+        }
+    }
+
+    private void submit(DeviceId deviceId, Objective objective) {
+        checkNotNull(deviceId);
+        checkNotNull(objective);
+        // Should the queue be dropped in the meantime, a fresh one takes over
+        ObjectiveQueue queue;
+        do {
+            queue = objectiveQueues.computeIfAbsent(deviceId, ObjectiveQueue::new);
+        } while (!queue.add(objective));
+    }
+
+    private Timer pipelinerTimer(Pipeliner pipeliner) {
+        String name = pipeliner.getClass().getSimpleName();
+        Timer timer = pipelinerTimers.get(name);
+        if (timer == null) {
+            timer = createTimer(METRICS_COMPONENT, PIPELINER_FEATURE, name);
+            if (timer == null) {
+                // Metrics are not available; time locally
+                timer = new Timer();
             }
+            pipelinerTimers.putIfAbsent(name, timer);
         }
+        return timer;
+    }
+
+    // Closes the queue of a removed device; it is dropped once idle
+    private void removeQueue(DeviceId deviceId) {
+        ObjectiveQueue queue = objectiveQueues.get(deviceId);
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+
+    private void removeMetric(String feature, String name) {
+        if (metricsService == null) {
+            return;
+        }
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        metricsService.removeMetric(component, component.registerFeature(feature), name);
+    }
+
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
     }
 
     @Override
     public void filter(DeviceId deviceId, FilteringObjective filteringObjective) {
         checkPermission(FLOWRULE_WRITE);
-        executorService.submit(new ObjectiveInstaller(deviceId, filteringObjective));
+        submit(deviceId, filteringObjective);
     }
 
     @Override
     public void forward(DeviceId deviceId, ForwardingObjective forwardingObjective) {
         checkPermission(FLOWRULE_WRITE);
-        if (queueObjective(deviceId, forwardingObjective)) {
-            return;
-        }
-        executorService.submit(new ObjectiveInstaller(deviceId, forwardingObjective));
+        submit(deviceId, forwardingObjective);
     }
 
     @Override
     public void next(DeviceId deviceId, NextObjective nextObjective) {
         checkPermission(FLOWRULE_WRITE);
-        executorService.submit(new ObjectiveInstaller(deviceId, nextObjective));
+        submit(deviceId, nextObjective);
     }
 
     @Override
@@ -222,18 +425,47 @@ public class FlowObjectiveManager implements FlowObjectiveService {
     @Override
     public void initPolicy(String policy) {}
 
+    // Parks a forwarding objective until the next objective it refers to
+    // has been installed.
     private boolean queueObjective(DeviceId deviceId, ForwardingObjective fwd) {
-        if (fwd.nextId() != null &&
-                flowObjectiveStore.getNextGroup(fwd.nextId()) == null) {
-            log.trace("Queuing forwarding objective for nextId {}", fwd.nextId());
-            if (pendingForwards.putIfAbsent(fwd.nextId(),
-                                            Sets.newHashSet(new PendingNext(deviceId, fwd))) != null) {
-                Set<PendingNext> pending = pendingForwards.get(fwd.nextId());
-                pending.add(new PendingNext(deviceId, fwd));
-            }
-            return true;
+        if (fwd.nextId() == null ||
+                flowObjectiveStore.getNextGroup(fwd.nextId()) != null) {
+            return false;
+        }
+        log.trace("Queuing forwarding objective for nextId {}", fwd.nextId());
+        pendingForwards.compute(fwd.nextId(), (id, pending) -> {
+            Set<PendingNext> p = pending != null ? pending : Sets.newLinkedHashSet();
+            p.add(new PendingNext(deviceId, fwd));
+            return p;
+        });
+        // The next group may have shown up while we were parking
+        if (flowObjectiveStore.getNextGroup(fwd.nextId()) != null) {
+            resubmitPending(fwd.nextId());
         }
-        return false;
+        return true;
+    }
+
+    // Puts the forwarding objectives waiting on the given next id back at
+    // the head of their device queues, in the order they were parked.
+    private void resubmitPending(Integer nextId) {
+        Set<PendingNext> pending = pendingForwards.remove(nextId);
+        if (pending == null) {
+            log.debug("Nothing pending for next id {}", nextId);
+            return;
+        }
+        log.debug("Processing pending forwarding objectives {}", pending.size());
+        pending.stream()
+                .collect(Collectors.groupingBy(PendingNext::deviceId, LinkedHashMap::new,
+                         Collectors.mapping(PendingNext::forwardingObjective,
+                                            Collectors.toList())))
+                .forEach(this::resubmit);
+    }
+
+    private void resubmit(DeviceId deviceId, List<ForwardingObjective> objectives) {
+        ObjectiveQueue queue;
+        do {
+            queue = objectiveQueues.computeIfAbsent(deviceId, ObjectiveQueue::new);
+        } while (!queue.addFirst(objectives));
     }
 
     // Retrieves the device pipeline behaviour from the cache.
@@ -320,6 +552,7 @@ public class FlowObjectiveManager implements FlowObjectiveService {
                 case DEVICE_UPDATED:
                     break;
                 case DEVICE_REMOVED:
+                    removeQueue(event.subject().id());
                     break;
                 case DEVICE_SUSPENDED:
                     break;
@@ -377,18 +610,7 @@ public class FlowObjectiveManager implements FlowObjectiveService {
         @Override
         public void notify(ObjectiveEvent event) {
             log.debug("Received notification of obj event {}", event);
-            Set<PendingNext> pending = pendingForwards.remove(event.subject());
-
-            if (pending == null) {
-                log.debug("Nothing pending for this obj event");
-                return;
-            }
-
-            log.debug("Processing pending forwarding objectives {}", pending.size());
-
-            pending.forEach(p -> getDevicePipeliner(p.deviceId())
-                    .forward(p.forwardingObjective()));
-
+            resubmitPending(event.subject());
         }
     }
 
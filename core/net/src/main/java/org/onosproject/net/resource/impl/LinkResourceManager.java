@@ -15,6 +15,7 @@
  */
 package org.onosproject.net.resource.impl;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
@@ -94,15 +95,13 @@ public class LinkResourceManager
      */
     private Set<LambdaResource> getAvailableLambdas(Link link) {
         checkNotNull(link);
-        Set<ResourceAllocation> resAllocs = store.getFreeResources(link);
+        Set<ResourceAllocation> resAllocs = store.getFreeResources(link, ResourceType.LAMBDA);
         if (resAllocs == null) {
             return Collections.emptySet();
         }
         Set<LambdaResource> lambdas = new HashSet<>();
         for (ResourceAllocation res : resAllocs) {
-            if (res.type() == ResourceType.LAMBDA) {
-                lambdas.add(((LambdaResourceAllocation) res).lambda());
-            }
+            lambdas.add(((LambdaResourceAllocation) res).lambda());
         }
         return lambdas;
     }
@@ -133,19 +132,12 @@ public class LinkResourceManager
      * @return available MPLS labels on specified link
      */
     private Iterable<MplsLabel> getAvailableMplsLabels(Link link) {
-        Set<ResourceAllocation> resAllocs = store.getFreeResources(link);
+        Set<ResourceAllocation> resAllocs = store.getFreeResources(link, ResourceType.MPLS_LABEL);
         if (resAllocs == null) {
             return Collections.emptySet();
         }
-        Set<MplsLabel> mplsLabels = new HashSet<>();
-        for (ResourceAllocation res : resAllocs) {
-            if (res.type() == ResourceType.MPLS_LABEL) {
-
-                mplsLabels.add(((MplsLabelResourceAllocation) res).mplsLabel());
-            }
-        }
-
-        return mplsLabels;
+        // the label space is large; convert lazily rather than copying it
+        return Iterables.transform(resAllocs, res -> ((MplsLabelResourceAllocation) res).mplsLabel());
     }
 
     @Override
@@ -249,13 +241,18 @@ public class LinkResourceManager
     public Iterable<ResourceRequest> getAvailableResources(Link link) {
         checkPermission(LINK_READ);
 
-        Set<ResourceAllocation> freeRes = store.getFreeResources(link);
         Set<ResourceRequest> result = new HashSet<>();
-        for (ResourceAllocation alloc : freeRes) {
-            switch (alloc.type()) {
+        for (ResourceType type : ResourceType.values()) {
+            Set<ResourceAllocation> freeRes = store.getFreeResources(link, type);
+            if (freeRes == null || freeRes.isEmpty()) {
+                continue;
+            }
+            switch (type) {
             case BANDWIDTH:
-                result.add(new BandwidthResourceRequest(
-                        ((BandwidthResourceAllocation) alloc).bandwidth()));
+                for (ResourceAllocation alloc : freeRes) {
+                    result.add(new BandwidthResourceRequest(
+                            ((BandwidthResourceAllocation) alloc).bandwidth()));
+                }
                 break;
             case LAMBDA:
                 result.add(new LambdaResourceRequest());
@@ -16,13 +16,16 @@
 package org.onosproject.net.topology.impl;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
-import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.onlab.metrics.MetricsUtil.startTimer;
+import static org.onlab.metrics.MetricsUtil.stopTimer;
 import static org.onlab.util.Tools.get;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.core.CoreService.CORE_PROVIDER_ID;
 import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_ADDED;
 import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_AVAILABILITY_CHANGED;
 import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_REMOVED;
+import static org.onosproject.net.link.LinkEvent.Type.LINK_REMOVED;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.Collections;
@@ -30,6 +33,8 @@ import java.util.Dictionary;
 import java.util.List;
 import java.util.Timer;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
@@ -39,10 +44,14 @@ import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsService;
 import org.onlab.util.AbstractAccumulator;
 import org.onlab.util.Accumulator;
 import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.event.Event;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
 import org.onosproject.net.device.DeviceEvent;
 import org.onosproject.net.device.DeviceListener;
 import org.onosproject.net.device.DeviceService;
@@ -50,7 +59,6 @@ import org.onosproject.net.link.LinkEvent;
 import org.onosproject.net.link.LinkListener;
 import org.onosproject.net.link.LinkService;
 import org.onosproject.net.provider.AbstractProvider;
-import org.onosproject.net.topology.DefaultGraphDescription;
 import org.onosproject.net.topology.GraphDescription;
 import org.onosproject.net.topology.TopologyProvider;
 import org.onosproject.net.topology.TopologyProviderRegistry;
@@ -64,13 +72,20 @@ import com.google.common.collect.ImmutableList;
  * Default implementation of a network topology provider that feeds off
  * device and link subsystem events to trigger assembly and computation of
  * new topology snapshots.
+ * <p>
+ * The topology graph is kept up to date in place, applying the devices and
+ * links of each batch of events rather than reading all of them back from
+ * the device and link services; it is read back in full only when a
+ * recompute is triggered. A batch is held open while the previous one is
+ * being built, so batches grow with the event rate instead of queueing
+ * builds of stale graphs.
+ * </p>
  */
 @Component(immediate = true)
 @Service
 public class DefaultTopologyProvider extends AbstractProvider
-        implements TopologyProvider {
+        implements TopologyProvider, MetricsHelper {
 
-    private static final int MAX_THREADS = 8;
     private static final int DEFAULT_MAX_EVENTS = 1000;
     private static final int DEFAULT_MAX_IDLE_MS = 10;
     private static final int DEFAULT_MAX_BATCH_MS = 50;
@@ -105,6 +120,9 @@ public class DefaultTopologyProvider extends AbstractProvider
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService cfgService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     private volatile boolean isStarted = false;
 
     private TopologyProviderService providerService;
@@ -114,6 +132,13 @@ public class DefaultTopologyProvider extends AbstractProvider
     private Accumulator<Event> accumulator;
     private ExecutorService executor;
 
+    private final IncrementalTopologyGraph graph = new IncrementalTopologyGraph();
+    // Builds queued or running; batches are held while there are any
+    private final AtomicInteger pendingBuilds = new AtomicInteger();
+
+    private com.codahale.metrics.Timer buildTimer;
+    private com.codahale.metrics.Timer stalenessTimer;
+
     /**
      * Creates a provider with the supplier identifier.
      */
@@ -124,7 +149,10 @@ public class DefaultTopologyProvider extends AbstractProvider
     @Activate
     public synchronized void activate(ComponentContext context) {
         cfgService.registerProperties(DefaultTopologyProvider.class);
-        executor = newFixedThreadPool(MAX_THREADS, groupedThreads("onos/topo", "build-%d"));
+        // Builds update the graph in place, so they run one at a time
+        executor = newSingleThreadExecutor(groupedThreads("onos/topo", "build-%d"));
+        buildTimer = createTimer("Topology", "build", "buildTime");
+        stalenessTimer = createTimer("Topology", "build", "staleness");
         accumulator = new TopologyChangeAccumulator();
         logConfig("Configured");
 
@@ -196,9 +224,14 @@ public class DefaultTopologyProvider extends AbstractProvider
     }
 
 
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
+    }
+
     @Override
     public void triggerRecompute() {
-        triggerTopologyBuild(Collections.<Event>emptyList());
+        triggerTopologyBuild(Collections.<Event>emptyList(), true);
     }
 
     /**
@@ -206,23 +239,61 @@ public class DefaultTopologyProvider extends AbstractProvider
      * reason.
      *
      * @param reasons events which triggered the topology change
+     * @param reload  true to read all devices and links back from their
+     *                services rather than applying the events to the graph
      */
-    private synchronized void triggerTopologyBuild(List<Event> reasons) {
+    private synchronized void triggerTopologyBuild(List<Event> reasons, boolean reload) {
         if (executor != null) {
-            executor.execute(new TopologyBuilderTask(reasons));
+            pendingBuilds.incrementAndGet();
+            executor.execute(new TopologyBuilderTask(reasons, reload));
         }
     }
 
-    // Builds the topology using the latest device and link information
-    // and citing the specified events as reasons for the change.
-    private void buildTopology(List<Event> reasons) {
+    // Builds the topology from the graph updated with the specified events,
+    // or reloaded in full, and citing the events as reasons for the change.
+    private void buildTopology(List<Event> reasons, boolean reload) {
         if (isStarted) {
-            GraphDescription desc =
-                    new DefaultGraphDescription(System.nanoTime(),
-                                                System.currentTimeMillis(),
-                                                deviceService.getAvailableDevices(),
-                                                linkService.getActiveLinks());
+            com.codahale.metrics.Timer.Context timer = startTimer(buildTimer);
+            if (reload) {
+                graph.reset(deviceService.getAvailableDevices(),
+                            linkService.getActiveLinks());
+            } else {
+                reasons.forEach(this::applyEvent);
+            }
+            GraphDescription desc = graph.describe(System.nanoTime(),
+                                                   System.currentTimeMillis());
             providerService.topologyChanged(desc, reasons);
+            stopTimer(timer);
+            recordStaleness(reasons);
+        }
+    }
+
+    // Applies the device or link change of an event to the graph
+    private void applyEvent(Event event) {
+        if (event instanceof DeviceEvent) {
+            DeviceEvent deviceEvent = (DeviceEvent) event;
+            DeviceId deviceId = deviceEvent.subject().id();
+            if (deviceEvent.type() == DEVICE_REMOVED || !deviceService.isAvailable(deviceId)) {
+                graph.removeDevice(deviceId);
+            } else {
+                graph.addDevice(deviceId);
+            }
+        } else if (event instanceof LinkEvent) {
+            LinkEvent linkEvent = (LinkEvent) event;
+            Link link = linkEvent.subject();
+            if (linkEvent.type() == LINK_REMOVED || link.state() != Link.State.ACTIVE) {
+                graph.removeLink(link);
+            } else {
+                graph.addLink(link);
+            }
+        }
+    }
+
+    // Records how long ago the oldest of the events took place
+    private void recordStaleness(List<Event> reasons) {
+        if (stalenessTimer != null && !reasons.isEmpty()) {
+            long oldest = reasons.stream().mapToLong(Event::time).min().getAsLong();
+            stalenessTimer.update(System.currentTimeMillis() - oldest, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -230,7 +301,7 @@ public class DefaultTopologyProvider extends AbstractProvider
         if (accumulator != null) {
             accumulator.add(event);
         } else {
-            triggerTopologyBuild(ImmutableList.of(event));
+            triggerTopologyBuild(ImmutableList.of(event), false);
         }
     }
 
@@ -262,24 +333,34 @@ public class DefaultTopologyProvider extends AbstractProvider
 
         @Override
         public void processItems(List<Event> items) {
-            triggerTopologyBuild(items);
+            triggerTopologyBuild(items, false);
+        }
+
+        @Override
+        public boolean isReady() {
+            // Hold the batch open until the graph of the previous one is built
+            return pendingBuilds.get() == 0;
         }
     }
 
     // Task for building topology data in a separate thread.
     private class TopologyBuilderTask implements Runnable {
         private final List<Event> reasons;
+        private final boolean reload;
 
-        public TopologyBuilderTask(List<Event> reasons) {
+        public TopologyBuilderTask(List<Event> reasons, boolean reload) {
             this.reasons = reasons;
+            this.reload = reload;
         }
 
         @Override
         public void run() {
             try {
-                buildTopology(reasons);
+                buildTopology(reasons, reload);
             } catch (Exception e) {
                 log.warn("Unable to compute topology", e);
+            } finally {
+                pendingBuilds.decrementAndGet();
             }
         }
     }
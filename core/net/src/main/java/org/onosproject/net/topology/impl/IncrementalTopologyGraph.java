@@ -0,0 +1,208 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.topology.impl;
+
+import static org.onosproject.net.LinkKey.linkKey;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.onosproject.net.AbstractDescription;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.net.LinkKey;
+import org.onosproject.net.topology.DefaultTopologyEdge;
+import org.onosproject.net.topology.DefaultTopologyVertex;
+import org.onosproject.net.topology.GraphDescription;
+import org.onosproject.net.topology.TopologyEdge;
+import org.onosproject.net.topology.TopologyVertex;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Topology graph maintained in place from device and link changes, from
+ * which immutable graph descriptions are taken.
+ * <p>
+ * A description shares the vertexes and edges that did not change since the
+ * previous one was taken, and the vertex or edge set itself when none of its
+ * members changed. As with a description built from scratch, a link is an
+ * edge of the graph only while both of its devices are vertexes.
+ * </p>
+ */
+final class IncrementalTopologyGraph {
+
+    private final Map<DeviceId, TopologyVertex> vertexes = new HashMap<>();
+    private final Map<LinkKey, Link> links = new HashMap<>();
+    private final SetMultimap<DeviceId, LinkKey> linksByDevice = HashMultimap.create();
+    private final Map<LinkKey, TopologyEdge> edges = new HashMap<>();
+
+    private ImmutableSet<TopologyVertex> vertexSnapshot = ImmutableSet.of();
+    private ImmutableSet<TopologyEdge> edgeSnapshot = ImmutableSet.of();
+    private boolean vertexesChanged;
+    private boolean edgesChanged;
+
+    /**
+     * Replaces the whole graph with the given devices and links.
+     *
+     * @param availableDevices available infrastructure devices
+     * @param activeLinks      active infrastructure links
+     */
+    synchronized void reset(Iterable<Device> availableDevices, Iterable<Link> activeLinks) {
+        vertexes.clear();
+        links.clear();
+        linksByDevice.clear();
+        edges.clear();
+        vertexesChanged = true;
+        edgesChanged = true;
+        availableDevices.forEach(device -> addDevice(device.id()));
+        activeLinks.forEach(this::addLink);
+    }
+
+    /**
+     * Adds the vertex of a device, along with the edges of its links whose
+     * other device is a vertex.
+     *
+     * @param deviceId device identifier
+     */
+    synchronized void addDevice(DeviceId deviceId) {
+        if (vertexes.containsKey(deviceId)) {
+            return;
+        }
+        vertexes.put(deviceId, new DefaultTopologyVertex(deviceId));
+        vertexesChanged = true;
+        linksByDevice.get(deviceId).forEach(key -> addEdge(key, links.get(key)));
+    }
+
+    /**
+     * Removes the vertex of a device and the edges of its links. The links
+     * are kept, to become edges again if the device comes back.
+     *
+     * @param deviceId device identifier
+     */
+    synchronized void removeDevice(DeviceId deviceId) {
+        if (vertexes.remove(deviceId) == null) {
+            return;
+        }
+        vertexesChanged = true;
+        linksByDevice.get(deviceId).forEach(key -> {
+            if (edges.remove(key) != null) {
+                edgesChanged = true;
+            }
+        });
+    }
+
+    /**
+     * Adds or replaces a link, and its edge if both of its devices are
+     * vertexes.
+     *
+     * @param link infrastructure link
+     */
+    synchronized void addLink(Link link) {
+        LinkKey key = linkKey(link);
+        links.put(key, link);
+        linksByDevice.put(link.src().deviceId(), key);
+        linksByDevice.put(link.dst().deviceId(), key);
+        addEdge(key, link);
+    }
+
+    /**
+     * Removes a link and its edge.
+     *
+     * @param link infrastructure link
+     */
+    synchronized void removeLink(Link link) {
+        LinkKey key = linkKey(link);
+        if (links.remove(key) == null) {
+            return;
+        }
+        linksByDevice.remove(link.src().deviceId(), key);
+        linksByDevice.remove(link.dst().deviceId(), key);
+        if (edges.remove(key) != null) {
+            edgesChanged = true;
+        }
+    }
+
+    /**
+     * Returns an immutable description of the current graph.
+     *
+     * @param nanos  time in nanos of when the description is taken
+     * @param millis time in millis of when the description is taken
+     * @return graph description
+     */
+    synchronized GraphDescription describe(long nanos, long millis) {
+        if (vertexesChanged) {
+            vertexSnapshot = ImmutableSet.copyOf(vertexes.values());
+            vertexesChanged = false;
+        }
+        if (edgesChanged) {
+            edgeSnapshot = ImmutableSet.copyOf(edges.values());
+            edgesChanged = false;
+        }
+        return new Snapshot(nanos, millis, vertexSnapshot, edgeSnapshot);
+    }
+
+    // Adds the edge of a link if both of its devices are vertexes
+    private void addEdge(LinkKey key, Link link) {
+        TopologyVertex src = vertexes.get(link.src().deviceId());
+        TopologyVertex dst = vertexes.get(link.dst().deviceId());
+        if (src != null && dst != null) {
+            edges.put(key, new DefaultTopologyEdge(src, dst, link));
+            edgesChanged = true;
+        }
+    }
+
+    // Immutable graph description sharing the sets of the graph
+    private static final class Snapshot extends AbstractDescription
+            implements GraphDescription {
+
+        private final long nanos;
+        private final long creationTime;
+        private final ImmutableSet<TopologyVertex> vertexes;
+        private final ImmutableSet<TopologyEdge> edges;
+
+        private Snapshot(long nanos, long creationTime,
+                         ImmutableSet<TopologyVertex> vertexes,
+                         ImmutableSet<TopologyEdge> edges) {
+            this.nanos = nanos;
+            this.creationTime = creationTime;
+            this.vertexes = vertexes;
+            this.edges = edges;
+        }
+
+        @Override
+        public long timestamp() {
+            return nanos;
+        }
+
+        @Override
+        public long creationTime() {
+            return creationTime;
+        }
+
+        @Override
+        public ImmutableSet<TopologyVertex> vertexes() {
+            return vertexes;
+        }
+
+        @Override
+        public ImmutableSet<TopologyEdge> edges() {
+            return edges;
+        }
+    }
+}
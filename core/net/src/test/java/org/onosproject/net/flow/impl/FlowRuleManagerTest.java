@@ -17,6 +17,7 @@ package org.onosproject.net.flow.impl;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -25,6 +26,7 @@ import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.onlab.junit.TestUtils;
 import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.core.ApplicationId;
 import org.onosproject.core.CoreServiceAdapter;
@@ -46,9 +48,12 @@ import org.onosproject.net.flow.DefaultFlowRule;
 import org.onosproject.net.flow.FlowEntry;
 import org.onosproject.net.flow.FlowEntry.FlowEntryState;
 import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleBatchEntry;
 import org.onosproject.net.flow.FlowRuleBatchOperation;
+import org.onosproject.net.flow.FlowRuleBulkResult;
 import org.onosproject.net.flow.FlowRuleEvent;
 import org.onosproject.net.flow.FlowRuleListener;
+import org.onosproject.net.flow.FlowRuleOperation;
 import org.onosproject.net.flow.FlowRuleProvider;
 import org.onosproject.net.flow.FlowRuleProviderRegistry;
 import org.onosproject.net.flow.FlowRuleProviderService;
@@ -70,6 +75,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -377,6 +383,66 @@ public class FlowRuleManagerTest {
 
     }
 
+    /*
+     * Tests that a device found out of sync while a corrective batch is
+     * outstanding is reconciled again once that batch completes.
+     */
+    @Test
+    public void deferredCorrections() {
+        FlowRule f1 = flowRule(1, 1);
+        mgr.applyFlowRules(f1);
+        FlowEntry fe1 = new DefaultFlowEntry(f1);
+        FlowEntry fe2 = new DefaultFlowEntry(flowRule(2, 2));
+        FlowEntry fe3 = new DefaultFlowEntry(flowRule(3, 3));
+
+        int sent = provider.batches.size();
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(fe1, fe2));
+        assertEquals("corrections should be sent", sent + 1, provider.batches.size());
+        FlowRuleBatchOperation first = provider.batches.get(sent);
+        assertEquals(1, first.size());
+
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(fe1, fe2, fe3));
+        assertEquals("corrections should be deferred", sent + 1, provider.batches.size());
+
+        providerService.batchOperationCompleted(
+                first.id(), new CompletedBatchOperation(true, Collections.emptySet(), DID));
+        assertEquals("deferred corrections should be sent", sent + 2, provider.batches.size());
+        FlowRuleBatchOperation second = provider.batches.get(sent + 1);
+        assertEquals("in-flight corrections should not be repeated", 1, second.size());
+        assertEquals(fe3, second.getOperations().get(0).target());
+    }
+
+    /*
+     * Tests that the corrections sent once a corrective batch completes are
+     * worked out against the store as it is then.
+     */
+    @Test
+    public void staleCorrections() {
+        FlowRule f1 = flowRule(1, 1);
+        FlowRule f2 = flowRule(2, 2);
+        mgr.applyFlowRules(f1);
+        FlowEntry fe1 = new DefaultFlowEntry(f1);
+
+        int sent = provider.batches.size();
+        providerService.pushFlowMetrics(DID, Collections.emptyList());
+        assertEquals("corrections should be sent", sent + 1, provider.batches.size());
+        FlowRuleBatchOperation first = provider.batches.get(sent);
+
+        // the device has yet to get a rule that is withdrawn before the batch completes
+        mgr.applyFlowRules(f2);
+        providerService.pushFlowMetrics(DID, Lists.newArrayList(fe1));
+        mgr.removeFlowRules(f2);
+
+        sent = provider.batches.size();
+        providerService.batchOperationCompleted(
+                first.id(), new CompletedBatchOperation(true, Collections.emptySet(), DID));
+        assertEquals("device should be reconciled again", sent + 1, provider.batches.size());
+        FlowRuleBatchOperation second = provider.batches.get(sent);
+        assertFalse("withdrawn rule should not be added back",
+                    second.getOperations().stream().anyMatch(
+                            op -> op.operator() == FlowRuleBatchEntry.FlowRuleOperation.ADD));
+    }
+
     @Test
     public void getByAppId() {
         FlowRule f1 = flowRule(1, 1);
@@ -403,6 +469,65 @@ public class FlowRuleManagerTest {
                 f2, FlowEntryState.PENDING_REMOVE));
     }
 
+    @Test
+    public void applyBulk() {
+        List<FlowRuleOperation> ops = Lists.newArrayList();
+        for (int i = 0; i < 4500; i++) {
+            ops.add(new FlowRuleOperation(flowRule(i, i), FlowRuleOperation.Type.ADD));
+        }
+        List<Integer> progress = Lists.newArrayList();
+        CompletableFuture<FlowRuleBulkResult> future =
+                service.applyBulk(ops, (deviceId, completed, total, failures) -> progress.add(completed));
+
+        assertEquals("windows in flight should be bounded", 4, provider.batches.size());
+        assertEquals("only windows sent should be stored", 4000, flowCount());
+
+        FlowRuleBatchOperation first = provider.batches.get(0);
+        providerService.batchOperationCompleted(
+                first.id(), new CompletedBatchOperation(true, Collections.emptySet(), DID));
+        assertEquals("next window should be sent", 5, provider.batches.size());
+        assertEquals(500, provider.batches.get(4).size());
+
+        FlowRule failed = provider.batches.get(1).getOperations().get(0).target();
+        providerService.batchOperationCompleted(
+                provider.batches.get(1).id(),
+                new CompletedBatchOperation(false, Collections.singleton(failed), DID));
+        for (int i = 2; i < 5; i++) {
+            assertFalse("bulk operation should be in progress", future.isDone());
+            providerService.batchOperationCompleted(
+                    provider.batches.get(i).id(),
+                    new CompletedBatchOperation(true, Collections.emptySet(), DID));
+        }
+
+        assertEquals(ImmutableList.of(1000, 2000, 3000, 4000, 4500), progress);
+        FlowRuleBulkResult result = future.join();
+        assertFalse("bulk operation should have failed", result.isSuccess());
+        assertEquals(4500, result.total());
+        assertEquals(ImmutableSet.of(failed), result.failures().get(DID));
+    }
+
+    @Test
+    public void applyBulkTimeout() throws Exception {
+        TestUtils.setField(mgr, "bulkWindowTimeout", 1);
+
+        List<FlowRuleOperation> ops = Lists.newArrayList();
+        for (int i = 0; i < 2500; i++) {
+            ops.add(new FlowRuleOperation(flowRule(i, i), FlowRuleOperation.Type.ADD));
+        }
+        CompletableFuture<FlowRuleBulkResult> future = service.applyBulk(ops, null);
+        assertEquals(3, provider.batches.size());
+
+        // The device acknowledges its first window and then goes silent
+        providerService.batchOperationCompleted(
+                provider.batches.get(0).id(),
+                new CompletedBatchOperation(true, Collections.emptySet(), DID));
+
+        FlowRuleBulkResult result = future.get(5, TimeUnit.SECONDS);
+        assertFalse("bulk operation should have failed", result.isSuccess());
+        assertEquals(ImmutableSet.of(DID), result.timedOut());
+        assertEquals("unacknowledged operations should fail", 1500, result.failureCount());
+    }
+
     private static class TestListener implements FlowRuleListener {
         final List<FlowRuleEvent> events = new ArrayList<>();
 
@@ -477,9 +602,11 @@ public class FlowRuleManagerTest {
         public void removeRulesById(ApplicationId id, FlowRule... flowRules) {
         }
 
+        final List<FlowRuleBatchOperation> batches = Lists.newArrayList();
+
         @Override
         public void executeBatch(FlowRuleBatchOperation batch) {
-         // TODO: need to call batchOperationComplete
+            batches.add(batch);
         }
 
         private class TestInstallationFuture
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flow.impl;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.onosproject.core.DefaultApplicationId;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.flow.DefaultFlowEntry;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.net.flow.FlowRule;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Test of the flow table digest.
+ */
+public class FlowTableDigestTest {
+
+    private static final DeviceId DID = DeviceId.deviceId("of:001");
+
+    private FlowRule rule(int table, int inPort, int outPort) {
+        return DefaultFlowRule.builder()
+                .forDevice(DID)
+                .forTable(table)
+                .withSelector(DefaultTrafficSelector.builder()
+                                      .matchInPort(PortNumber.portNumber(inPort)).build())
+                .withTreatment(DefaultTrafficTreatment.builder()
+                                       .setOutput(PortNumber.portNumber(outPort)).build())
+                .withPriority(10)
+                .fromApp(new DefaultApplicationId(1, "digest"))
+                .makePermanent()
+                .build();
+    }
+
+    @Test
+    public void orderIndependent() {
+        FlowRule r1 = rule(0, 1, 2);
+        FlowRule r2 = rule(0, 2, 1);
+        FlowRule r3 = rule(1, 3, 4);
+        Map<Integer, FlowTableDigest> a = FlowTableDigest.digest(ImmutableList.of(r1, r2, r3));
+        Map<Integer, FlowTableDigest> b = FlowTableDigest.digest(ImmutableList.of(r3, r2, r1));
+        assertEquals(a, b);
+        assertEquals(2, a.get(0).count());
+        assertEquals(1, a.get(1).count());
+    }
+
+    @Test
+    public void statsIgnored() {
+        FlowRule r1 = rule(0, 1, 2);
+        FlowEntry stored = new DefaultFlowEntry(r1, FlowEntry.FlowEntryState.ADDED, 10, 100, 1000);
+        FlowEntry reported = new DefaultFlowEntry(r1, FlowEntry.FlowEntryState.ADDED, 20, 200, 2000);
+        assertEquals(FlowTableDigest.digest(ImmutableList.of(stored)),
+                     FlowTableDigest.digest(ImmutableList.of(reported)));
+    }
+
+    @Test
+    public void treatmentChangeDetected() {
+        Map<Integer, FlowTableDigest> a = FlowTableDigest.digest(
+                ImmutableList.of(rule(0, 1, 2), rule(1, 3, 4)));
+        Map<Integer, FlowTableDigest> b = FlowTableDigest.digest(
+                ImmutableList.of(rule(0, 1, 3), rule(1, 3, 4)));
+        assertNotEquals(a.get(0), b.get(0));
+        assertEquals(a.get(1), b.get(1));
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.net.flowobjective.impl;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.junit.TestUtils;
+import org.onlab.junit.TestUtils.TestUtilsException;
+import org.onlab.metrics.MetricsManager;
+import org.onosproject.mastership.MastershipServiceAdapter;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.behaviour.NextGroup;
+import org.onosproject.net.behaviour.Pipeliner;
+import org.onosproject.net.behaviour.PipelinerContext;
+import org.onosproject.net.device.DeviceEvent;
+import org.onosproject.net.device.DeviceListener;
+import org.onosproject.net.device.DeviceServiceAdapter;
+import org.onosproject.net.driver.AbstractHandlerBehaviour;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flowobjective.DefaultForwardingObjective;
+import org.onosproject.net.flowobjective.FilteringObjective;
+import org.onosproject.net.flowobjective.FlowObjectiveStore;
+import org.onosproject.net.flowobjective.FlowObjectiveStoreDelegate;
+import org.onosproject.net.flowobjective.ForwardingObjective;
+import org.onosproject.net.flowobjective.NextObjective;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveContext;
+import org.onosproject.net.flowobjective.ObjectiveError;
+import org.onosproject.net.flowobjective.ObjectiveEvent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.onlab.junit.TestTools.assertAfter;
+import static org.onlab.junit.TestTools.delay;
+import static org.onosproject.net.NetTestTools.APP_ID;
+import static org.onosproject.net.NetTestTools.device;
+import static org.onosproject.net.NetTestTools.did;
+import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_REMOVED;
+
+/**
+ * Tests of the per-device flow objective queues of the flow objective manager.
+ */
+public class FlowObjectiveManagerTest {
+
+    private static final DeviceId DID = did("a");
+    private static final String SUCCESS = "success";
+
+    private FlowObjectiveManager manager;
+    private MetricsManager metricsService;
+    private TestDeviceService deviceService;
+    private TestPipeliner pipeliner;
+    private Map<DeviceId, Pipeliner> pipeliners;
+
+    @Before
+    public void setUp() throws TestUtilsException {
+        manager = new FlowObjectiveManager();
+        metricsService = new MetricsManager();
+        deviceService = new TestDeviceService();
+        manager.metricsService = metricsService;
+        manager.deviceService = deviceService;
+        manager.mastershipService = new MastershipServiceAdapter();
+        manager.flowObjectiveStore = new TestFlowObjectiveStore();
+        manager.activate();
+        pipeliner = new TestPipeliner();
+        pipeliners = TestUtils.getField(manager, "pipeliners");
+    }
+
+    @After
+    public void tearDown() {
+        manager.deactivate();
+    }
+
+    private void addPipeliner(DeviceId deviceId, Pipeliner pipeliner) {
+        pipeliners.put(deviceId, pipeliner);
+    }
+
+    private ForwardingObjective forward(int priority, ObjectiveContext context) {
+        return DefaultForwardingObjective.builder()
+                .withSelector(DefaultTrafficSelector.emptySelector())
+                .withTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .withFlag(ForwardingObjective.Flag.VERSATILE)
+                .withPriority(priority)
+                .fromApp(APP_ID)
+                .makePermanent()
+                .add(context);
+    }
+
+    private ForwardingObjective forward(int priority) {
+        return forward(priority, new ObjectiveContext() { });
+    }
+
+    private ForwardingObjective forward(int priority, int nextId) {
+        return DefaultForwardingObjective.builder()
+                .withSelector(DefaultTrafficSelector.emptySelector())
+                .nextStep(nextId)
+                .withFlag(ForwardingObjective.Flag.VERSATILE)
+                .withPriority(priority)
+                .fromApp(APP_ID)
+                .makePermanent()
+                .add();
+    }
+
+    private boolean hasLatencyMetric(DeviceId deviceId) {
+        return metricsService.getMetrics().keySet().stream()
+                .anyMatch(name -> name.endsWith(deviceId.toString()));
+    }
+
+    @Test
+    public void inOrder() {
+        addPipeliner(DID, pipeliner);
+        List<Objective> submitted = Lists.newArrayList();
+        for (int i = 0; i < 500; i++) {
+            ForwardingObjective objective = forward(i + 1);
+            submitted.add(objective);
+            manager.forward(DID, objective);
+        }
+
+        assertAfter(2000, () -> assertEquals(500, pipeliner.installed().size()));
+        assertEquals("objectives should be installed in order", submitted, pipeliner.installed());
+        assertEquals("objectives of a device should not be installed concurrently",
+                     1, pipeliner.maxConcurrency.get());
+        assertTrue("batches should be bounded", pipeliner.maxBatch.get() <= 128);
+    }
+
+    @Test
+    public void retry() {
+        manager.forward(DID, forward(1));
+        delay(200);
+        assertTrue("objective should wait for the pipeliner", pipeliner.installed().isEmpty());
+
+        addPipeliner(DID, pipeliner);
+        assertAfter(2000, () -> assertEquals(Collections.singletonList(1), pipeliner.priorities()));
+    }
+
+    @Test
+    public void retryExhausted() {
+        AtomicReference<ObjectiveError> error = new AtomicReference<>();
+        manager.forward(DID, forward(1, new ObjectiveContext() {
+            @Override
+            public void onError(Objective objective, ObjectiveError e) {
+                error.set(e);
+            }
+        }));
+        assertAfter(6000, () -> assertEquals(ObjectiveError.DEVICEMISSING, error.get()));
+    }
+
+    @Test
+    public void metricsRemoved() {
+        DeviceId other = did("b");
+        addPipeliner(DID, pipeliner);
+        addPipeliner(other, pipeliner);
+        manager.forward(DID, forward(1));
+        manager.forward(other, forward(2));
+        assertAfter(2000, () -> assertEquals(2, pipeliner.installed().size()));
+        assertTrue(hasLatencyMetric(DID));
+        assertTrue(hasLatencyMetric(other));
+
+        deviceService.listener.event(new DeviceEvent(DEVICE_REMOVED, device("a")));
+        assertFalse("metric of a removed device should be removed", hasLatencyMetric(DID));
+        assertTrue(hasLatencyMetric(other));
+
+        manager.deactivate();
+        assertTrue("metrics should be removed on deactivation",
+                   metricsService.getMetrics().isEmpty());
+        manager.activate();
+    }
+
+    @Test
+    public void removedWhileInstalling() throws TestUtilsException {
+        BlockingPipeliner blocking = new BlockingPipeliner();
+        addPipeliner(DID, blocking);
+        manager.forward(DID, forward(1));
+        assertAfter(2000, () -> assertEquals(1, blocking.blocked.getCount()));
+
+        deviceService.listener.event(new DeviceEvent(DEVICE_REMOVED, device("a")));
+        manager.forward(DID, forward(2));
+        Map<DeviceId, ?> queues = TestUtils.getField(manager, "objectiveQueues");
+        assertTrue("queue should be kept while installing", queues.containsKey(DID));
+
+        blocking.release.countDown();
+        assertAfter(2000, () -> assertEquals(2, blocking.installed().size()));
+        assertEquals(Lists.newArrayList(1, 2), blocking.priorities());
+        assertEquals("objectives of a device should not be installed concurrently",
+                     1, ((TestPipeliner) blocking).maxConcurrency.get());
+        assertAfter(2000, () -> assertFalse("queue should be dropped once idle",
+                                            queues.containsKey(DID)));
+    }
+
+    @Test
+    public void pendingAtHead() throws TestUtilsException {
+        BlockingPipeliner blocking = new BlockingPipeliner();
+        addPipeliner(DID, blocking);
+        manager.forward(DID, forward(1, 7));
+        manager.forward(DID, forward(2, 7));
+        manager.forward(DID, forward(3));
+        assertAfter(2000, () -> assertEquals(1, blocking.blocked.getCount()));
+        manager.forward(DID, forward(4));
+
+        // The next objective shows up while the device queue is busy
+        manager.flowObjectiveStore.putNextGroup(7, () -> new byte[0]);
+        FlowObjectiveStoreDelegate delegate = TestUtils.getField(manager, "delegate");
+        delegate.notify(new ObjectiveEvent(ObjectiveEvent.Type.ADD, 7));
+
+        blocking.release.countDown();
+        assertAfter(2000, () -> assertEquals(4, blocking.installed().size()));
+        assertEquals("pending objectives should go ahead of later ones, in order",
+                     Lists.newArrayList(3, 1, 2, 4), blocking.priorities());
+    }
+
+    @Test
+    public void objectiveThrows() {
+        // The default batch isolates the objective at fault
+        addPipeliner(DID, new TestPipeliner() {
+            @Override
+            public synchronized void forward(ForwardingObjective forwardObjective) {
+                if (forwardObjective.priority() == 2) {
+                    throw new IllegalStateException("test");
+                }
+                super.forward(forwardObjective);
+                forwardObjective.context().ifPresent(c -> c.onSuccess(forwardObjective));
+            }
+        });
+        TestContext context = new TestContext();
+        List<ForwardingObjective> objectives = Lists.newArrayList();
+        for (int i = 1; i <= 3; i++) {
+            ForwardingObjective objective = forward(i, context);
+            objectives.add(objective);
+            manager.forward(DID, objective);
+        }
+
+        assertAfter(2000, () -> assertEquals(3, context.reports.size()));
+        assertEquals(ObjectiveError.UNKNOWN, context.reports.get(objectives.get(1)));
+        assertEquals(SUCCESS, context.reports.get(objectives.get(0)));
+        assertEquals(SUCCESS, context.reports.get(objectives.get(2)));
+    }
+
+    @Test
+    public void batchThrows() {
+        // A pipeliner giving up on the batch after accepting its first objective
+        addPipeliner(DID, new TestPipeliner() {
+            @Override
+            public void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+                Objective first = objectives.get(0);
+                accepted.accept(first);
+                first.context().ifPresent(c -> c.onSuccess(first));
+                throw new IllegalStateException("test");
+            }
+        });
+        TestContext context = new TestContext();
+        List<ForwardingObjective> objectives = Lists.newArrayList();
+        for (int i = 1; i <= 3; i++) {
+            ForwardingObjective objective = forward(i, context);
+            objectives.add(objective);
+            manager.forward(DID, objective);
+        }
+
+        assertAfter(2000, () -> assertEquals(3, context.reports.size()));
+        assertEquals("objectives should be reported once", 3, context.count.get());
+        assertEquals(SUCCESS, context.reports.get(objectives.get(0)));
+        assertEquals(ObjectiveError.UNKNOWN, context.reports.get(objectives.get(1)));
+        assertEquals(ObjectiveError.UNKNOWN, context.reports.get(objectives.get(2)));
+    }
+
+    // Context recording the outcome reported for each objective
+    private static class TestContext implements ObjectiveContext {
+        private final Map<Objective, Object> reports = Maps.newConcurrentMap();
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void onSuccess(Objective objective) {
+            count.incrementAndGet();
+            reports.put(objective, SUCCESS);
+        }
+
+        @Override
+        public void onError(Objective objective, ObjectiveError error) {
+            count.incrementAndGet();
+            reports.put(objective, error);
+        }
+    }
+
+    // Pipeliner recording the objectives it is handed
+    private static class TestPipeliner extends AbstractHandlerBehaviour implements Pipeliner {
+        private final List<Objective> installed = Lists.newArrayList();
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final AtomicInteger maxBatch = new AtomicInteger();
+
+        synchronized List<Objective> installed() {
+            return Lists.newArrayList(installed);
+        }
+
+        synchronized List<Integer> priorities() {
+            return installed.stream().map(Objective::priority).collect(Collectors.toList());
+        }
+
+        @Override
+        public void init(DeviceId deviceId, PipelinerContext context) {
+        }
+
+        @Override
+        public void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            maxBatch.accumulateAndGet(objectives.size(), Math::max);
+            delay(1);
+            Pipeliner.super.batch(objectives, accepted);
+            concurrency.decrementAndGet();
+        }
+
+        @Override
+        public synchronized void filter(FilteringObjective filterObjective) {
+            installed.add(filterObjective);
+        }
+
+        @Override
+        public synchronized void forward(ForwardingObjective forwardObjective) {
+            installed.add(forwardObjective);
+        }
+
+        @Override
+        public synchronized void next(NextObjective nextObjective) {
+            installed.add(nextObjective);
+        }
+    }
+
+    // Pipeliner holding up the first batch until released
+    private static class BlockingPipeliner extends TestPipeliner {
+        private final CountDownLatch blocked = new CountDownLatch(2);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+            blocked.countDown();
+            if (blocked.getCount() == 1) {
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            super.batch(objectives, accepted);
+        }
+    }
+
+    private static class TestDeviceService extends DeviceServiceAdapter {
+        private DeviceListener listener;
+
+        @Override
+        public void addListener(DeviceListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static class TestFlowObjectiveStore implements FlowObjectiveStore {
+        private final Map<Integer, NextGroup> nextGroups = Maps.newConcurrentMap();
+        private final AtomicInteger nextId = new AtomicInteger();
+
+        @Override
+        public void putNextGroup(Integer nextId, NextGroup group) {
+            nextGroups.put(nextId, group);
+        }
+
+        @Override
+        public NextGroup getNextGroup(Integer nextId) {
+            return nextGroups.get(nextId);
+        }
+
+        @Override
+        public int allocateNextId() {
+            return nextId.incrementAndGet();
+        }
+
+        @Override
+        public void setDelegate(FlowObjectiveStoreDelegate delegate) {
+        }
+
+        @Override
+        public void unsetDelegate(FlowObjectiveStoreDelegate delegate) {
+        }
+
+        @Override
+        public boolean hasDelegate() {
+            return false;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.onosproject.cfg.ComponentConfigAdapter;
 import org.onosproject.event.Event;
 import org.onosproject.common.event.impl.TestEventDispatcher;
 import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
 import org.onosproject.net.Link;
 import org.onosproject.net.device.DeviceEvent;
 import org.onosproject.net.device.impl.DeviceManager;
@@ -38,15 +39,18 @@ import org.onosproject.net.topology.TopologyProviderService;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
 
 import static org.junit.Assert.*;
 import static org.hamcrest.Matchers.*;
 import static org.onosproject.net.NetTestTools.device;
 import static org.onosproject.net.NetTestTools.link;
 import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_ADDED;
+import static org.onosproject.net.device.DeviceEvent.Type.DEVICE_REMOVED;
 import static org.onosproject.net.link.LinkEvent.Type.LINK_ADDED;
 
 /**
@@ -104,9 +108,49 @@ public class DefaultTopologyProviderTest {
         linkService.postEvent(new LinkEvent(LINK_ADDED, link("z", 1, "a", 4)));
         assertThat(topologyChangedCounts.awaitAdvanceInterruptibly(1, 1, TimeUnit.SECONDS),
                 is(greaterThanOrEqualTo(2)));
-        // Note: posting event, to trigger topologyChanged call,
-        // but dummy topology will not change.
+        // The graph is updated from the events rather than read back
+        // from the dummy services.
+        awaitGraph(7, 11);
+    }
+
+    @Test
+    public void deviceRemoved() throws InterruptedException, TimeoutException {
+        assertEquals(1, topologyChangedCounts.awaitAdvanceInterruptibly(0, 1, TimeUnit.SECONDS));
+        validateSubmission();
+
+        deviceService.postEvent(new DeviceEvent(DEVICE_REMOVED, device("f"), null));
+        awaitGraph(5, 8);
+    }
+
+    @Test
+    public void fullBatchDuringBuild() throws InterruptedException, TimeoutException {
+        assertEquals(1, topologyChangedCounts.awaitAdvanceInterruptibly(0, 1, TimeUnit.SECONDS));
         validateSubmission();
+
+        // Hold the next build until a full batch has accumulated behind it
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        providerService.building = building;
+        providerService.release = release;
+        deviceService.postEvent(new DeviceEvent(DEVICE_ADDED, device("z"), null));
+        assertTrue("build should start", building.await(1, TimeUnit.SECONDS));
+
+        IntStream.range(0, 1000).forEach(i -> deviceService.postEvent(
+                new DeviceEvent(DEVICE_ADDED, device("n" + i), null)));
+        release.countDown();
+
+        // No further events arrive, yet the full batch must still be built
+        awaitGraph(1007, 10);
+    }
+
+    // Waits for a topology change with the given vertex and edge counts
+    private void awaitGraph(int vertexCount, int edgeCount)
+            throws InterruptedException, TimeoutException {
+        int phase = topologyChangedCounts.getPhase();
+        while (providerService.graphDesc.vertexes().size() != vertexCount ||
+                providerService.graphDesc.edges().size() != edgeCount) {
+            phase = topologyChangedCounts.awaitAdvanceInterruptibly(phase, 1, TimeUnit.SECONDS);
+        }
     }
 
 
@@ -131,7 +175,9 @@ public class DefaultTopologyProviderTest {
     private class TestTopoProviderService
             extends AbstractProviderService<TopologyProvider>
             implements TopologyProviderService {
-        GraphDescription graphDesc;
+        volatile GraphDescription graphDesc;
+        volatile CountDownLatch building;
+        volatile CountDownLatch release;
 
         protected TestTopoProviderService(TopologyProvider provider) {
             super(provider);
@@ -139,6 +185,16 @@ public class DefaultTopologyProviderTest {
 
         @Override
         public void topologyChanged(GraphDescription graphDescription, List<Event> reasons) {
+            CountDownLatch gate = release;
+            if (gate != null) {
+                release = null;
+                building.countDown();
+                try {
+                    gate.await(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
             graphDesc = graphDescription;
             topologyChangedCounts.arrive();
         }
@@ -162,6 +218,11 @@ public class DefaultTopologyProviderTest {
             return getDevices();
         }
 
+        @Override
+        public boolean isAvailable(DeviceId deviceId) {
+            return true;
+        }
+
         void postEvent(DeviceEvent event) {
             eventDispatcher.post(event);
         }
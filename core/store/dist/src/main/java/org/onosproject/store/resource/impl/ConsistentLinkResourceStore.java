@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -32,6 +31,7 @@ import org.apache.felix.scr.annotations.Service;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Deactivate;
 import org.onlab.util.Bandwidth;
+import org.onlab.util.KryoNamespace;
 import org.onosproject.net.OmsPort;
 import org.onosproject.net.device.DeviceService;
 import org.slf4j.Logger;
@@ -84,13 +84,15 @@ public class ConsistentLinkResourceStore extends
 
     private final Logger log = getLogger(getClass());
 
+    private static final Set<ResourceType> POOLED_TYPES =
+            ImmutableSet.of(ResourceType.LAMBDA, ResourceType.MPLS_LABEL);
+
     private static final BandwidthResource DEFAULT_BANDWIDTH = new BandwidthResource(Bandwidth.mbps(1_000));
-    private static final BandwidthResource EMPTY_BW = new BandwidthResource(Bandwidth.bps(0));
 
     // Smallest non-reserved MPLS label
     private static final int MIN_UNRESERVED_LABEL = 0x10;
-    // Max non-reserved MPLS label = 239
-    private static final int MAX_UNRESERVED_LABEL = 0xEF;
+    // Max non-reserved MPLS label
+    private static final int MAX_UNRESERVED_LABEL = org.onlab.packet.MplsLabel.MAX_MPLS;
 
     // table to store current allocations
     /** LinkKey -> List<LinkResourceAllocations>. */
@@ -99,10 +101,23 @@ public class ConsistentLinkResourceStore extends
     /** IntentId -> LinkResourceAllocations. */
     private static final String INTENT_ALLOCATIONS = "LinkIntentAllocations";
 
-    private static final Serializer SERIALIZER = Serializer.using(KryoNamespaces.API);
+    /** LinkKey -> ResourcePool of lambdas. */
+    private static final String LINK_LAMBDA_POOLS = "LinkLambdaPools";
+
+    /** LinkKey -> ResourcePool of MPLS labels. */
+    private static final String LINK_MPLS_LABEL_POOLS = "LinkMplsLabelPools";
+
+    private static final Serializer SERIALIZER = Serializer.using(
+            KryoNamespace.newBuilder()
+                    .register(KryoNamespaces.API)
+                    .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
+                    .register(new ResourcePoolSerializer(), ResourcePool.class)
+                    .build());
 
     // for reading committed values.
     private ConsistentMap<IntentId, LinkResourceAllocations> intentAllocMap;
+    private ConsistentMap<LinkKey, ResourcePool> lambdaPoolMap;
+    private ConsistentMap<LinkKey, ResourcePool> mplsLabelPoolMap;
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected StorageService storageService;
@@ -119,6 +134,14 @@ public class ConsistentLinkResourceStore extends
                 .withName(INTENT_ALLOCATIONS)
                 .withSerializer(SERIALIZER)
                 .build();
+        lambdaPoolMap = storageService.<LinkKey, ResourcePool>consistentMapBuilder()
+                .withName(LINK_LAMBDA_POOLS)
+                .withSerializer(SERIALIZER)
+                .build();
+        mplsLabelPoolMap = storageService.<LinkKey, ResourcePool>consistentMapBuilder()
+                .withName(LINK_MPLS_LABEL_POOLS)
+                .withSerializer(SERIALIZER)
+                .build();
         log.info("Started");
     }
 
@@ -135,35 +158,26 @@ public class ConsistentLinkResourceStore extends
         return tx.getTransactionalMap(LINK_RESOURCE_ALLOCATIONS, SERIALIZER);
     }
 
-    private TransactionContext getTxContext() {
-        return storageService.transactionContextBuilder().build();
+    private TransactionalMap<LinkKey, ResourcePool> getPools(TransactionContext tx, ResourceType type) {
+        return tx.getTransactionalMap(type == ResourceType.LAMBDA ? LINK_LAMBDA_POOLS : LINK_MPLS_LABEL_POOLS,
+                                      SERIALIZER);
     }
 
-    private Set<? extends ResourceAllocation> getResourceCapacity(ResourceType type, Link link) {
-        if (type == ResourceType.BANDWIDTH) {
-            return ImmutableSet.of(getBandwidthResourceCapacity(link));
-        }
-        if (type == ResourceType.LAMBDA) {
-            return getLambdaResourceCapacity(link);
-        }
-        if (type == ResourceType.MPLS_LABEL) {
-            return getMplsResourceCapacity();
-        }
-        return ImmutableSet.of();
+    private TransactionContext getTxContext() {
+        return storageService.transactionContextBuilder().build();
     }
 
-    private Set<LambdaResourceAllocation> getLambdaResourceCapacity(Link link) {
-        Set<LambdaResourceAllocation> allocations = new HashSet<>();
+    private ResourcePool getLambdaResourceCapacity(Link link) {
         Port port = deviceService.getPort(link.src().deviceId(), link.src().port());
         if (port instanceof OmsPort) {
             OmsPort omsPort = (OmsPort) port;
 
             // Assume fixed grid for now
-            for (int i = 0; i < omsPort.totalChannels(); i++) {
-                allocations.add(new LambdaResourceAllocation(LambdaResource.valueOf(i)));
+            if (omsPort.totalChannels() > 0) {
+                return ResourcePool.of(0, omsPort.totalChannels() - 1);
             }
         }
-        return allocations;
+        return null;
     }
 
     private BandwidthResourceAllocation getBandwidthResourceCapacity(Link link) {
@@ -188,49 +202,155 @@ public class ConsistentLinkResourceStore extends
         return new BandwidthResourceAllocation(bandwidth);
     }
 
-    private Set<MplsLabelResourceAllocation> getMplsResourceCapacity() {
-        Set<MplsLabelResourceAllocation> allocations = new HashSet<>();
+    private ResourcePool getMplsResourceCapacity() {
         //Ignoring reserved labels of 0 through 15
-        for (int i = MIN_UNRESERVED_LABEL; i <= MAX_UNRESERVED_LABEL; i++) {
-            allocations.add(new MplsLabelResourceAllocation(MplsLabel
-                    .valueOf(i)));
+        return ResourcePool.of(MIN_UNRESERVED_LABEL, MAX_UNRESERVED_LABEL);
+    }
 
+    /**
+     * Returns the pool of lambdas or MPLS labels of the given link as seen by
+     * the transaction. The pool is created from the link capacity and the
+     * existing allocations the first time it is needed.
+     *
+     * @param tx   transaction context
+     * @param link link
+     * @param type LAMBDA or MPLS_LABEL
+     * @return resource pool, or null if the link has no such resources
+     */
+    private ResourcePool getPool(TransactionContext tx, Link link, ResourceType type) {
+        final LinkKey key = LinkKey.linkKey(link);
+        TransactionalMap<LinkKey, ResourcePool> pools = getPools(tx, type);
+        ResourcePool pool = pools.get(key);
+        if (pool != null) {
+            return pool;
         }
-        return allocations;
+
+        pool = type == ResourceType.LAMBDA ? getLambdaResourceCapacity(link) : getMplsResourceCapacity();
+        if (pool == null) {
+            return null;
+        }
+        for (LinkResourceAllocations alloc : getAllocations(tx, link)) {
+            for (ResourceAllocation a : alloc.getResourceAllocation(link)) {
+                if (a.type() == type) {
+                    pool.allocate(poolValue(a));
+                }
+            }
+        }
+        pools.put(key, pool);
+        return pool;
     }
 
-    private Map<ResourceType, Set<? extends ResourceAllocation>> getResourceCapacity(Link link) {
-        Map<ResourceType, Set<? extends ResourceAllocation>> caps = new HashMap<>();
-        for (ResourceType type : ResourceType.values()) {
-            Set<? extends ResourceAllocation> cap = getResourceCapacity(type, link);
-            if (cap != null) {
-                caps.put(type, cap);
+    /**
+     * Saves the pools of the given link that are not saved yet, in a
+     * transaction of their own. Queries run in transactions that are aborted,
+     * so pools built there would otherwise be built anew on every query.
+     *
+     * @param link link
+     */
+    private void savePools(Link link) {
+        final LinkKey key = LinkKey.linkKey(link);
+        List<ResourceType> missing = POOLED_TYPES.stream()
+                .filter(type -> type != ResourceType.LAMBDA || getLambdaResourceCapacity(link) != null)
+                .filter(type -> !(type == ResourceType.LAMBDA ? lambdaPoolMap : mplsLabelPoolMap)
+                        .containsKey(key))
+                .collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        TransactionContext tx = getTxContext();
+        tx.begin();
+        try {
+            missing.forEach(type -> getPool(tx, link, type));
+            tx.commit();
+        } catch (Exception e) {
+            // e.g. saved by a concurrent allocation; the query builds its own
+            log.debug("Unable to save resource pools of {}", key, e);
+            tx.abort();
+        }
+    }
+
+    private static int poolValue(ResourceAllocation allocation) {
+        if (allocation instanceof LambdaResourceAllocation) {
+            return ((LambdaResourceAllocation) allocation).lambda().toInt();
+        }
+        return ((MplsLabelResourceAllocation) allocation).mplsLabel().label().toInt();
+    }
+
+    /**
+     * Allocates or releases the lambdas and MPLS labels among the given
+     * allocations in the pools of the link.
+     *
+     * @param tx          transaction context
+     * @param link        link
+     * @param allocations resource allocations on the link
+     * @param allocate    true to allocate, false to release
+     */
+    private void updatePools(TransactionContext tx, Link link,
+                             Set<ResourceAllocation> allocations, boolean allocate) {
+        for (ResourceType type : POOLED_TYPES) {
+            ResourcePool after = null;
+            for (ResourceAllocation a : allocations) {
+                if (a.type() != type) {
+                    continue;
+                }
+                if (after == null) {
+                    ResourcePool before = getPool(tx, link, type);
+                    if (before == null) {
+                        break;
+                    }
+                    after = before.copy();
+                }
+                if (allocate) {
+                    after.allocate(poolValue(a));
+                } else {
+                    after.release(poolValue(a));
+                }
+            }
+            if (after != null) {
+                getPools(tx, type).put(LinkKey.linkKey(link), after);
             }
         }
-        return caps;
     }
 
     @Override
     public Set<ResourceAllocation> getFreeResources(Link link) {
+        savePools(link);
         TransactionContext tx = getTxContext();
 
         tx.begin();
         try {
             Map<ResourceType, Set<? extends ResourceAllocation>> freeResources = getFreeResourcesEx(tx, link);
-            Set<ResourceAllocation> allFree = new HashSet<>();
-            freeResources.values().forEach(allFree::addAll);
+            // label and lambda sets are views of their pools; avoid copying them
+            Set<ResourceAllocation> allFree = ImmutableSet.of();
+            for (Set<? extends ResourceAllocation> free : freeResources.values()) {
+                allFree = Sets.union(allFree, free);
+            }
             return allFree;
         } finally {
             tx.abort();
         }
     }
 
+    @Override
+    public Set<ResourceAllocation> getFreeResources(Link link, ResourceType type) {
+        savePools(link);
+        TransactionContext tx = getTxContext();
+
+        tx.begin();
+        try {
+            Set<? extends ResourceAllocation> free = getFreeResourcesEx(tx, link).get(type);
+            return free == null ? ImmutableSet.of() : Collections.unmodifiableSet(free);
+        } finally {
+            tx.abort();
+        }
+    }
+
     private Map<ResourceType, Set<? extends ResourceAllocation>> getFreeResourcesEx(TransactionContext tx, Link link) {
         checkNotNull(tx);
         checkNotNull(link);
 
         Map<ResourceType, Set<? extends ResourceAllocation>> free = new HashMap<>();
-        final Map<ResourceType, Set<? extends ResourceAllocation>> caps = getResourceCapacity(link);
         final Iterable<LinkResourceAllocations> allocations = getAllocations(tx, link);
 
         for (ResourceType type : ResourceType.values()) {
@@ -238,12 +358,7 @@ public class ConsistentLinkResourceStore extends
 
             switch (type) {
                 case BANDWIDTH:
-                    Set<? extends ResourceAllocation> bw = caps.get(type);
-                    if (bw == null || bw.isEmpty()) {
-                        bw = Sets.newHashSet(new BandwidthResourceAllocation(EMPTY_BW));
-                    }
-
-                    BandwidthResourceAllocation cap = (BandwidthResourceAllocation) bw.iterator().next();
+                    BandwidthResourceAllocation cap = getBandwidthResourceCapacity(link);
                     double freeBw = cap.bandwidth().toDouble();
 
                     // enumerate current allocations, subtracting resources
@@ -261,54 +376,24 @@ public class ConsistentLinkResourceStore extends
                             new BandwidthResourceAllocation(new BandwidthResource(Bandwidth.bps(freeBw)))));
                     break;
                 case LAMBDA:
-                    Set<? extends ResourceAllocation> lmd = caps.get(type);
-                    if (lmd == null || lmd.isEmpty()) {
+                    ResourcePool lambdas = getPool(tx, link, type);
+                    if (lambdas == null) {
                         // nothing left
                         break;
                     }
-                    Set<LambdaResourceAllocation> freeL = new HashSet<>();
-                    for (ResourceAllocation r : lmd) {
-                        if (r instanceof LambdaResourceAllocation) {
-                            freeL.add((LambdaResourceAllocation) r);
-                        }
-                    }
-
-                    // enumerate current allocations, removing resources
-                    for (LinkResourceAllocations alloc : allocations) {
-                        Set<ResourceAllocation> types = alloc.getResourceAllocation(link);
-                        for (ResourceAllocation a : types) {
-                            if (a instanceof LambdaResourceAllocation) {
-                                freeL.remove(a);
-                            }
-                        }
-                    }
-
-                    free.put(type, freeL);
+                    free.put(type, lambdas.asSet(LambdaResourceAllocation.class,
+                            i -> new LambdaResourceAllocation(LambdaResource.valueOf(i)),
+                            ConsistentLinkResourceStore::poolValue));
                     break;
                 case MPLS_LABEL:
-                    Set<? extends ResourceAllocation> mpls = caps.get(type);
-                    if (mpls == null || mpls.isEmpty()) {
+                    ResourcePool labels = getPool(tx, link, type);
+                    if (labels == null) {
                         // nothing left
                         break;
                     }
-                    Set<MplsLabelResourceAllocation> freeLabel = new HashSet<>();
-                    for (ResourceAllocation r : mpls) {
-                        if (r instanceof MplsLabelResourceAllocation) {
-                            freeLabel.add((MplsLabelResourceAllocation) r);
-                        }
-                    }
-
-                    // enumerate current allocations, removing resources
-                    for (LinkResourceAllocations alloc : allocations) {
-                        Set<ResourceAllocation> types = alloc.getResourceAllocation(link);
-                        for (ResourceAllocation a : types) {
-                            if (a instanceof MplsLabelResourceAllocation) {
-                                freeLabel.remove(a);
-                            }
-                        }
-                    }
-
-                    free.put(type, freeLabel);
+                    free.put(type, labels.asSet(MplsLabelResourceAllocation.class,
+                            i -> new MplsLabelResourceAllocation(MplsLabel.valueOf(i)),
+                            ConsistentLinkResourceStore::poolValue));
                     break;
                 default:
                     log.debug("unsupported ResourceType {}", type);
@@ -407,6 +492,7 @@ public class ConsistentLinkResourceStore extends
             after.add(allocations);
             linkAllocs.replace(linkKey, before, after);
         }
+        updatePools(tx, link, reqs, true);
     }
 
     @Override
@@ -436,6 +522,7 @@ public class ConsistentLinkResourceStore extends
                     List<LinkResourceAllocations> after = new ArrayList<>(before);
                     after.remove(allocations);
                     linkAllocs.replace(linkId, before, after);
+                    updatePools(tx, link, allocations.getResourceAllocation(link), false);
                 });
                 tx.commit();
                 success = true;
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Pool of integer-indexed resources, such as MPLS labels or lambdas, within
+ * a contiguous range of values. Free values are tracked in a bitmap, so
+ * allocation, release and free count queries do not depend on the number of
+ * values allocated.
+ */
+final class ResourcePool {
+
+    private final int min;
+    private final int max;
+    // bit i is set if value min + i is free
+    private final BitSet free;
+    private int freeCount;
+    // next-fit hint; the search for a free value starts here
+    private int cursor;
+
+    private ResourcePool(int min, int max, BitSet free) {
+        this.min = min;
+        this.max = max;
+        this.free = free;
+        this.freeCount = free.cardinality();
+    }
+
+    /**
+     * Creates a pool in which all values of the given range are free.
+     *
+     * @param min smallest value, inclusive
+     * @param max largest value, inclusive
+     * @return resource pool
+     */
+    static ResourcePool of(int min, int max) {
+        checkArgument(min <= max, "Invalid range [%s, %s]", min, max);
+        BitSet free = new BitSet(max - min + 1);
+        free.set(0, max - min + 1);
+        return new ResourcePool(min, max, free);
+    }
+
+    /**
+     * Creates a pool of the given range in which only the given ranges of
+     * values are free.
+     *
+     * @param min        smallest value, inclusive
+     * @param max        largest value, inclusive
+     * @param freeRanges pairs of inclusive range bounds, as returned by
+     *                   {@link #freeRanges()}
+     * @return resource pool
+     */
+    static ResourcePool of(int min, int max, int[] freeRanges) {
+        checkArgument(min <= max, "Invalid range [%s, %s]", min, max);
+        checkArgument(freeRanges.length % 2 == 0, "Unpaired range bound");
+        BitSet free = new BitSet(max - min + 1);
+        for (int i = 0; i < freeRanges.length; i += 2) {
+            checkArgument(min <= freeRanges[i] && freeRanges[i] <= freeRanges[i + 1]
+                                  && freeRanges[i + 1] <= max,
+                          "Invalid free range [%s, %s]", freeRanges[i], freeRanges[i + 1]);
+            free.set(freeRanges[i] - min, freeRanges[i + 1] - min + 1);
+        }
+        return new ResourcePool(min, max, free);
+    }
+
+    /**
+     * Returns a copy of this pool.
+     *
+     * @return resource pool
+     */
+    ResourcePool copy() {
+        ResourcePool copy = new ResourcePool(min, max, (BitSet) free.clone());
+        copy.cursor = cursor;
+        return copy;
+    }
+
+    int min() {
+        return min;
+    }
+
+    int max() {
+        return max;
+    }
+
+    /**
+     * Returns the number of free values.
+     *
+     * @return free count
+     */
+    int freeCount() {
+        return freeCount;
+    }
+
+    /**
+     * Returns whether the given value is in range and free.
+     *
+     * @param value value
+     * @return true if free
+     */
+    boolean isFree(int value) {
+        return min <= value && value <= max && free.get(value - min);
+    }
+
+    /**
+     * Allocates any free value, searching from the value following the one
+     * last allocated.
+     *
+     * @return allocated value, or -1 if the pool is exhausted
+     */
+    int allocate() {
+        if (freeCount == 0) {
+            return -1;
+        }
+        int index = free.nextSetBit(cursor);
+        if (index < 0) {
+            index = free.nextSetBit(0);
+        }
+        take(index);
+        return min + index;
+    }
+
+    /**
+     * Allocates the given value.
+     *
+     * @param value value
+     * @return true if the value was free
+     */
+    boolean allocate(int value) {
+        if (!isFree(value)) {
+            return false;
+        }
+        take(value - min);
+        return true;
+    }
+
+    private void take(int index) {
+        free.clear(index);
+        freeCount--;
+        cursor = index + 1;
+    }
+
+    /**
+     * Returns the given value to the pool.
+     *
+     * @param value value
+     * @return true if the value was allocated
+     */
+    boolean release(int value) {
+        if (value < min || value > max || free.get(value - min)) {
+            return false;
+        }
+        free.set(value - min);
+        freeCount++;
+        return true;
+    }
+
+    /**
+     * Returns the free values as pairs of inclusive range bounds.
+     *
+     * @return free ranges
+     */
+    int[] freeRanges() {
+        int count = 0;
+        for (int i = free.nextSetBit(0); i >= 0; i = free.nextSetBit(free.nextClearBit(i))) {
+            count++;
+        }
+        int[] ranges = new int[count * 2];
+        int r = 0;
+        for (int i = free.nextSetBit(0); i >= 0; i = free.nextSetBit(free.nextClearBit(i))) {
+            ranges[r++] = min + i;
+            ranges[r++] = min + free.nextClearBit(i) - 1;
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns a read-only view of the free values of this pool as resources.
+     *
+     * @param type       resource class
+     * @param toResource function mapping a value to its resource
+     * @param toValue    function mapping a resource to its value
+     * @param <T>        resource type
+     * @return set of free resources
+     */
+    <T> Set<T> asSet(Class<T> type, IntFunction<T> toResource, ToIntFunction<T> toValue) {
+        return new AbstractSet<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    private int next = free.nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public T next() {
+                        if (next < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        T resource = toResource.apply(min + next);
+                        next = free.nextSetBit(next + 1);
+                        return resource;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return freeCount;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return type.isInstance(o) && isFree(toValue.applyAsInt(type.cast(o)));
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(this)
+                .add("min", min)
+                .add("max", max)
+                .add("free", freeCount)
+                .toString();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Kryo Serializer for {@link ResourcePool}, writing the free values as
+ * ranges rather than as a bitmap.
+ */
+final class ResourcePoolSerializer extends Serializer<ResourcePool> {
+
+    /**
+     * Creates a serializer for {@link ResourcePool}.
+     */
+    ResourcePoolSerializer() {
+        // non-null, mutable
+        super(false, false);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, ResourcePool pool) {
+        output.writeInt(pool.min());
+        output.writeInt(pool.max());
+        int[] ranges = pool.freeRanges();
+        output.writeInt(ranges.length, true);
+        output.writeInts(ranges);
+    }
+
+    @Override
+    public ResourcePool read(Kryo kryo, Input input, Class<ResourcePool> type) {
+        int min = input.readInt();
+        int max = input.readInt();
+        int length = input.readInt(true);
+        return ResourcePool.of(min, max, input.readInts(length));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.resource.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.onlab.util.KryoNamespace;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test of the resource pool.
+ */
+public class ResourcePoolTest {
+
+    @Test
+    public void allocateAndRelease() {
+        ResourcePool pool = ResourcePool.of(16, 0xFFFFF);
+        assertEquals(0xFFFFF - 16 + 1, pool.freeCount());
+
+        assertEquals(16, pool.allocate());
+        assertEquals(17, pool.allocate());
+        assertTrue(pool.allocate(100));
+        assertFalse("value already allocated", pool.allocate(100));
+        assertFalse("value out of range", pool.allocate(15));
+        assertEquals(0xFFFFF - 16 - 2, pool.freeCount());
+
+        assertTrue(pool.release(16));
+        assertFalse("value already free", pool.release(16));
+        assertTrue(pool.isFree(16));
+        assertFalse(pool.isFree(17));
+        // next-fit continues after the last allocated value
+        assertEquals(101, pool.allocate());
+    }
+
+    @Test
+    public void exhaustion() {
+        ResourcePool pool = ResourcePool.of(0, 2);
+        assertEquals(0, pool.allocate());
+        assertEquals(1, pool.allocate());
+        assertEquals(2, pool.allocate());
+        assertEquals(-1, pool.allocate());
+
+        pool.release(1);
+        assertEquals("search should wrap around", 1, pool.allocate());
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        ResourcePool pool = ResourcePool.of(0, 9);
+        ResourcePool copy = pool.copy();
+        copy.allocate(3);
+        assertTrue(pool.isFree(3));
+        assertFalse(copy.isFree(3));
+    }
+
+    @Test
+    public void ranges() {
+        ResourcePool pool = ResourcePool.of(10, 29);
+        for (int i = 15; i < 20; i++) {
+            pool.allocate(i);
+        }
+        pool.allocate(29);
+        assertArrayEquals(new int[]{10, 14, 20, 28}, pool.freeRanges());
+
+        ResourcePool restored = ResourcePool.of(10, 29, pool.freeRanges());
+        assertEquals(pool.freeCount(), restored.freeCount());
+        assertArrayEquals(pool.freeRanges(), restored.freeRanges());
+    }
+
+    @Test
+    public void setView() {
+        ResourcePool pool = ResourcePool.of(1, 5);
+        pool.allocate(2);
+        pool.allocate(4);
+        Set<Integer> free = pool.asSet(Integer.class, i -> i * 10, i -> i / 10);
+        assertEquals(3, free.size());
+        assertTrue(free.contains(30));
+        assertFalse(free.contains(40));
+        assertFalse(free.contains("30"));
+        assertEquals(ImmutableList.of(10, 30, 50), Lists.newArrayList(free));
+    }
+
+    @Test
+    public void serialization() {
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        final KryoNamespace kryos = KryoNamespace.newBuilder()
+                .register(new ResourcePoolSerializer(), ResourcePool.class)
+                .build();
+
+        ResourcePool pool = ResourcePool.of(16, 0xFFFFF);
+        List<Integer> allocated = Lists.newArrayList();
+        for (int i = 0; i < 1000; i++) {
+            allocated.add(pool.allocate());
+        }
+        pool.release(500);
+
+        kryos.serialize(pool, buffer);
+        assertTrue("ranges should be compact", buffer.position() < 32);
+        buffer.flip();
+        ResourcePool copy = kryos.deserialize(buffer);
+
+        assertEquals(pool.freeCount(), copy.freeCount());
+        assertArrayEquals(pool.freeRanges(), copy.freeRanges());
+        assertTrue(copy.isFree(500));
+        assertFalse(copy.isFree(allocated.get(0)));
+    }
+}
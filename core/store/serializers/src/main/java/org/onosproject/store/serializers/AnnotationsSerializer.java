@@ -15,6 +15,7 @@
  */
 package org.onosproject.store.serializers;
 
+import org.onlab.util.KryoDictionary;
 import org.onosproject.net.DefaultAnnotations;
 
 import com.esotericsoftware.kryo.Kryo;
@@ -22,7 +23,7 @@ import com.esotericsoftware.kryo.Serializer;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 
-import java.util.HashMap;
+import java.util.Map;
 
 public class AnnotationsSerializer extends Serializer<DefaultAnnotations> {
 
@@ -32,15 +33,22 @@ public class AnnotationsSerializer extends Serializer<DefaultAnnotations> {
 
     @Override
     public void write(Kryo kryo, Output output, DefaultAnnotations object) {
-        kryo.writeObject(output, object.asMap());
+        Map<String, String> map = object.asMap();
+        output.writeVarInt(map.size(), true);
+        map.forEach((k, v) -> {
+            KryoDictionary.writeString(kryo, output, k);
+            KryoDictionary.writeString(kryo, output, v);
+        });
     }
 
     @Override
     public DefaultAnnotations read(Kryo kryo, Input input, Class<DefaultAnnotations> type) {
         DefaultAnnotations.Builder b = DefaultAnnotations.builder();
-        HashMap<String, String> map = kryo.readObject(input, HashMap.class);
-        map.forEach((k, v) -> b.set(k, v));
-
+        int size = input.readVarInt(true);
+        for (int i = 0; i < size; i++) {
+            String key = KryoDictionary.readString(kryo, input);
+            b.set(key, KryoDictionary.readString(kryo, input));
+        }
         return b.build();
     }
 
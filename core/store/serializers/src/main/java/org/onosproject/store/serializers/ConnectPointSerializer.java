@@ -46,6 +46,6 @@ public class ConnectPointSerializer extends Serializer<ConnectPoint> {
     public ConnectPoint read(Kryo kryo, Input input, Class<ConnectPoint> type) {
         ElementId elementId = (ElementId) kryo.readClassAndObject(input);
         PortNumber portNumber = (PortNumber) kryo.readClassAndObject(input);
-        return new ConnectPoint(elementId, portNumber);
+        return ConnectPoint.connectPoint(elementId, portNumber);
     }
 }
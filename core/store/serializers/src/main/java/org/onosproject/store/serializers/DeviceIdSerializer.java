@@ -15,6 +15,7 @@
  */
 package org.onosproject.store.serializers;
 
+import org.onlab.util.KryoDictionary;
 import org.onosproject.net.DeviceId;
 
 import com.esotericsoftware.kryo.Kryo;
@@ -37,12 +38,12 @@ public final class DeviceIdSerializer extends Serializer<DeviceId> {
 
     @Override
     public void write(Kryo kryo, Output output, DeviceId object) {
-        output.writeString(object.toString());
+        KryoDictionary.writeString(kryo, output, object.toString());
     }
 
     @Override
     public DeviceId read(Kryo kryo, Input input, Class<DeviceId> type) {
-        final String str = input.readString();
+        final String str = KryoDictionary.readString(kryo, input);
         return DeviceId.deviceId(str);
     }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.store.serializers;
+
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+import org.onosproject.net.HostId;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Kryo Serializer for {@link HostId}.
+ */
+public class HostIdSerializer extends Serializer<HostId> {
+
+    /**
+     * Creates {@link HostId} serializer instance.
+     */
+    public HostIdSerializer() {
+        // non-null, immutable
+        super(false, true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, HostId object) {
+        output.writeLong(object.mac().toLong());
+        output.writeShort(object.vlanId().toShort());
+    }
+
+    @Override
+    public HostId read(Kryo kryo, Input input, Class<HostId> type) {
+        MacAddress mac = MacAddress.valueOf(input.readLong());
+        VlanId vlanId = VlanId.vlanId(input.readShort());
+        return HostId.hostId(mac, vlanId);
+    }
+}
@@ -296,8 +296,11 @@ public final class KryoNamespaces {
                     Timestamp.class,
                     Leadership.class,
                     LeadershipEvent.class,
-                    LeadershipEvent.Type.class,
-                    HostId.class,
+                    LeadershipEvent.Type.class
+            )
+            // Registered in place to keep the ids of the classes that follow
+            .register(new HostIdSerializer(), HostId.class)
+            .register(
                     HostDescription.class,
                     DefaultHostDescription.class,
                     DefaultFlowEntry.class,
@@ -15,6 +15,7 @@
  */
 package org.onosproject.store.serializers;
 
+import org.onlab.util.KryoDictionary;
 import org.onosproject.net.provider.ProviderId;
 
 import com.esotericsoftware.kryo.Kryo;
@@ -37,15 +38,15 @@ public class ProviderIdSerializer extends Serializer<ProviderId> {
 
     @Override
     public void write(Kryo kryo, Output output, ProviderId object) {
-        output.writeString(object.scheme());
-        output.writeString(object.id());
+        KryoDictionary.writeString(kryo, output, object.scheme());
+        KryoDictionary.writeString(kryo, output, object.id());
         output.writeBoolean(object.isAncillary());
     }
 
     @Override
     public ProviderId read(Kryo kryo, Input input, Class<ProviderId> type) {
-        String scheme = input.readString();
-        String id = input.readString();
+        String scheme = KryoDictionary.readString(kryo, input);
+        String id = KryoDictionary.readString(kryo, input);
         boolean isAncillary = input.readBoolean();
         return new ProviderId(scheme, id, isAncillary);
     }
@@ -42,6 +42,7 @@ import org.onosproject.net.DefaultPort;
 import org.onosproject.net.Device;
 import org.onosproject.net.DeviceId;
 import org.onosproject.net.GridType;
+import org.onosproject.net.HostId;
 import org.onosproject.net.HostLocation;
 import org.onosproject.net.Link;
 import org.onosproject.net.Link.Type;
@@ -216,6 +217,46 @@ public class KryoSerializerTest {
         testSerializedEquals(DID1);
     }
 
+    @Test
+    public void testHostId() {
+        testSerializedEquals(HostId.hostId(MacAddress.valueOf("00:11:00:00:00:01"),
+                                           VlanId.vlanId((short) 11)));
+        testSerializedEquals(HostId.NONE);
+    }
+
+    @Test
+    public void testCanonicalIds() {
+        HostId hostId = HostId.hostId(MacAddress.valueOf("00:11:00:00:00:01"));
+        LinkKey linkKey = LinkKey.linkKey(CP1, CP2);
+
+        assertSame(DID1, serializer.decode(serializer.encode(DID1)));
+        assertSame(hostId, serializer.decode(serializer.encode(hostId)));
+        assertSame(ConnectPoint.connectPoint(DID1, P1),
+                   serializer.decode(serializer.encode(new ConnectPoint(DID1, P1))));
+        assertSame(linkKey, serializer.decode(serializer.encode(linkKey)));
+    }
+
+    @Test
+    public void testDictionaryEncoding() {
+        SparseAnnotations annotations = DefaultAnnotations.builder()
+                .set("durable", "true")
+                .set("latency", "10")
+                .build();
+        Link link = new DefaultLink(new ProviderId("of", "foo"), CP1, CP2,
+                                    Link.Type.DIRECT, annotations);
+        Link reverse = new DefaultLink(new ProviderId("of", "foo"), CP2, CP1,
+                                       Link.Type.DIRECT, annotations);
+        testSerializedEquals(ImmutableList.of(link, reverse));
+
+        // Identifiers and annotations repeated within a message are written once
+        int single = serializer.encode(ImmutableList.of(link)).length;
+        int both = serializer.encode(ImmutableList.of(link, reverse)).length;
+        assertTrue(both - single < single / 2);
+
+        // Each message carries its own dictionary
+        assertEquals(single, serializer.encode(ImmutableList.of(link)).length);
+    }
+
     @Test
     public void testImmutableMap() {
         testSerializedEquals(ImmutableMap.of(DID1, DEV1, DID2, DEV1));
@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.onlab.osgi.ServiceDirectory;
@@ -186,50 +187,78 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
 
     @Override
     public void filter(FilteringObjective filteringObjective) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        filter(filteringObjective, batch);
+        batch.apply(flowRuleService);
+    }
+
+    @Override
+    public void forward(ForwardingObjective fwd) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        forward(fwd, batch);
+        batch.apply(flowRuleService);
+    }
+
+    /**
+     * Translates the filtering and forwarding objectives of the batch into
+     * a single set of flow rule operations. Next objectives are processed
+     * as they come, since they are realized as groups rather than flow rules.
+     * Translated objectives are accepted right away, as applying the batch
+     * reports the outcome of each of them.
+     *
+     * @param objectives list of objectives
+     * @param accepted   consumer of the objectives whose outcome will be reported
+     */
+    @Override
+    public void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        for (Objective objective : objectives) {
+            try {
+                if (objective instanceof NextObjective) {
+                    next((NextObjective) objective);
+                } else if (objective instanceof ForwardingObjective) {
+                    forward((ForwardingObjective) objective, batch);
+                } else {
+                    filter((FilteringObjective) objective, batch);
+                }
+            } catch (Exception e) {
+                // Only the objective at fault fails; the rest of the batch goes ahead
+                log.warn("Unable to translate objective {}", objective.id(), e);
+                batch.fail(objective, ObjectiveError.UNKNOWN);
+            }
+            accepted.accept(objective);
+        }
+        batch.apply(flowRuleService);
+    }
+
+    private void filter(FilteringObjective filteringObjective, ObjectiveBatch batch) {
         if (filteringObjective.type() == FilteringObjective.Type.PERMIT) {
             processFilter(filteringObjective,
                           filteringObjective.op() == Objective.Operation.ADD,
-                          filteringObjective.appId());
+                          filteringObjective.appId(), batch);
         } else {
-            fail(filteringObjective, ObjectiveError.UNSUPPORTED);
+            batch.fail(filteringObjective, ObjectiveError.UNSUPPORTED);
         }
     }
 
-    @Override
-    public void forward(ForwardingObjective fwd) {
-        Collection<FlowRule> rules;
-        FlowRuleOperations.Builder flowOpsBuilder = FlowRuleOperations.builder();
-
-        rules = processForward(fwd);
+    private void forward(ForwardingObjective fwd, ObjectiveBatch batch) {
+        Collection<FlowRule> rules = processForward(fwd);
+        batch.include(fwd);
         switch (fwd.op()) {
             case ADD:
                 rules.stream()
                         .filter(rule -> rule != null)
-                        .forEach(flowOpsBuilder::add);
+                        .forEach(rule -> batch.add(fwd, rule));
                 break;
             case REMOVE:
                 rules.stream()
                         .filter(rule -> rule != null)
-                        .forEach(flowOpsBuilder::remove);
+                        .forEach(rule -> batch.remove(fwd, rule));
                 break;
             default:
-                fail(fwd, ObjectiveError.UNKNOWN);
+                batch.fail(fwd, ObjectiveError.UNKNOWN);
                 log.warn("Unknown forwarding type {}", fwd.op());
         }
-
-
-        flowRuleService.apply(flowOpsBuilder.build(new FlowRuleOperationsContext() {
-            @Override
-            public void onSuccess(FlowRuleOperations ops) {
-                pass(fwd);
-            }
-
-            @Override
-            public void onError(FlowRuleOperations ops) {
-                fail(fwd, ObjectiveError.FLOWINSTALLATIONFAILED);
-            }
-        }));
-
     }
 
     @Override
@@ -266,9 +295,11 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
      * @param filt
      * @param install
      * @param applicationId
+     * @param batch batch to append the filtering rules to
      */
     private void processFilter(FilteringObjective filt,
-                               boolean install, ApplicationId applicationId) {
+                               boolean install, ApplicationId applicationId,
+                               ObjectiveBatch batch) {
         // This driver only processes filtering criteria defined with switch
         // ports as the key
         PortCriterion p = null; EthCriterion e = null; VlanIdCriterion v = null;
@@ -279,11 +310,10 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
         } else {
             log.warn("No key defined in filtering objective from app: {}. Not"
                     + "processing filtering objective", applicationId);
-            fail(filt, ObjectiveError.UNKNOWN);
+            batch.fail(filt, ObjectiveError.UNKNOWN);
             return;
         }
         // convert filtering conditions for switch-intfs into flowrules
-        FlowRuleOperations.Builder ops = FlowRuleOperations.builder();
         for (Criterion c : filt.conditions()) {
             if (c.type() == Criterion.Type.ETH_DST) {
                 e = (EthCriterion) c;
@@ -293,7 +323,7 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
                 ips.add((IPCriterion) c);
             } else {
                 log.error("Unsupported filter {}", c);
-                fail(filt, ObjectiveError.UNSUPPORTED);
+                batch.fail(filt, ObjectiveError.UNSUPPORTED);
                 return;
             }
         }
@@ -312,7 +342,7 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
                 .fromApp(applicationId)
                 .makePermanent()
                 .forTable(VLAN_TABLE).build();
-        ops =  ops.add(rule);
+        batch.add(filt, rule);
 
         log.debug("adding MAC filtering rules in TMAC table: {}", e.mac());
         selector = DefaultTrafficSelector.builder();
@@ -330,7 +360,7 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
                 .fromApp(applicationId)
                 .makePermanent()
                 .forTable(TMAC_TABLE).build();
-        ops = ops.add(rule);
+        batch.add(filt, rule);
 
         log.debug("adding IP filtering rules in ACL table");
         for (IPCriterion ipaddr : ips) {
@@ -347,25 +377,12 @@ public class OFDPA1Pipeline extends AbstractHandlerBehaviour implements Pipeline
                     .fromApp(applicationId)
                     .makePermanent()
                     .forTable(ACL_TABLE).build();
-            ops =  ops.add(rule);
+            batch.add(filt, rule);
         }
 
-        ops = install ? ops.add(rule) : ops.remove(rule);
-        // apply filtering flow rules
-        flowRuleService.apply(ops.build(new FlowRuleOperationsContext() {
-            @Override
-            public void onSuccess(FlowRuleOperations ops) {
-                log.info("Applied filtering rules");
-                pass(filt);
-            }
-
-            @Override
-            public void onError(FlowRuleOperations ops) {
-                log.info("Failed to apply filtering rules");
-                fail(filt, ObjectiveError.FLOWINSTALLATIONFAILED);
-            }
-        }));
-
+        if (!install) {
+            batch.remove(filt, rule);
+        }
     }
 
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.driver.pipeline;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleOperation;
+import org.onosproject.net.flow.FlowRuleOperations;
+import org.onosproject.net.flow.FlowRuleOperationsContext;
+import org.onosproject.net.flow.FlowRuleService;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveError;
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Flow rules of a batch of objectives, applied to a device as a sequence of
+ * flow rule operations.
+ * <p>
+ * Rules are kept in objective order. A new stage is started whenever a rule
+ * already appears in the current stage, so that e.g. removing and re-adding
+ * the same rule are not reordered. Stages are applied one after the other,
+ * each as its own set of flow rule operations, so that the outcome of every
+ * stage is known. An objective is reported failed as soon as one of its
+ * rules fails, and successful once the last stage holding its rules has been
+ * applied; objectives without rules are reported once the whole batch has
+ * been applied.
+ * </p>
+ */
+final class ObjectiveBatch {
+
+    private final Logger log = getLogger(getClass());
+
+    private final List<FlowRuleOperations.Builder> stages = Lists.newArrayList();
+    private final Set<FlowRule> stage = Sets.newHashSet();
+    private final SetMultimap<FlowRule, Objective> owners = HashMultimap.create();
+    private final Set<Objective> objectives = Sets.newLinkedHashSet();
+    // Index of the last stage holding rules of each objective
+    private final Map<Objective, Integer> lastStages = Maps.newHashMap();
+    private final Set<Objective> reported = Sets.newConcurrentHashSet();
+
+    /**
+     * Includes an objective in the batch; it is reported successful once
+     * the batch is applied, even if it contributed no rules.
+     *
+     * @param objective objective
+     */
+    void include(Objective objective) {
+        objectives.add(objective);
+    }
+
+    /**
+     * Appends the addition of a flow rule on behalf of an objective.
+     *
+     * @param objective objective
+     * @param rule      flow rule
+     */
+    void add(Objective objective, FlowRule rule) {
+        stage(objective, rule).add(rule);
+    }
+
+    /**
+     * Appends the removal of a flow rule on behalf of an objective.
+     *
+     * @param objective objective
+     * @param rule      flow rule
+     */
+    void remove(Objective objective, FlowRule rule) {
+        stage(objective, rule).remove(rule);
+    }
+
+    /**
+     * Reports an objective failed right away; it is not reported again
+     * once the batch is applied.
+     *
+     * @param objective objective
+     * @param error     error
+     */
+    void fail(Objective objective, ObjectiveError error) {
+        objectives.add(objective);
+        error(objective, error);
+    }
+
+    /**
+     * Applies the flow rules of the batch and reports the outcome of each
+     * objective.
+     *
+     * @param flowRuleService flow rule service
+     */
+    void apply(FlowRuleService flowRuleService) {
+        if (objectives.isEmpty()) {
+            return;
+        }
+        applyStage(flowRuleService, 0);
+    }
+
+    // Applies a stage and, once it is done, the next one
+    private void applyStage(FlowRuleService flowRuleService, int index) {
+        if (index == stages.size()) {
+            objectives.forEach(this::pass);
+            return;
+        }
+        try {
+            flowRuleService.apply(stages.get(index).build(new FlowRuleOperationsContext() {
+                @Override
+                public void onSuccess(FlowRuleOperations ops) {
+                    stageCompleted(flowRuleService, index, Sets.newHashSet());
+                }
+
+                @Override
+                public void onError(FlowRuleOperations ops) {
+                    Set<Objective> failed = Sets.newHashSet();
+                    for (Set<FlowRuleOperation> s : ops.stages()) {
+                        s.forEach(op -> failed.addAll(owners.get(op.rule())));
+                    }
+                    log.warn("Failed to install rules of {} of {} objectives",
+                             failed.size(), objectives.size());
+                    stageCompleted(flowRuleService, index, failed);
+                }
+            }));
+        } catch (Exception e) {
+            log.warn("Unable to apply rules of {} objectives", objectives.size(), e);
+            objectives.forEach(objective -> error(objective, ObjectiveError.UNKNOWN));
+        }
+    }
+
+    private void stageCompleted(FlowRuleService flowRuleService, int index,
+                                Set<Objective> failed) {
+        failed.forEach(objective -> error(objective, ObjectiveError.FLOWINSTALLATIONFAILED));
+        lastStages.forEach((objective, last) -> {
+            if (last == index) {
+                pass(objective);
+            }
+        });
+        applyStage(flowRuleService, index + 1);
+    }
+
+    private FlowRuleOperations.Builder stage(Objective objective, FlowRule rule) {
+        objectives.add(objective);
+        owners.put(rule, objective);
+        if (stages.isEmpty() || !stage.add(rule)) {
+            stages.add(FlowRuleOperations.builder());
+            stage.clear();
+            stage.add(rule);
+        }
+        lastStages.put(objective, stages.size() - 1);
+        return stages.get(stages.size() - 1);
+    }
+
+    private void pass(Objective objective) {
+        if (reported.add(objective)) {
+            objective.context().ifPresent(c -> c.onSuccess(objective));
+        }
+    }
+
+    private void error(Objective objective, ObjectiveError error) {
+        if (reported.add(objective)) {
+            objective.context().ifPresent(c -> c.onError(objective, error));
+        }
+    }
+}
@@ -39,8 +39,6 @@ import org.onosproject.net.flow.DefaultFlowRule;
 import org.onosproject.net.flow.DefaultTrafficSelector;
 import org.onosproject.net.flow.DefaultTrafficTreatment;
 import org.onosproject.net.flow.FlowRule;
-import org.onosproject.net.flow.FlowRuleOperations;
-import org.onosproject.net.flow.FlowRuleOperationsContext;
 import org.onosproject.net.flow.FlowRuleService;
 import org.onosproject.net.flow.TrafficSelector;
 import org.onosproject.net.flow.TrafficTreatment;
@@ -80,6 +78,7 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -159,56 +158,80 @@ public class SpringOpenTTP extends AbstractHandlerBehaviour
 
     @Override
     public void filter(FilteringObjective filteringObjective) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        filter(filteringObjective, batch);
+        batch.apply(flowRuleService);
+    }
+
+    @Override
+    public void forward(ForwardingObjective fwd) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        forward(fwd, batch);
+        batch.apply(flowRuleService);
+    }
+
+    /**
+     * Translates the filtering and forwarding objectives of the batch into
+     * a single set of flow rule operations. Next objectives are processed
+     * as they come, since they are realized as groups rather than flow rules.
+     * Translated objectives are accepted right away, as applying the batch
+     * reports the outcome of each of them.
+     *
+     * @param objectives list of objectives
+     * @param accepted   consumer of the objectives whose outcome will be reported
+     */
+    @Override
+    public void batch(List<Objective> objectives, Consumer<Objective> accepted) {
+        ObjectiveBatch batch = new ObjectiveBatch();
+        for (Objective objective : objectives) {
+            try {
+                if (objective instanceof NextObjective) {
+                    next((NextObjective) objective);
+                } else if (objective instanceof ForwardingObjective) {
+                    forward((ForwardingObjective) objective, batch);
+                } else {
+                    filter((FilteringObjective) objective, batch);
+                }
+            } catch (Exception e) {
+                // Only the objective at fault fails; the rest of the batch goes ahead
+                log.warn("Unable to translate objective {}", objective.id(), e);
+                batch.fail(objective, ObjectiveError.UNKNOWN);
+            }
+            accepted.accept(objective);
+        }
+        log.debug("Provisioning tables in {} with {} objectives for segment router",
+                  deviceId, objectives.size());
+        batch.apply(flowRuleService);
+    }
+
+    private void filter(FilteringObjective filteringObjective, ObjectiveBatch batch) {
         if (filteringObjective.type() == FilteringObjective.Type.PERMIT) {
             log.debug("processing PERMIT filter objective");
             processFilter(filteringObjective,
                           filteringObjective.op() == Objective.Operation.ADD,
-                          filteringObjective.appId());
+                          filteringObjective.appId(), batch);
         } else {
             log.debug("filter objective other than PERMIT not supported");
-            fail(filteringObjective, ObjectiveError.UNSUPPORTED);
+            batch.fail(filteringObjective, ObjectiveError.UNSUPPORTED);
         }
     }
 
-    @Override
-    public void forward(ForwardingObjective fwd) {
-        Collection<FlowRule> rules;
-        FlowRuleOperations.Builder flowBuilder = FlowRuleOperations.builder();
-
-        rules = processForward(fwd);
+    private void forward(ForwardingObjective fwd, ObjectiveBatch batch) {
+        Collection<FlowRule> rules = processForward(fwd);
+        batch.include(fwd);
         switch (fwd.op()) {
         case ADD:
             rules.stream().filter(rule -> rule != null)
-                    .forEach(flowBuilder::add);
+                    .forEach(rule -> batch.add(fwd, rule));
             break;
         case REMOVE:
             rules.stream().filter(rule -> rule != null)
-                    .forEach(flowBuilder::remove);
+                    .forEach(rule -> batch.remove(fwd, rule));
             break;
         default:
-            fail(fwd, ObjectiveError.UNKNOWN);
+            batch.fail(fwd, ObjectiveError.UNKNOWN);
             log.warn("Unknown forwarding type {}", fwd.op());
         }
-
-        flowRuleService.apply(flowBuilder
-                .build(new FlowRuleOperationsContext() {
-                    @Override
-                    public void onSuccess(FlowRuleOperations ops) {
-                        pass(fwd);
-                        log.debug("Provisioned tables in {} with "
-                                + "forwarding rules for segment "
-                                + "router", deviceId);
-                    }
-
-                    @Override
-                    public void onError(FlowRuleOperations ops) {
-                        fail(fwd, ObjectiveError.FLOWINSTALLATIONFAILED);
-                        log.warn("Failed to provision tables in {} with "
-                                + "forwarding rules for segment router",
-                                deviceId);
-                    }
-                }));
-
     }
 
     @Override
@@ -590,30 +613,30 @@ public class SpringOpenTTP extends AbstractHandlerBehaviour
     }
 
     private void processFilter(FilteringObjective filt, boolean install,
-                               ApplicationId applicationId) {
+                               ApplicationId applicationId,
+                               ObjectiveBatch batch) {
         // This driver only processes filtering criteria defined with switch
         // ports as the key
         if (filt.key().equals(Criteria.dummy())
                 || filt.key().type() != Criterion.Type.IN_PORT) {
             log.warn("No key defined in filtering objective from app: {}. Not"
                     + "processing filtering objective", applicationId);
-            fail(filt, ObjectiveError.UNKNOWN);
+            batch.fail(filt, ObjectiveError.UNKNOWN);
             return;
         }
         // convert filtering conditions for switch-intfs into flowrules
-        FlowRuleOperations.Builder ops = FlowRuleOperations.builder();
         for (Criterion c : filt.conditions()) {
             if (c.type() == Criterion.Type.ETH_DST) {
                 for (FlowRule rule : processEthDstFilter(c,
                                                          filt,
                                                          applicationId)) {
-                    ops = install ? ops.add(rule) : ops.remove(rule);
+                    stage(batch, filt, install, rule);
                 }
             } else if (c.type() == Criterion.Type.VLAN_VID) {
                 for (FlowRule rule : processVlanIdFilter(c,
                                                          filt,
                                                          applicationId)) {
-                    ops = install ? ops.add(rule) : ops.remove(rule);
+                    stage(batch, filt, install, rule);
                 }
             } else if (c.type() == Criterion.Type.IPV4_DST) {
                 IPCriterion ip = (IPCriterion) c;
@@ -630,29 +653,22 @@ public class SpringOpenTTP extends AbstractHandlerBehaviour
                         .withTreatment(treatment.build())
                         .withPriority(filt.priority()).fromApp(applicationId)
                         .makePermanent().forTable(ipv4UnicastTableId).build();
-                ops = install ? ops.add(rule) : ops.remove(rule);
+                stage(batch, filt, install, rule);
             } else {
                 log.warn("Driver does not currently process filtering condition"
                                  + " of type: {}", c.type());
-                fail(filt, ObjectiveError.UNSUPPORTED);
+                batch.fail(filt, ObjectiveError.UNSUPPORTED);
             }
         }
-        // apply filtering flow rules
-        flowRuleService.apply(ops.build(new FlowRuleOperationsContext() {
-            @Override
-            public void onSuccess(FlowRuleOperations ops) {
-                pass(filt);
-                log.debug("Provisioned tables in {} with fitering "
-                        + "rules for segment router", deviceId);
-            }
+    }
 
-            @Override
-            public void onError(FlowRuleOperations ops) {
-                fail(filt, ObjectiveError.FLOWINSTALLATIONFAILED);
-                log.warn("Failed to provision tables in {} with "
-                        + "fitering rules for segment router", deviceId);
-            }
-        }));
+    private void stage(ObjectiveBatch batch, FilteringObjective filt,
+                       boolean install, FlowRule rule) {
+        if (install) {
+            batch.add(filt, rule);
+        } else {
+            batch.remove(filt, rule);
+        }
     }
 
     protected void setTableMissEntries() {
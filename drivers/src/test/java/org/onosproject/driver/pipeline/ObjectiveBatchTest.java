@@ -0,0 +1,204 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.driver.pipeline;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleOperation;
+import org.onosproject.net.flow.FlowRuleOperations;
+import org.onosproject.net.flow.FlowRuleServiceAdapter;
+import org.onosproject.net.flowobjective.DefaultForwardingObjective;
+import org.onosproject.net.flowobjective.ForwardingObjective;
+import org.onosproject.net.flowobjective.Objective;
+import org.onosproject.net.flowobjective.ObjectiveContext;
+import org.onosproject.net.flowobjective.ObjectiveError;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.onosproject.net.NetTestTools.APP_ID;
+import static org.onosproject.net.NetTestTools.did;
+
+/**
+ * Tests of the batching of objective flow rules.
+ */
+public class ObjectiveBatchTest {
+
+    private static final DeviceId DID = did("a");
+    private static final String SUCCESS = "success";
+
+    private final Map<Objective, Object> reports = Maps.newConcurrentMap();
+    private final AtomicInteger reportCount = new AtomicInteger();
+    private final ObjectiveContext context = new ObjectiveContext() {
+        @Override
+        public void onSuccess(Objective objective) {
+            reportCount.incrementAndGet();
+            reports.put(objective, SUCCESS);
+        }
+
+        @Override
+        public void onError(Objective objective, ObjectiveError error) {
+            reportCount.incrementAndGet();
+            reports.put(objective, error);
+        }
+    };
+
+    private TestFlowRuleService flowRuleService;
+    private ObjectiveBatch batch;
+
+    @Before
+    public void setUp() {
+        flowRuleService = new TestFlowRuleService();
+        batch = new ObjectiveBatch();
+    }
+
+    private ForwardingObjective objective(int priority) {
+        return DefaultForwardingObjective.builder()
+                .withSelector(DefaultTrafficSelector.emptySelector())
+                .withTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .withFlag(ForwardingObjective.Flag.VERSATILE)
+                .withPriority(priority)
+                .fromApp(APP_ID)
+                .makePermanent()
+                .add(context);
+    }
+
+    private FlowRule rule(int priority) {
+        return DefaultFlowRule.builder()
+                .forDevice(DID)
+                .withSelector(DefaultTrafficSelector.emptySelector())
+                .withTreatment(DefaultTrafficTreatment.emptyTreatment())
+                .withPriority(priority)
+                .fromApp(APP_ID)
+                .makePermanent()
+                .build();
+    }
+
+    @Test
+    public void singleStage() {
+        ForwardingObjective first = objective(1);
+        ForwardingObjective second = objective(2);
+        ForwardingObjective empty = objective(3);
+        batch.add(first, rule(1));
+        batch.add(second, rule(2));
+        batch.include(empty);
+        batch.apply(flowRuleService);
+
+        assertEquals("rules should be applied as one operation", 1, flowRuleService.applied.size());
+        flowRuleService.succeed();
+        assertEquals(SUCCESS, reports.get(first));
+        assertEquals(SUCCESS, reports.get(second));
+        assertEquals(SUCCESS, reports.get(empty));
+        assertEquals(3, reportCount.get());
+    }
+
+    @Test
+    public void laterStageFails() {
+        ForwardingObjective early = objective(1);
+        ForwardingObjective remover = objective(2);
+        ForwardingObjective readder = objective(3);
+        ForwardingObjective late = objective(4);
+        batch.add(early, rule(1));
+        batch.remove(remover, rule(2));
+        // Re-adding the same rule starts a second stage
+        batch.add(readder, rule(2));
+        batch.add(late, rule(4));
+        batch.apply(flowRuleService);
+
+        assertEquals("stages should be applied one at a time", 1, flowRuleService.applied.size());
+        flowRuleService.succeed();
+        assertEquals(SUCCESS, reports.get(early));
+        assertEquals(SUCCESS, reports.get(remover));
+        assertNull("objectives of later stages should not be reported yet", reports.get(late));
+        assertNull(reports.get(readder));
+
+        assertEquals(2, flowRuleService.applied.size());
+        flowRuleService.fail(rule(4));
+        assertEquals(SUCCESS, reports.get(readder));
+        assertEquals(ObjectiveError.FLOWINSTALLATIONFAILED, reports.get(late));
+        assertEquals("objectives should be reported once", 4, reportCount.get());
+    }
+
+    @Test
+    public void earlyStageFails() {
+        ForwardingObjective spanning = objective(1);
+        ForwardingObjective later = objective(2);
+        batch.add(spanning, rule(1));
+        batch.remove(spanning, rule(1));
+        batch.add(later, rule(2));
+        batch.apply(flowRuleService);
+
+        flowRuleService.fail(rule(1));
+        assertEquals(ObjectiveError.FLOWINSTALLATIONFAILED, reports.get(spanning));
+        assertNull(reports.get(later));
+
+        flowRuleService.succeed();
+        assertEquals(SUCCESS, reports.get(later));
+        assertEquals("objectives should be reported once", 2, reportCount.get());
+    }
+
+    @Test
+    public void failedWhileTranslated() {
+        ForwardingObjective failed = objective(1);
+        ForwardingObjective installed = objective(2);
+        batch.fail(failed, ObjectiveError.UNSUPPORTED);
+        batch.add(installed, rule(2));
+        batch.apply(flowRuleService);
+
+        flowRuleService.succeed();
+        assertEquals(ObjectiveError.UNSUPPORTED, reports.get(failed));
+        assertEquals(SUCCESS, reports.get(installed));
+        assertEquals(2, reportCount.get());
+    }
+
+    // Flow rule service completing operations on demand
+    private static class TestFlowRuleService extends FlowRuleServiceAdapter {
+        private final List<FlowRuleOperations> applied = Lists.newArrayList();
+
+        @Override
+        public void apply(FlowRuleOperations ops) {
+            applied.add(ops);
+        }
+
+        private FlowRuleOperations last() {
+            return applied.get(applied.size() - 1);
+        }
+
+        void succeed() {
+            FlowRuleOperations ops = last();
+            ops.callback().onSuccess(ops);
+        }
+
+        void fail(FlowRule rule) {
+            FlowRuleOperations ops = last();
+            for (Set<FlowRuleOperation> stage : ops.stages()) {
+                assertEquals(1, stage.stream().filter(op -> op.rule().equals(rule)).count());
+            }
+            ops.callback().onError(FlowRuleOperations.builder().add(rule).build());
+        }
+    }
+}
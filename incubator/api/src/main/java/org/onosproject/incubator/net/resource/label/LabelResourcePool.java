@@ -17,7 +17,6 @@ package org.onosproject.incubator.net.resource.label;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
@@ -25,15 +24,20 @@ import com.google.common.annotations.Beta;
 import org.onosproject.net.DeviceId;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.DiscreteDomain;
+import com.google.common.collect.ImmutableRangeSet;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
 
 /**
  * Abstraction of the capacity of device label resource or global label
- * resource. It's contiguous range of label resource. When a application apply
- * some labels of some device, first catch from Set that store
- * available labels, if the size of the Set less than the apply number, then get
- * labels by calculating with three attributes, beginLabel,endLabel and
- * currentUsedMaxLabelId.
+ * resource. It's contiguous range of label resource. The labels of the range
+ * which are free are kept as a set of disjoint ranges, so that the size of a
+ * pool depends on how fragmented it is rather than on how many labels it
+ * holds.
  */
 @Beta
 public class LabelResourcePool {
@@ -42,10 +46,8 @@ public class LabelResourcePool {
     private final LabelResourceId beginLabel;
     private final LabelResourceId endLabel;
     private final long totalNum; // capacity of label resource pool
-    private final long usedNum; // have used label number
-    private final LabelResourceId currentUsedMaxLabelId; // the maximal label
-                                                        // number id
-    private ImmutableSet<LabelResource> releaseLabelId; // Set of released label
+    private final ImmutableRangeSet<Long> freeLabels; // canonical, closed-open
+    private final long freeNum;
 
     /**
      * Creates a pool by device id,begin label id,end label id.
@@ -57,8 +59,8 @@ public class LabelResourcePool {
      *            resource pool
      */
     public LabelResourcePool(String deviceId, long beginLabel, long endLabel) {
-        this(deviceId, beginLabel, endLabel, endLabel - beginLabel + 1, 0L,
-             beginLabel, ImmutableSet.copyOf(Collections.emptySet()));
+        this(deviceId, beginLabel, endLabel,
+             ImmutableRangeSet.of(Range.closed(beginLabel, endLabel)));
     }
 
     /**
@@ -74,22 +76,69 @@ public class LabelResourcePool {
      * @param usedNum have used label number
      * @param currentUsedMaxLabelId the maximal label number id
      * @param releaseLabelId Set of released label
+     * @deprecated in Emu release; use
+     *             {@link #LabelResourcePool(String, long, long, RangeSet)}
      */
+    @Deprecated
     public LabelResourcePool(String deviceId, long beginLabel, long endLabel,
                              long totalNum, long usedNum,
                              long currentUsedMaxLabelId,
                              ImmutableSet<LabelResource> releaseLabelId) {
+        this(deviceId, beginLabel, endLabel,
+             freeLabels(beginLabel, endLabel, currentUsedMaxLabelId, releaseLabelId));
+    }
+
+    /**
+     * Creates a pool by device id, begin label id, end label id and the
+     * labels of the range which are free.
+     *
+     * @param deviceId device identifier
+     * @param beginLabel represents for the first label id in the range of label
+     *            resource pool
+     * @param endLabel represents for the last label id in the range of label
+     *            resource pool
+     * @param freeLabels free label ids; ids outside of the range are ignored
+     */
+    public LabelResourcePool(String deviceId, long beginLabel, long endLabel,
+                             RangeSet<Long> freeLabels) {
         checkArgument(endLabel >= beginLabel,
                       "endLabel %s must be greater than or equal to beginLabel %s",
                       endLabel, beginLabel);
+        checkArgument(endLabel < Long.MAX_VALUE, "endLabel %s is out of range", endLabel);
         this.deviceId = DeviceId.deviceId(deviceId);
         this.beginLabel = LabelResourceId.labelResourceId(beginLabel);
         this.endLabel = LabelResourceId.labelResourceId(endLabel);
-        this.totalNum = totalNum;
-        this.usedNum = usedNum;
-        this.currentUsedMaxLabelId = LabelResourceId
-                .labelResourceId(currentUsedMaxLabelId);
-        this.releaseLabelId = releaseLabelId;
+        this.totalNum = endLabel - beginLabel + 1;
+
+        RangeSet<Long> free = TreeRangeSet.create();
+        Range<Long> bounds = Range.closed(beginLabel, endLabel);
+        for (Range<Long> range : freeLabels.asRanges()) {
+            if (range.isConnected(bounds)) {
+                Range<Long> r = range.intersection(bounds).canonical(DiscreteDomain.longs());
+                if (!r.isEmpty()) {
+                    free.add(r);
+                }
+            }
+        }
+        this.freeLabels = ImmutableRangeSet.copyOf(free);
+        long num = 0;
+        for (Range<Long> range : this.freeLabels.asRanges()) {
+            num += range.upperEndpoint() - range.lowerEndpoint();
+        }
+        this.freeNum = num;
+    }
+
+    private static RangeSet<Long> freeLabels(long beginLabel, long endLabel,
+                                             long currentUsedMaxLabelId,
+                                             Set<LabelResource> released) {
+        RangeSet<Long> free = TreeRangeSet.create();
+        if (currentUsedMaxLabelId <= endLabel) {
+            free.add(Range.closed(currentUsedMaxLabelId, endLabel));
+        }
+        released.forEach(label -> free.add(
+                Range.singleton(label.labelResourceId().labelId())
+                        .canonical(DiscreteDomain.longs())));
+        return free;
     }
 
     /**
@@ -120,12 +169,16 @@ public class LabelResourcePool {
     }
 
     /**
-     * Returns a begin Label id.
+     * Returns the first label id of the free labels at the end of the range;
+     * no label from there on has been applied. If the last label of the range
+     * is in use, this is the id following the end label id.
      *
      * @return current Used Maximal Label Id
      */
     public LabelResourceId currentUsedMaxLabelId() {
-        return currentUsedMaxLabelId;
+        Range<Long> tail = freeLabels.rangeContaining(endLabel.labelId());
+        return LabelResourceId.labelResourceId(tail != null ? tail.lowerEndpoint()
+                                                       : endLabel.labelId() + 1);
     }
 
     /**
@@ -143,23 +196,54 @@ public class LabelResourcePool {
      * @return the used label number
      */
     public long usedNum() {
-        return usedNum;
+        return totalNum - freeNum;
+    }
+
+    /**
+     * Returns free number.
+     *
+     * @return the free label number
+     */
+    public long freeNum() {
+        return freeNum;
+    }
+
+    /**
+     * Returns the free label ids of the pool, as canonical closed-open ranges.
+     *
+     * @return free label ids
+     */
+    public ImmutableRangeSet<Long> freeLabels() {
+        return freeLabels;
     }
 
     /**
      * Returns the Set of released label before.
      *
      * @return the Set of LabelResource
+     * @deprecated in Emu release; the set is built label by label, use
+     *             {@link #freeLabels()}
      */
+    @Deprecated
     public Set<LabelResource> releaseLabelId() {
-        return releaseLabelId;
+        long current = currentUsedMaxLabelId().labelId();
+        ImmutableSet.Builder<LabelResource> released = ImmutableSet.builder();
+        for (Range<Long> range : freeLabels.asRanges()) {
+            if (range.lowerEndpoint() >= current) {
+                break;
+            }
+            for (long id : ContiguousSet.create(range, DiscreteDomain.longs())) {
+                released.add(new DefaultLabelResource(deviceId,
+                                                      LabelResourceId.labelResourceId(id)));
+            }
+        }
+        return released.build();
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(this.deviceId, this.beginLabel, this.endLabel,
-                            this.totalNum, this.usedNum,
-                            this.currentUsedMaxLabelId, this.releaseLabelId);
+                            this.freeLabels);
     }
 
     @Override
@@ -169,23 +253,17 @@ public class LabelResourcePool {
             return Objects.equals(this.deviceId, that.deviceId)
                     && Objects.equals(this.beginLabel, that.beginLabel)
                     && Objects.equals(this.endLabel, that.endLabel)
-                    && Objects.equals(this.totalNum, that.totalNum)
-                    && Objects.equals(this.usedNum, that.usedNum)
-                    && Objects.equals(this.currentUsedMaxLabelId,
-                                      that.currentUsedMaxLabelId)
-                    && Objects.equals(this.releaseLabelId, that.releaseLabelId);
+                    && Objects.equals(this.freeLabels, that.freeLabels);
         }
         return false;
     }
 
     @Override
     public String toString() {
-        // TODO Auto-generated method stub
         return MoreObjects.toStringHelper(this).add("deviceId", this.deviceId)
                 .add("beginLabel", this.beginLabel)
                 .add("endLabel", this.endLabel).add("totalNum", this.totalNum)
-                .add("usedNum", this.usedNum)
-                .add("currentUsedMaxLabelId", this.currentUsedMaxLabelId)
-                .add("releaseLabelId", this.releaseLabelId).toString();
+                .add("usedNum", usedNum())
+                .add("freeLabels", this.freeLabels).toString();
     }
 }
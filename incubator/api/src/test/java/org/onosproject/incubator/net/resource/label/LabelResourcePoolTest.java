@@ -17,9 +17,16 @@ package org.onosproject.incubator.net.resource.label;
 
 import org.junit.Test;
 import org.onosproject.event.AbstractEventTest;
+import org.onosproject.net.DeviceId;
 
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.TreeRangeSet;
 import com.google.common.testing.EqualsTester;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Tests of the label resource pool.
  */
@@ -35,4 +42,37 @@ public class LabelResourcePoolTest extends AbstractEventTest {
                 .testEquals();
     }
 
+    @Test
+    public void testFreeRanges() {
+        TreeRangeSet<Long> free = TreeRangeSet.create();
+        free.add(Range.closed(10L, 19L));
+        free.add(Range.closed(20L, 29L));
+        free.add(Range.closed(90L, 200L));
+        LabelResourcePool pool = new LabelResourcePool("of:001", 0, 100, free);
+
+        assertEquals(101, pool.totalNum());
+        assertEquals(31, pool.freeNum());
+        assertEquals(70, pool.usedNum());
+        assertEquals("adjacent ranges should be coalesced and clipped",
+                     ImmutableRangeSet.<Long>builder()
+                             .add(Range.closedOpen(10L, 30L))
+                             .add(Range.closedOpen(90L, 101L))
+                             .build(),
+                     pool.freeLabels());
+        assertEquals(LabelResourceId.labelResourceId(90), pool.currentUsedMaxLabelId());
+        assertEquals(20, pool.releaseLabelId().size());
+    }
+
+    @Test
+    public void testFromReleasedLabels() {
+        DeviceId deviceId = DeviceId.deviceId("of:001");
+        LabelResourcePool pool = new LabelResourcePool(
+                "of:001", 0, 100, 101, 48, 50,
+                ImmutableSet.of(new DefaultLabelResource(deviceId, LabelResourceId.labelResourceId(3)),
+                                new DefaultLabelResource(deviceId, LabelResourceId.labelResourceId(4))));
+        assertEquals(53, pool.freeNum());
+        assertEquals(LabelResourceId.labelResourceId(50), pool.currentUsedMaxLabelId());
+        assertEquals(2, pool.releaseLabelId().size());
+    }
+
 }
@@ -18,12 +18,14 @@ package org.onosproject.incubator.store.resource.impl;
 import static org.onlab.util.Tools.groupedThreads;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -66,6 +68,9 @@ import org.slf4j.Logger;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
 
 /**
  * Manages label resources using copycat.
@@ -105,7 +110,8 @@ public class DistributedLabelResourceStore
     private static final Serializer SERIALIZER = Serializer
             .using(new KryoNamespace.Builder().register(KryoNamespaces.API)
                     .register(LabelResourceEvent.class)
-                    .register(LabelResourcePool.class).register(DeviceId.class)
+                    .register(new LabelResourcePoolSerializer(), LabelResourcePool.class)
+                    .register(DeviceId.class)
                     .register(LabelResourceRequest.class)
                     .register(LabelResourceRequest.Type.class)
                     .register(LabelResourceEvent.Type.class)
@@ -337,131 +343,131 @@ public class DistributedLabelResourceStore
     private Collection<LabelResource> internalApply(LabelResourceRequest request) {
         DeviceId deviceId = request.deviceId();
         long applyNum = request.applyNum();
-        Versioned<LabelResourcePool> poolOld = resourcePool.get(deviceId);
-        LabelResourcePool pool = poolOld.value();
-        Collection<LabelResource> result = new HashSet<LabelResource>();
-        long freeNum = this.getFreeNumOfDevicePool(deviceId);
-        if (applyNum > freeNum) {
-            log.info("the free number of the label resource pool of deviceId {} is not enough.");
-            return Collections.emptyList();
-        }
-        Set<LabelResource> releaseLabels = new HashSet<LabelResource>(
-                                                                      pool.releaseLabelId());
-        long tmp = releaseLabels.size() > applyNum ? applyNum : releaseLabels
-                .size();
-        LabelResource resource = null;
-        for (int i = 0; i < tmp; i++) {
-            Iterator<LabelResource> it = releaseLabels.iterator();
-            if (it.hasNext()) {
-                resource = it.next();
-                releaseLabels.remove(resource);
+        while (true) {
+            Versioned<LabelResourcePool> poolOld = resourcePool.get(deviceId);
+            if (poolOld == null) {
+                log.info("the label resource pool of device id {} does not exist", deviceId);
+                return Collections.emptyList();
             }
-            result.add(resource);
-        }
-        for (long j = pool.currentUsedMaxLabelId().labelId(); j < pool
-                .currentUsedMaxLabelId().labelId() + applyNum - tmp; j++) {
-            resource = new DefaultLabelResource(deviceId,
-                                                LabelResourceId
-                                                        .labelResourceId(j));
-            result.add(resource);
+            LabelResourcePool pool = poolOld.value();
+            if (applyNum > pool.freeNum()) {
+                log.info("the free number of the label resource pool of deviceId {} is not enough.",
+                         deviceId);
+                return Collections.emptyList();
+            }
+
+            // take whole blocks from the lowest free ranges
+            List<LabelResource> result = new ArrayList<>((int) applyNum);
+            RangeSet<Long> free = TreeRangeSet.create(pool.freeLabels());
+            long remaining = applyNum;
+            for (Range<Long> range : pool.freeLabels().asRanges()) {
+                if (remaining == 0) {
+                    break;
+                }
+                long begin = range.lowerEndpoint();
+                long end = Math.min(range.upperEndpoint(), begin + remaining);
+                free.remove(Range.closedOpen(begin, end));
+                for (long id = begin; id < end; id++) {
+                    result.add(new DefaultLabelResource(deviceId,
+                                                        LabelResourceId.labelResourceId(id)));
+                }
+                remaining -= end - begin;
+            }
+
+            LabelResourcePool newPool = new LabelResourcePool(deviceId.toString(),
+                                                              pool.beginLabel().labelId(),
+                                                              pool.endLabel().labelId(),
+                                                              free);
+            if (resourcePool.replace(deviceId, poolOld.version(), newPool)) {
+                log.debug("success to apply label resource");
+                return result;
+            }
+            log.debug("Concurrent update of label resource pool of {}, retrying", deviceId);
         }
-        long beginLabel = pool.beginLabel().labelId();
-        long endLabel = pool.endLabel().labelId();
-        long totalNum = pool.totalNum();
-        long current = pool.currentUsedMaxLabelId().labelId() + applyNum - tmp;
-        long usedNum = pool.usedNum() + applyNum;
-        ImmutableSet<LabelResource> freeLabel = ImmutableSet
-                .copyOf(releaseLabels);
-        LabelResourcePool newPool = new LabelResourcePool(deviceId.toString(),
-                                                          beginLabel, endLabel,
-                                                          totalNum, usedNum,
-                                                          current, freeLabel);
-        resourcePool.put(deviceId, newPool);
-        log.info("success to apply label resource");
-        return result;
     }
 
     @Override
     public boolean releaseToDevicePool(Multimap<DeviceId, LabelResource> release) {
         Map<DeviceId, Collection<LabelResource>> maps = release.asMap();
-        Set<DeviceId> deviceIdSet = maps.keySet();
-        LabelResourceRequest request = null;
-        for (Iterator<DeviceId> it = deviceIdSet.iterator(); it.hasNext();) {
-            DeviceId deviceId = (DeviceId) it.next();
-            Device device = (Device) deviceService.getDevice(deviceId);
+        boolean success = true;
+        List<CompletableFuture<Boolean>> remote = new ArrayList<>();
+        for (Map.Entry<DeviceId, Collection<LabelResource>> entry : maps.entrySet()) {
+            DeviceId deviceId = entry.getKey();
+            Device device = deviceService.getDevice(deviceId);
             if (device == null) {
                 continue;
             }
-            ImmutableSet<LabelResource> collection = ImmutableSet.copyOf(maps
-                    .get(deviceId));
-            request = new LabelResourceRequest(
+            LabelResourceRequest request = new LabelResourceRequest(
                                                deviceId,
                                                LabelResourceRequest.Type.RELEASE,
-                                               0, collection);
+                                               0, ImmutableSet.copyOf(entry.getValue()));
             NodeId master = mastershipService.getMasterFor(deviceId);
 
             if (master == null) {
                 log.warn("Failed to releaseToDevicePool: No master for {}", deviceId);
-                return false;
+                success = false;
+                continue;
             }
 
             if (master.equals(clusterService.getLocalNode().id())) {
-                return internalRelease(request);
+                success &= internalRelease(request);
+                continue;
             }
 
             log.trace("Forwarding request to {}, which is the primary (master) for device {}",
                       master, deviceId);
 
-            return complete(clusterCommunicator
+            // one request per device; requests to all masters are in flight together
+            remote.add(clusterCommunicator
                     .sendAndReceive(request,
                                     LabelResourceMessageSubjects.LABEL_POOL_RELEASE,
                                     SERIALIZER::encode, SERIALIZER::decode,
                                     master));
         }
-        return false;
+        for (CompletableFuture<Boolean> future : remote) {
+            success &= Boolean.TRUE.equals(complete(future));
+        }
+        return success;
     }
 
     private boolean internalRelease(LabelResourceRequest request) {
         DeviceId deviceId = request.deviceId();
         Collection<LabelResource> release = request.releaseCollection();
-        Versioned<LabelResourcePool> poolOld = resourcePool.get(deviceId);
-        LabelResourcePool pool = poolOld.value();
-        if (pool == null) {
-            log.info("the label resource pool of device id {} does not exist");
-            return false;
-        }
-        Set<LabelResource> storeSet = new HashSet<LabelResource>(
-                                                                 pool.releaseLabelId());
-        LabelResource labelResource = null;
-        long realReleasedNum = 0;
-        for (Iterator<LabelResource> it = release.iterator(); it.hasNext();) {
-            labelResource = it.next();
-            if (labelResource.labelResourceId().labelId() < pool.beginLabel()
-                    .labelId()
-                    || labelResource.labelResourceId().labelId() > pool
-                            .endLabel().labelId()) {
-                continue;
+        while (true) {
+            Versioned<LabelResourcePool> poolOld = resourcePool.get(deviceId);
+            if (poolOld == null) {
+                log.info("the label resource pool of device id {} does not exist", deviceId);
+                return false;
             }
-            if (pool.currentUsedMaxLabelId().labelId() > labelResource
-                    .labelResourceId().labelId()
-                    || !storeSet.contains(labelResource)) {
-                storeSet.add(labelResource);
-                realReleasedNum++;
+            LabelResourcePool pool = poolOld.value();
+            long begin = pool.beginLabel().labelId();
+            long end = pool.endLabel().labelId();
+
+            // coalesce consecutive label ids into ranges before adding them
+            long[] ids = release.stream()
+                    .mapToLong(label -> label.labelResourceId().labelId())
+                    .filter(id -> id >= begin && id <= end)
+                    .sorted()
+                    .toArray();
+            RangeSet<Long> free = TreeRangeSet.create(pool.freeLabels());
+            for (int i = 0; i < ids.length;) {
+                int j = i;
+                while (j + 1 < ids.length && ids[j + 1] <= ids[j] + 1) {
+                    j++;
+                }
+                free.add(Range.closedOpen(ids[i], ids[j] + 1));
+                i = j + 1;
             }
+
+            LabelResourcePool newPool = new LabelResourcePool(deviceId.toString(),
+                                                              begin, end, free);
+            if (newPool.equals(pool)
+                    || resourcePool.replace(deviceId, poolOld.version(), newPool)) {
+                log.debug("success to release label resource");
+                return true;
+            }
+            log.debug("Concurrent update of label resource pool of {}, retrying", deviceId);
         }
-        long beginNum = pool.beginLabel().labelId();
-        long endNum = pool.endLabel().labelId();
-        long totalNum = pool.totalNum();
-        long usedNum = pool.usedNum() - realReleasedNum;
-        long current = pool.currentUsedMaxLabelId().labelId();
-        ImmutableSet<LabelResource> s = ImmutableSet.copyOf(storeSet);
-        LabelResourcePool newPool = new LabelResourcePool(deviceId.toString(),
-                                                          beginNum, endNum,
-                                                          totalNum, usedNum,
-                                                          current, s);
-        resourcePool.put(deviceId, newPool);
-        log.info("success to release label resource");
-        return true;
     }
 
     @Override
@@ -470,8 +476,7 @@ public class DistributedLabelResourceStore
         if (pool == null) {
             return true;
         }
-        return pool.value().currentUsedMaxLabelId() == pool.value().endLabel()
-                && pool.value().releaseLabelId().size() == 0 ? true : false;
+        return pool.value().freeNum() == 0;
     }
 
     @Override
@@ -480,9 +485,7 @@ public class DistributedLabelResourceStore
         if (pool == null) {
             return 0;
         }
-        return pool.value().endLabel().labelId()
-                - pool.value().currentUsedMaxLabelId().labelId()
-                + pool.value().releaseLabelId().size();
+        return pool.value().freeNum();
     }
 
     @Override
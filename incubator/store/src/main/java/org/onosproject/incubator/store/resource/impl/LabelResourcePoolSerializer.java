@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.incubator.store.resource.impl;
+
+import org.onosproject.incubator.net.resource.label.LabelResourcePool;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+
+/**
+ * Kryo Serializer for {@link LabelResourcePool}, writing the free labels as
+ * ranges.
+ */
+final class LabelResourcePoolSerializer extends Serializer<LabelResourcePool> {
+
+    /**
+     * Creates a serializer for {@link LabelResourcePool}.
+     */
+    LabelResourcePoolSerializer() {
+        // non-null, immutable
+        super(false, true);
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output, LabelResourcePool pool) {
+        output.writeString(pool.deviceId().toString());
+        output.writeLong(pool.beginLabel().labelId());
+        output.writeLong(pool.endLabel().labelId());
+        output.writeInt(pool.freeLabels().asRanges().size(), true);
+        for (Range<Long> range : pool.freeLabels().asRanges()) {
+            output.writeLong(range.lowerEndpoint());
+            output.writeLong(range.upperEndpoint());
+        }
+    }
+
+    @Override
+    public LabelResourcePool read(Kryo kryo, Input input, Class<LabelResourcePool> type) {
+        String deviceId = input.readString();
+        long beginLabel = input.readLong();
+        long endLabel = input.readLong();
+        int count = input.readInt(true);
+        RangeSet<Long> freeLabels = TreeRangeSet.create();
+        for (int i = 0; i < count; i++) {
+            freeLabels.add(Range.closedOpen(input.readLong(), input.readLong()));
+        }
+        return new LabelResourcePool(deviceId, beginLabel, endLabel, freeLabels);
+    }
+}
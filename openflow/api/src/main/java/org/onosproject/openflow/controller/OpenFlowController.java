@@ -127,4 +127,11 @@ public interface OpenFlowController {
      * @param dpid the switch to set the role for.
      */
     void setRole(Dpid dpid, RoleState role);
+
+    /**
+     * Returns the scheduler the statistics of the switches are polled with.
+     *
+     * @return statistics poll scheduler
+     */
+    StatsPollScheduler statsPollScheduler();
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openflow.controller;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.onlab.util.Tools.groupedThreads;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Scheduler shared by the OpenFlow providers for polling flow, port, group
+ * and meter statistics. The scheduler is owned by the OpenFlow controller,
+ * which shuts it down when deactivated.
+ * <p>
+ * The first poll of every poller is placed at a random offset within its
+ * interval and each subsequent poll is jittered, so that switches are not
+ * polled in phase. Adaptive pollers back off, up to a bounded multiple of
+ * their interval, while the statistics they collect do not change. The number
+ * of requests awaiting a reply across all switches is capped; polls that
+ * exceed the cap are briefly deferred.
+ * </p>
+ */
+public final class StatsPollScheduler {
+
+    private static final int SECONDS = 1000;
+    private static final double JITTER = 0.1;
+    private static final int MAX_BACKOFF = 4;
+    private static final long DEFER_DELAY_MS = 50;
+
+    private final Logger log = getLogger(getClass());
+
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int maxInFlight;
+
+    /**
+     * Creates a new scheduler with a thread of its own.
+     *
+     * @param maxInFlight maximum number of outstanding requests
+     */
+    public StatsPollScheduler(int maxInFlight) {
+        this(newSingleThreadScheduledExecutor(groupedThreads("onos/of", "stats-poller")),
+             maxInFlight);
+    }
+
+    /**
+     * Creates a new scheduler backed by the given executor.
+     *
+     * @param executor    scheduled executor used to issue polls
+     * @param maxInFlight maximum number of outstanding requests
+     */
+    StatsPollScheduler(ScheduledExecutorService executor, int maxInFlight) {
+        this.executor = checkNotNull(executor);
+        setMaxInFlight(maxInFlight);
+    }
+
+    /**
+     * Shuts the scheduler down; pollers created by it no longer poll.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sets the maximum number of statistics requests that may await a reply
+     * at any one time.
+     *
+     * @param maxInFlight maximum number of outstanding requests
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        checkArgument(maxInFlight > 0, "Max in-flight requests must be greater than 0");
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the number of statistics requests currently awaiting a reply.
+     *
+     * @return number of outstanding requests
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Creates a new poller; the poller is idle until started.
+     * <p>
+     * The poll function is expected to send the statistics request and
+     * return true, or to return false if no request was sent, e.g. because
+     * the switch is not mastered locally. Once a reply has been received in
+     * full, the owner reports it via {@link Poller#completed(boolean)}.
+     * </p>
+     *
+     * @param name         name of the poller, used for logging
+     * @param pollInterval poll interval in seconds
+     * @param adaptive     whether the interval may back off while stats remain unchanged
+     * @param poll         function issuing the statistics request
+     * @return new poller
+     */
+    public Poller newPoller(String name, int pollInterval, boolean adaptive,
+                            BooleanSupplier poll) {
+        return new Poller(name, pollInterval, adaptive, poll);
+    }
+
+    private boolean acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+    }
+
+    private static long jittered(long delayMs) {
+        long spread = (long) (delayMs * JITTER);
+        if (spread == 0) {
+            return delayMs;
+        }
+        return delayMs + ThreadLocalRandom.current().nextLong(-spread, spread + 1);
+    }
+
+    /**
+     * Periodic statistics poller for a single switch and statistics type.
+     */
+    public final class Poller {
+
+        private final String name;
+        private final boolean adaptive;
+        private final BooleanSupplier poll;
+        private final AtomicBoolean awaitingReply = new AtomicBoolean();
+
+        private volatile int pollInterval;
+        private volatile long currentDelayMs;
+        private ScheduledFuture<?> future;
+        private boolean running;
+        private volatile int generation;
+
+        private Poller(String name, int pollInterval, boolean adaptive,
+                       BooleanSupplier poll) {
+            checkArgument(pollInterval > 0, "Poll interval must be greater than 0");
+            this.name = checkNotNull(name);
+            this.adaptive = adaptive;
+            this.poll = checkNotNull(poll);
+            this.pollInterval = pollInterval;
+            this.currentDelayMs = pollInterval * SECONDS;
+        }
+
+        /**
+         * Starts polling; the first poll happens at a random point within
+         * the first interval.
+         */
+        public synchronized void start() {
+            log.debug("Starting stats poller {}", name);
+            running = true;
+            generation++;
+            schedule(generation, ThreadLocalRandom.current().nextLong(currentDelayMs) + 1);
+        }
+
+        /**
+         * Stops polling.
+         */
+        public synchronized void stop() {
+            log.debug("Stopping stats poller {}", name);
+            running = false;
+            generation++;
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+            }
+            releaseIfAwaiting();
+        }
+
+        /**
+         * Adjusts the poll interval; the next poll is rescheduled accordingly.
+         *
+         * @param pollInterval poll interval in seconds
+         */
+        public synchronized void adjustPollInterval(int pollInterval) {
+            checkArgument(pollInterval > 0, "Poll interval must be greater than 0");
+            this.pollInterval = pollInterval;
+            this.currentDelayMs = pollInterval * SECONDS;
+            if (running) {
+                if (future != null) {
+                    future.cancel(false);
+                }
+                generation++;
+                schedule(generation, jittered(currentDelayMs));
+            }
+        }
+
+        /**
+         * Resets any back-off so that the next poll happens within the
+         * configured interval, e.g. after the owner modified the switch state
+         * being polled.
+         */
+        public synchronized void resetBackoff() {
+            long base = pollInterval * SECONDS;
+            if (currentDelayMs > base) {
+                currentDelayMs = base;
+                if (running) {
+                    if (future != null) {
+                        future.cancel(false);
+                    }
+                    generation++;
+                    schedule(generation, jittered(base));
+                }
+            }
+        }
+
+        /**
+         * Reports that the reply to the last request has been received in
+         * full.
+         *
+         * @param changed whether the statistics changed since the previous reply
+         */
+        public void completed(boolean changed) {
+            releaseIfAwaiting();
+            if (!adaptive) {
+                return;
+            }
+            long base = pollInterval * SECONDS;
+            currentDelayMs = changed ? base : Math.min(currentDelayMs * 2, base * MAX_BACKOFF);
+        }
+
+        /**
+         * Returns the current delay between polls, in milliseconds.
+         *
+         * @return current poll delay
+         */
+        public long currentDelay() {
+            return currentDelayMs;
+        }
+
+        private void releaseIfAwaiting() {
+            if (awaitingReply.compareAndSet(true, false)) {
+                release();
+            }
+        }
+
+        private synchronized void schedule(int gen, long delayMs) {
+            // Polls belonging to an older schedule are dropped
+            if (running && gen == generation && !executor.isShutdown()) {
+                future = executor.schedule(() -> fire(gen), delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void fire(int gen) {
+            if (gen != generation) {
+                return;
+            }
+            // A reply that has not arrived within a full interval is lost
+            releaseIfAwaiting();
+            if (!acquire()) {
+                log.trace("Deferring stats poll {}; too many requests in flight", name);
+                schedule(gen, jittered(DEFER_DELAY_MS));
+                return;
+            }
+            awaitingReply.set(true);
+            try {
+                if (!poll.getAsBoolean()) {
+                    releaseIfAwaiting();
+                }
+            } catch (Exception e) {
+                log.warn("Unable to poll stats for {}", name, e);
+                releaseIfAwaiting();
+            }
+            schedule(gen, jittered(currentDelayMs));
+        }
+    }
+}
@@ -86,4 +86,9 @@ public class OpenflowControllerAdapter implements OpenFlowController {
     @Override
     public void removeEventListener(OpenFlowEventListener listener) {
     }
+
+    @Override
+    public StatsPollScheduler statsPollScheduler() {
+        return null;
+    }
 }
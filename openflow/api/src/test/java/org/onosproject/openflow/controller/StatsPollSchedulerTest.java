@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openflow.controller;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.onlab.junit.TestTools.assertAfter;
+import static org.onlab.junit.TestTools.delay;
+
+/**
+ * Tests of the statistics poll scheduler.
+ */
+public class StatsPollSchedulerTest {
+
+    private ScheduledExecutorService executor;
+    private StatsPollScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        executor = newSingleThreadScheduledExecutor();
+        scheduler = new StatsPollScheduler(executor, 1);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void adaptiveBackoff() {
+        StatsPollScheduler.Poller poller =
+                scheduler.newPoller("test", 1, true, () -> true);
+        assertEquals("incorrect initial delay", 1000, poller.currentDelay());
+        poller.completed(false);
+        assertEquals("incorrect delay", 2000, poller.currentDelay());
+        poller.completed(false);
+        poller.completed(false);
+        assertEquals("delay should be capped", 4000, poller.currentDelay());
+        poller.completed(true);
+        assertEquals("delay should be reset", 1000, poller.currentDelay());
+    }
+
+    @Test
+    public void fixedInterval() {
+        StatsPollScheduler.Poller poller =
+                scheduler.newPoller("test", 1, false, () -> true);
+        poller.completed(false);
+        assertEquals("delay should not change", 1000, poller.currentDelay());
+    }
+
+    @Test
+    public void inFlightCap() {
+        AtomicInteger polls = new AtomicInteger();
+        StatsPollScheduler.Poller first =
+                scheduler.newPoller("first", 1, false, () -> polls.incrementAndGet() > 0);
+        StatsPollScheduler.Poller second =
+                scheduler.newPoller("second", 1, false, () -> polls.incrementAndGet() > 0);
+        first.start();
+        second.start();
+
+        assertAfter(1100, () -> assertEquals(1, polls.get()));
+        assertEquals(1, scheduler.inFlight());
+        delay(300);
+        assertEquals("second poll should be deferred", 1, polls.get());
+
+        // Whichever poller got to go first now releases its permit
+        first.completed(true);
+        second.completed(true);
+        assertAfter(500, () -> assertEquals(2, polls.get()));
+        first.stop();
+        second.stop();
+        assertEquals(0, scheduler.inFlight());
+    }
+
+    @Test
+    public void noRequestSent() {
+        AtomicInteger polls = new AtomicInteger();
+        StatsPollScheduler.Poller poller =
+                scheduler.newPoller("test", 1, false, () -> polls.incrementAndGet() < 0);
+        poller.start();
+        assertAfter(1100, () -> assertEquals(1, polls.get()));
+        assertEquals("no request should be in flight", 0, scheduler.inFlight());
+        poller.stop();
+    }
+}
@@ -15,8 +15,10 @@
  */
 package org.onosproject.openflow.controller.impl;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
@@ -26,7 +28,12 @@ import org.apache.felix.scr.annotations.Property;
 import org.apache.felix.scr.annotations.Reference;
 import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
+import org.onlab.util.KeyedExecutor;
 import org.onosproject.cfg.ComponentConfigService;
+import org.onosproject.core.MetricsHelper;
 import org.onosproject.net.driver.DefaultDriverProviderService;
 import org.onosproject.net.driver.DriverService;
 import org.onosproject.openflow.controller.DefaultOpenFlowPacketContext;
@@ -38,6 +45,7 @@ import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.OpenFlowSwitchListener;
 import org.onosproject.openflow.controller.PacketListener;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.onosproject.openflow.controller.driver.OpenFlowAgent;
 import org.osgi.service.component.ComponentContext;
 import org.projectfloodlight.openflow.protocol.OFCalientFlowStatsEntry;
@@ -58,31 +66,34 @@ import org.projectfloodlight.openflow.protocol.OFPortStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFPortStatsReply;
 import org.projectfloodlight.openflow.protocol.OFPortStatus;
 import org.projectfloodlight.openflow.protocol.OFStatsReply;
-import org.projectfloodlight.openflow.protocol.OFStatsReplyFlags;
 import org.projectfloodlight.openflow.protocol.action.OFActionOutput;
 import org.projectfloodlight.openflow.protocol.instruction.OFInstruction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
 import java.util.Collections;
+import java.util.Dictionary;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static org.onlab.util.Tools.get;
 import static org.onlab.util.Tools.groupedThreads;
 
 @Component(immediate = true)
 @Service
-public class OpenFlowControllerImpl implements OpenFlowController {
+public class OpenFlowControllerImpl implements OpenFlowController, MetricsHelper {
     private static final String DEFAULT_OFPORT = "6633,6653";
     private static final int DEFAULT_WORKER_THREADS = 16;
+    private static final int DEFAULT_MESSAGE_LANES = 32;
+    private static final int DEFAULT_STATS_MAX_IN_FLIGHT = 128;
+    private static final String METRICS_COMPONENT = "OpenFlow";
+    private static final String LANES_FEATURE = "messageLanes";
 
     private static final Logger log =
             LoggerFactory.getLogger(OpenFlowControllerImpl.class);
@@ -97,6 +108,9 @@ public class OpenFlowControllerImpl implements OpenFlowController {
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService cfgService;
 
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     @Property(name = "openflowPorts", value = DEFAULT_OFPORT,
             label = "Port numbers (comma separated) used by OpenFlow protocol; default is 6633,6653")
     private String openflowPorts = DEFAULT_OFPORT;
@@ -105,11 +119,19 @@ public class OpenFlowControllerImpl implements OpenFlowController {
             label = "Number of controller worker threads; default is 16")
     private int workerThreads = DEFAULT_WORKER_THREADS;
 
-    private final ExecutorService executorMsgs =
-        Executors.newFixedThreadPool(32, groupedThreads("onos/of", "event-stats-%d"));
+    @Property(name = "messageLanes", intValue = DEFAULT_MESSAGE_LANES,
+            label = "Number of lanes for handling switch messages; all messages " +
+                    "of a switch are handled in order on one lane; takes effect " +
+                    "on reactivation; default is 32")
+    private int messageLanes = DEFAULT_MESSAGE_LANES;
+
+    @Property(name = "statsMaxInFlight", intValue = DEFAULT_STATS_MAX_IN_FLIGHT,
+            label = "Maximum number of statistics requests awaiting a reply " +
+                    "across all switches; default is 128")
+    private int statsMaxInFlight = DEFAULT_STATS_MAX_IN_FLIGHT;
 
-    private final ExecutorService executorBarrier =
-        Executors.newFixedThreadPool(4, groupedThreads("onos/of", "event-barrier-%d"));
+    private KeyedExecutor executorMsgs;
+    private StatsPollScheduler statsPollScheduler;
 
     protected ConcurrentHashMap<Dpid, OpenFlowSwitch> connectedSwitches =
             new ConcurrentHashMap<>();
@@ -126,23 +148,20 @@ public class OpenFlowControllerImpl implements OpenFlowController {
 
     protected Set<OpenFlowEventListener> ofEventListener = new CopyOnWriteArraySet<>();
 
-    protected Multimap<Dpid, OFFlowStatsEntry> fullFlowStats =
-            ArrayListMultimap.create();
-
-    protected Multimap<Dpid, OFGroupStatsEntry> fullGroupStats =
-            ArrayListMultimap.create();
-
-    protected Multimap<Dpid, OFGroupDescStatsEntry> fullGroupDescStats =
-            ArrayListMultimap.create();
-
-    protected Multimap<Dpid, OFPortStatsEntry> fullPortStats =
-            ArrayListMultimap.create();
+    private StatsReplyReassembler statsReassembler =
+            new StatsReplyReassembler(null, null);
 
     private final Controller ctrl = new Controller();
 
     @Activate
     public void activate(ComponentContext context) {
         cfgService.registerProperties(getClass());
+        statsReassembler = createStatsReassembler();
+        messageLanes = getPositiveInt(context.getProperties(), "messageLanes", messageLanes);
+        executorMsgs = createMessageExecutor(messageLanes);
+        statsMaxInFlight = getPositiveInt(context.getProperties(), "statsMaxInFlight",
+                                          statsMaxInFlight);
+        statsPollScheduler = new StatsPollScheduler(statsMaxInFlight);
         ctrl.setConfigParams(context.getProperties());
         ctrl.start(agent, driverService);
     }
@@ -151,13 +170,78 @@ public class OpenFlowControllerImpl implements OpenFlowController {
     public void deactivate() {
         cfgService.unregisterProperties(getClass(), false);
         ctrl.stop();
+        removeMessageExecutor(executorMsgs);
+        statsPollScheduler.shutdown();
     }
 
     @Modified
     public void modified(ComponentContext context) {
         ctrl.stop();
+        // Replacing the lanes under live traffic would let the old and new
+        // lanes handle messages of the same switch at once
+        int newMessageLanes = getPositiveInt(context.getProperties(), "messageLanes", messageLanes);
+        if (newMessageLanes != messageLanes) {
+            log.info("messageLanes changed to {}; takes effect on reactivation",
+                     newMessageLanes);
+        }
+        statsMaxInFlight = getPositiveInt(context.getProperties(), "statsMaxInFlight",
+                                          statsMaxInFlight);
+        statsPollScheduler.setMaxInFlight(statsMaxInFlight);
         ctrl.setConfigParams(context.getProperties());
         ctrl.start(agent, driverService);
+        log.info("Settings: messageLanes={}, statsMaxInFlight={}", messageLanes, statsMaxInFlight);
+    }
+
+    private int getPositiveInt(Dictionary<?, ?> properties, String name, int current) {
+        String s = get(properties, name);
+        try {
+            int value = isNullOrEmpty(s) ? current : Integer.parseInt(s.trim());
+            return value > 0 ? value : current;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid {} value {}", name, s);
+            return current;
+        }
+    }
+
+    private KeyedExecutor createMessageExecutor(int lanes) {
+        KeyedExecutor executor =
+                new KeyedExecutor(lanes, groupedThreads("onos/of", "event-lane-%d"));
+        if (metricsService != null) {
+            MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+            MetricsFeature feature = component.registerFeature(LANES_FEATURE);
+            for (int i = 0; i < lanes; i++) {
+                final int lane = i;
+                metricsService.registerMetric(component, feature, "lane-" + i + "-queueDepth",
+                                              (Gauge<Integer>) () -> executor.queueDepth(lane));
+                metricsService.registerMetric(component, feature, "lane-" + i + "-latency",
+                                              executor.latency(i));
+            }
+        }
+        return executor;
+    }
+
+    private void removeMessageExecutor(KeyedExecutor executor) {
+        if (executor == null) {
+            return;
+        }
+        if (metricsService != null) {
+            MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+            MetricsFeature feature = component.registerFeature(LANES_FEATURE);
+            for (int i = 0; i < executor.laneCount(); i++) {
+                metricsService.removeMetric(component, feature, "lane-" + i + "-queueDepth");
+                metricsService.removeMetric(component, feature, "lane-" + i + "-latency");
+            }
+        }
+        executor.shutdown();
+    }
+
+    private void dispatch(Dpid dpid, OFMessage msg) {
+        executorMsgs.execute(dpid, new OFMessageHandler(dpid, msg));
+    }
+
+    @Override
+    public StatsPollScheduler statsPollScheduler() {
+        return statsPollScheduler;
     }
 
     @Override
@@ -229,10 +313,10 @@ public class OpenFlowControllerImpl implements OpenFlowController {
 
     @Override
     public void processPacket(Dpid dpid, OFMessage msg) {
-        Collection<OFFlowStatsEntry> flowStats;
-        Collection<OFGroupStatsEntry> groupStats;
-        Collection<OFGroupDescStatsEntry> groupDescStats;
-        Collection<OFPortStatsEntry> portStats;
+        List<OFFlowStatsEntry> flowStats;
+        List<OFGroupStatsEntry> groupStats;
+        List<OFGroupDescStatsEntry> groupDescStats;
+        List<OFPortStatsEntry> portStats;
 
         switch (msg.getType()) {
         case PORT_STATUS:
@@ -253,11 +337,11 @@ public class OpenFlowControllerImpl implements OpenFlowController {
                 p.handlePacket(pktCtx);
             }
             break;
-        // TODO: Consider using separate threadpool for sensitive messages.
-        //    ie. Back to back error could cause us to starve.
+        // Messages of a switch are handled in order on the lane of that switch,
+        // so that e.g. flow errors are seen before the barrier reply.
         case FLOW_REMOVED:
         case ERROR:
-            executorMsgs.submit(new OFMessageHandler(dpid, msg));
+            dispatch(dpid, msg);
             break;
         case STATS_REPLY:
             OFStatsReply reply = (OFStatsReply) msg;
@@ -268,40 +352,51 @@ public class OpenFlowControllerImpl implements OpenFlowController {
                     }
                     break;
                 case FLOW:
-                    flowStats = publishFlowStats(dpid, (OFFlowStatsReply) reply);
+                    flowStats = statsReassembler.accumulate(dpid, reply,
+                                                            ((OFFlowStatsReply) reply).getEntries());
                     if (flowStats != null) {
                         OFFlowStatsReply.Builder rep =
                                 OFFactories.getFactory(msg.getVersion()).buildFlowStatsReply();
-                        rep.setEntries(Lists.newLinkedList(flowStats));
-                        executorMsgs.submit(new OFMessageHandler(dpid, rep.build()));
+                        rep.setEntries(flowStats);
+                        rep.setXid(reply.getXid());
+                        dispatch(dpid, rep.build());
                     }
                     break;
                 case GROUP:
-                    groupStats = publishGroupStats(dpid, (OFGroupStatsReply) reply);
+                    groupStats = statsReassembler.accumulate(dpid, reply,
+                                                             ((OFGroupStatsReply) reply).getEntries());
                     if (groupStats != null) {
                         OFGroupStatsReply.Builder rep =
                                 OFFactories.getFactory(msg.getVersion()).buildGroupStatsReply();
-                        rep.setEntries(Lists.newLinkedList(groupStats));
+                        rep.setEntries(groupStats);
                         rep.setXid(reply.getXid());
-                        executorMsgs.submit(new OFMessageHandler(dpid, rep.build()));
+                        dispatch(dpid, rep.build());
                     }
                     break;
                 case GROUP_DESC:
-                    groupDescStats = publishGroupDescStats(dpid,
-                            (OFGroupDescStatsReply) reply);
+                    groupDescStats = statsReassembler.accumulate(dpid, reply,
+                                                                 ((OFGroupDescStatsReply) reply).getEntries());
                     if (groupDescStats != null) {
                         OFGroupDescStatsReply.Builder rep =
                                 OFFactories.getFactory(msg.getVersion()).buildGroupDescStatsReply();
-                        rep.setEntries(Lists.newLinkedList(groupDescStats));
+                        rep.setEntries(groupDescStats);
                         rep.setXid(reply.getXid());
-                        executorMsgs.submit(new OFMessageHandler(dpid, rep.build()));
+                        dispatch(dpid, rep.build());
                     }
                     break;
                 case PORT:
-                    executorMsgs.submit(new OFMessageHandler(dpid, reply));
+                    portStats = statsReassembler.accumulate(dpid, reply,
+                                                            ((OFPortStatsReply) reply).getEntries());
+                    if (portStats != null) {
+                        OFPortStatsReply.Builder rep =
+                                OFFactories.getFactory(msg.getVersion()).buildPortStatsReply();
+                        rep.setEntries(portStats);
+                        rep.setXid(reply.getXid());
+                        dispatch(dpid, rep.build());
+                    }
                     break;
                 case METER:
-                    executorMsgs.submit(new OFMessageHandler(dpid, reply));
+                    dispatch(dpid, reply);
                     break;
                 case EXPERIMENTER:
                     if (reply instanceof OFCalientFlowStatsReply) {
@@ -337,16 +432,21 @@ public class OpenFlowControllerImpl implements OpenFlowController {
                             entries.add(fs);
                         }
                         fsr.setEntries(entries);
+                        fsr.setXid(reply.getXid());
+                        fsr.setFlags(reply.getFlags());
 
-                        flowStats = publishFlowStats(dpid, fsr.build());
+                        OFFlowStatsReply converted = fsr.build();
+                        flowStats = statsReassembler.accumulate(dpid, converted,
+                                                                converted.getEntries());
                         if (flowStats != null) {
                             OFFlowStatsReply.Builder rep =
                                     OFFactories.getFactory(msg.getVersion()).buildFlowStatsReply();
-                            rep.setEntries(Lists.newLinkedList(flowStats));
-                            executorMsgs.submit(new OFMessageHandler(dpid, rep.build()));
+                            rep.setEntries(flowStats);
+                            rep.setXid(reply.getXid());
+                            dispatch(dpid, rep.build());
                         }
                     } else {
-                        executorMsgs.submit(new OFMessageHandler(dpid, reply));
+                        dispatch(dpid, reply);
                     }
                     break;
                 default:
@@ -355,7 +455,7 @@ public class OpenFlowControllerImpl implements OpenFlowController {
             }
             break;
         case BARRIER_REPLY:
-            executorBarrier.submit(new OFMessageHandler(dpid, msg));
+            dispatch(dpid, msg);
             break;
         case EXPERIMENTER:
             long experimenter = ((OFExperimenter) msg).getExperimenter();
@@ -384,43 +484,15 @@ public class OpenFlowControllerImpl implements OpenFlowController {
         }
     }
 
-    private synchronized Collection<OFFlowStatsEntry> publishFlowStats(Dpid dpid,
-                                                                       OFFlowStatsReply reply) {
-        //TODO: Get rid of synchronized
-        fullFlowStats.putAll(dpid, reply.getEntries());
-        if (!reply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE)) {
-            return fullFlowStats.removeAll(dpid);
-        }
-        return null;
-    }
-
-    private synchronized Collection<OFGroupStatsEntry> publishGroupStats(Dpid dpid,
-                                                                      OFGroupStatsReply reply) {
-        //TODO: Get rid of synchronized
-        fullGroupStats.putAll(dpid, reply.getEntries());
-        if (!reply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE)) {
-            return fullGroupStats.removeAll(dpid);
-        }
-        return null;
-    }
-
-    private synchronized Collection<OFGroupDescStatsEntry> publishGroupDescStats(Dpid dpid,
-                                                                  OFGroupDescStatsReply reply) {
-        //TODO: Get rid of synchronized
-        fullGroupDescStats.putAll(dpid, reply.getEntries());
-        if (!reply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE)) {
-            return fullGroupDescStats.removeAll(dpid);
+    private StatsReplyReassembler createStatsReassembler() {
+        Timer reassemblyTimer = createTimer("OpenFlow", "statsReassembly", "latency");
+        Histogram replySizes = null;
+        if (metricsService != null) {
+            MetricsComponent component = metricsService.registerComponent("OpenFlow");
+            MetricsFeature feature = component.registerFeature("statsReassembly");
+            replySizes = metricsService.createHistogram(component, feature, "replySize");
         }
-        return null;
-    }
-
-    private synchronized Collection<OFPortStatsEntry> publishPortStats(Dpid dpid,
-                                                                 OFPortStatsReply reply) {
-        fullPortStats.putAll(dpid, reply.getEntries());
-        if (!reply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE)) {
-            return fullPortStats.removeAll(dpid);
-        }
-        return null;
+        return new StatsReplyReassembler(reassemblyTimer, replySizes);
     }
 
     @Override
@@ -567,6 +639,7 @@ public class OpenFlowControllerImpl implements OpenFlowController {
                 log.debug("sw was null for {}", dpid);
                 sw = activeEqualSwitches.remove(dpid);
             }
+            statsReassembler.purge(dpid);
             for (OpenFlowSwitchListener l : ofSwitchListener) {
                 l.switchRemoved(dpid);
             }
@@ -585,6 +658,11 @@ public class OpenFlowControllerImpl implements OpenFlowController {
         }
     }
 
+    @Override
+    public MetricsService metricsService() {
+        return metricsService;
+    }
+
     private final class OFMessageHandler implements Runnable {
 
         private final OFMessage msg;
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openflow.controller.impl;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import org.onosproject.openflow.controller.Dpid;
+import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsReplyFlags;
+import org.projectfloodlight.openflow.protocol.OFStatsType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Reassembles multipart statistics replies.
+ * <p>
+ * Fragments are buffered per switch, transaction id and statistics type, so
+ * that replies from different switches, or to different requests of the same
+ * switch, never contend with each other. Single-part replies bypass the
+ * buffers altogether and their entries are handed back as they are.
+ * </p>
+ */
+final class StatsReplyReassembler {
+
+    private final ConcurrentMap<ReplyKey, PendingReply<?>> pending =
+            new ConcurrentHashMap<>();
+
+    private final Timer reassemblyTimer;
+    private final Histogram replySizes;
+
+    /**
+     * Creates a new reassembler.
+     *
+     * @param reassemblyTimer timer recording the time from first to last
+     *                        fragment of multipart replies; may be null
+     * @param replySizes      histogram recording the number of entries of
+     *                        complete replies; may be null
+     */
+    StatsReplyReassembler(Timer reassemblyTimer, Histogram replySizes) {
+        this.reassemblyTimer = reassemblyTimer;
+        this.replySizes = replySizes;
+    }
+
+    /**
+     * Accumulates the entries of a reply fragment.
+     *
+     * @param dpid    switch the reply came from
+     * @param reply   reply fragment
+     * @param entries entries carried by the fragment
+     * @param <E>     type of the statistics entries
+     * @return all entries of the reply if this was its last fragment;
+     * null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    <E> List<E> accumulate(Dpid dpid, OFStatsReply reply, List<E> entries) {
+        boolean more = reply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE);
+        ReplyKey key = new ReplyKey(dpid, reply.getXid(), reply.getStatsType());
+
+        if (!more) {
+            PendingReply<E> buffer = (PendingReply<E>) pending.remove(key);
+            if (buffer == null) {
+                recordSize(entries.size());
+                return entries;
+            }
+            buffer.entries.addAll(entries);
+            if (reassemblyTimer != null) {
+                reassemblyTimer.update(System.nanoTime() - buffer.started,
+                                       TimeUnit.NANOSECONDS);
+            }
+            recordSize(buffer.entries.size());
+            return buffer.entries;
+        }
+
+        PendingReply<E> buffer = (PendingReply<E>)
+                pending.computeIfAbsent(key, k -> new PendingReply<E>());
+        buffer.entries.addAll(entries);
+        return null;
+    }
+
+    /**
+     * Discards any partially received replies from the given switch.
+     *
+     * @param dpid switch whose replies are to be discarded
+     */
+    void purge(Dpid dpid) {
+        pending.keySet().removeIf(key -> key.dpid.equals(dpid));
+    }
+
+    /**
+     * Returns the number of partially received replies.
+     *
+     * @return number of replies awaiting further fragments
+     */
+    int pendingReplies() {
+        return pending.size();
+    }
+
+    private void recordSize(int size) {
+        if (replySizes != null) {
+            replySizes.update(size);
+        }
+    }
+
+    // Fragments of one reply arrive in order on the channel of their switch.
+    private static final class PendingReply<E> {
+        private final long started = System.nanoTime();
+        private final List<E> entries = new ArrayList<>();
+    }
+
+    private static final class ReplyKey {
+        private final Dpid dpid;
+        private final long xid;
+        private final OFStatsType type;
+
+        private ReplyKey(Dpid dpid, long xid, OFStatsType type) {
+            this.dpid = dpid;
+            this.xid = xid;
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * dpid.hashCode() + Long.hashCode(xid)) + type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof ReplyKey) {
+                ReplyKey that = (ReplyKey) obj;
+                return xid == that.xid && type == that.type &&
+                        Objects.equals(dpid, that.dpid);
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return toStringHelper(this)
+                    .add("dpid", dpid)
+                    .add("xid", xid)
+                    .add("type", type)
+                    .toString();
+        }
+    }
+}
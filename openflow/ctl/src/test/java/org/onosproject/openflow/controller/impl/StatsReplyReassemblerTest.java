@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.openflow.controller.impl;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.UniformReservoir;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.openflow.controller.Dpid;
+import org.projectfloodlight.openflow.protocol.OFFactories;
+import org.projectfloodlight.openflow.protocol.OFFactory;
+import org.projectfloodlight.openflow.protocol.OFPortStatsEntry;
+import org.projectfloodlight.openflow.protocol.OFPortStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsReplyFlags;
+import org.projectfloodlight.openflow.protocol.OFVersion;
+import org.projectfloodlight.openflow.types.OFPort;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StatsReplyReassemblerTest {
+
+    private static final OFFactory FACTORY = OFFactories.getFactory(OFVersion.OF_13);
+    private static final Dpid DPID1 = new Dpid(1L);
+    private static final Dpid DPID2 = new Dpid(2L);
+    private static final Set<OFStatsReplyFlags> MORE =
+            ImmutableSet.of(OFStatsReplyFlags.REPLY_MORE);
+
+    private final Timer timer = new Timer();
+    private final Histogram sizes = new Histogram(new UniformReservoir());
+    private StatsReplyReassembler reassembler;
+
+    @Before
+    public void setUp() {
+        reassembler = new StatsReplyReassembler(timer, sizes);
+    }
+
+    private OFPortStatsReply reply(long xid, boolean more, int... ports) {
+        ImmutableList.Builder<OFPortStatsEntry> entries = ImmutableList.builder();
+        for (int port : ports) {
+            entries.add(FACTORY.buildPortStatsEntry().setPortNo(OFPort.of(port)).build());
+        }
+        return FACTORY.buildPortStatsReply()
+                .setXid(xid)
+                .setFlags(more ? MORE : Collections.emptySet())
+                .setEntries(entries.build())
+                .build();
+    }
+
+    private List<OFPortStatsEntry> accumulate(Dpid dpid, OFPortStatsReply reply) {
+        return reassembler.accumulate(dpid, reply, reply.getEntries());
+    }
+
+    @Test
+    public void singlePart() {
+        OFPortStatsReply reply = reply(1, false, 1, 2);
+        assertSame("entries should not be copied", reply.getEntries(), accumulate(DPID1, reply));
+        assertEquals(0, reassembler.pendingReplies());
+        assertEquals(1, sizes.getCount());
+        assertEquals(0, timer.getCount());
+    }
+
+    @Test
+    public void multiPart() {
+        assertNull(accumulate(DPID1, reply(1, true, 1, 2)));
+        assertNull(accumulate(DPID2, reply(1, true, 7)));
+        assertNull(accumulate(DPID1, reply(2, true, 5)));
+        assertEquals(3, reassembler.pendingReplies());
+
+        assertNull(accumulate(DPID1, reply(1, true, 3)));
+        List<OFPortStatsEntry> entries = accumulate(DPID1, reply(1, false, 4));
+        assertEquals(4, entries.size());
+        assertEquals(OFPort.of(1), entries.get(0).getPortNo());
+        assertEquals(OFPort.of(4), entries.get(3).getPortNo());
+
+        assertEquals(1, accumulate(DPID2, reply(1, false)).size());
+        assertEquals(1, reassembler.pendingReplies());
+        assertEquals(2, timer.getCount());
+        assertEquals(4, sizes.getSnapshot().getMax());
+    }
+
+    @Test
+    public void purge() {
+        assertNull(accumulate(DPID1, reply(1, true, 1)));
+        assertNull(accumulate(DPID2, reply(1, true, 1)));
+        reassembler.purge(DPID1);
+        assertEquals(1, reassembler.pendingReplies());
+        assertEquals(1, accumulate(DPID1, reply(1, false, 2)).size());
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.onosproject.ovsdb.controller;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -27,6 +28,7 @@ import org.onosproject.ovsdb.rfc.notation.Row;
 import org.onosproject.ovsdb.rfc.operations.Operation;
 import org.onosproject.ovsdb.rfc.schema.DatabaseSchema;
 
+import com.codahale.metrics.Timer;
 import com.google.common.util.concurrent.ListenableFuture;
 
 /**
@@ -56,6 +58,30 @@ public interface OvsdbClientService extends OvsdbRPC {
      */
     void dropTunnel(IpAddress srcIp, IpAddress dstIp);
 
+    /**
+     * Creates the configuration for tunnels to several destinations in a
+     * single transaction.
+     *
+     * @param srcIp source IP address
+     * @param dstIps destination IP addresses
+     * @return operation results, failed with IllegalStateException if the
+     * integration bridge is not found
+     */
+    ListenableFuture<List<OperationResult>> createTunnels(IpAddress srcIp,
+                                                          Collection<IpAddress> dstIps);
+
+    /**
+     * Drops the configuration for tunnels to several destinations in a
+     * single transaction.
+     *
+     * @param srcIp source IP address
+     * @param dstIps destination IP addresses
+     * @return operation results, failed with IllegalStateException if the
+     * integration bridge is not found
+     */
+    ListenableFuture<List<OperationResult>> dropTunnels(IpAddress srcIp,
+                                                        Collection<IpAddress> dstIps);
+
     /**
      * Gets tunnels of the node.
      *
@@ -100,6 +126,28 @@ public interface OvsdbClientService extends OvsdbRPC {
      */
     void dropPort(String bridgeName, String portName);
 
+    /**
+     * Creates several ports in a single transaction.
+     *
+     * @param bridgeName bridge name
+     * @param portNames port names
+     * @return operation results, failed with IllegalStateException if the
+     * bridge is not found
+     */
+    ListenableFuture<List<OperationResult>> createPorts(String bridgeName,
+                                                        Collection<String> portNames);
+
+    /**
+     * Drops several ports in a single transaction.
+     *
+     * @param bridgeName bridge name
+     * @param portNames port names
+     * @return operation results, failed with IllegalStateException if the
+     * bridge is not found
+     */
+    ListenableFuture<List<OperationResult>> dropPorts(String bridgeName,
+                                                      Collection<String> portNames);
+
     /**
      * Gets ports of the bridge.
      *
@@ -228,4 +276,27 @@ public interface OvsdbClientService extends OvsdbRPC {
      * @return ovsdb ports
      */
     Set<OvsdbPort> getLocalPorts(Iterable<String> ifaceids);
+
+    /**
+     * Gets the latency of the requests to the node, from sending a request
+     * to receiving its reply.
+     *
+     * @return request latency timer
+     */
+    Timer requestLatency();
+
+    /**
+     * Gets the number of requests awaiting a reply from the node.
+     *
+     * @return number of in-flight requests
+     */
+    int inFlightRequests();
+
+    /**
+     * Gets the number of requests waiting for the in-flight requests to
+     * complete before being sent.
+     *
+     * @return number of queued requests
+     */
+    int queuedRequests();
 }
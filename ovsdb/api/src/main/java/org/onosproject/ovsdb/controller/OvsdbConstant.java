@@ -65,4 +65,10 @@ public final class OvsdbConstant {
     /** Ovsdb port. */
     public static final int OVSDBPORT = 6640;
 
+    /** Maximum number of requests awaiting a reply from a node. */
+    public static final int MAX_IN_FLIGHT_REQUESTS = 64;
+
+    /** Time allowed for a node to reply to a request, in milliseconds. */
+    public static final long REQUEST_TIMEOUT_MILLIS = 30_000;
+
 }
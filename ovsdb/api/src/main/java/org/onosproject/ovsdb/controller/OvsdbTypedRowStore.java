@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.ovsdb.controller;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.onosproject.ovsdb.rfc.notation.Row;
+
+import com.google.common.collect.Maps;
+
+/**
+ * The class representing the rows of a table decoded into typed values.
+ * <p>
+ * Rows are decoded once, as the monitor updates of the table arrive, so
+ * that lookups do not need to decode the column maps of every row again.
+ * </p>
+ *
+ * @param <T> type of the decoded rows
+ */
+public class OvsdbTypedRowStore<T> {
+
+    private final ConcurrentMap<String, T> rows = Maps.newConcurrentMap();
+    private final Function<Row, T> decoder;
+
+    /**
+     * Creates a typed row store.
+     *
+     * @param decoder function decoding a row; it may return null for rows
+     *                that are not of interest
+     */
+    public OvsdbTypedRowStore(Function<Row, T> decoder) {
+        this.decoder = checkNotNull(decoder, "decoder cannot be null");
+    }
+
+    /**
+     * Decodes a new or updated row and stores it, replacing its previous
+     * value.
+     *
+     * @param uuid the key of the row
+     * @param row  the new contents of the row
+     */
+    public void update(String uuid, Row row) {
+        T value = decoder.apply(row);
+        if (value == null) {
+            rows.remove(uuid);
+        } else {
+            rows.put(uuid, value);
+        }
+    }
+
+    /**
+     * Removes a row.
+     *
+     * @param uuid the key of the row
+     */
+    public void remove(String uuid) {
+        rows.remove(uuid);
+    }
+
+    /**
+     * Gets the decoded value of a row.
+     *
+     * @param uuid the key of the row
+     * @return decoded row, null if the row is not stored
+     */
+    public T get(String uuid) {
+        return rows.get(uuid);
+    }
+
+    /**
+     * Gets the decoded rows, keyed by uuid.
+     *
+     * @return unmodifiable view of the decoded rows
+     */
+    public Map<String, T> rows() {
+        return Collections.unmodifiableMap(rows);
+    }
+
+    /**
+     * Removes all rows.
+     */
+    public void clear() {
+        rows.clear();
+    }
+}
@@ -18,16 +18,23 @@ package org.onosproject.ovsdb.controller.driver;
 import io.netty.channel.Channel;
 
 import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.TimerTask;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.onlab.packet.IpAddress;
+import org.onlab.util.SharedExecutors;
 import org.onosproject.ovsdb.controller.OvsdbBridge;
 import org.onosproject.ovsdb.controller.OvsdbBridgeName;
 import org.onosproject.ovsdb.controller.OvsdbClientService;
@@ -41,9 +48,11 @@ import org.onosproject.ovsdb.controller.OvsdbRowStore;
 import org.onosproject.ovsdb.controller.OvsdbStore;
 import org.onosproject.ovsdb.controller.OvsdbTableStore;
 import org.onosproject.ovsdb.controller.OvsdbTunnel;
+import org.onosproject.ovsdb.controller.OvsdbTypedRowStore;
 import org.onosproject.ovsdb.rfc.jsonrpc.Callback;
 import org.onosproject.ovsdb.rfc.message.OperationResult;
 import org.onosproject.ovsdb.rfc.message.TableUpdates;
+import org.onosproject.ovsdb.rfc.notation.Column;
 import org.onosproject.ovsdb.rfc.notation.Condition;
 import org.onosproject.ovsdb.rfc.notation.Mutation;
 import org.onosproject.ovsdb.rfc.notation.OvsdbMap;
@@ -71,8 +80,12 @@ import org.onosproject.ovsdb.rfc.utils.MutationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Timer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -98,20 +111,55 @@ public class DefaultOvsdbClient
 
     private OvsdbStore ovsdbStore = new OvsdbStore();
 
-    private final Map<String, String> requestMethod = Maps.newHashMap();
-    private final Map<String, SettableFuture<? extends Object>> requestResult = Maps
-            .newHashMap();
-
-    private final Map<String, DatabaseSchema> schema = Maps.newHashMap();
+    private final long requestTimeoutMillis;
+    // Requests sent or waiting to be sent to the node, keyed by request id
+    private final ConcurrentMap<String, PendingRequest> pendingRequests =
+            Maps.newConcurrentMap();
+    // Guards the queue, the in-flight count and the sent flag of requests, so
+    // that requests are sent one at a time and in the order they were made
+    private final Object requestLock = new Object();
+    // Requests waiting for one of the in-flight slots
+    private final Queue<PendingRequest> queuedRequests = new ArrayDeque<>();
+    private int inFlight;
+    private final Timer requestLatency = new Timer();
+
+    private final ConcurrentMap<String, DatabaseSchema> schema = Maps.newConcurrentMap();
     private final Set<OvsdbTunnel> ovsdbTunnels = new HashSet<OvsdbTunnel>();
 
+    // Rows of the Open_vSwitch database decoded as monitor updates arrive
+    private final OvsdbTypedRowStore<BridgeRow> bridgeRows =
+            new OvsdbTypedRowStore<>(this::decodeBridge);
+    private final OvsdbTypedRowStore<PortRow> portRows =
+            new OvsdbTypedRowStore<>(this::decodePort);
+    private final OvsdbTypedRowStore<InterfaceRow> interfaceRows =
+            new OvsdbTypedRowStore<>(this::decodeInterface);
+    private final OvsdbTypedRowStore<String> controllerRows =
+            new OvsdbTypedRowStore<>(this::decodeControllerTarget);
+    private final Map<String, OvsdbTypedRowStore<?>> typedRows = ImmutableMap.of(
+            OvsdbConstant.BRIDGE, bridgeRows,
+            OvsdbConstant.PORT, portRows,
+            OvsdbConstant.INTERFACE, interfaceRows,
+            OvsdbConstant.CONTROLLER, controllerRows);
+
     /**
      * Creates an OvsdbClient.
      *
      * @param nodeId ovsdb node id
      */
     public DefaultOvsdbClient(OvsdbNodeId nodeId) {
+        this(nodeId, OvsdbConstant.REQUEST_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates an OvsdbClient whose requests fail if the node does not reply
+     * within the given time.
+     *
+     * @param nodeId ovsdb node id
+     * @param requestTimeoutMillis time allowed for a reply, in milliseconds
+     */
+    DefaultOvsdbClient(OvsdbNodeId nodeId, long requestTimeoutMillis) {
         this.nodeId = nodeId;
+        this.requestTimeoutMillis = requestTimeoutMillis;
     }
 
     @Override
@@ -150,6 +198,7 @@ public class DefaultOvsdbClient
     public void nodeRemoved() {
         this.agent.removeConnectedNode(nodeId);
         channel.disconnect();
+        failPendingRequests();
     }
 
     /**
@@ -213,6 +262,10 @@ public class DefaultOvsdbClient
             return;
         }
         rowStore.deleteRow(uuid);
+        OvsdbTypedRowStore<?> typedStore = getTypedRowStore(dbName, tableName);
+        if (typedStore != null) {
+            typedStore.remove(uuid);
+        }
     }
 
     @Override
@@ -229,33 +282,39 @@ public class DefaultOvsdbClient
         rowStore.insertRow(uuid, row);
         tableStore.createOrUpdateTable(tableName, rowStore);
         ovsdbStore.createOrUpdateOvsdbStore(dbName, tableStore);
+        OvsdbTypedRowStore<?> typedStore = getTypedRowStore(dbName, tableName);
+        if (typedStore != null) {
+            typedStore.update(uuid, row);
+        }
+    }
+
+    /**
+     * Gets the typed row store of a table.
+     *
+     * @param dbName the ovsdb database name
+     * @param tableName the ovsdb table name
+     * @return typed row store, null if the rows of the table are not decoded
+     */
+    private OvsdbTypedRowStore<?> getTypedRowStore(String dbName, String tableName) {
+        if (!OvsdbConstant.DATABASENAME.equals(dbName)) {
+            return null;
+        }
+        return typedRows.get(tableName);
     }
 
     @Override
     public String getPortUuid(String portName, String bridgeUuid) {
-        DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-
-        Row bridgeRow = getRow(OvsdbConstant.DATABASENAME,
-                               OvsdbConstant.BRIDGE, bridgeUuid);
-
-        Bridge bridge = (Bridge) TableGenerator.getTable(dbSchema, bridgeRow,
-                                                         OvsdbTable.BRIDGE);
+        BridgeRow bridge = bridgeRows.get(bridgeUuid);
         if (bridge != null) {
-            OvsdbSet setPorts = (OvsdbSet) bridge.getPortsColumn().data();
-            @SuppressWarnings("unchecked")
-            Set<UUID> ports = setPorts.set();
-            if (ports == null || ports.size() == 0) {
+            if (bridge.ports.isEmpty()) {
                 log.warn("The port uuid is null");
                 return null;
             }
 
-            for (UUID uuid : ports) {
-                Row portRow = getRow(OvsdbConstant.DATABASENAME,
-                                     OvsdbConstant.PORT, uuid.value());
-                Port port = (Port) TableGenerator.getTable(dbSchema, portRow,
-                                                           OvsdbTable.PORT);
-                if (port != null && portName.equalsIgnoreCase(port.getName())) {
-                    return uuid.value();
+            for (String uuid : bridge.ports) {
+                PortRow port = portRows.get(uuid);
+                if (port != null && portName.equalsIgnoreCase(port.name)) {
+                    return uuid;
                 }
             }
 
@@ -265,30 +324,18 @@ public class DefaultOvsdbClient
 
     @Override
     public String getInterfaceUuid(String portUuid, String portName) {
-        DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-
-        Row portRow = getRow(OvsdbConstant.DATABASENAME, OvsdbConstant.PORT,
-                             portUuid);
-        Port port = (Port) TableGenerator.getTable(dbSchema, portRow,
-                                                   OvsdbTable.PORT);
+        PortRow port = portRows.get(portUuid);
 
         if (port != null) {
-            OvsdbSet setInterfaces = (OvsdbSet) port.getInterfacesColumn().data();
-            @SuppressWarnings("unchecked")
-            Set<UUID> interfaces = setInterfaces.set();
-
-            if (interfaces == null || interfaces.size() == 0) {
+            if (port.interfaces.isEmpty()) {
                 log.warn("The interface uuid is null");
                 return null;
             }
 
-            for (UUID uuid : interfaces) {
-                Row intfRow = getRow(OvsdbConstant.DATABASENAME,
-                                     OvsdbConstant.INTERFACE, uuid.value());
-                Interface intf = (Interface) TableGenerator
-                        .getTable(dbSchema, intfRow, OvsdbTable.INTERFACE);
-                if (intf != null && portName.equalsIgnoreCase(intf.getName())) {
-                    return uuid.value();
+            for (String uuid : port.interfaces) {
+                InterfaceRow intf = interfaceRows.get(uuid);
+                if (intf != null && portName.equalsIgnoreCase(intf.name)) {
+                    return uuid;
                 }
             }
 
@@ -299,59 +346,24 @@ public class DefaultOvsdbClient
 
     @Override
     public String getBridgeUuid(String bridgeName) {
-        DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-
-        OvsdbRowStore rowStore = getRowStore(OvsdbConstant.DATABASENAME,
-                                             OvsdbConstant.BRIDGE);
-        if (rowStore == null) {
-            log.debug("The bridge uuid is null");
-            return null;
-        }
-
-        ConcurrentMap<String, Row> bridgeTableRows = rowStore.getRowStore();
-        if (bridgeTableRows == null) {
-            log.debug("The bridge uuid is null");
-            return null;
-        }
-
-        for (String uuid : bridgeTableRows.keySet()) {
-            Bridge bridge = (Bridge) TableGenerator
-                    .getTable(dbSchema, bridgeTableRows.get(uuid),
-                              OvsdbTable.BRIDGE);
-
-            if (bridge.getName().equals(bridgeName)) {
-                return uuid;
+        for (Map.Entry<String, BridgeRow> entry : bridgeRows.rows().entrySet()) {
+            if (bridgeName.equals(entry.getValue().name)) {
+                return entry.getKey();
             }
-
         }
+        log.debug("The bridge uuid is null");
         return null;
     }
 
     @Override
     public String getControllerUuid(String controllerName,
                                     String controllerTarget) {
-        DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-        OvsdbRowStore rowStore = getRowStore(OvsdbConstant.DATABASENAME,
-                                             OvsdbConstant.CONTROLLER);
-        if (rowStore == null) {
-            log.debug("The controller uuid is null");
-            return null;
-        }
-
-        ConcurrentMap<String, Row> controllerTableRows = rowStore.getRowStore();
-        if (controllerTableRows != null) {
-            for (String uuid : controllerTableRows.keySet()) {
-
-                Controller controller = (Controller) TableGenerator
-                        .getTable(dbSchema, controllerTableRows.get(uuid),
-                                  OvsdbTable.CONTROLLER);
-                String target = (String) controller.getTargetColumn().data();
-                if (target.equalsIgnoreCase(controllerTarget)) {
-                    return uuid;
-                }
-
+        for (Map.Entry<String, String> entry : controllerRows.rows().entrySet()) {
+            if (entry.getValue().equalsIgnoreCase(controllerTarget)) {
+                return entry.getKey();
             }
         }
+        log.debug("The controller uuid is null");
         return null;
     }
 
@@ -378,44 +390,48 @@ public class DefaultOvsdbClient
 
     @Override
     public void createPort(String bridgeName, String portName) {
+        createPorts(bridgeName, ImmutableList.of(portName));
+    }
+
+    @Override
+    public ListenableFuture<List<OperationResult>> createPorts(String bridgeName,
+                                                               Collection<String> portNames) {
         String bridgeUuid = getBridgeUuid(bridgeName);
         if (bridgeUuid == null) {
             log.error("Can't find bridge {} in {}", bridgeName,
                       nodeId.getIpAddress());
-            return;
+            return noSuchBridge(bridgeName);
         }
 
         DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-        String portUuid = getPortUuid(portName, bridgeUuid);
-
-        Port port = (Port) TableGenerator
-                .createTable(dbSchema, OvsdbTable.PORT);
-
-        port.setName(portName);
-        if (portUuid == null) {
-            insertConfig(OvsdbConstant.PORT, "_uuid", OvsdbConstant.BRIDGE,
-                      "ports", bridgeUuid, port.getRow());
-        } else {
-            updateConfig(OvsdbConstant.PORT, "_uuid", portUuid, port.getRow());
+        List<Operation> operations = Lists.newArrayList();
+        Set<UUID> portUuids = new HashSet<>();
+        for (String portName : portNames) {
+            if (getPortUuid(portName, bridgeUuid) != null) {
+                continue;
+            }
+            Interface intf = (Interface) TableGenerator
+                    .createTable(dbSchema, OvsdbTable.INTERFACE);
+            portUuids.add(addPortInsert(dbSchema, operations, portName, intf));
         }
-
-        return;
+        return transactPortChanges(bridgeUuid, operations,
+                                   MutationUtil.insert("ports", OvsdbSet.ovsdbSet(portUuids)));
     }
 
     @Override
     public void dropPort(String bridgeName, String portName) {
+        dropPorts(bridgeName, ImmutableList.of(portName));
+    }
+
+    @Override
+    public ListenableFuture<List<OperationResult>> dropPorts(String bridgeName,
+                                                             Collection<String> portNames) {
         String bridgeUuid = getBridgeUuid(bridgeName);
         if (bridgeUuid == null) {
             log.error("Could not find Bridge {} in {}", bridgeName, nodeId);
-            return;
-        }
-
-        String portUuid = getPortUuid(portName, bridgeUuid);
-        if (portUuid != null) {
-            log.info("Port {} delete", portName);
-            deleteConfig(OvsdbConstant.PORT, "_uuid", portUuid,
-                      OvsdbConstant.BRIDGE, "ports");
+            return noSuchBridge(bridgeName);
         }
+        return deletePorts(bridgeUuid, portNames);
     }
 
     @Override
@@ -535,94 +551,168 @@ public class DefaultOvsdbClient
 
     @Override
     public void createTunnel(IpAddress srcIp, IpAddress dstIp) {
+        createTunnels(srcIp, ImmutableList.of(dstIp));
+    }
+
+    @Override
+    public ListenableFuture<List<OperationResult>> createTunnels(IpAddress srcIp,
+                                                                 Collection<IpAddress> dstIps) {
         String bridgeUuid = getBridgeUuid(OvsdbConstant.INTEGRATION_BRIDGE);
         if (bridgeUuid == null) {
             log.warn("Could not find bridge {} and Could not create tunnel. ",
                      OvsdbConstant.INTEGRATION_BRIDGE);
-            return;
+            return noSuchBridge(OvsdbConstant.INTEGRATION_BRIDGE);
         }
 
         DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
-        String portName = getTunnelName(OvsdbConstant.TYPEVXLAN, dstIp);
-        String portUuid = getPortUuid(portName, bridgeUuid);
-
-        Port port = (Port) TableGenerator
-                .createTable(dbSchema, OvsdbTable.PORT);
-        if (port != null) {
-            port.setName(portName);
-        }
-
-        if (portUuid == null) {
-            portUuid = insertConfig(OvsdbConstant.PORT, "_uuid", OvsdbConstant.BRIDGE,
-                      "ports", bridgeUuid, port.getRow());
-        } else {
-            updateConfig(OvsdbConstant.PORT, "_uuid", portUuid, port.getRow());
-        }
-
-        // When a tunnel is created, A row is inserted into port table and
-        // interface table of the ovsdb node.
-        // and the following step is to get the interface uuid from local store
-        // in controller node.
-        // but it need spend some time synchronising data between node and
-        // controller.
-        // so loop to judge if interfaceUUid is null is necessary.
-        String interfaceUuid = null;
-        for (int i = 0; i < 10; i++) {
-            interfaceUuid = getInterfaceUuid(portUuid, portName);
-            if (interfaceUuid == null) {
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted while waiting to get interfaceUuid");
-                    Thread.currentThread().interrupt();
-                }
-            } else {
-                break;
-            }
-        }
-
-        if (interfaceUuid != null) {
-
+        List<Operation> operations = Lists.newArrayList();
+        Set<UUID> portUuids = new HashSet<>();
+        for (IpAddress dstIp : dstIps) {
+            String portName = getTunnelName(OvsdbConstant.TYPEVXLAN, dstIp);
             Interface tunInterface = (Interface) TableGenerator
                     .createTable(dbSchema, OvsdbTable.INTERFACE);
-
-            if (tunInterface != null) {
-
-                tunInterface.setType(OvsdbConstant.TYPEVXLAN);
-                Map<String, String> options = Maps.newHashMap();
-                options.put("key", "flow");
-                options.put("local_ip", srcIp.toString());
-                options.put("remote_ip", dstIp.toString());
-                tunInterface.setOptions(options);
-                updateConfig(OvsdbConstant.INTERFACE, "_uuid", interfaceUuid,
-                          tunInterface.getRow());
-                log.info("Tunnel added success", tunInterface);
-
+            tunInterface.setType(OvsdbConstant.TYPEVXLAN);
+            Map<String, String> options = Maps.newHashMap();
+            options.put("key", "flow");
+            options.put("local_ip", srcIp.toString());
+            options.put("remote_ip", dstIp.toString());
+            tunInterface.setOptions(options);
+
+            // The port and its interface are inserted together, so the
+            // interface is configured without waiting for the port to be
+            // reported back by the node
+            String portUuid = getPortUuid(portName, bridgeUuid);
+            if (portUuid == null) {
+                portUuids.add(addPortInsert(dbSchema, operations, portName, tunInterface));
+                continue;
+            }
+            String interfaceUuid = getInterfaceUuid(portUuid, portName);
+            if (interfaceUuid != null) {
+                List<Condition> conditions = Lists.newArrayList();
+                conditions.add(ConditionUtil.equals("_uuid", UUID.uuid(interfaceUuid)));
+                operations.add(new Update(dbSchema.getTableSchema(OvsdbConstant.INTERFACE),
+                                          tunInterface.getRow(), conditions));
             }
         }
-
-        return;
+        return transactPortChanges(bridgeUuid, operations,
+                                   MutationUtil.insert("ports", OvsdbSet.ovsdbSet(portUuids)));
     }
 
     @Override
     public void dropTunnel(IpAddress srcIp, IpAddress dstIp) {
+        dropTunnels(srcIp, ImmutableList.of(dstIp));
+    }
+
+    @Override
+    public ListenableFuture<List<OperationResult>> dropTunnels(IpAddress srcIp,
+                                                               Collection<IpAddress> dstIps) {
         String bridgeName = OvsdbConstant.INTEGRATION_BRIDGE;
-        String portName = getTunnelName(OvsdbConstant.TYPEVXLAN, dstIp);
         String bridgeUuid = getBridgeUuid(OvsdbConstant.INTEGRATION_BRIDGE);
         if (bridgeUuid == null) {
             log.warn("Could not find bridge {} in {}", bridgeName,
                      nodeId.getIpAddress());
-            return;
+            return noSuchBridge(bridgeName);
         }
 
-        String portUUID = getPortUuid(portName, bridgeUuid);
-        if (portUUID != null) {
-            log.info("Delete tunnel");
-            deleteConfig(OvsdbConstant.PORT, "_uuid", portUUID,
-                      OvsdbConstant.BRIDGE, "ports");
+        List<String> portNames = Lists.newArrayList();
+        for (IpAddress dstIp : dstIps) {
+            portNames.add(getTunnelName(OvsdbConstant.TYPEVXLAN, dstIp));
         }
+        log.info("Delete tunnels {}", portNames);
+        return deletePorts(bridgeUuid, portNames);
+    }
 
-        return;
+    /**
+     * Returns a future failed because a bridge is missing from the node.
+     *
+     * @param bridgeName bridge name
+     * @return failed future
+     */
+    private ListenableFuture<List<OperationResult>> noSuchBridge(String bridgeName) {
+        return Futures.immediateFailedFuture(
+                new IllegalStateException("No bridge " + bridgeName + " in " + nodeId));
+    }
+
+    /**
+     * Adds the insertion of a port and its interface to a transaction.
+     *
+     * @param dbSchema the database schema
+     * @param operations operations of the transaction
+     * @param portName port name
+     * @param intf interface of the port
+     * @return named uuid of the port, valid within the transaction
+     */
+    private UUID addPortInsert(DatabaseSchema dbSchema, List<Operation> operations,
+                               String portName, Interface intf) {
+        // Operations are added in pairs, so the names are unique
+        String intfNamedUuid = "intf" + operations.size();
+        String portNamedUuid = "port" + operations.size();
+
+        intf.setName(portName);
+        operations.add(new Insert(dbSchema.getTableSchema(OvsdbConstant.INTERFACE),
+                                  intfNamedUuid, intf.getRow()));
+
+        Port port = (Port) TableGenerator.createTable(dbSchema, OvsdbTable.PORT);
+        port.setName(portName);
+        Insert portInsert = new Insert(dbSchema.getTableSchema(OvsdbConstant.PORT),
+                                       portNamedUuid, port.getRow());
+        portInsert.getRow().put("interfaces", UUID.uuid(intfNamedUuid));
+        operations.add(portInsert);
+        return UUID.uuid(portNamedUuid);
+    }
+
+    /**
+     * Deletes ports of a bridge in a single transaction.
+     *
+     * @param bridgeUuid bridge uuid
+     * @param portNames names of the ports; unknown ports are ignored
+     * @return operation results
+     */
+    private ListenableFuture<List<OperationResult>> deletePorts(String bridgeUuid,
+                                                                Collection<String> portNames) {
+        DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
+        TableSchema portTableSchema = dbSchema.getTableSchema(OvsdbConstant.PORT);
+
+        List<Operation> operations = Lists.newArrayList();
+        Set<UUID> portUuids = new HashSet<>();
+        for (String portName : portNames) {
+            String portUuid = getPortUuid(portName, bridgeUuid);
+            if (portUuid == null) {
+                continue;
+            }
+            portUuids.add(UUID.uuid(portUuid));
+            List<Condition> conditions = Lists.newArrayList();
+            conditions.add(ConditionUtil.equals("_uuid", UUID.uuid(portUuid)));
+            operations.add(new Delete(portTableSchema, conditions));
+        }
+        return transactPortChanges(bridgeUuid, operations,
+                                   MutationUtil.delete("ports", OvsdbSet.ovsdbSet(portUuids)));
+    }
+
+    /**
+     * Sends port changes together with the mutation of the ports of their
+     * bridge as a single transaction.
+     *
+     * @param bridgeUuid bridge uuid
+     * @param operations operations on ports and interfaces
+     * @param portsMutation mutation of the ports column of the bridge
+     * @return operation results, empty if there is nothing to change
+     */
+    private ListenableFuture<List<OperationResult>> transactPortChanges(String bridgeUuid,
+                                                                        List<Operation> operations,
+                                                                        Mutation portsMutation) {
+        if (operations.isEmpty()) {
+            return Futures.immediateFuture(ImmutableList.of());
+        }
+        if (!((OvsdbSet) portsMutation.getValue()).set().isEmpty()) {
+            DatabaseSchema dbSchema = schema.get(OvsdbConstant.DATABASENAME);
+            List<Mutation> mutations = Lists.newArrayList(portsMutation);
+            List<Condition> conditions = Lists.newArrayList();
+            conditions.add(ConditionUtil.equals("_uuid", UUID.uuid(bridgeUuid)));
+            operations.add(new Mutate(dbSchema.getTableSchema(OvsdbConstant.BRIDGE),
+                                      conditions, mutations));
+        }
+        return transactConfig(OvsdbConstant.DATABASENAME, operations);
     }
 
     /**
@@ -903,12 +993,7 @@ public class DefaultOvsdbClient
         String id = java.util.UUID.randomUUID().toString();
         String getSchemaString = JsonRpcWriterUtil.getSchemaStr(id, dbnames);
 
-        SettableFuture<JsonNode> sf = SettableFuture.create();
-        requestResult.put(id, sf);
-        requestMethod.put(id, "getSchema");
-
-        channel.writeAndFlush(getSchemaString);
-        return sf;
+        return sendRequest(id, "getSchema", getSchemaString);
 
     }
 
@@ -917,12 +1002,7 @@ public class DefaultOvsdbClient
         String id = java.util.UUID.randomUUID().toString();
         String echoString = JsonRpcWriterUtil.echoStr(id);
 
-        SettableFuture<List<String>> sf = SettableFuture.create();
-        requestResult.put(id, sf);
-        requestMethod.put(id, "echo");
-
-        channel.writeAndFlush(echoString);
-        return sf;
+        return sendRequest(id, "echo", echoString);
 
     }
 
@@ -933,12 +1013,7 @@ public class DefaultOvsdbClient
         String monitorString = JsonRpcWriterUtil.monitorStr(id, monitorId,
                                                             dbSchema);
 
-        SettableFuture<JsonNode> sf = SettableFuture.create();
-        requestResult.put(id, sf);
-        requestMethod.put(id, "monitor");
-
-        channel.writeAndFlush(monitorString);
-        return sf;
+        return sendRequest(id, "monitor", monitorString);
 
     }
 
@@ -947,12 +1022,7 @@ public class DefaultOvsdbClient
         String id = java.util.UUID.randomUUID().toString();
         String listDbsString = JsonRpcWriterUtil.listDbsStr(id);
 
-        SettableFuture<List<String>> sf = SettableFuture.create();
-        requestResult.put(id, sf);
-        requestMethod.put(id, "listDbs");
-
-        channel.writeAndFlush(listDbsString);
-        return sf;
+        return sendRequest(id, "listDbs", listDbsString);
 
     }
 
@@ -963,13 +1033,108 @@ public class DefaultOvsdbClient
         String transactString = JsonRpcWriterUtil.transactStr(id, dbSchema,
                                                               operations);
 
-        SettableFuture<List<JsonNode>> sf = SettableFuture.create();
-        requestResult.put(id, sf);
-        requestMethod.put(id, "transact");
+        return sendRequest(id, "transact", transactString);
+
+    }
 
-        channel.writeAndFlush(transactString);
+    /**
+     * Sends a request once one of the in-flight slots is free.
+     *
+     * @param id request id
+     * @param method method name, used to parse the reply
+     * @param request the request string
+     * @param <T> type of the result
+     * @return future completed with the result of the request
+     */
+    private <T> ListenableFuture<T> sendRequest(String id, String method,
+                                                String request) {
+        SettableFuture<T> sf = SettableFuture.create();
+        PendingRequest pending = new PendingRequest(id, method, request, sf);
+        synchronized (requestLock) {
+            pendingRequests.put(id, pending);
+            queuedRequests.add(pending);
+            sendQueuedRequests();
+        }
         return sf;
+    }
 
+    /**
+     * Sends queued requests while in-flight slots are free. Must be called
+     * holding the request lock.
+     */
+    private void sendQueuedRequests() {
+        while (inFlight < OvsdbConstant.MAX_IN_FLIGHT_REQUESTS && !queuedRequests.isEmpty()) {
+            PendingRequest pending = queuedRequests.poll();
+            inFlight++;
+            pending.sent = true;
+            pending.sentNanos = System.nanoTime();
+            pending.timeout = new TimerTask() {
+                @Override
+                public void run() {
+                    timeOut(pending);
+                }
+            };
+            SharedExecutors.getTimer().schedule(pending.timeout, requestTimeoutMillis);
+            // Written from the event loop whichever thread sends it, so that
+            // the requests reach the node in the order they were polled
+            channel.eventLoop().execute(() -> channel.writeAndFlush(pending.request));
+        }
+    }
+
+    /**
+     * Stops tracking a request which is done, freeing its in-flight slot for
+     * a queued request.
+     *
+     * @param pending the request
+     * @return true if the request was still pending
+     */
+    private boolean completeRequest(PendingRequest pending) {
+        if (!pendingRequests.remove(pending.id, pending)) {
+            return false;
+        }
+        synchronized (requestLock) {
+            if (pending.sent) {
+                pending.timeout.cancel();
+                inFlight--;
+                sendQueuedRequests();
+            } else {
+                queuedRequests.remove(pending);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fails a request the node did not reply to in time.
+     *
+     * @param pending the request
+     */
+    private void timeOut(PendingRequest pending) {
+        if (completeRequest(pending)) {
+            log.warn("No reply from {} to {} request {}", nodeId, pending.method, pending.id);
+            pending.future.setException(new TimeoutException());
+        }
+    }
+
+    /**
+     * Fails the requests still waiting for a reply once the node is gone,
+     * releasing the in-flight slots of those already sent.
+     */
+    private void failPendingRequests() {
+        List<PendingRequest> failed = Lists.newArrayList();
+        synchronized (requestLock) {
+            queuedRequests.clear();
+            for (PendingRequest pending : pendingRequests.values()) {
+                if (pendingRequests.remove(pending.id, pending)) {
+                    if (pending.sent) {
+                        pending.timeout.cancel();
+                        inFlight--;
+                    }
+                    failed.add(pending);
+                }
+            }
+        }
+        failed.forEach(pending -> pending.future.setException(new ClosedChannelException()));
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -977,20 +1142,40 @@ public class DefaultOvsdbClient
     public void processResult(JsonNode response) {
         log.debug("Handle result");
         String requestId = response.get("id").asText();
-        SettableFuture sf = requestResult.get(requestId);
-        if (sf == null) {
+        PendingRequest pending = pendingRequests.get(requestId);
+        if (pending == null || !completeRequest(pending)) {
             log.debug("No such future to process");
             return;
         }
-        String methodName = requestMethod.get(requestId);
+        requestLatency.update(System.nanoTime() - pending.sentNanos,
+                              TimeUnit.NANOSECONDS);
 
         Object result;
-        result = FromJsonUtil.jsonResultParser(response, methodName);
+        result = FromJsonUtil.jsonResultParser(response, pending.method);
 
-        sf.set(result);
+        ((SettableFuture) pending.future).set(result);
         return;
     }
 
+    @Override
+    public Timer requestLatency() {
+        return requestLatency;
+    }
+
+    @Override
+    public int inFlightRequests() {
+        synchronized (requestLock) {
+            return inFlight;
+        }
+    }
+
+    @Override
+    public int queuedRequests() {
+        synchronized (requestLock) {
+            return queuedRequests.size();
+        }
+    }
+
     @Override
     public void processRequest(JsonNode requestJson) {
         log.debug("Handle request");
@@ -1020,22 +1205,13 @@ public class DefaultOvsdbClient
 
     @Override
     public Set<OvsdbBridge> getBridges() {
-        Set<OvsdbBridge> ovsdbBridges = new HashSet<OvsdbBridge>();
-        OvsdbTableStore tableStore = getTableStore(OvsdbConstant.DATABASENAME);
-        if (tableStore == null) {
-            return null;
-        }
-        OvsdbRowStore rowStore = tableStore.getRows(OvsdbConstant.BRIDGE);
-        if (rowStore == null) {
+        if (getRowStore(OvsdbConstant.DATABASENAME, OvsdbConstant.BRIDGE) == null) {
             return null;
         }
-        ConcurrentMap<String, Row> rows = rowStore.getRowStore();
-        for (String uuid : rows.keySet()) {
-            Row row = getRow(OvsdbConstant.DATABASENAME, OvsdbConstant.BRIDGE,
-                             uuid);
-            OvsdbBridge ovsdbBridge = getOvsdbBridge(row);
-            if (ovsdbBridge != null) {
-                ovsdbBridges.add(ovsdbBridge);
+        Set<OvsdbBridge> ovsdbBridges = new HashSet<OvsdbBridge>();
+        for (BridgeRow bridge : bridgeRows.rows().values()) {
+            if (bridge.bridge != null) {
+                ovsdbBridges.add(bridge.bridge);
             }
         }
         return ovsdbBridges;
@@ -1043,22 +1219,13 @@ public class DefaultOvsdbClient
 
     @Override
     public Set<OvsdbPort> getPorts() {
-        Set<OvsdbPort> ovsdbPorts = new HashSet<OvsdbPort>();
-        OvsdbTableStore tableStore = getTableStore(OvsdbConstant.DATABASENAME);
-        if (tableStore == null) {
-            return null;
-        }
-        OvsdbRowStore rowStore = tableStore.getRows(OvsdbConstant.INTERFACE);
-        if (rowStore == null) {
+        if (getRowStore(OvsdbConstant.DATABASENAME, OvsdbConstant.INTERFACE) == null) {
             return null;
         }
-        ConcurrentMap<String, Row> rows = rowStore.getRowStore();
-        for (String uuid : rows.keySet()) {
-            Row row = getRow(OvsdbConstant.DATABASENAME,
-                             OvsdbConstant.INTERFACE, uuid);
-            OvsdbPort ovsdbPort = getOvsdbPort(row);
-            if (ovsdbPort != null) {
-                ovsdbPorts.add(ovsdbPort);
+        Set<OvsdbPort> ovsdbPorts = new HashSet<OvsdbPort>();
+        for (InterfaceRow intf : interfaceRows.rows().values()) {
+            if (intf.port != null) {
+                ovsdbPorts.add(intf.port);
             }
         }
         return ovsdbPorts;
@@ -1069,120 +1236,181 @@ public class DefaultOvsdbClient
         return schema.get(dbName);
     }
 
-    //Gets ovsdb port.
-    private OvsdbPort getOvsdbPort(Row row) {
+    //Decodes a row of the Bridge table.
+    private BridgeRow decodeBridge(Row row) {
         DatabaseSchema dbSchema = getDatabaseSchema(OvsdbConstant.DATABASENAME);
-        Interface intf = (Interface) TableGenerator
-                .getTable(dbSchema, row, OvsdbTable.INTERFACE);
-        if (intf == null) {
-            return null;
-        }
-        long ofPort = getOfPort(intf);
-        String portName = intf.getName();
-        if ((ofPort < 0) || (portName == null)) {
+        if (dbSchema == null) {
             return null;
         }
+        Bridge bridge = (Bridge) TableGenerator.getTable(dbSchema, row,
+                                                         OvsdbTable.BRIDGE);
+        String bridgeName = bridge.getName();
 
-        OvsdbPort ovsdbPort = new OvsdbPort(new OvsdbPortNumber(ofPort),
-                                            new OvsdbPortName(portName));
-        return ovsdbPort;
+        OvsdbBridge ovsdbBridge = null;
+        Set<?> datapathIds = setOf(bridge.getDatapathIdColumn());
+        if (!datapathIds.isEmpty() && bridgeName != null) {
+            String datapathId = (String) datapathIds.iterator().next();
+            ovsdbBridge = new OvsdbBridge(new OvsdbBridgeName(bridgeName),
+                                          new OvsdbDatapathId(datapathId));
+        }
+        return new BridgeRow(bridgeName, ovsdbBridge,
+                             uuidsOf(bridge.getPortsColumn()));
     }
 
-    ////Gets ovsdb bridge.
-    private OvsdbBridge getOvsdbBridge(Row row) {
+    //Decodes a row of the Port table.
+    private PortRow decodePort(Row row) {
         DatabaseSchema dbSchema = getDatabaseSchema(OvsdbConstant.DATABASENAME);
-        Bridge bridge = (Bridge) TableGenerator.getTable(dbSchema, row,
-                                                         OvsdbTable.BRIDGE);
-        if (bridge == null) {
+        if (dbSchema == null) {
             return null;
         }
+        Port port = (Port) TableGenerator.getTable(dbSchema, row,
+                                                   OvsdbTable.PORT);
+        return new PortRow(port.getName(), uuidsOf(port.getInterfacesColumn()));
+    }
 
-        OvsdbSet datapathIdSet = (OvsdbSet) bridge.getDatapathIdColumn().data();
-        @SuppressWarnings("unchecked")
-        Set<String> datapathIds = datapathIdSet.set();
-        if (datapathIds == null || datapathIds.size() == 0) {
+    //Decodes a row of the Interface table.
+    private InterfaceRow decodeInterface(Row row) {
+        DatabaseSchema dbSchema = getDatabaseSchema(OvsdbConstant.DATABASENAME);
+        if (dbSchema == null) {
             return null;
         }
-        String datapathId = (String) datapathIds.toArray()[0];
-        String bridgeName = bridge.getName();
-        if ((datapathId == null) || (bridgeName == null)) {
+        Interface intf = (Interface) TableGenerator
+                .getTable(dbSchema, row, OvsdbTable.INTERFACE);
+        return new InterfaceRow(intf.getName(), getOfPort(intf), getIfaceid(intf));
+    }
+
+    //Decodes the target of a row of the Controller table.
+    private String decodeControllerTarget(Row row) {
+        DatabaseSchema dbSchema = getDatabaseSchema(OvsdbConstant.DATABASENAME);
+        if (dbSchema == null) {
             return null;
         }
+        Controller controller = (Controller) TableGenerator
+                .getTable(dbSchema, row, OvsdbTable.CONTROLLER);
+        Column target = controller.getTargetColumn();
+        return target == null ? null : (String) target.data();
+    }
 
-        OvsdbBridge ovsdbBridge = new OvsdbBridge(new OvsdbBridgeName(bridgeName),
-                                                  new OvsdbDatapathId(datapathId));
-        return ovsdbBridge;
+    //Gets the elements of a set column.
+    private static Set<?> setOf(Column column) {
+        if (column == null || !(column.data() instanceof OvsdbSet)) {
+            return ImmutableSet.of();
+        }
+        Set<?> set = ((OvsdbSet) column.data()).set();
+        return set == null ? ImmutableSet.of() : set;
+    }
+
+    //Gets the uuids of a set column referencing other rows.
+    private static Set<String> uuidsOf(Column column) {
+        ImmutableSet.Builder<String> uuids = ImmutableSet.builder();
+        for (Object uuid : setOf(column)) {
+            uuids.add(((UUID) uuid).value());
+        }
+        return uuids.build();
     }
 
     //Gets ofPort in the interface.
     private long getOfPort(Interface intf) {
-        OvsdbSet ofPortSet = (OvsdbSet) intf.getOpenFlowPortColumn().data();
-        @SuppressWarnings("unchecked")
-        Set<Integer> ofPorts = ofPortSet.set();
-        while (ofPorts == null || ofPorts.size() <= 0) {
+        Set<?> ofPorts = setOf(intf.getOpenFlowPortColumn());
+        if (ofPorts.isEmpty()) {
             log.debug("The ofport is null in {}", intf.getName());
             return -1;
         }
-        // return (long) ofPorts.toArray()[0];
-        Iterator<Integer> it = ofPorts.iterator();
-        return Long.parseLong(it.next().toString());
+        return Long.parseLong(ofPorts.iterator().next().toString());
     }
 
     @Override
     public Set<OvsdbPort> getLocalPorts(Iterable<String> ifaceids) {
-        Set<OvsdbPort> ovsdbPorts = new HashSet<OvsdbPort>();
-        OvsdbTableStore tableStore = getTableStore(OvsdbConstant.DATABASENAME);
-        if (tableStore == null) {
+        if (getRowStore(OvsdbConstant.DATABASENAME, OvsdbConstant.INTERFACE) == null) {
             return null;
         }
-        OvsdbRowStore rowStore = tableStore.getRows(OvsdbConstant.INTERFACE);
-        if (rowStore == null) {
-            return null;
-        }
-        ConcurrentMap<String, Row> rows = rowStore.getRowStore();
-        for (String uuid : rows.keySet()) {
-            Row row = getRow(OvsdbConstant.DATABASENAME,
-                             OvsdbConstant.INTERFACE, uuid);
-            DatabaseSchema dbSchema = getDatabaseSchema(OvsdbConstant.DATABASENAME);
-            Interface intf = (Interface) TableGenerator
-                    .getTable(dbSchema, row, OvsdbTable.INTERFACE);
-            if (intf == null || getIfaceid(intf) == null) {
-                continue;
-            }
-            String portName = intf.getName();
-            Set<String> ifaceidSet = Sets.newHashSet(ifaceids);
-            if (portName.startsWith("vxlan")
-                    || !ifaceidSet.contains(getIfaceid(intf))) {
-                continue;
-            }
-            long ofPort = getOfPort(intf);
-            if ((ofPort < 0) || (portName == null)) {
+        Set<String> ifaceidSet = Sets.newHashSet(ifaceids);
+        Set<OvsdbPort> ovsdbPorts = new HashSet<OvsdbPort>();
+        for (InterfaceRow intf : interfaceRows.rows().values()) {
+            if (intf.port == null || intf.ifaceId == null
+                    || intf.name.startsWith("vxlan")
+                    || !ifaceidSet.contains(intf.ifaceId)) {
                 continue;
             }
-
-            OvsdbPort ovsdbPort = new OvsdbPort(new OvsdbPortNumber(ofPort),
-                                                new OvsdbPortName(portName));
-            if (ovsdbPort != null) {
-                ovsdbPorts.add(ovsdbPort);
-            }
+            ovsdbPorts.add(intf.port);
         }
         return ovsdbPorts;
     }
 
     private String getIfaceid(Interface intf) {
-        OvsdbMap ovsdbMap = (OvsdbMap) intf.getExternalIdsColumn().data();
+        Column column = intf.getExternalIdsColumn();
+        if (column == null || !(column.data() instanceof OvsdbMap)) {
+            return null;
+        }
         @SuppressWarnings("unchecked")
-        Map<String, String> externalIds = ovsdbMap.map();
-        if (externalIds.isEmpty()) {
-            log.warn("The external_ids is null");
+        Map<String, String> externalIds = ((OvsdbMap) column.data()).map();
+        if (externalIds == null || externalIds.isEmpty()) {
+            log.debug("The external_ids is null");
             return null;
         }
         String ifaceid = externalIds
                 .get(OvsdbConstant.EXTERNAL_ID_INTERFACE_ID);
         if (ifaceid == null) {
-            log.warn("The ifaceid is null");
+            log.debug("The ifaceid is null");
             return null;
         }
         return ifaceid;
     }
+
+    // Request sent or waiting to be sent to the node.
+    private static final class PendingRequest {
+        private final String id;
+        private final String method;
+        private final String request;
+        private final SettableFuture<?> future;
+        private boolean sent;
+        private volatile long sentNanos;
+        private TimerTask timeout;
+
+        private PendingRequest(String id, String method, String request,
+                               SettableFuture<?> future) {
+            this.id = id;
+            this.method = method;
+            this.request = request;
+            this.future = future;
+        }
+    }
+
+    // Decoded row of the Bridge table.
+    private static final class BridgeRow {
+        private final String name;
+        private final OvsdbBridge bridge;
+        private final Set<String> ports;
+
+        private BridgeRow(String name, OvsdbBridge bridge, Set<String> ports) {
+            this.name = name;
+            this.bridge = bridge;
+            this.ports = ports;
+        }
+    }
+
+    // Decoded row of the Port table.
+    private static final class PortRow {
+        private final String name;
+        private final Set<String> interfaces;
+
+        private PortRow(String name, Set<String> interfaces) {
+            this.name = name;
+            this.interfaces = interfaces;
+        }
+    }
+
+    // Decoded row of the Interface table.
+    private static final class InterfaceRow {
+        private final String name;
+        private final OvsdbPort port;
+        private final String ifaceId;
+
+        private InterfaceRow(String name, long ofPort, String ifaceId) {
+            this.name = name;
+            this.ifaceId = ifaceId;
+            this.port = ofPort < 0 || name == null ? null :
+                    new OvsdbPort(new OvsdbPortNumber(ofPort), new OvsdbPortName(name));
+        }
+    }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.ovsdb.controller.driver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Before;
+import org.junit.Test;
+import org.onlab.packet.IpAddress;
+import org.onosproject.ovsdb.controller.OvsdbClientService;
+import org.onosproject.ovsdb.controller.OvsdbConstant;
+import org.onosproject.ovsdb.controller.OvsdbNodeId;
+import org.onosproject.ovsdb.rfc.message.OperationResult;
+import org.onosproject.ovsdb.rfc.schema.DatabaseSchema;
+import org.onosproject.ovsdb.rfc.table.Bridge;
+import org.onosproject.ovsdb.rfc.table.OvsdbTable;
+import org.onosproject.ovsdb.rfc.table.TableGenerator;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the default OVSDB client.
+ */
+public class DefaultOvsdbClientTest {
+
+    private static final int MAX = OvsdbConstant.MAX_IN_FLIGHT_REQUESTS;
+    private static final String SCHEMA = "{\"version\": \"7.6.0\", \"tables\": {" +
+            "\"Bridge\": {\"columns\": {" +
+            "\"name\": {\"type\": \"string\"}," +
+            "\"datapath_id\": {\"type\": {\"key\": \"string\", \"min\": 0, \"max\": 1}}," +
+            "\"ports\": {\"type\": {\"key\": {\"type\": \"uuid\", \"refTable\": \"Port\"}," +
+            " \"min\": 0, \"max\": \"unlimited\"}}}}," +
+            "\"Port\": {\"columns\": {" +
+            "\"name\": {\"type\": \"string\"}," +
+            "\"interfaces\": {\"type\": {\"key\": {\"type\": \"uuid\", \"refTable\": \"Interface\"}," +
+            " \"min\": 1, \"max\": \"unlimited\"}}}}," +
+            "\"Interface\": {\"columns\": {" +
+            "\"name\": {\"type\": \"string\"}," +
+            "\"type\": {\"type\": \"string\"}," +
+            "\"ofport\": {\"type\": {\"key\": \"integer\", \"min\": 0, \"max\": 1}}," +
+            "\"options\": {\"type\": {\"key\": \"string\", \"value\": \"string\"," +
+            " \"min\": 0, \"max\": \"unlimited\"}}," +
+            "\"external_ids\": {\"type\": {\"key\": \"string\", \"value\": \"string\"," +
+            " \"min\": 0, \"max\": \"unlimited\"}}}}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private EmbeddedChannel channel;
+    private DefaultOvsdbClient client;
+
+    private static final long TIMEOUT_MILLIS = 200;
+
+    @Before
+    public void setUp() {
+        setUpClient(OvsdbConstant.REQUEST_TIMEOUT_MILLIS);
+    }
+
+    // Connects a new client, with the given request timeout, to the channel
+    private void setUpClient(long timeoutMillis) {
+        channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        client = new DefaultOvsdbClient(new OvsdbNodeId(IpAddress.valueOf("10.0.0.1"), 6640),
+                                        timeoutMillis);
+        client.setChannel(channel);
+        client.setAgent(new OvsdbAgent() {
+            @Override
+            public void addConnectedNode(OvsdbNodeId nodeId, OvsdbClientService ovsdbClient) {
+            }
+
+            @Override
+            public void removeConnectedNode(OvsdbNodeId nodeId) {
+            }
+        });
+    }
+
+    // Reads back the next request written to the node
+    private JsonNode sent() throws IOException {
+        channel.runPendingTasks();
+        Object request = channel.readOutbound();
+        assertNotNull("request should have been sent", request);
+        return mapper.readTree((String) request);
+    }
+
+    // Replies to a request with the given result
+    private void reply(JsonNode request, JsonNode result) {
+        ObjectNode response = mapper.createObjectNode();
+        response.put("id", request.get("id").asText());
+        response.set("result", result);
+        client.processResult(response);
+    }
+
+    @Test
+    public void inFlightLimit() throws IOException {
+        List<ListenableFuture<List<String>>> futures = Lists.newArrayList();
+        for (int i = 0; i < MAX + 2; i++) {
+            futures.add(client.echo());
+        }
+        assertEquals(MAX, client.inFlightRequests());
+        assertEquals(2, client.queuedRequests());
+        channel.runPendingTasks();
+        assertEquals(MAX, channel.outboundMessages().size());
+
+        reply(sent(), mapper.createArrayNode());
+        assertTrue("replied request should be completed", futures.get(0).isDone());
+        assertEquals("a queued request should take the freed slot",
+                     MAX, client.inFlightRequests());
+        assertEquals(1, client.queuedRequests());
+        channel.runPendingTasks();
+        assertEquals(MAX, channel.outboundMessages().size());
+        assertEquals(1, client.requestLatency().getCount());
+    }
+
+    @Test
+    public void sentInOrder() throws IOException {
+        List<String> ids = Lists.newArrayList();
+        for (int i = 0; i < MAX + 2; i++) {
+            client.echo();
+        }
+        for (int i = 0; i < MAX + 2; i++) {
+            JsonNode request = sent();
+            ids.add(request.get("id").asText());
+            reply(request, mapper.createArrayNode());
+        }
+        assertEquals("every request should be sent once", MAX + 2, ImmutableSet.copyOf(ids).size());
+        assertEquals(0, client.inFlightRequests());
+        assertEquals(0, client.queuedRequests());
+    }
+
+    @Test
+    public void timedOut() throws InterruptedException {
+        setUpClient(TIMEOUT_MILLIS);
+        List<ListenableFuture<List<String>>> futures = Lists.newArrayList();
+        for (int i = 0; i < MAX + 1; i++) {
+            futures.add(client.echo());
+        }
+        for (ListenableFuture<List<String>> future : futures.subList(0, MAX)) {
+            awaitDone(future);
+            assertFailed(future, TimeoutException.class);
+        }
+        assertEquals(0, client.queuedRequests());
+        channel.runPendingTasks();
+        assertEquals("queued request should be sent once slots are freed",
+                     MAX + 1, channel.outboundMessages().size());
+
+        awaitDone(futures.get(MAX));
+        assertFailed(futures.get(MAX), TimeoutException.class);
+        assertEquals("in-flight slots should be released", 0, client.inFlightRequests());
+    }
+
+    @Test
+    public void nodeRemoved() {
+        List<ListenableFuture<List<String>>> futures = Lists.newArrayList();
+        for (int i = 0; i < MAX + 2; i++) {
+            futures.add(client.echo());
+        }
+        client.nodeRemoved();
+
+        assertEquals("in-flight slots should be released", 0, client.inFlightRequests());
+        assertEquals(0, client.queuedRequests());
+        for (ListenableFuture<List<String>> future : futures) {
+            assertFailed(future, ClosedChannelException.class);
+        }
+    }
+
+    @Test
+    public void batchedPorts() throws IOException {
+        DatabaseSchema dbSchema = loadSchema();
+        Bridge bridge = (Bridge) TableGenerator.createTable(dbSchema, OvsdbTable.BRIDGE);
+        bridge.setName("br-test");
+        bridge.setPorts(ImmutableSet.of());
+        client.updateOvsdbStore(OvsdbConstant.DATABASENAME, OvsdbConstant.BRIDGE,
+                                "bridge-uuid", bridge.getRow());
+
+        ListenableFuture<List<OperationResult>> future =
+                client.createPorts("br-test", ImmutableList.of("p1", "p2", "p3"));
+        assertFalse(future.isDone());
+        JsonNode request = sent();
+        assertEquals("transact", request.get("method").asText());
+        // Database name, an interface and a port insert per port, and the
+        // mutation of the bridge ports
+        assertEquals(8, request.get("params").size());
+        channel.runPendingTasks();
+        assertEquals("ports should be created in one transaction",
+                     0, channel.outboundMessages().size());
+    }
+
+    @Test
+    public void missingBridge() throws IOException {
+        loadSchema();
+        assertFailed(client.createPorts("br-none", ImmutableList.of("p1")),
+                     IllegalStateException.class);
+        assertFailed(client.dropPorts("br-none", ImmutableList.of("p1")),
+                     IllegalStateException.class);
+        IpAddress ip = IpAddress.valueOf("10.0.0.2");
+        assertFailed(client.createTunnels(ip, ImmutableList.of(ip)),
+                     IllegalStateException.class);
+        assertFailed(client.dropTunnels(ip, ImmutableList.of(ip)),
+                     IllegalStateException.class);
+        channel.runPendingTasks();
+        assertEquals(0, channel.outboundMessages().size());
+    }
+
+    // Fetches the database schema from a canned reply
+    private DatabaseSchema loadSchema() throws IOException {
+        ListenableFuture<DatabaseSchema> future =
+                client.getOvsdbSchema(OvsdbConstant.DATABASENAME);
+        reply(sent(), mapper.readTree(SCHEMA));
+        assertTrue(future.isDone());
+        return client.getDatabaseSchema(OvsdbConstant.DATABASENAME);
+    }
+
+    // Waits for a future to be completed by the request timer
+    private static void awaitDone(ListenableFuture<?> future) throws InterruptedException {
+        for (int i = 0; i < 500 && !future.isDone(); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void assertFailed(ListenableFuture<?> future, Class<?> cause) {
+        assertTrue("future should be done", future.isDone());
+        try {
+            future.get();
+            throw new AssertionError("future should have failed");
+        } catch (ExecutionException e) {
+            assertEquals(cause, e.getCause().getClass());
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
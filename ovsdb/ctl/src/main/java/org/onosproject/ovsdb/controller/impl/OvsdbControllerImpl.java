@@ -30,7 +30,12 @@ import java.util.concurrent.ExecutionException;
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
 import org.apache.felix.scr.annotations.Deactivate;
+import org.apache.felix.scr.annotations.Reference;
+import org.apache.felix.scr.annotations.ReferenceCardinality;
 import org.apache.felix.scr.annotations.Service;
+import org.onlab.metrics.MetricsComponent;
+import org.onlab.metrics.MetricsFeature;
+import org.onlab.metrics.MetricsService;
 import org.onlab.packet.IpAddress;
 import org.onlab.packet.MacAddress;
 import org.onosproject.ovsdb.controller.DefaultEventSubject;
@@ -67,6 +72,7 @@ import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Gauge;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
@@ -79,6 +85,11 @@ public class OvsdbControllerImpl implements OvsdbController {
     public static final Logger log = LoggerFactory
             .getLogger(OvsdbControllerImpl.class);
 
+    private static final String METRICS_COMPONENT = "OVSDB";
+
+    @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
+    protected MetricsService metricsService;
+
     protected ConcurrentHashMap<OvsdbNodeId, OvsdbClientService> ovsdbClients =
             new ConcurrentHashMap<OvsdbNodeId, OvsdbClientService>();
 
@@ -155,6 +166,7 @@ public class OvsdbControllerImpl implements OvsdbController {
                 return;
             } else {
                 ovsdbClients.put(nodeId, ovsdbClient);
+                registerMetrics(nodeId, ovsdbClient);
 
                 try {
                     List<String> dbNames = ovsdbClient.listDbs().get();
@@ -193,6 +205,7 @@ public class OvsdbControllerImpl implements OvsdbController {
         @Override
         public void removeConnectedNode(OvsdbNodeId nodeId) {
             ovsdbClients.remove(nodeId);
+            removeMetrics(nodeId);
             log.debug("Node connection is removed");
             for (OvsdbNodeListener l : ovsdbNodeListener) {
                 l.nodeRemoved(nodeId);
@@ -200,6 +213,42 @@ public class OvsdbControllerImpl implements OvsdbController {
         }
     }
 
+    /**
+     * Registers the request metrics of a node.
+     *
+     * @param nodeId node identifier
+     * @param ovsdbClient OvsdbClientService instance
+     */
+    private void registerMetrics(OvsdbNodeId nodeId, OvsdbClientService ovsdbClient) {
+        if (metricsService == null) {
+            return;
+        }
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(nodeId.toString());
+        metricsService.registerMetric(component, feature, "requestLatency",
+                                      ovsdbClient.requestLatency());
+        metricsService.registerMetric(component, feature, "inFlightRequests",
+                                      (Gauge<Integer>) ovsdbClient::inFlightRequests);
+        metricsService.registerMetric(component, feature, "queuedRequests",
+                                      (Gauge<Integer>) ovsdbClient::queuedRequests);
+    }
+
+    /**
+     * Removes the request metrics of a node.
+     *
+     * @param nodeId node identifier
+     */
+    private void removeMetrics(OvsdbNodeId nodeId) {
+        if (metricsService == null) {
+            return;
+        }
+        MetricsComponent component = metricsService.registerComponent(METRICS_COMPONENT);
+        MetricsFeature feature = component.registerFeature(nodeId.toString());
+        metricsService.removeMetric(component, feature, "requestLatency");
+        metricsService.removeMetric(component, feature, "inFlightRequests");
+        metricsService.removeMetric(component, feature, "queuedRequests");
+    }
+
     /**
      * Processes table updates.
      *
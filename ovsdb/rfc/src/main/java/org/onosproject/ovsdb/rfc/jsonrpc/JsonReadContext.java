@@ -15,15 +15,22 @@
  */
 package org.onosproject.ovsdb.rfc.jsonrpc;
 
-import java.util.Stack;
-
 /**
  * Context for decode parameters.
+ * <p>
+ * Holds the state of the scan for the end of the JSON-RPC message being
+ * received, so that scanning resumes where it stopped when more bytes
+ * arrive: the nesting depth of objects and arrays, and whether the scan is
+ * inside a string or just after an escape character within it.
+ * </p>
  */
 public class JsonReadContext {
-    private Stack<Byte> bufStack;
     private boolean isStartMatch;
     private int lastReadBytes;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private boolean encodingChecked;
 
     /**
      * Constructs a JsonReadContext object. This class only need initial
@@ -31,25 +38,18 @@ public class JsonReadContext {
      * entity.
      */
     public JsonReadContext() {
-        bufStack = new Stack<Byte>();
-        isStartMatch = false;
-        lastReadBytes = 0;
+        reset();
     }
 
     /**
-     * Return bufStack.
-     * @return bufStack
+     * Clears the scan state, ready for the next message.
      */
-    public Stack<Byte> getBufStack() {
-        return bufStack;
-    }
-
-    /**
-     * Set bufStack, used for match the braces and double quotes.
-     * @param bufStack Stack of Byte
-     */
-    public void setBufStack(Stack<Byte> bufStack) {
-        this.bufStack = bufStack;
+    public void reset() {
+        isStartMatch = false;
+        lastReadBytes = 0;
+        depth = 0;
+        inString = false;
+        escaped = false;
     }
 
     /**
@@ -83,4 +83,69 @@ public class JsonReadContext {
     public void setLastReadBytes(int lastReadBytes) {
         this.lastReadBytes = lastReadBytes;
     }
+
+    /**
+     * Return depth.
+     * @return nesting depth of objects and arrays at the end of the scan
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Set depth.
+     * @param depth nesting depth of objects and arrays
+     */
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Return inString.
+     * @return whether the scan stopped inside a string
+     */
+    public boolean isInString() {
+        return inString;
+    }
+
+    /**
+     * Set inString.
+     * @param inString whether the scan is inside a string
+     */
+    public void setInString(boolean inString) {
+        this.inString = inString;
+    }
+
+    /**
+     * Return escaped.
+     * @return whether the scan stopped just after an escape character
+     */
+    public boolean isEscaped() {
+        return escaped;
+    }
+
+    /**
+     * Set escaped.
+     * @param escaped whether the scan is just after an escape character
+     */
+    public void setEscaped(boolean escaped) {
+        this.escaped = escaped;
+    }
+
+    /**
+     * Return encodingChecked.
+     * @return whether the encoding of the stream has been checked
+     */
+    public boolean isEncodingChecked() {
+        return encodingChecked;
+    }
+
+    /**
+     * Set encodingChecked.
+     * @param encodingChecked whether the encoding of the stream has been
+     *            checked
+     */
+    public void setEncodingChecked(boolean encodingChecked) {
+        this.encodingChecked = encodingChecked;
+    }
 }
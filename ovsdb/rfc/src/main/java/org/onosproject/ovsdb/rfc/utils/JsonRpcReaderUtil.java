@@ -17,10 +17,10 @@ package org.onosproject.ovsdb.rfc.utils;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufProcessor;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Stack;
 
 import org.onosproject.ovsdb.rfc.exception.UnsupportedException;
 import org.onosproject.ovsdb.rfc.jsonrpc.JsonReadContext;
@@ -39,6 +39,9 @@ import com.fasterxml.jackson.databind.MappingJsonFactory;
  */
 public final class JsonRpcReaderUtil {
 
+    // Parser factory shared by all connections; factories are thread safe
+    private static final MappingJsonFactory JSON_FACTORY = new MappingJsonFactory();
+
     /**
      * Constructs a JsonRpcReaderUtil object. Utility classes should not have a
      * public or default constructor, otherwise IDE will compile unsuccessfully.
@@ -48,7 +51,10 @@ public final class JsonRpcReaderUtil {
     }
 
     /**
-     * Decode the bytes to Json object.
+     * Decode the bytes to Json object. Every complete message in the
+     * buffer is decoded; the bytes of a trailing incomplete message are left
+     * in the buffer, and the scan for its end resumes from where it stopped
+     * on the next call.
      * @param in input of bytes
      * @param out ouput of Json object list
      * @param jrContext context for the last decoding process
@@ -57,64 +63,61 @@ public final class JsonRpcReaderUtil {
      */
     public static void readToJsonNode(ByteBuf in, List<Object> out, JsonReadContext jrContext)
             throws JsonParseException, IOException {
-        int lastReadBytes = jrContext.getLastReadBytes();
-        if (lastReadBytes == 0) {
-            if (in.readableBytes() < 4) {
-                return;
-            }
-            checkEncoding(in);
-        }
-
-        int i = lastReadBytes + in.readerIndex();
-        Stack<Byte> bufStack = jrContext.getBufStack();
-        for (; i < in.writerIndex(); i++) {
-            byte b = in.getByte(i);
-            switch (b) {
-            case '{':
-                if (!isDoubleQuote(bufStack)) {
-                    bufStack.push(b);
-                    jrContext.setStartMatch(true);
-                }
-                break;
-            case '}':
-                if (!isDoubleQuote(bufStack)) {
-                    bufStack.pop();
-                }
-                break;
-            case '"':
-                if (in.getByte(i - 1) != '\\') {
-                    if (!bufStack.isEmpty() && bufStack.peek() != '"') {
-                        bufStack.push(b);
-                    } else {
-                        bufStack.pop();
+        while (in.isReadable()) {
+            if (jrContext.getLastReadBytes() == 0) {
+                fliterCharaters(in);
+                if (!jrContext.isEncodingChecked()) {
+                    if (in.readableBytes() < 4) {
+                        return;
                     }
+                    checkEncoding(in);
+                    jrContext.setEncodingChecked(true);
+                }
+                if (!in.isReadable()) {
+                    return;
                 }
-                break;
-            default:
-                break;
             }
 
-            if (jrContext.isStartMatch() && bufStack.isEmpty()) {
-                ByteBuf buf = in.readSlice(i - in.readerIndex() + 1);
-                JsonParser jf = new MappingJsonFactory().createParser(new ByteBufInputStream(buf));
-                JsonNode jsonNode = jf.readValueAsTree();
-                out.add(jsonNode);
-                lastReadBytes = 0;
-                jrContext.setLastReadBytes(lastReadBytes);
-                break;
+            int start = in.readerIndex() + jrContext.getLastReadBytes();
+            FrameScanner scanner = new FrameScanner(jrContext);
+            int end = in.forEachByte(start, in.writerIndex() - start, scanner);
+            scanner.save(jrContext);
+            if (end < 0) {
+                jrContext.setLastReadBytes(in.readableBytes());
+                return;
             }
+
+            ByteBuf buf = in.readSlice(end - in.readerIndex() + 1);
+            out.add(parse(buf));
+            jrContext.reset();
         }
+    }
 
-        if (i >= in.writerIndex()) {
-            lastReadBytes = in.readableBytes();
-            jrContext.setLastReadBytes(lastReadBytes);
+    /**
+     * Parse a complete message with the shared parser factory.
+     * @param buf bytes of the message
+     * @return Json object
+     * @throws IOException IOException
+     */
+    private static JsonNode parse(ByteBuf buf) throws IOException {
+        JsonParser parser;
+        if (buf.hasArray()) {
+            parser = JSON_FACTORY.createParser(buf.array(),
+                                               buf.arrayOffset() + buf.readerIndex(),
+                                               buf.readableBytes());
+        } else {
+            parser = JSON_FACTORY.createParser(new ByteBufInputStream(buf));
+        }
+        try {
+            return parser.readValueAsTree();
+        } finally {
+            parser.close();
         }
     }
 
     /**
      * Filter the invalid characters before decoding.
      * @param in input of bytes
-     * @param lastReadBytes the bytes for last decoding incomplete record
      */
     private static void fliterCharaters(ByteBuf in) {
         while (in.isReadable()) {
@@ -128,15 +131,59 @@ public final class JsonRpcReaderUtil {
     }
 
     /**
-     * Check whether the peek of the stack element is double quote.
-     * @param jrContext context for the last decoding process
-     * @return boolean
+     * Scanner for the last byte of a message, tracking nesting and strings
+     * with primitive state rather than a stack of boxed bytes.
      */
-    private static boolean isDoubleQuote(Stack<Byte> bufStack) {
-        if (!bufStack.isEmpty() && bufStack.peek() == '"') {
-            return true;
+    private static final class FrameScanner implements ByteBufProcessor {
+        private boolean isStartMatch;
+        private int depth;
+        private boolean inString;
+        private boolean escaped;
+
+        private FrameScanner(JsonReadContext jrContext) {
+            isStartMatch = jrContext.isStartMatch();
+            depth = jrContext.getDepth();
+            inString = jrContext.isInString();
+            escaped = jrContext.isEscaped();
+        }
+
+        private void save(JsonReadContext jrContext) {
+            jrContext.setStartMatch(isStartMatch);
+            jrContext.setDepth(depth);
+            jrContext.setInString(inString);
+            jrContext.setEscaped(escaped);
+        }
+
+        @Override
+        public boolean process(byte b) {
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                return true;
+            }
+            switch (b) {
+            case '"':
+                inString = true;
+                return true;
+            case '{':
+            case '[':
+                depth++;
+                isStartMatch = true;
+                return true;
+            case '}':
+            case ']':
+                depth--;
+                // Stop at the byte closing the top level value
+                return !(isStartMatch && depth == 0);
+            default:
+                return true;
+            }
         }
-        return false;
     }
 
     /**
@@ -148,7 +195,6 @@ public final class JsonRpcReaderUtil {
     private static void checkEncoding(ByteBuf in) throws IOException {
         int inputStart = 0;
         int inputLength = 4;
-        fliterCharaters(in);
         byte[] buff = new byte[4];
         in.getBytes(in.readerIndex(), buff);
         ByteSourceJsonBootstrapper strapper = new ByteSourceJsonBootstrapper(new IOContext(new BufferRecycler(),
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.ovsdb.rfc.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.ovsdb.rfc.jsonrpc.JsonReadContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the framing of JSON-RPC messages read from the OVSDB channel.
+ */
+public class JsonRpcReaderUtilTest {
+
+    private static final String ECHO = "{\"id\":\"echo\",\"method\":\"echo\",\"params\":[]}";
+    private static final String TRICKY =
+            "{\"id\":1,\"result\":[{\"name\":\"a\\\"}{[\",\"rows\":{\"b\":{\"c\":[1,[2]]}}}]}";
+
+    private final List<Object> out = Lists.newArrayList();
+    private ByteBuf cumulation;
+    private JsonReadContext context;
+
+    @Before
+    public void setUp() {
+        cumulation = Unpooled.buffer();
+        context = new JsonReadContext();
+    }
+
+    // Appends bytes as they arrive from the channel and decodes what it can
+    private void read(String chunk) throws IOException {
+        cumulation.writeBytes(chunk.getBytes(StandardCharsets.UTF_8));
+        JsonRpcReaderUtil.readToJsonNode(cumulation, out, context);
+        cumulation.discardReadBytes();
+    }
+
+    private JsonNode message(int index) {
+        return (JsonNode) out.get(index);
+    }
+
+    @Test
+    public void splitMessage() throws IOException {
+        read(ECHO.substring(0, 2));
+        read(ECHO.substring(2, 20));
+        assertTrue("partial message should not be decoded", out.isEmpty());
+        read(ECHO.substring(20));
+        assertEquals(1, out.size());
+        assertEquals("echo", message(0).get("method").asText());
+        assertEquals(0, cumulation.readableBytes());
+    }
+
+    @Test
+    public void escapedQuotesAndBraces() throws IOException {
+        read(TRICKY);
+        assertEquals(1, out.size());
+        JsonNode row = message(0).get("result").get(0);
+        assertEquals("a\"}{[", row.get("name").asText());
+    }
+
+    @Test
+    public void splitInsideEscape() throws IOException {
+        int escape = TRICKY.indexOf('\\');
+        read(TRICKY.substring(0, escape + 1));
+        read(TRICKY.substring(escape + 1, escape + 3));
+        assertTrue("partial message should not be decoded", out.isEmpty());
+        read(TRICKY.substring(escape + 3));
+        assertEquals(1, out.size());
+        assertEquals("a\"}{[", message(0).get("result").get(0).get("name").asText());
+    }
+
+    @Test
+    public void nestedObjects() throws IOException {
+        read(TRICKY);
+        JsonNode rows = message(0).get("result").get(0).get("rows");
+        assertEquals(2, rows.get("b").get("c").get(1).get(0).asInt());
+    }
+
+    @Test
+    public void severalMessages() throws IOException {
+        String tail = ECHO.substring(0, 10);
+        read(ECHO + "\n" + TRICKY + " \r\n" + ECHO + tail);
+        assertEquals(3, out.size());
+        assertEquals("echo", message(0).get("id").asText());
+        assertEquals(1, message(1).get("id").asInt());
+        assertEquals("echo", message(2).get("id").asText());
+        assertEquals("incomplete message should be kept", tail.length(),
+                     cumulation.readableBytes());
+
+        read(ECHO.substring(10));
+        assertEquals(4, out.size());
+        assertEquals("echo", message(3).get("method").asText());
+    }
+}
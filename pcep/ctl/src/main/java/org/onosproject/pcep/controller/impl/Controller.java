@@ -22,13 +22,16 @@ import java.lang.management.RuntimeMXBean;
 import java.net.InetSocketAddress;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Executors;
 
-import org.jboss.netty.bootstrap.ServerBootstrap;
-import org.jboss.netty.channel.ChannelPipelineFactory;
-import org.jboss.netty.channel.group.ChannelGroup;
-import org.jboss.netty.channel.group.DefaultChannelGroup;
-import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.GlobalEventExecutor;
 import org.onosproject.pcep.controller.PccId;
 import org.onosproject.pcep.controller.PcepPacketStats;
 import org.onosproject.pcep.controller.driver.PcepAgent;
@@ -60,7 +63,8 @@ public class Controller {
 
     private PcepAgent agent;
 
-    private NioServerSocketChannelFactory execFactory;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
 
     // Perf. related configuration
     private static final int SEND_BUFFER_SIZE = 4 * 1024 * 1024;
@@ -90,17 +94,17 @@ public class Controller {
         try {
             final ServerBootstrap bootstrap = createServerBootStrap();
 
-            bootstrap.setOption("reuseAddr", true);
-            bootstrap.setOption("child.keepAlive", true);
-            bootstrap.setOption("child.tcpNoDelay", true);
-            bootstrap.setOption("child.sendBufferSize", Controller.SEND_BUFFER_SIZE);
+            bootstrap.option(ChannelOption.SO_REUSEADDR, true);
+            bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+            bootstrap.childOption(ChannelOption.SO_KEEPALIVE, true);
+            bootstrap.childOption(ChannelOption.TCP_NODELAY, true);
+            bootstrap.childOption(ChannelOption.SO_SNDBUF, Controller.SEND_BUFFER_SIZE);
+            bootstrap.childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
 
-            ChannelPipelineFactory pfact = new PcepPipelineFactory(this);
-
-            bootstrap.setPipelineFactory(pfact);
+            bootstrap.childHandler(new PcepPipelineFactory(this));
             InetSocketAddress sa = new InetSocketAddress(pcepPort);
-            cg = new DefaultChannelGroup();
-            cg.add(bootstrap.bind(sa));
+            cg = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+            cg.add(bootstrap.bind(sa).syncUninterruptibly().channel());
             log.info("Listening for PCC connection on {}", sa);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -113,17 +117,12 @@ public class Controller {
      * @return ServerBootStrap
      */
     private ServerBootstrap createServerBootStrap() {
-        if (workerThreads == 0) {
-            execFactory = new NioServerSocketChannelFactory(
-                    Executors.newCachedThreadPool(groupedThreads("onos/pcep", "boss-%d")),
-                    Executors.newCachedThreadPool(groupedThreads("onos/pcep", "worker-%d")));
-            return new ServerBootstrap(execFactory);
-        } else {
-            execFactory = new NioServerSocketChannelFactory(
-                    Executors.newCachedThreadPool(groupedThreads("onos/pcep", "boss-%d")),
-                    Executors.newCachedThreadPool(groupedThreads("onos/pcep", "worker-%d")), workerThreads);
-            return new ServerBootstrap(execFactory);
-        }
+        bossGroup = new NioEventLoopGroup(1, groupedThreads("onos/pcep", "boss-%d"));
+        // Zero worker threads lets netty pick its default, twice the cores
+        workerGroup = new NioEventLoopGroup(workerThreads, groupedThreads("onos/pcep", "worker-%d"));
+        return new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(NioServerSocketChannel.class);
     }
 
     /**
@@ -182,7 +181,8 @@ public class Controller {
      */
     public void stop() {
         log.info("Stopped");
-        execFactory.shutdown();
         cg.close();
+        workerGroup.shutdownGracefully();
+        bossGroup.shutdownGracefully();
     }
 }
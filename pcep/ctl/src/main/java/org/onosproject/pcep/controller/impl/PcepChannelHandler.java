@@ -27,16 +27,14 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.RejectedExecutionException;
 
-import org.jboss.netty.channel.Channel;
-import org.jboss.netty.channel.ChannelHandlerContext;
-import org.jboss.netty.channel.ChannelStateEvent;
-import org.jboss.netty.channel.ExceptionEvent;
-import org.jboss.netty.channel.MessageEvent;
-import org.jboss.netty.handler.timeout.IdleState;
-import org.jboss.netty.handler.timeout.IdleStateAwareChannelHandler;
-import org.jboss.netty.handler.timeout.IdleStateEvent;
-import org.jboss.netty.handler.timeout.IdleStateHandler;
-import org.jboss.netty.handler.timeout.ReadTimeoutException;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.timeout.ReadTimeoutException;
 import org.onlab.packet.IpAddress;
 import org.onosproject.pcep.controller.PccId;
 import org.onosproject.pcep.controller.driver.PcepClientDriver;
@@ -63,7 +61,7 @@ import org.slf4j.LoggerFactory;
  * Channel handler deals with the pcc client connection and dispatches
  * messages from client to the appropriate locations.
  */
-class PcepChannelHandler extends IdleStateAwareChannelHandler {
+class PcepChannelHandler extends ChannelInboundHandlerAdapter {
     static final byte DEADTIMER_MAXIMUM_VALUE = (byte) 0xFF;
     static final byte KEEPALIVE_MULTIPLE_FOR_DEADTIMER = 4;
     private static final Logger log = LoggerFactory.getLogger(PcepChannelHandler.class);
@@ -173,7 +171,7 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
                         // Send PCEP-ERROR message.
                         PcepErrorMsg errMsg = h.getErrorMsg(PcepErrorDetailInfo.ERROR_TYPE_2,
                                 PcepErrorDetailInfo.ERROR_VALUE_2);
-                        h.channel.write(Collections.singletonList(errMsg));
+                        h.channel.writeAndFlush(Collections.singletonList(errMsg));
                     }
                 }
             }
@@ -193,7 +191,7 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
                 } else {
                     // Set the client connected status
                     h.pcepPacketStats.addInPacket();
-                    final SocketAddress address = h.channel.getRemoteAddress();
+                    final SocketAddress address = h.channel.remoteAddress();
                     if (!(address instanceof InetSocketAddress)) {
                         throw new IOException("Invalid client connection. Pcc is indentifed based on IP");
                     }
@@ -221,8 +219,8 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
                     if (keepAliveTimer != PcepPipelineFactory.DEFAULT_KEEP_ALIVE_TIME
                             || deadTimer != PcepPipelineFactory.DEFAULT_DEAD_TIME) {
 
-                        h.channel.getPipeline().replace("idle", "idle",
-                                new IdleStateHandler(PcepPipelineFactory.TIMER, deadTimer, keepAliveTimer, 0));
+                        h.channel.pipeline().replace("idle", "idle",
+                                new IdleStateHandler(deadTimer, keepAliveTimer, 0));
                     }
                     log.debug("Dead timer : " + deadTimer);
                     log.debug("Keep alive time : " + keepAliveTimer);
@@ -247,7 +245,7 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
             @Override
             void processPcepMessage(PcepChannelHandler h, PcepMessage m) throws IOException, PcepParseException {
 
-                //h.channel.getPipeline().remove("waittimeout");
+                //h.channel.pipeline().remove("waittimeout");
                 log.debug("Message received in established state " + m.getType());
                 //dispatch the message
                 h.dispatchMessage(m);
@@ -291,16 +289,16 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
     }
 
     @Override
-    public void channelConnected(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
-        channel = e.getChannel();
-        log.info("PCC connected from {}", channel.getRemoteAddress());
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        channel = ctx.channel();
+        log.info("PCC connected from {}", channel.remoteAddress());
 
         // Wait for open message from pcc client
         setState(ChannelState.OPENWAIT);
     }
 
     @Override
-    public void channelDisconnected(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
         log.info("Pcc disconnected callback for pc:{}. Cleaning up ...", getClientInfoString());
         if (thispccId != null) {
             if (!duplicatePccIdFound) {
@@ -327,17 +325,22 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
     }
 
     @Override
-    public void exceptionCaught(ChannelHandlerContext ctx, ExceptionEvent e) throws Exception {
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable e) throws Exception {
         PcepErrorMsg errMsg;
         log.info("exceptionCaught: " + e.toString());
 
-        if (e.getCause() instanceof ReadTimeoutException) {
+        Throwable cause = e;
+        if (cause instanceof DecoderException && e.getCause() != null) {
+            // Errors of the message readers reach here wrapped by the decoder
+            cause = e.getCause();
+        }
+        if (cause instanceof ReadTimeoutException) {
             if (ChannelState.OPENWAIT == state) {
                 // When ReadTimeout timer is expired in OPENWAIT state, it is considered
                 // OpenWait timer.
                 errMsg = getErrorMsg(PcepErrorDetailInfo.ERROR_TYPE_1, PcepErrorDetailInfo.ERROR_VALUE_2);
                 log.debug("Sending PCEP-ERROR message to PCC.");
-                channel.write(Collections.singletonList(errMsg));
+                channel.writeAndFlush(Collections.singletonList(errMsg));
                 channel.close();
                 state = ChannelState.INIT;
                 return;
@@ -346,22 +349,22 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
                 // KeepWait timer.
                 errMsg = getErrorMsg(PcepErrorDetailInfo.ERROR_TYPE_1, PcepErrorDetailInfo.ERROR_VALUE_7);
                 log.debug("Sending PCEP-ERROR message to PCC.");
-                channel.write(Collections.singletonList(errMsg));
+                channel.writeAndFlush(Collections.singletonList(errMsg));
                 channel.close();
                 state = ChannelState.INIT;
                 return;
             }
-        } else if (e.getCause() instanceof ClosedChannelException) {
+        } else if (cause instanceof ClosedChannelException) {
             log.debug("Channel for pc {} already closed", getClientInfoString());
-        } else if (e.getCause() instanceof IOException) {
-            log.error("Disconnecting client {} due to IO Error: {}", getClientInfoString(), e.getCause().getMessage());
+        } else if (cause instanceof IOException) {
+            log.error("Disconnecting client {} due to IO Error: {}", getClientInfoString(), cause.getMessage());
             if (log.isDebugEnabled()) {
                 // still print stack trace if debug is enabled
-                log.debug("StackTrace for previous Exception: ", e.getCause());
+                log.debug("StackTrace for previous Exception: ", cause);
             }
             channel.close();
-        } else if (e.getCause() instanceof PcepParseException) {
-            PcepParseException errMsgParse = (PcepParseException) e.getCause();
+        } else if (cause instanceof PcepParseException) {
+            PcepParseException errMsgParse = (PcepParseException) cause;
             byte errorType = errMsgParse.getErrorType();
             byte errorValue = errMsgParse.getErrorValue();
 
@@ -370,9 +373,9 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
             } else {
                 errMsg = getErrorMsg(errorType, errorValue);
                 log.debug("Sending PCEP-ERROR message to PCC.");
-                channel.write(Collections.singletonList(errMsg));
+                channel.writeAndFlush(Collections.singletonList(errMsg));
             }
-        } else if (e.getCause() instanceof RejectedExecutionException) {
+        } else if (cause instanceof RejectedExecutionException) {
             log.warn("Could not process message: queue full");
         } else {
             log.error("Error while processing message from client " + getClientInfoString() + "state " + this.state);
@@ -386,17 +389,22 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
     }
 
     @Override
-    public void channelIdle(ChannelHandlerContext ctx, IdleStateEvent e) throws Exception {
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (!(evt instanceof IdleStateEvent)) {
+            ctx.fireUserEventTriggered(evt);
+            return;
+        }
         if (!isHandshakeComplete()) {
             return;
         }
 
-        if (e.getState() == IdleState.READER_IDLE) {
+        IdleStateEvent e = (IdleStateEvent) evt;
+        if (e.state() == IdleState.READER_IDLE) {
             // When no message is received on channel for read timeout, then close
             // the channel
             log.info("Disconnecting client {} due to read timeout", getClientInfoString());
-            ctx.getChannel().close();
-        } else if (e.getState() == IdleState.WRITER_IDLE) {
+            ctx.channel().close();
+        } else if (e.state() == IdleState.WRITER_IDLE) {
             // Send keep alive message
             log.debug("Sending keep alive message due to IdleState timeout " + pc.toString());
             pc.sendMessage(Collections.singletonList(pc.factory().buildKeepaliveMsg().build()));
@@ -404,16 +412,16 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
     }
 
     @Override
-    public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
-        if (e.getMessage() instanceof List) {
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof List) {
             @SuppressWarnings("unchecked")
-            List<PcepMessage> msglist = (List<PcepMessage>) e.getMessage();
+            List<PcepMessage> msglist = (List<PcepMessage>) msg;
             for (PcepMessage pm : msglist) {
                 // Do the actual packet processing
                 state.processPcepMessage(this, pm);
             }
         } else {
-            state.processPcepMessage(this, (PcepMessage) e.getMessage());
+            state.processPcepMessage(this, (PcepMessage) msg);
         }
     }
 
@@ -455,10 +463,10 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
             return pc.toString();
         }
         String channelString;
-        if (channel == null || channel.getRemoteAddress() == null) {
+        if (channel == null || channel.remoteAddress() == null) {
             channelString = "?";
         } else {
-            channelString = channel.getRemoteAddress().toString();
+            channelString = channel.remoteAddress().toString();
         }
         String pccIpString;
         // TODO : implement functionality to get pcc id string
@@ -489,8 +497,8 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
         PcepMessage msg = factory1.buildOpenMsg()
                 .setPcepOpenObj(pcepOpenobj)
                 .build();
-        log.debug("Sending OPEN message to {}", channel.getRemoteAddress());
-        channel.write(Collections.singletonList(msg));
+        log.debug("Sending OPEN message to {}", channel.remoteAddress());
+        channel.writeAndFlush(Collections.singletonList(msg));
     }
 
     /**
@@ -536,8 +544,8 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
      */
     private void sendKeepAliveMessage() throws IOException, PcepParseException {
         PcepMessage msg = factory1.buildKeepaliveMsg().build();
-        log.debug("Sending KEEPALIVE message to {}", channel.getRemoteAddress());
-        channel.write(Collections.singletonList(msg));
+        log.debug("Sending KEEPALIVE message to {}", channel.remoteAddress());
+        channel.writeAndFlush(Collections.singletonList(msg));
     }
 
     /**
@@ -557,7 +565,7 @@ class PcepChannelHandler extends IdleStateAwareChannelHandler {
         byte errorType = 0x02;
         byte errorValue = 0x00;
         PcepErrorMsg errMsg = getErrorMsg(errorType, errorValue);
-        channel.write(Collections.singletonList(errMsg));
+        channel.writeAndFlush(Collections.singletonList(errMsg));
     }
 
     /**
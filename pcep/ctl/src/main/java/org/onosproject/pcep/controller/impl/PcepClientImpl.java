@@ -22,7 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
-import org.jboss.netty.channel.Channel;
+import io.netty.channel.Channel;
 import org.onlab.packet.IpAddress;
 import org.onosproject.pcep.controller.PccId;
 import org.onosproject.pcep.controller.PcepPacketStats;
@@ -77,9 +77,9 @@ public class PcepClientImpl implements PcepClientDriver {
 
     @Override
     public final void sendMessage(PcepMessage m) {
-        log.debug("Sending message to {}", channel.getRemoteAddress());
+        log.debug("Sending message to {}", channel.remoteAddress());
         try {
-            channel.write(Collections.singletonList(m));
+            channel.writeAndFlush(Collections.singletonList(m));
             this.pktStats.addOutPacket();
         } catch (RejectedExecutionException e) {
             log.warn(e.getMessage());
@@ -92,7 +92,7 @@ public class PcepClientImpl implements PcepClientDriver {
     @Override
     public final void sendMessage(List<PcepMessage> msgs) {
         try {
-            channel.write(msgs);
+            channel.writeAndFlush(msgs);
             this.pktStats.addOutPacket(msgs.size());
         } catch (RejectedExecutionException e) {
             log.warn(e.getMessage());
@@ -115,7 +115,7 @@ public class PcepClientImpl implements PcepClientDriver {
     @Override
     public final void setChannel(Channel channel) {
         this.channel = channel;
-        final SocketAddress address = channel.getRemoteAddress();
+        final SocketAddress address = channel.remoteAddress();
         if (address instanceof InetSocketAddress) {
             final InetSocketAddress inetAddress = (InetSocketAddress) address;
             final IpAddress ipAddress = IpAddress.valueOf(inetAddress.getAddress());
@@ -18,10 +18,10 @@ package org.onosproject.pcep.controller.impl;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.channel.Channel;
-import org.jboss.netty.channel.ChannelHandlerContext;
-import org.jboss.netty.handler.codec.frame.FrameDecoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
 import org.onosproject.pcepio.protocol.PcepMessage;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
@@ -31,38 +31,56 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Decode an pcep message from a Channel, for use in a netty pipeline.
+ * <p>
+ * Messages are framed by the length of their common header. Each complete
+ * message is read from a slice of the cumulated buffer, so its objects and
+ * TLVs are parsed in place rather than from a copy; a message split over
+ * several reads is decoded once its last byte arrives.
+ * </p>
  */
-public class PcepMessageDecoder extends FrameDecoder {
+public class PcepMessageDecoder extends ByteToMessageDecoder {
 
     protected static final Logger log = LoggerFactory.getLogger(PcepMessageDecoder.class);
 
+    // Common header: version and flags, message type, message length
+    private static final int COMMON_HEADER_LENGTH = 4;
+    private static final int LENGTH_OFFSET = 2;
+
     @Override
-    protected Object decode(ChannelHandlerContext ctx, Channel channel,
-            ChannelBuffer buffer) throws Exception {
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buffer,
+            List<Object> out) throws Exception {
         log.debug("Message received.");
-        if (!channel.isConnected()) {
+        if (!ctx.channel().isActive()) {
             log.info("Channel is not connected.");
-            // In testing, I see decode being called AFTER decode last.
+            // Decode may be called after the channel is closed.
             // This check avoids that from reading corrupted frames
-            return null;
+            return;
         }
 
         HexDump.pcepHexDump(buffer);
 
-        // Note that a single call to decode results in reading a single
-        // PcepMessage from the channel buffer, which is passed on to, and processed
-        // by, the controller (in PcepChannelHandler).
-        // This is different from earlier behavior (with the original pcepIO),
-        // where we parsed all the messages in the buffer, before passing on
-        // a list of the parsed messages to the controller.
-        // The performance *may or may not* not be as good as before.
+        // All complete messages in the buffer are passed on together, as a
+        // list, to the controller (in PcepChannelHandler).
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
         List<PcepMessage> msgList = new LinkedList<>();
 
-        while (buffer.readableBytes() > 0) {
-            PcepMessage message = reader.readFrom(buffer);
-            msgList.add(message);
+        try {
+            while (buffer.readableBytes() >= COMMON_HEADER_LENGTH) {
+                int length = buffer.getUnsignedShort(buffer.readerIndex() + LENGTH_OFFSET);
+                if (length < COMMON_HEADER_LENGTH) {
+                    // The stream can no longer be delimited; drop what is left
+                    buffer.skipBytes(buffer.readableBytes());
+                    throw new PcepParseException("Invalid message length " + length);
+                }
+                if (buffer.readableBytes() < length) {
+                    break;
+                }
+                msgList.add(reader.readFrom(buffer.readSlice(length)));
+            }
+        } finally {
+            if (!msgList.isEmpty()) {
+                out.add(msgList);
+            }
         }
-        return msgList;
     }
 }
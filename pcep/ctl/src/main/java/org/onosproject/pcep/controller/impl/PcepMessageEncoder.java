@@ -17,42 +17,32 @@ package org.onosproject.pcep.controller.impl;
 
 import java.util.List;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
-import org.jboss.netty.channel.Channel;
-import org.jboss.netty.channel.ChannelHandlerContext;
-import org.jboss.netty.handler.codec.oneone.OneToOneEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
 import org.onosproject.pcepio.protocol.PcepMessage;
 import org.onosproject.pcepio.util.HexDump;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Encode an pcep message for output into a ChannelBuffer, for use in a
+ * Encode an pcep message for output into a ByteBuf, for use in a
  * netty pipeline.
+ * <p>
+ * Messages are written straight into a buffer of the channel allocator.
+ * </p>
  */
-public class PcepMessageEncoder extends OneToOneEncoder {
+public class PcepMessageEncoder extends MessageToByteEncoder<List<PcepMessage>> {
     protected static final Logger log = LoggerFactory.getLogger(PcepMessageEncoder.class);
 
     @Override
-    protected Object encode(ChannelHandlerContext ctx, Channel channel, Object msg) throws Exception {
+    protected void encode(ChannelHandlerContext ctx, List<PcepMessage> msglist, ByteBuf buf) throws Exception {
         log.debug("Sending message");
-        if (!(msg instanceof List)) {
-            log.debug("Invalid msg.");
-            return msg;
-        }
-
-        @SuppressWarnings("unchecked")
-        List<PcepMessage> msglist = (List<PcepMessage>) msg;
-
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
 
         for (PcepMessage pm : msglist) {
             pm.writeTo(buf);
         }
 
         HexDump.pcepHexDump(buf);
-
-        return buf;
     }
 }
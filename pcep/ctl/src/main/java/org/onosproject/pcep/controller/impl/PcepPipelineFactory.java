@@ -16,25 +16,18 @@
 
 package org.onosproject.pcep.controller.impl;
 
-import org.jboss.netty.channel.ChannelPipeline;
-import org.jboss.netty.channel.ChannelPipelineFactory;
-import org.jboss.netty.channel.Channels;
-import org.jboss.netty.handler.timeout.IdleStateHandler;
-import org.jboss.netty.handler.timeout.ReadTimeoutHandler;
-import org.jboss.netty.util.ExternalResourceReleasable;
-import org.jboss.netty.util.HashedWheelTimer;
-import org.jboss.netty.util.Timer;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 
 /**
  * Creates a ChannelPipeline for a server-side pcep channel.
  */
-public class PcepPipelineFactory
-    implements ChannelPipelineFactory, ExternalResourceReleasable {
+public class PcepPipelineFactory extends ChannelInitializer<SocketChannel> {
 
     protected Controller controller;
-    static final Timer TIMER = new HashedWheelTimer();
-    protected IdleStateHandler idleHandler;
-    protected ReadTimeoutHandler readTimeoutHandler;
     static final int DEFAULT_KEEP_ALIVE_TIME = 30;
     static final int DEFAULT_DEAD_TIME = 120;
     static final int DEFAULT_WAIT_TIME = 60;
@@ -42,25 +35,18 @@ public class PcepPipelineFactory
     public PcepPipelineFactory(Controller controller) {
         super();
         this.controller = controller;
-        this.idleHandler = new IdleStateHandler(TIMER, DEFAULT_DEAD_TIME, DEFAULT_KEEP_ALIVE_TIME, 0);
-        this.readTimeoutHandler = new ReadTimeoutHandler(TIMER, DEFAULT_WAIT_TIME);
     }
 
     @Override
-    public ChannelPipeline getPipeline() throws Exception {
+    protected void initChannel(SocketChannel channel) throws Exception {
         PcepChannelHandler handler = new PcepChannelHandler(controller);
 
-        ChannelPipeline pipeline = Channels.pipeline();
+        // Timeout handlers keep per channel state, so they cannot be shared
+        ChannelPipeline pipeline = channel.pipeline();
         pipeline.addLast("pcepmessagedecoder", new PcepMessageDecoder());
         pipeline.addLast("pcepmessageencoder", new PcepMessageEncoder());
-        pipeline.addLast("idle", idleHandler);
-        pipeline.addLast("waittimeout", readTimeoutHandler);
+        pipeline.addLast("idle", new IdleStateHandler(DEFAULT_DEAD_TIME, DEFAULT_KEEP_ALIVE_TIME, 0));
+        pipeline.addLast("waittimeout", new ReadTimeoutHandler(DEFAULT_WAIT_TIME));
         pipeline.addLast("handler", handler);
-        return pipeline;
-    }
-
-    @Override
-    public void releaseExternalResources() {
-        TIMER.stop();
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.pcep.controller.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.pcepio.exceptions.PcepParseException;
+import org.onosproject.pcepio.protocol.PcepCloseMsg;
+import org.onosproject.pcepio.protocol.PcepKeepaliveMsg;
+import org.onosproject.pcepio.protocol.PcepMessage;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests of the framing of PCEP messages by the decoder.
+ */
+public class PcepMessageDecoderTest {
+
+    private static final byte[] KEEPALIVE = new byte[] {0x20, 0x02, 0x00, 0x04};
+    private static final byte[] CLOSE = new byte[] {0x20, 0x07, 0x00, 0x0C,
+            0x0f, 0x10, 0x00, 0x08, 0x00, 0x00, 0x00, 0x02};
+
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new PcepMessageDecoder());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PcepMessage> read() {
+        return (List<PcepMessage>) channel.readInbound();
+    }
+
+    @Test
+    public void splitMessage() {
+        assertFalse("partial header should not be decoded",
+                    channel.writeInbound(Unpooled.wrappedBuffer(CLOSE, 0, 2)));
+        assertFalse("partial body should not be decoded",
+                    channel.writeInbound(Unpooled.wrappedBuffer(CLOSE, 2, 6)));
+        assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(CLOSE, 8, 4)));
+
+        List<PcepMessage> messages = read();
+        assertEquals(1, messages.size());
+        assertThat(messages.get(0), instanceOf(PcepCloseMsg.class));
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void severalMessages() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeBytes(KEEPALIVE);
+        buffer.writeBytes(CLOSE);
+        buffer.writeBytes(KEEPALIVE);
+        // Start of a message still on its way
+        buffer.writeBytes(CLOSE, 0, 6);
+        assertTrue(channel.writeInbound(buffer));
+
+        List<PcepMessage> messages = read();
+        assertEquals("complete messages should be passed on together", 3, messages.size());
+        assertThat(messages.get(0), instanceOf(PcepKeepaliveMsg.class));
+        assertThat(messages.get(1), instanceOf(PcepCloseMsg.class));
+        assertThat(messages.get(2), instanceOf(PcepKeepaliveMsg.class));
+
+        assertTrue(channel.writeInbound(Unpooled.wrappedBuffer(CLOSE, 6, 6)));
+        messages = read();
+        assertEquals(1, messages.size());
+        assertThat(messages.get(0), instanceOf(PcepCloseMsg.class));
+    }
+
+    @Test
+    public void invalidLength() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeBytes(KEEPALIVE);
+        buffer.writeBytes(new byte[] {0x20, 0x02, 0x00, 0x03});
+        try {
+            channel.writeInbound(buffer);
+            fail("length below the common header should be rejected");
+        } catch (DecoderException e) {
+            assertThat(e.getCause(), instanceOf(PcepParseException.class));
+        }
+
+        List<PcepMessage> messages = read();
+        assertEquals("messages before the invalid one should be passed on",
+                     1, messages.size());
+        assertThat(messages.get(0), instanceOf(PcepKeepaliveMsg.class));
+    }
+}
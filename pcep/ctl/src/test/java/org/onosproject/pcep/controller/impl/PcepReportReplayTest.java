@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.pcep.controller.impl;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.pcepio.protocol.PcepMessage;
+import org.onosproject.pcepio.protocol.PcepReportMsg;
+import org.onosproject.pcepio.protocol.PcepStateReport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the decoding of a full LSP state synchronization, replayed over
+ * TCP by a local stand-in for a PCC.
+ */
+public class PcepReportReplayTest {
+
+    private static final int REPORTS = 100_000;
+    // Typical TCP segment payload, so that messages straddle reads
+    private static final int SEGMENT_SIZE = 1460;
+
+    // PCRpt with an SRP object, an LSP object carrying the PLSP-ID at offset
+    // 20, a symbolic path name TLV and an empty ERO object
+    private static final byte[] REPORT = new byte[] {0x20, 0x0a, 0x00, 0x24,
+            0x21, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01,
+            0x20, 0x10, 0x00, 0x10, 0x00, 0x00, 0x10, 0x03,
+            0x00, 0x11, 0x00, 0x02, 0x54, 0x31, 0x00, 0x00,
+            0x07, 0x10, 0x00, 0x04};
+    private static final int PLSP_ID_OFFSET = 20;
+    private static final int LSP_FLAGS = 0x003;
+
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    private final CountDownLatch replayed = new CountDownLatch(REPORTS);
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger outOfOrder = new AtomicInteger();
+    private Channel server;
+
+    @Before
+    public void setUp() throws InterruptedException {
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(new PcepMessageDecoder(), new ReportCounter());
+                    }
+                })
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .sync()
+                .channel();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test(timeout = 60_000)
+    public void replayFullSync() throws IOException, InterruptedException {
+        ByteBuffer stream = ByteBuffer.allocate(REPORTS * REPORT.length);
+        for (int plspId = 1; plspId <= REPORTS; plspId++) {
+            int start = stream.position();
+            stream.put(REPORT);
+            stream.putInt(start + PLSP_ID_OFFSET, plspId << 12 | LSP_FLAGS);
+        }
+
+        try (Socket pcc = new Socket()) {
+            pcc.connect(server.localAddress());
+            OutputStream out = pcc.getOutputStream();
+            byte[] bytes = stream.array();
+            for (int offset = 0; offset < bytes.length; offset += SEGMENT_SIZE) {
+                out.write(bytes, offset, Math.min(SEGMENT_SIZE, bytes.length - offset));
+            }
+            out.flush();
+            assertTrue("all reports should be decoded",
+                       replayed.await(30, TimeUnit.SECONDS));
+        }
+
+        assertEquals(REPORTS, received.get());
+        assertEquals("reports should be decoded in order", 0, outOfOrder.get());
+    }
+
+    // Stands in for the channel handler, checking the PLSP-ID of each report
+    private class ReportCounter extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            @SuppressWarnings("unchecked")
+            List<PcepMessage> messages = (List<PcepMessage>) msg;
+            for (PcepMessage message : messages) {
+                for (PcepStateReport report : ((PcepReportMsg) message).getStateReportList()) {
+                    if (report.getLspObject().getPlspId() != received.incrementAndGet()) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    replayed.countDown();
+                }
+            }
+        }
+    }
+}
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -33,7 +33,7 @@ public interface PcepAttribute {
      * @return object length index.
      * @throws PcepParseException while writing objects to channel buffer
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Returns PcepLspaObject.
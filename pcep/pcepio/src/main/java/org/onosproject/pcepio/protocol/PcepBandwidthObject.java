@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 
@@ -45,7 +45,7 @@ public interface PcepBandwidthObject {
      * @return Returns the writerIndex of this buffer
      * @throws PcepParseException if bandwidth object header fails to write in channel buffer
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build bandwidth object.
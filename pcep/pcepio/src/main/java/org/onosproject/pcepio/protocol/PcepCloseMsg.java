@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 import org.onosproject.pcepio.types.PcepValueType;
@@ -63,7 +63,7 @@ public interface PcepCloseMsg extends PcepObject, PcepMessage {
     void setOptionalTlv(LinkedList<PcepValueType> llOptionalTlv);
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer) throws PcepParseException;
+    void writeTo(ByteBuf channelBuffer) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build Close message.
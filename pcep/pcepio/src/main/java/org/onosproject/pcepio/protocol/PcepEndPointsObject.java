@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 
@@ -58,9 +58,9 @@ public interface PcepEndPointsObject {
      *
      * @param bb channel buffer
      * @return Returns the writerIndex of this buffer
-     * @throws PcepParseException while writing EndPointObject into ChannelBuffer
+     * @throws PcepParseException while writing EndPointObject into ByteBuf
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build EndPoints object.
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -72,9 +72,9 @@ public interface PcepError {
      *
      * @param bb of type channel buffer
      * @return object length index
-     * @throws PcepParseException while writing Error part into ChannelBuffer
+     * @throws PcepParseException while writing Error part into ByteBuf
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build PcepError.
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -39,7 +39,7 @@ public interface PcepErrorInfo {
      * @param bb of channel buffer
      * @throws PcepParseException while parsing Error info part.
      */
-    void read(ChannelBuffer bb) throws PcepParseException;
+    void read(ByteBuf bb) throws PcepParseException;
 
     /**
      * Writes byte stream of PCEP error info to channel buffer.
@@ -47,7 +47,7 @@ public interface PcepErrorInfo {
      * @param bb of type channel buffer
      * @throws PcepParseException while writing Error info part into Channel Buffer.
      */
-    void write(ChannelBuffer bb) throws PcepParseException;
+    void write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Returns Error Value in PCEP-ERROR Object.
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.ErrorObjListWithOpen;
 
@@ -60,7 +60,7 @@ public interface PcepErrorMsg extends PcepMessage {
     void setPcepErrorInfo(PcepErrorInfo errInfo);
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer) throws PcepParseException;
+    void writeTo(ByteBuf channelBuffer) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build PCEP Error message.
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 import org.onosproject.pcepio.types.PcepValueType;
@@ -74,9 +74,9 @@ public interface PcepErrorObject {
      *
      * @param bb channel buffer
      * @return Returns the writerIndex of this buffer
-     * @throws PcepParseException while writing Error Object into ChannelBuffer
+     * @throws PcepParseException while writing Error Object into ByteBuf
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build Error object.
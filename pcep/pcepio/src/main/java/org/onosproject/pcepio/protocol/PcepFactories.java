@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.ver1.PcepFactoryVer1;
 import org.slf4j.Logger;
@@ -54,9 +54,9 @@ public final class PcepFactories {
     private static class GenericReader implements PcepMessageReader<PcepMessage> {
 
         @Override
-        public PcepMessage readFrom(ChannelBuffer bb) throws PcepParseException {
+        public PcepMessage readFrom(ByteBuf bb) throws PcepParseException {
 
-            if (!bb.readable()) {
+            if (!bb.isReadable()) {
                 throw new PcepParseException("Empty message received");
             }
 
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -45,5 +45,5 @@ public interface PcepFecObject {
      * @return Returns the writerIndex of this buffer
      * @throws PcepParseException while writing FEC Object into Channel Buffer.
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 }
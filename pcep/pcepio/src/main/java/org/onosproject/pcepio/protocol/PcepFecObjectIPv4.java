@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 
@@ -40,7 +40,7 @@ public interface PcepFecObjectIPv4 extends PcepFecObject {
     void setNodeID(int value);
 
     @Override
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build FEC object.
@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 
@@ -59,7 +59,7 @@ public interface PcepInterLayerObject {
      * @return Returns the writerIndex of this buffer
      * @throws PcepParseException while writing Inter Layer Object.
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build INTER Layer object.
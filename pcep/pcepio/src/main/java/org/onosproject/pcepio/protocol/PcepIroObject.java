@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepObjectHeader;
 import org.onosproject.pcepio.types.PcepValueType;
@@ -47,7 +47,7 @@ public interface PcepIroObject {
      * @return Returns the writerIndex of this buffer
      * @throws PcepParseException while writing IRO object.
      */
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build IRO object.
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Abstraction of an entity providing PCEP Keepalive Message.
@@ -30,7 +30,7 @@ public interface PcepKeepaliveMsg extends PcepObject, PcepMessage {
     PcepType getType();
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer);
+    void writeTo(ByteBuf channelBuffer);
 
     /**
      * Builder interface with get and set functions to build Keepalive message.
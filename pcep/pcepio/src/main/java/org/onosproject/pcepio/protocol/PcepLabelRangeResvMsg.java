@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -45,7 +45,7 @@ public interface PcepLabelRangeResvMsg extends PcepObject, PcepMessage {
     void setLabelRange(PcepLabelRange lR);
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer) throws PcepParseException;
+    void writeTo(ByteBuf channelBuffer) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build Label Range Reservation message.
@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.types.PcepLabelDownload;
 import org.onosproject.pcepio.types.PcepLabelMap;
@@ -31,7 +31,7 @@ public interface PcepLabelUpdate {
      * @param bb of type channel buffer
      * @throws PcepParseException while writing LABEL UPDATE.
      */
-    void write(ChannelBuffer bb) throws PcepParseException;
+    void write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Sets the Label Download object.
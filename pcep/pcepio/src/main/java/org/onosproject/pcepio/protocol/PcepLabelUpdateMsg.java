@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -47,7 +47,7 @@ public interface PcepLabelUpdateMsg extends PcepObject, PcepMessage {
     void setPcLabelUpdateList(LinkedList<PcepLabelUpdate> llPcLabelUpdateList);
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer) throws PcepParseException;
+    void writeTo(ByteBuf channelBuffer) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build Label Update message.
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -32,5 +32,5 @@ public interface PcepMessageReader<T> {
      * @throws PcepParseException while parsing PCEP message.
      * @throws PcepParseException when received message is empty
      */
-    T readFrom(ChannelBuffer bb) throws PcepParseException;
+    T readFrom(ByteBuf bb) throws PcepParseException;
 }
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -31,5 +31,5 @@ public interface PcepMessageWriter<T> {
      * @param message PCEP Message
      * @throws PcepParseException while writing PCEP message.
      */
-    void write(ChannelBuffer bb, T message) throws PcepParseException;
+    void write(ByteBuf bb, T message) throws PcepParseException;
 }
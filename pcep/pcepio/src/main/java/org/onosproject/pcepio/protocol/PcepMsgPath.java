@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -59,7 +59,7 @@ public interface PcepMsgPath {
      * @return PcepMsgPath
      * @throws PcepParseException while parsing Message Path from Channel Buffer.
      */
-    PcepMsgPath read(ChannelBuffer bb) throws PcepParseException;
+    PcepMsgPath read(ByteBuf bb) throws PcepParseException;
 
     /**
      * writes ERO object and attribute list to channel.
@@ -69,7 +69,7 @@ public interface PcepMsgPath {
      * @throws PcepParseException while writing Message Path into Channel Buffer.
      */
 
-    int write(ChannelBuffer bb) throws PcepParseException;
+    int write(ByteBuf bb) throws PcepParseException;
 
     /**
      * Builder interface with get and set functions to build PcepMsgPath.
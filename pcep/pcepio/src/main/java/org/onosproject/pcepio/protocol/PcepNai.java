@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Abstraction of an entity provides NAI information in SR ERO Object.
@@ -36,5 +36,5 @@ public interface PcepNai {
      *  @param cb of type channel buffer
      *  @return length of written bytes.
      */
-    int write(ChannelBuffer cb);
+    int write(ByteBuf cb);
 }
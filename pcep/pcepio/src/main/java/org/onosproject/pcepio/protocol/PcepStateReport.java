@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -92,7 +92,7 @@ public interface PcepStateReport {
          * @return PCEP Message path
          * @throws PcepParseException when invalid buffer received
          */
-        PcepMsgPath read(ChannelBuffer bb) throws PcepParseException;
+        PcepMsgPath read(ByteBuf bb) throws PcepParseException;
 
         /**
          * Writes all the objects for pcep message path.
@@ -101,7 +101,7 @@ public interface PcepStateReport {
          * @return object length index
          * @throws PcepParseException when mandatory object is not set
          */
-        int write(ChannelBuffer bb) throws PcepParseException;
+        int write(ByteBuf bb) throws PcepParseException;
     }
 
     /**
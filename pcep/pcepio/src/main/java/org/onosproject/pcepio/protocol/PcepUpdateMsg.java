@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -47,7 +47,7 @@ public interface PcepUpdateMsg extends PcepObject, PcepMessage {
     void setUpdateRequestList(LinkedList<PcepUpdateRequest> llUpdateRequestList);
 
     @Override
-    void writeTo(ChannelBuffer channelBuffer) throws PcepParseException;
+    void writeTo(ByteBuf channelBuffer) throws PcepParseException;
 
     /**
      * Builder interface with Get and Set Functions to build the PCEP update Message.
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 
 /**
@@ -31,5 +31,5 @@ public interface Writeable {
      * @param bb parameter of type channel buffer
      * @throws PcepParseException when error occurs while writing pcep message to channel buffer
      */
-    void writeTo(ChannelBuffer bb) throws PcepParseException;
+    void writeTo(ByteBuf bb) throws PcepParseException;
 }
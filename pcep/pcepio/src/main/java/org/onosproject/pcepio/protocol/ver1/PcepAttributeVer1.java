@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepAttribute;
 import org.onosproject.pcepio.protocol.PcepBandwidthObject;
@@ -141,7 +141,7 @@ public class PcepAttributeVer1 implements PcepAttribute {
      * @return true if parsing metric list is success
      * @throws PcepParseException when a non metric object is received
      */
-    public boolean parseMetricList(ChannelBuffer cb) throws PcepParseException {
+    public boolean parseMetricList(ByteBuf cb) throws PcepParseException {
 
         if (llMetricList == null) {
             llMetricList = new LinkedList<>();
@@ -180,7 +180,7 @@ public class PcepAttributeVer1 implements PcepAttribute {
      * @throws PcepParseException while parsing Pcep Attributes from channel buffer
      */
 
-    public static PcepAttribute read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepAttribute read(ByteBuf cb) throws PcepParseException {
         if (cb.readableBytes() < OBJECT_HEADER_LENGTH) {
             return null;
         }
@@ -235,7 +235,7 @@ public class PcepAttributeVer1 implements PcepAttribute {
      * @param cb of type channel buffer
      * @return instance of object header
      */
-    private static byte checkNextObject(ChannelBuffer cb) {
+    private static byte checkNextObject(ByteBuf cb) {
         if (cb.readableBytes() < OBJECT_HEADER_LENGTH) {
             return 0;
         }
@@ -246,7 +246,7 @@ public class PcepAttributeVer1 implements PcepAttribute {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         int iLenStartIndex = cb.writerIndex();
         //PCEP LSPA object is optional
         if (this.isLspaObjectSet) {
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepBandwidthObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -116,7 +116,7 @@ public class PcepBandwidthObjectVer1 implements PcepBandwidthObject {
      * @return object of PcepBandwidthObject
      * @throws PcepParseException while parsing channel buffer
      */
-    public static PcepBandwidthObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepBandwidthObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader bandwidthObjHeader;
         int iBandwidth;
@@ -128,7 +128,7 @@ public class PcepBandwidthObjectVer1 implements PcepBandwidthObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
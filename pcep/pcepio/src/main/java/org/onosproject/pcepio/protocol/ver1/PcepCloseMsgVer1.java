@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepCloseMsg;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
@@ -88,7 +88,7 @@ class PcepCloseMsgVer1 implements PcepCloseMsg {
         private LinkedList<PcepValueType> llOptionalTlv;
 
         @Override
-        public PcepCloseMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepCloseMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Packet size is less than the minimum length.");
@@ -129,7 +129,7 @@ class PcepCloseMsgVer1 implements PcepCloseMsg {
      * @return list of Optional Tlvs
      * @throws PcepParseException when fails to parse optional tlvs
      */
-    public static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    public static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOptionalTlv = new LinkedList<>();
         /*
@@ -249,7 +249,7 @@ class PcepCloseMsgVer1 implements PcepCloseMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -261,7 +261,7 @@ class PcepCloseMsgVer1 implements PcepCloseMsg {
     static class Writer implements PcepMessageWriter<PcepCloseMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepCloseMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepCloseMsgVer1 message) throws PcepParseException {
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
             cb.writeByte((byte) (PACKET_VERSION << SHIFT_FLAG));
@@ -302,7 +302,7 @@ class PcepCloseMsgVer1 implements PcepCloseMsg {
             cb.setShort(msgLenIndex, (short) length);
         }
 
-        public void packOptionalTlv(ChannelBuffer cb, PcepCloseMsgVer1 message) {
+        public void packOptionalTlv(ByteBuf cb, PcepCloseMsgVer1 message) {
 
             LinkedList<PcepValueType> llOptionalTlv = message.llOptionalTlv;
             ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
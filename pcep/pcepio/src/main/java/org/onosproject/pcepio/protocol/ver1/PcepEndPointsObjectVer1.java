@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepEndPointsObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -113,7 +113,7 @@ public class PcepEndPointsObjectVer1 implements PcepEndPointsObject {
      * @return object of PcepEndPointsObject
      * @throws PcepParseException while parsing channel buffer
      */
-    public static PcepEndPointsObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepEndPointsObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader endPointsObjHeader;
         int sourceIpAddress;
@@ -131,7 +131,7 @@ public class PcepEndPointsObjectVer1 implements PcepEndPointsObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
         //write common header
@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepEroObject;
 import org.onosproject.pcepio.types.AutonomousSystemTlv;
@@ -210,7 +210,7 @@ public class PcepEroObjectVer1 implements PcepEroObject {
      * @return  object of PcepEroObject
      * @throws PcepParseException when ERO object is not present in channel buffer
      */
-    public static PcepEroObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepEroObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader eroObjHeader;
         LinkedList<PcepValueType> llSubObjects = new LinkedList<>();
@@ -224,7 +224,7 @@ public class PcepEroObjectVer1 implements PcepEroObject {
         }
 
         if (eroObjHeader.getObjLen() > OBJECT_HEADER_LENGTH) {
-            ChannelBuffer tempCb = cb.readBytes(eroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+            ByteBuf tempCb = cb.readSlice(eroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
             llSubObjects = parseSubObjects(tempCb);
         }
         return new PcepEroObjectVer1(eroObjHeader, llSubObjects);
@@ -237,7 +237,7 @@ public class PcepEroObjectVer1 implements PcepEroObject {
      * @return list of Sub Objects
      * @throws PcepParseException when fails to parse sub object list
      */
-    protected static LinkedList<PcepValueType> parseSubObjects(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseSubObjects(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llSubObjects = new LinkedList<>();
 
@@ -290,7 +290,7 @@ public class PcepEroObjectVer1 implements PcepEroObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
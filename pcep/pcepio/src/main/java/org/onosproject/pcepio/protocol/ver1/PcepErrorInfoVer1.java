@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepError;
 import org.onosproject.pcepio.protocol.PcepErrorInfo;
@@ -71,7 +71,7 @@ public class PcepErrorInfoVer1 implements PcepErrorInfo {
     }
 
     @Override
-    public void read(ChannelBuffer cb) throws PcepParseException {
+    public void read(ByteBuf cb) throws PcepParseException {
         PcepObjectHeader tempObjHeader;
 
         while (0 < cb.readableBytes()) {
@@ -89,7 +89,7 @@ public class PcepErrorInfoVer1 implements PcepErrorInfo {
     }
 
     @Override
-    public void write(ChannelBuffer cb) throws PcepParseException {
+    public void write(ByteBuf cb) throws PcepParseException {
         //write <error>
         ListIterator<PcepError> listIterator = errList.listIterator();
         while (listIterator.hasNext()) {
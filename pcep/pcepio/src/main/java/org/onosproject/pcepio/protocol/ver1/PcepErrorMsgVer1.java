@@ -17,7 +17,7 @@ package org.onosproject.pcepio.protocol.ver1;
 
 import java.util.LinkedList;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepErrorInfo;
 import org.onosproject.pcepio.protocol.PcepErrorMsg;
@@ -99,7 +99,7 @@ public class PcepErrorMsgVer1 implements PcepErrorMsg {
         PcepObjectHeader tempObjHeader;
 
         @Override
-        public PcepErrorMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepErrorMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             errObjListWithOpen = null;
             errInfo = null;
@@ -144,7 +144,7 @@ public class PcepErrorMsgVer1 implements PcepErrorMsg {
          * @throws PcepParseException if mandatory fields are missing
          * output: this.errObjListWithOpen, this.errInfo
          */
-        public void parsePCErrMsg(ChannelBuffer cb) throws PcepParseException {
+        public void parsePCErrMsg(ByteBuf cb) throws PcepParseException {
             //If PCEP-ERROR list is followed by OPEN Object then store into ErrorObjListWithOpen.
             //     ( <error-obj-list> [<Open>]
             //If PCEP-ERROR list is followed by RP or TE Object then store into errInfo. <error> [<error-list>]
@@ -194,7 +194,7 @@ public class PcepErrorMsgVer1 implements PcepErrorMsg {
          * @throws PcepParseException if mandatory fields are missing
          * @return error object header
          */
-        public PcepObjectHeader parseErrorObjectList(LinkedList<PcepErrorObject> llErrObjList, ChannelBuffer cb)
+        public PcepObjectHeader parseErrorObjectList(LinkedList<PcepErrorObject> llErrObjList, ByteBuf cb)
                 throws PcepParseException {
             PcepObjectHeader tempObjHeader = null;
 
@@ -260,7 +260,7 @@ public class PcepErrorMsgVer1 implements PcepErrorMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -271,7 +271,7 @@ public class PcepErrorMsgVer1 implements PcepErrorMsg {
      */
     static class Writer implements PcepMessageWriter<PcepErrorMsgVer1> {
         @Override
-        public void write(ChannelBuffer cb, PcepErrorMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepErrorMsgVer1 message) throws PcepParseException {
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
             cb.writeByte((byte) (PACKET_VERSION << PcepMessageVer1.SHIFT_FLAG));
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepErrorObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -135,7 +135,7 @@ public class PcepErrorObjectVer1 implements PcepErrorObject {
      * @param cb of channel buffer.
      * @return object of PCEP-ERROR-OBJECT
      */
-    public static PcepErrorObject read(ChannelBuffer cb) {
+    public static PcepErrorObject read(ByteBuf cb) {
 
         PcepObjectHeader errorObjHeader;
         byte yErrorType;
@@ -145,7 +145,7 @@ public class PcepErrorObjectVer1 implements PcepErrorObject {
         errorObjHeader = PcepObjectHeader.read(cb);
 
         //take only ErrorObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(errorObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(errorObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
         tempCb.readByte(); //ignore Reserved
         tempCb.readByte(); //ignore Flags
         yErrorType = tempCb.readByte();
@@ -162,7 +162,7 @@ public class PcepErrorObjectVer1 implements PcepErrorObject {
      * @param cb channel buffer.
      * @return Linked list of optional tlvs
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
 
@@ -173,7 +173,7 @@ public class PcepErrorObjectVer1 implements PcepErrorObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -220,7 +220,7 @@ public class PcepErrorObjectVer1 implements PcepErrorObject {
      * @param cb channel buffer.
      * @return writer index.
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
         int startIndex = cb.writerIndex();
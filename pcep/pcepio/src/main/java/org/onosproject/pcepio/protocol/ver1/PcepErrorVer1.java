@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepError;
 import org.onosproject.pcepio.protocol.PcepErrorObject;
@@ -113,7 +113,7 @@ public class PcepErrorVer1 implements PcepError {
      * @param cb of type channel buffer
      * @throws PcepParseException if mandatory fields are missing
      */
-    public void parseRPList(ChannelBuffer cb) throws PcepParseException {
+    public void parseRPList(ByteBuf cb) throws PcepParseException {
         byte yObjClass;
         byte yObjType;
 
@@ -153,7 +153,7 @@ public class PcepErrorVer1 implements PcepError {
      * @param cb of type channel buffer
      * @throws PcepParseException if mandatory fields are missing
      */
-    public void parseTEList(ChannelBuffer cb) throws PcepParseException {
+    public void parseTEList(ByteBuf cb) throws PcepParseException {
         byte yObjClass;
         byte yObjType;
 
@@ -194,7 +194,7 @@ public class PcepErrorVer1 implements PcepError {
      * @param cb of type channel buffer
      * @throws PcepParseException if mandatory fields are missing
      */
-    public void parseErrObjList(ChannelBuffer cb) throws PcepParseException {
+    public void parseErrObjList(ByteBuf cb) throws PcepParseException {
         byte yObjClass;
         byte yObjType;
         boolean bIsErrorObjFound = false;
@@ -240,7 +240,7 @@ public class PcepErrorVer1 implements PcepError {
      * @return PcepError error part of PCEP-ERROR
      * @throws PcepParseException if mandatory fields are missing
      */
-    public static PcepErrorVer1 read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepErrorVer1 read(ByteBuf cb) throws PcepParseException {
         if (cb.readableBytes() < OBJECT_HEADER_LENGTH) {
             throw new PcepParseException("Unknown Object");
         }
@@ -278,7 +278,7 @@ public class PcepErrorVer1 implements PcepError {
      * @param cb of type channel buffer.
      * @return object type class.
      */
-    private static byte checkNextObject(ChannelBuffer cb) {
+    private static byte checkNextObject(ByteBuf cb) {
         if (cb.readableBytes() < OBJECT_HEADER_LENGTH) {
             return 0;
         }
@@ -296,7 +296,7 @@ public class PcepErrorVer1 implements PcepError {
      * @throws PcepParseException if mandatory fields are missing
      */
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         int iLenStartIndex = cb.writerIndex();
 
         // RPlist is optional
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObjectIPv4Adjacency;
 import org.onosproject.pcepio.protocol.PcepVersion;
@@ -108,7 +108,7 @@ public class PcepFecObjectIPv4AdjacencyVer1 implements PcepFecObjectIPv4Adjacenc
      * @return object of PcepFecObjectIPv4Adjacency
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepFecObjectIPv4Adjacency read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepFecObjectIPv4Adjacency read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader fecObjHeader;
         int localIPv4Address;
@@ -117,7 +117,7 @@ public class PcepFecObjectIPv4AdjacencyVer1 implements PcepFecObjectIPv4Adjacenc
         fecObjHeader = PcepObjectHeader.read(cb);
 
         //take only FEC IPv4 Adjacency Object buffer.
-        ChannelBuffer tempCb = cb.readBytes(fecObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(fecObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
         localIPv4Address = tempCb.readInt();
         remoteIPv4Address = tempCb.readInt();
 
@@ -125,7 +125,7 @@ public class PcepFecObjectIPv4AdjacencyVer1 implements PcepFecObjectIPv4Adjacenc
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObjectIPv4UnnumberedAdjacency;
 import org.onosproject.pcepio.protocol.PcepVersion;
@@ -148,7 +148,7 @@ public class PcepFecObjectIPv4UnnumberedAdjacencyVer1 implements PcepFecObjectIP
      * @return object of PcepFecObjectIPv4UnnumberedAdjacency
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepFecObjectIPv4UnnumberedAdjacency read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepFecObjectIPv4UnnumberedAdjacency read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader fecObjHeader;
         int localNodeID;
@@ -159,7 +159,7 @@ public class PcepFecObjectIPv4UnnumberedAdjacencyVer1 implements PcepFecObjectIP
         fecObjHeader = PcepObjectHeader.read(cb);
 
         //take only FEC IPv4 Unnumbered Adjacency Object buffer.
-        ChannelBuffer tempCb = cb.readBytes(fecObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(fecObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
         localNodeID = tempCb.readInt();
         localInterfaceID = tempCb.readInt();
         remoteNodeID = tempCb.readInt();
@@ -170,7 +170,7 @@ public class PcepFecObjectIPv4UnnumberedAdjacencyVer1 implements PcepFecObjectIP
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObjectIPv4;
 import org.onosproject.pcepio.protocol.PcepVersion;
@@ -102,7 +102,7 @@ public class PcepFecObjectIPv4Ver1 implements PcepFecObjectIPv4 {
      * @return object of PcepFecObjectIPv4
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepFecObjectIPv4 read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepFecObjectIPv4 read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader fecObjHeader;
         int nodeID;
@@ -112,7 +112,7 @@ public class PcepFecObjectIPv4Ver1 implements PcepFecObjectIPv4 {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
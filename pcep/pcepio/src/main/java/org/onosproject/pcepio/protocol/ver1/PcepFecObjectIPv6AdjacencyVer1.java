@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObjectIPv6Adjacency;
 import org.onosproject.pcepio.protocol.PcepVersion;
@@ -114,7 +114,7 @@ public class PcepFecObjectIPv6AdjacencyVer1 implements PcepFecObjectIPv6Adjacenc
      * @return object of PcepFecObjectIPv6Adjacency
      * @throws PcepParseException when fails tp read from channel buffer
      */
-    public static PcepFecObjectIPv6Adjacency read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepFecObjectIPv6Adjacency read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader fecObjHeader;
         byte[] localIPv6Address = new byte[IPV6_ADDRESS_LENGTH];
@@ -126,7 +126,7 @@ public class PcepFecObjectIPv6AdjacencyVer1 implements PcepFecObjectIPv6Adjacenc
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObjectIPv6;
 import org.onosproject.pcepio.protocol.PcepVersion;
@@ -105,7 +105,7 @@ public class PcepFecObjectIPv6Ver1 implements PcepFecObjectIPv6 {
      * @return object of PcepFecObjectIPv6
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepFecObjectIPv6 read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepFecObjectIPv6 read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader fecObjHeader;
         byte[] nodeID = new byte[IPV6_ADDRESS_LENGTH];
@@ -115,7 +115,7 @@ public class PcepFecObjectIPv6Ver1 implements PcepFecObjectIPv6 {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcInitiatedLspRequest;
 import org.onosproject.pcepio.protocol.PcepAttribute;
@@ -81,7 +81,7 @@ class PcepInitiateMsgVer1 implements PcepInitiateMsg {
         LinkedList<PcInitiatedLspRequest> llPcInitiatedLspRequestList;
 
         @Override
-        public PcepInitiateMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepInitiateMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 return null;
@@ -122,7 +122,7 @@ class PcepInitiateMsgVer1 implements PcepInitiateMsg {
          * @return true if parsing PcInitiatedLspRequestList is success, false otherwise
          * @throws PcepParseException while parsing from channel buffer
          */
-        public boolean parsePcInitiatedLspRequestList(ChannelBuffer cb) throws PcepParseException {
+        public boolean parsePcInitiatedLspRequestList(ByteBuf cb) throws PcepParseException {
 
             boolean isDelLspRequest = false;
 
@@ -218,7 +218,7 @@ class PcepInitiateMsgVer1 implements PcepInitiateMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -230,7 +230,7 @@ class PcepInitiateMsgVer1 implements PcepInitiateMsg {
     static class Writer implements PcepMessageWriter<PcepInitiateMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepInitiateMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepInitiateMsgVer1 message) throws PcepParseException {
 
             boolean isDelLspRequest = false;
             int startIndex = cb.writerIndex();
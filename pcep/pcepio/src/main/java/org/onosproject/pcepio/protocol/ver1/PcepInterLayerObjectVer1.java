@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepInterLayerObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -115,7 +115,7 @@ public class PcepInterLayerObjectVer1 implements PcepInterLayerObject {
      * @return object of PcepInterLayerObject
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepInterLayerObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepInterLayerObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader interLayerObjHeader;
         boolean bNFlag;
@@ -124,7 +124,7 @@ public class PcepInterLayerObjectVer1 implements PcepInterLayerObject {
         interLayerObjHeader = PcepObjectHeader.read(cb);
 
         //take only InterLayerObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(interLayerObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(interLayerObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         int iTemp = tempCb.readInt();
         bIFlag = ((iTemp & (byte) IFLAG_SHIFT_VALUE) == IFLAG_SHIFT_VALUE);
@@ -134,7 +134,7 @@ public class PcepInterLayerObjectVer1 implements PcepInterLayerObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
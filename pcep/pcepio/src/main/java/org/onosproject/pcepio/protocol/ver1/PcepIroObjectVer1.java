@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepIroObject;
 import org.onosproject.pcepio.types.IPv4SubObject;
@@ -130,7 +130,7 @@ public class PcepIroObjectVer1 implements PcepIroObject {
      * @return object of PcepIroObject
      * @throws PcepParseException while parsing from channel buffer
      */
-    public static PcepIroObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepIroObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader iroObjHeader;
         LinkedList<PcepValueType> llSubObjects;
@@ -138,7 +138,7 @@ public class PcepIroObjectVer1 implements PcepIroObject {
         iroObjHeader = PcepObjectHeader.read(cb);
 
         //take only IroObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(iroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(iroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
         llSubObjects = parseSubObjects(tempCb);
         return new PcepIroObjectVer1(iroObjHeader, llSubObjects);
     }
@@ -150,7 +150,7 @@ public class PcepIroObjectVer1 implements PcepIroObject {
      * @return linked list of sub objects
      * @throws PcepParseException while parsing subobjects from channel buffer
      */
-    protected static LinkedList<PcepValueType> parseSubObjects(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseSubObjects(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llSubObjects = new LinkedList<>();
 
@@ -186,7 +186,7 @@ public class PcepIroObjectVer1 implements PcepIroObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         //write Object header
         int objStartIndex = cb.writerIndex();
 
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepKeepaliveMsg;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
@@ -56,7 +56,7 @@ class PcepKeepaliveMsgVer1 implements PcepKeepaliveMsg {
     static class Reader implements PcepMessageReader<PcepKeepaliveMsg> {
 
         @Override
-        public PcepKeepaliveMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepKeepaliveMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Packet size is less than the minimum required length.");
@@ -108,7 +108,7 @@ class PcepKeepaliveMsgVer1 implements PcepKeepaliveMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) {
+    public void writeTo(ByteBuf cb) {
         WRITER.write(cb, this);
     }
 
@@ -120,7 +120,7 @@ class PcepKeepaliveMsgVer1 implements PcepKeepaliveMsg {
     static class Writer implements PcepMessageWriter<PcepKeepaliveMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepKeepaliveMsgVer1 message) {
+        public void write(ByteBuf cb, PcepKeepaliveMsgVer1 message) {
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
             cb.writeByte((byte) (PACKET_VERSION << PcepMessageVer1.SHIFT_FLAG));
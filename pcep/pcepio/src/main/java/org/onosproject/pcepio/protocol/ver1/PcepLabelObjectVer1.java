@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLabelObject;
 import org.onosproject.pcepio.types.NexthopIPv4addressTlv;
@@ -130,7 +130,7 @@ public class PcepLabelObjectVer1 implements PcepLabelObject {
      * @return objects of PcepLabelObject
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepLabelObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLabelObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader labelObjHeader;
 
@@ -142,7 +142,7 @@ public class PcepLabelObjectVer1 implements PcepLabelObject {
         labelObjHeader = PcepObjectHeader.read(cb);
 
         //take only LspObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(labelObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(labelObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         int iTemp = tempCb.readInt();
         bOFlag = (iTemp & (byte) 0x01) == 1;
@@ -154,7 +154,7 @@ public class PcepLabelObjectVer1 implements PcepLabelObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -189,7 +189,7 @@ public class PcepLabelObjectVer1 implements PcepLabelObject {
      * @return list of optional tlvs.
      * @throws PcepParseException when fails to parse list of optional tlvs
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
 
@@ -243,7 +243,7 @@ public class PcepLabelObjectVer1 implements PcepLabelObject {
      * @param cb of channel buffer.
      * @return writer index
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
 
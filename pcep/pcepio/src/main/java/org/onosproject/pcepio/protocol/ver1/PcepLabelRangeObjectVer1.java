@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLabelRangeObject;
 import org.onosproject.pcepio.types.PathSetupTypeTlv;
@@ -135,7 +135,7 @@ public class PcepLabelRangeObjectVer1 implements PcepLabelRangeObject {
      * @return object of  PcepLabelRangeObject
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepLabelRangeObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLabelRangeObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader labelRangeObjHeader;
         byte labelType;
@@ -147,7 +147,7 @@ public class PcepLabelRangeObjectVer1 implements PcepLabelRangeObject {
         labelRangeObjHeader = PcepObjectHeader.read(cb);
 
         //take only LabelRangeObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(labelRangeObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(labelRangeObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
         int temp = 0;
         temp = tempCb.readInt();
         rangeSize = temp & 0x00FFFFFF;
@@ -158,7 +158,7 @@ public class PcepLabelRangeObjectVer1 implements PcepLabelRangeObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -187,7 +187,7 @@ public class PcepLabelRangeObjectVer1 implements PcepLabelRangeObject {
      * @return list of optional tlvs
      * @throws PcepParseException whne fails to parse list of optional tlvs
      */
-    public static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    public static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
 
@@ -228,7 +228,7 @@ public class PcepLabelRangeObjectVer1 implements PcepLabelRangeObject {
      * @param cb of channel buffer
      * @return true
      */
-    protected boolean packOptionalTlv(ChannelBuffer cb) {
+    protected boolean packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
 
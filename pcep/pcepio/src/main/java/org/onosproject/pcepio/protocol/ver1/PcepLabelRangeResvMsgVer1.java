@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLabelRange;
 import org.onosproject.pcepio.protocol.PcepLabelRangeResvMsg;
@@ -66,7 +66,7 @@ class PcepLabelRangeResvMsgVer1 implements PcepLabelRangeResvMsg {
     static class Reader implements PcepMessageReader<PcepLabelRangeResvMsg> {
 
         @Override
-        public PcepLabelRangeResvMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepLabelRangeResvMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Channel buffer has less readable bytes than Packet minimum length.");
@@ -137,7 +137,7 @@ class PcepLabelRangeResvMsgVer1 implements PcepLabelRangeResvMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -149,7 +149,7 @@ class PcepLabelRangeResvMsgVer1 implements PcepLabelRangeResvMsg {
     static class Writer implements PcepMessageWriter<PcepLabelRangeResvMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepLabelRangeResvMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepLabelRangeResvMsgVer1 message) throws PcepParseException {
 
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLabelRange;
 import org.onosproject.pcepio.protocol.PcepLabelRangeObject;
@@ -95,7 +95,7 @@ public class PcepLabelRangeVer1 implements PcepLabelRange {
      * @return object of PcepLabelRange
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepLabelRange read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLabelRange read(ByteBuf cb) throws PcepParseException {
 
         //parse and store SRP mandatory object
         PcepSrpObject srpObj = null;
@@ -125,7 +125,7 @@ public class PcepLabelRangeVer1 implements PcepLabelRange {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         //write Object header
         int objStartIndex = cb.writerIndex();
 
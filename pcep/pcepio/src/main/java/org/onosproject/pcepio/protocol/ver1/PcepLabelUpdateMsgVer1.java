@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLabelUpdate;
 import org.onosproject.pcepio.protocol.PcepLabelUpdateMsg;
@@ -81,7 +81,7 @@ class PcepLabelUpdateMsgVer1 implements PcepLabelUpdateMsg {
     static class Reader implements PcepMessageReader<PcepLabelUpdateMsg> {
 
         @Override
-        public PcepLabelUpdateMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepLabelUpdateMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Readable bytes are less than Packet minimum length.");
@@ -115,7 +115,7 @@ class PcepLabelUpdateMsgVer1 implements PcepLabelUpdateMsg {
          * @return llPcLabelUpdateList list of PCEP label update object
          * @throws PcepParseException when fails to parse list of PCEP label update object
          */
-        public LinkedList<PcepLabelUpdate> parsePcLabelUpdateList(ChannelBuffer cb) throws PcepParseException {
+        public LinkedList<PcepLabelUpdate> parsePcLabelUpdateList(ByteBuf cb) throws PcepParseException {
 
             LinkedList<PcepLabelUpdate> llPcLabelUpdateList;
             llPcLabelUpdateList = new LinkedList<>();
@@ -171,7 +171,7 @@ class PcepLabelUpdateMsgVer1 implements PcepLabelUpdateMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -183,7 +183,7 @@ class PcepLabelUpdateMsgVer1 implements PcepLabelUpdateMsg {
     static class Writer implements PcepMessageWriter<PcepLabelUpdateMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepLabelUpdateMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepLabelUpdateMsgVer1 message) throws PcepParseException {
 
             int startIndex = cb.writerIndex();
 
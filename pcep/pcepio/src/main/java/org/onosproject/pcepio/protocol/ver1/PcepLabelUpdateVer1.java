@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFecObject;
 import org.onosproject.pcepio.protocol.PcepLabelObject;
@@ -157,7 +157,7 @@ public class PcepLabelUpdateVer1 implements PcepLabelUpdate {
      * @return PcepLabelUpdate object.
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepLabelUpdate read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLabelUpdate read(ByteBuf cb) throws PcepParseException {
 
         PcepLabelUpdateVer1 pceLabelUpdate = new PcepLabelUpdateVer1();
 
@@ -247,7 +247,7 @@ public class PcepLabelUpdateVer1 implements PcepLabelUpdate {
     }
 
     @Override
-    public void write(ChannelBuffer cb) throws PcepParseException {
+    public void write(ByteBuf cb) throws PcepParseException {
 
         if ((labelDownload != null) && (labelMap != null)) {
             throw new PcepParseException("Label Download and Label Map both can't be present.");
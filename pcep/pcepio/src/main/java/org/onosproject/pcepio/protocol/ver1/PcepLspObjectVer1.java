@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLspObject;
 import org.onosproject.pcepio.types.PcepErrorDetailInfo;
@@ -222,7 +222,7 @@ public class PcepLspObjectVer1 implements PcepLspObject {
      * @return object of  PcepLspObject
      * @throws PcepParseException when lsp object is not present in channel buffer
      */
-    public static PcepLspObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLspObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader lspObjHeader;
         int iPlspId;
@@ -242,7 +242,7 @@ public class PcepLspObjectVer1 implements PcepLspObject {
             throw new PcepParseException(PcepErrorDetailInfo.ERROR_TYPE_6, PcepErrorDetailInfo.ERROR_VALUE_8);
         }
         //take only LspObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(lspObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(lspObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         Integer iTemp = tempCb.readInt();
         iPlspId = (iTemp & PLSPID_TEMP_SHIFT_VALUE) >> PLSPID_SHIFT_VALUE;
@@ -264,7 +264,7 @@ public class PcepLspObjectVer1 implements PcepLspObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -310,7 +310,7 @@ public class PcepLspObjectVer1 implements PcepLspObject {
      * @return list of optional tlvs
      * @throws PcepParseException when unsupported tlv is received
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv;
 
@@ -369,7 +369,7 @@ public class PcepLspObjectVer1 implements PcepLspObject {
      * @param cb of type channel buffer
      * @return length of bytes written to channel buffer
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
         int startIndex = cb.writerIndex();
@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLspaObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -200,7 +200,7 @@ public class PcepLspaObjectVer1 implements PcepLspaObject {
      * @return object of PcepLspaObject
      * @throws PcepParseException while parsing lspa object from channel buffer
      */
-    public static PcepLspaObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepLspaObject read(ByteBuf cb) throws PcepParseException {
 
         log.debug("LspaObject::read");
         PcepObjectHeader lspaObjHeader;
@@ -218,7 +218,7 @@ public class PcepLspaObjectVer1 implements PcepLspaObject {
         lspaObjHeader = PcepObjectHeader.read(cb);
 
         //take only Lspa Object buffer.
-        ChannelBuffer tempCb = cb.readBytes(lspaObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(lspaObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
         iExcludeAny = tempCb.readInt();
         iIncludeAny = tempCb.readInt();
         iIncludeAll = tempCb.readInt();
@@ -236,7 +236,7 @@ public class PcepLspaObjectVer1 implements PcepLspaObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -288,7 +288,7 @@ public class PcepLspaObjectVer1 implements PcepLspaObject {
      * @return list of optional tlvs.
      * @throws PcepParseException when fails to parse optional tlv list.
      */
-    public static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    public static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
 
@@ -301,7 +301,7 @@ public class PcepLspaObjectVer1 implements PcepLspaObject {
      * @param cb channel buffer
      * @return true
      */
-    protected boolean packOptionalTlv(ChannelBuffer cb) {
+    protected boolean packOptionalTlv(ByteBuf cb) {
         int hTlvType;
         int hTlvLength;
 
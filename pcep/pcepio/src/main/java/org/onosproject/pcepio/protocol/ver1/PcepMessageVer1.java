@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
 import org.onosproject.pcepio.protocol.PcepMessage;
@@ -56,7 +56,7 @@ public abstract class PcepMessageVer1 {
      */
     static class Reader implements PcepMessageReader<PcepMessage> {
         @Override
-        public PcepMessage readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepMessage readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < MINIMUM_LENGTH) {
                 throw new PcepParseException("Packet should have minimum length: " + MINIMUM_LENGTH);
@@ -80,47 +80,47 @@ public abstract class PcepMessageVer1 {
                 case OPEN_MSG_TYPE:
                     log.debug("OPEN MESSAGE is received");
                     // message type value 1 means it is open message
-                    return PcepOpenMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepOpenMsgVer1.READER.readFrom(cb.readSlice(length));
                 case KEEPALIVE_MSG_TYPE:
                     log.debug("KEEPALIVE MESSAGE is received");
                     // message type value 2 means it is Keepalive message
-                    return PcepKeepaliveMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepKeepaliveMsgVer1.READER.readFrom(cb.readSlice(length));
                 case ERROR_MSG_TYPE:
                     log.debug("ERROR MESSAGE is received");
                     // message type value 6 means it is error message
-                    return PcepErrorMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepErrorMsgVer1.READER.readFrom(cb.readSlice(length));
                 case REPORT_MSG_TYPE:
                     log.debug("REPORT MESSAGE is received");
                     // message type value 10 means it is Report message
                     // return
-                    return PcepReportMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepReportMsgVer1.READER.readFrom(cb.readSlice(length));
                 case UPDATE_MSG_TYPE:
                     log.debug("UPDATE MESSAGE is received");
                     //message type value 11 means it is Update message
-                    return PcepUpdateMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepUpdateMsgVer1.READER.readFrom(cb.readSlice(length));
                 case INITIATE_MSG_TYPE:
                     log.debug("INITIATE MESSAGE is received");
                     //message type value 12 means it is PcInitiate message
-                    return PcepInitiateMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepInitiateMsgVer1.READER.readFrom(cb.readSlice(length));
                 case CLOSE_MSG_TYPE:
                     log.debug("CLOSE MESSAGE is received");
                     // message type value 7 means it is Close message
-                    return PcepCloseMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepCloseMsgVer1.READER.readFrom(cb.readSlice(length));
                 case TE_REPORT_MSG_TYPE:
                     log.debug("TE REPORT MESSAGE is received");
                     // message type value 14 means it is TE REPORT message
                     // return
-                    return PcepTEReportMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepTEReportMsgVer1.READER.readFrom(cb.readSlice(length));
                 case LABEL_UPDATE_MSG_TYPE:
                     log.debug("LABEL UPDATE MESSAGE is received");
                     // message type value 13 means it is LABEL UPDATE message
                     // return
-                    return PcepLabelUpdateMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepLabelUpdateMsgVer1.READER.readFrom(cb.readSlice(length));
                 case LABEL_RANGE_RESV_MSG_TYPE:
                     log.debug("LABEL RANGE RESERVE MESSAGE is received");
                     // message type value 15 means it is LABEL RANGE RESERVE message
                     // return
-                    return PcepLabelRangeResvMsgVer1.READER.readFrom(cb.readBytes(length));
+                    return PcepLabelRangeResvMsgVer1.READER.readFrom(cb.readSlice(length));
                 default:
                     throw new PcepParseException("ERROR: UNKNOWN MESSAGE is received. Msg Type: " + type);
                 }
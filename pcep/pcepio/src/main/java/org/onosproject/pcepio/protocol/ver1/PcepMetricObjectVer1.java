@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepMetricObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -179,7 +179,7 @@ public class PcepMetricObjectVer1 implements PcepMetricObject {
      * @return object of PcepMetricObject
      * @throws PcepParseException when metric object is not present in channel buffer
      */
-    public static PcepMetricObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepMetricObject read(ByteBuf cb) throws PcepParseException {
 
         log.debug("MetricObject::read");
         PcepObjectHeader metricObjHeader;
@@ -197,7 +197,7 @@ public class PcepMetricObjectVer1 implements PcepMetricObject {
         }
 
         //take only metric buffer.
-        ChannelBuffer tempCb = cb.readBytes(metricObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(metricObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         tempCb.readShort();
         yFlag = tempCb.readByte();
@@ -210,7 +210,7 @@ public class PcepMetricObjectVer1 implements PcepMetricObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         //write Object header
         int objStartIndex = cb.writerIndex();
 
@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepAttribute;
 import org.onosproject.pcepio.protocol.PcepEroObject;
@@ -91,7 +91,7 @@ public class PcepMsgPathVer1 implements PcepMsgPath {
     }
 
     @Override
-    public PcepMsgPath read(ChannelBuffer cb) throws PcepParseException {
+    public PcepMsgPath read(ByteBuf cb) throws PcepParseException {
         PcepEroObject eroObj;
         PcepAttribute attrList;
 
@@ -102,7 +102,7 @@ public class PcepMsgPathVer1 implements PcepMsgPath {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         int iLenStartIndex = cb.writerIndex();
 
         //write Object header
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
 import org.onosproject.pcepio.protocol.PcepMessageWriter;
@@ -96,7 +96,7 @@ public class PcepOpenMsgVer1 implements PcepOpenMsg {
     public static class Reader implements PcepMessageReader<PcepOpenMsg> {
 
         @Override
-        public PcepOpenMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepOpenMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Packet size is less than the minimum length.");
@@ -162,7 +162,7 @@ public class PcepOpenMsgVer1 implements PcepOpenMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -174,7 +174,7 @@ public class PcepOpenMsgVer1 implements PcepOpenMsg {
     public static class Writer implements PcepMessageWriter<PcepOpenMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepOpenMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepOpenMsgVer1 message) throws PcepParseException {
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
             cb.writeByte((byte) (PACKET_VERSION << PcepMessageVer1.SHIFT_FLAG));
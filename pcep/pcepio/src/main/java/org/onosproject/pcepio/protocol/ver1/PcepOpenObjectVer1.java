@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepOpenObject;
 import org.onosproject.pcepio.protocol.PcepType;
@@ -172,7 +172,7 @@ public class PcepOpenObjectVer1 implements PcepOpenObject {
      * @return object of PcepOpenObject
      * @throws PcepParseException if mandatory fields are missing
      */
-    public static PcepOpenObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepOpenObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader openObjHeader;
         byte version;
@@ -209,7 +209,7 @@ public class PcepOpenObjectVer1 implements PcepOpenObject {
      * @return llOptionalTlv Optional TLV
      * @throws PcepParseException if mandatory fields are missing
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOptionalTlv;
 
@@ -285,7 +285,7 @@ public class PcepOpenObjectVer1 implements PcepOpenObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -319,7 +319,7 @@ public class PcepOpenObjectVer1 implements PcepOpenObject {
      * @param cb of type channel buffer.
      * @return writer index
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
         int startIndex = cb.writerIndex();
 
         LinkedList<PcepValueType> llOptionalTlv = this.llOptionalTlv;
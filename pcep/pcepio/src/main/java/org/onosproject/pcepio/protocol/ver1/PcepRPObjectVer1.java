@@ -18,7 +18,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepRPObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -181,7 +181,7 @@ public class PcepRPObjectVer1 implements PcepRPObject {
      * @return the object of PcepRPObject
      * @throws PcepParseException if mandatory fields are missing
      */
-    public static PcepRPObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepRPObject read(ByteBuf cb) throws PcepParseException {
         log.debug("read");
         PcepObjectHeader rpObjHeader;
         int iRequestIdNum;
@@ -194,7 +194,7 @@ public class PcepRPObjectVer1 implements PcepRPObject {
         rpObjHeader = PcepObjectHeader.read(cb);
 
         //take only LspObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(rpObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(rpObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         int iTemp = tempCb.readInt();
         yPriFlag = (byte) (iTemp & PRIFLAG_TEMP_SHIFT_VALUE);
@@ -211,7 +211,7 @@ public class PcepRPObjectVer1 implements PcepRPObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -251,7 +251,7 @@ public class PcepRPObjectVer1 implements PcepRPObject {
      * @return llOutOptionalTlv linked list of Optional TLV
      * @throws PcepParseException if mandatory fields are missing
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
         //Currently no optional TLvs, will be added based on requirements.
@@ -264,7 +264,7 @@ public class PcepRPObjectVer1 implements PcepRPObject {
      * @param cb of type channel buffer
      * @return llOptionalTlv linked list of Optional TLV
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
         while (listIterator.hasNext()) {
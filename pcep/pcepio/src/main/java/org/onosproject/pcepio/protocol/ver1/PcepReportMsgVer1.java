@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLspObject;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
@@ -82,7 +82,7 @@ class PcepReportMsgVer1 implements PcepReportMsg {
         LinkedList<PcepStateReport> llStateReportList;
 
         @Override
-        public PcepReportMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepReportMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Received packet size " + cb.readableBytes()
@@ -114,7 +114,7 @@ class PcepReportMsgVer1 implements PcepReportMsg {
         }
 
         // Parse State Report list
-        public void parseStateReportList(ChannelBuffer cb) throws PcepParseException {
+        public void parseStateReportList(ByteBuf cb) throws PcepParseException {
 
             /*
                                 <state-report-list>
@@ -217,7 +217,7 @@ class PcepReportMsgVer1 implements PcepReportMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -229,7 +229,7 @@ class PcepReportMsgVer1 implements PcepReportMsg {
     static class Writer implements PcepMessageWriter<PcepReportMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepReportMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepReportMsgVer1 message) throws PcepParseException {
 
             int startIndex = cb.writerIndex();
 
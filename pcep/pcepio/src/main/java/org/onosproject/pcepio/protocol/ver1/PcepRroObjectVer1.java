@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepRroObject;
 import org.onosproject.pcepio.types.IPv4SubObject;
@@ -168,14 +168,14 @@ public class PcepRroObjectVer1 implements PcepRroObject {
      * @return object of PcepRroObject
      * @throws PcepParseException when fails to read from channel buffer
      */
-    public static PcepRroObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepRroObject read(ByteBuf cb) throws PcepParseException {
 
         PcepObjectHeader rroObjHeader;
         LinkedList<PcepValueType> llSubObjects;
         rroObjHeader = PcepObjectHeader.read(cb);
 
         //take only RroObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(rroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(rroObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
         llSubObjects = parseSubObjects(tempCb);
 
         return new PcepRroObjectVer1(rroObjHeader, llSubObjects);
@@ -188,7 +188,7 @@ public class PcepRroObjectVer1 implements PcepRroObject {
      * @return list of sub objects
      * @throws PcepParseException when fails to parse list of sub objects
      */
-    protected static LinkedList<PcepValueType> parseSubObjects(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseSubObjects(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llSubObjects = new LinkedList<>();
 
@@ -232,7 +232,7 @@ public class PcepRroObjectVer1 implements PcepRroObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         //write Object header
         int objStartIndex = cb.writerIndex();
 
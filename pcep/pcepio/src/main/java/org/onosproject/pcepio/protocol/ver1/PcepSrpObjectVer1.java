@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepSrpObject;
 import org.onosproject.pcepio.types.PcepObjectHeader;
@@ -147,7 +147,7 @@ public class PcepSrpObjectVer1 implements PcepSrpObject {
      * @return PCEP SRP object
      * @throws PcepParseException when srp object is not received in channel buffer
      */
-    public static PcepSrpObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepSrpObject read(ByteBuf cb) throws PcepParseException {
 
         log.debug("SrpObject::read");
         PcepObjectHeader srpObjHeader;
@@ -164,7 +164,7 @@ public class PcepSrpObjectVer1 implements PcepSrpObject {
         }
 
         //take only SrpObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(srpObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(srpObjHeader.getObjLen() - MINIMUM_COMMON_HEADER_LENGTH);
         flags = tempCb.readInt();
         bRFlag = 0 < flags;
         srpID = tempCb.readInt();
@@ -175,7 +175,7 @@ public class PcepSrpObjectVer1 implements PcepSrpObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         int objStartIndex = cb.writerIndex();
 
@@ -210,7 +210,7 @@ public class PcepSrpObjectVer1 implements PcepSrpObject {
      * @return list of optional tlvs
      * @throws PcepParseException when unsupported tlv is received in srp object
      */
-    public static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    public static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv = new LinkedList<>();
 
@@ -251,7 +251,7 @@ public class PcepSrpObjectVer1 implements PcepSrpObject {
      * @param cb of type channel buffer
      * @return true if writing optional tlv to channel buffer is success.
      */
-    protected boolean packOptionalTlv(ChannelBuffer cb) {
+    protected boolean packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
 
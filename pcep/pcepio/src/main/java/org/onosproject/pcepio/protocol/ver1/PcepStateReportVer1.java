@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.protocol.ver1;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepAttribute;
 import org.onosproject.pcepio.protocol.PcepBandwidthObject;
@@ -183,7 +183,7 @@ public class PcepStateReportVer1 implements PcepStateReport {
          * @throws PcepParseException when fails to read pcep message path
          */
         @Override
-        public PcepMsgPath read(ChannelBuffer bb) throws PcepParseException {
+        public PcepMsgPath read(ByteBuf bb) throws PcepParseException {
 
             PcepEroObject eroObj;
             PcepAttribute attrList;
@@ -234,7 +234,7 @@ public class PcepStateReportVer1 implements PcepStateReport {
          * @throws PcepParseException when fails to write to channel buffer
          */
         @Override
-        public int write(ChannelBuffer bb) throws PcepParseException {
+        public int write(ByteBuf bb) throws PcepParseException {
             int iLenStartIndex = bb.writerIndex();
 
             //write Object header
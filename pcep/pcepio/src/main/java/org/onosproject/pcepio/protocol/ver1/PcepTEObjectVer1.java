@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepTEObject;
 import org.onosproject.pcepio.types.LocalTENodeDescriptorsTlv;
@@ -190,7 +190,7 @@ public class PcepTEObjectVer1 implements PcepTEObject {
      * @return Object of PcepTEObject
      * @throws PcepParseException if mandatory fields are missing
      */
-    public static PcepTEObject read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepTEObject read(ByteBuf cb) throws PcepParseException {
         log.debug("read");
 
         PcepObjectHeader teObjHeader;
@@ -204,7 +204,7 @@ public class PcepTEObjectVer1 implements PcepTEObject {
         teObjHeader = PcepObjectHeader.read(cb);
 
         //take only TEObject buffer.
-        ChannelBuffer tempCb = cb.readBytes(teObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
+        ByteBuf tempCb = cb.readSlice(teObjHeader.getObjLen() - OBJECT_HEADER_LENGTH);
 
         yProtocolId = tempCb.readByte();
         //ignore first two bytes of Flags
@@ -223,7 +223,7 @@ public class PcepTEObjectVer1 implements PcepTEObject {
     }
 
     @Override
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
 
         //write Object header
         int objStartIndex = cb.writerIndex();
@@ -273,7 +273,7 @@ public class PcepTEObjectVer1 implements PcepTEObject {
      * @return Linked list of PCEP Value Type
      * @throws PcepParseException if mandatory fields are missing
      */
-    protected static LinkedList<PcepValueType> parseOptionalTlv(ChannelBuffer cb) throws PcepParseException {
+    protected static LinkedList<PcepValueType> parseOptionalTlv(ByteBuf cb) throws PcepParseException {
 
         LinkedList<PcepValueType> llOutOptionalTlv;
 
@@ -336,7 +336,7 @@ public class PcepTEObjectVer1 implements PcepTEObject {
      * @param cb of type channel buffer
      * @return the writer index.
      */
-    protected int packOptionalTlv(ChannelBuffer cb) {
+    protected int packOptionalTlv(ByteBuf cb) {
 
         ListIterator<PcepValueType> listIterator = llOptionalTlv.listIterator();
 
@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
 import org.onosproject.pcepio.protocol.PcepMessageWriter;
@@ -63,7 +63,7 @@ class PcepTEReportMsgVer1 implements PcepTEReportMsg {
         LinkedList<PcepTEObject> teReportList;
 
         @Override
-        public PcepTEReportMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepTEReportMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 return null;
@@ -100,7 +100,7 @@ class PcepTEReportMsgVer1 implements PcepTEReportMsg {
          * @param cb input Channel Buffer
          * @throws PcepParseException when fails to parse TE Report list.
          */
-        public void parseTEReportList(ChannelBuffer cb) throws PcepParseException {
+        public void parseTEReportList(ByteBuf cb) throws PcepParseException {
             // <te-report-list> ::= <TE>[<te-report-list>]
 
             while (0 < cb.readableBytes()) {
@@ -156,7 +156,7 @@ class PcepTEReportMsgVer1 implements PcepTEReportMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer bb) throws PcepParseException {
+    public void writeTo(ByteBuf bb) throws PcepParseException {
         WRITER.write(bb, this);
     }
 
@@ -168,7 +168,7 @@ class PcepTEReportMsgVer1 implements PcepTEReportMsg {
     static class Writer implements PcepMessageWriter<PcepTEReportMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer bb, PcepTEReportMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf bb, PcepTEReportMsgVer1 message) throws PcepParseException {
 
             int startIndex = bb.writerIndex();
 
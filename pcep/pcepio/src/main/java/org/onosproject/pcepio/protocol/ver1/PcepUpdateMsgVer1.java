@@ -19,7 +19,7 @@ package org.onosproject.pcepio.protocol.ver1;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepLspObject;
 import org.onosproject.pcepio.protocol.PcepMessageReader;
@@ -94,7 +94,7 @@ class PcepUpdateMsgVer1 implements PcepUpdateMsg {
         LinkedList<PcepUpdateRequest> llUpdateRequestList;
 
         @Override
-        public PcepUpdateMsg readFrom(ChannelBuffer cb) throws PcepParseException {
+        public PcepUpdateMsg readFrom(ByteBuf cb) throws PcepParseException {
 
             if (cb.readableBytes() < PACKET_MINIMUM_LENGTH) {
                 throw new PcepParseException("Readable bytes is less than update message minimum length");
@@ -136,7 +136,7 @@ class PcepUpdateMsgVer1 implements PcepUpdateMsg {
          * @return true after parsing Update Request List
          * @throws PcepParseException while parsing update request list from channel buffer
          */
-        public boolean parseUpdateRequestList(ChannelBuffer cb) throws PcepParseException {
+        public boolean parseUpdateRequestList(ByteBuf cb) throws PcepParseException {
 
             /*                     <update-request-list>
              * Where:
@@ -220,7 +220,7 @@ class PcepUpdateMsgVer1 implements PcepUpdateMsg {
     }
 
     @Override
-    public void writeTo(ChannelBuffer cb) throws PcepParseException {
+    public void writeTo(ByteBuf cb) throws PcepParseException {
         WRITER.write(cb, this);
     }
 
@@ -232,7 +232,7 @@ class PcepUpdateMsgVer1 implements PcepUpdateMsg {
     static class Writer implements PcepMessageWriter<PcepUpdateMsgVer1> {
 
         @Override
-        public void write(ChannelBuffer cb, PcepUpdateMsgVer1 message) throws PcepParseException {
+        public void write(ByteBuf cb, PcepUpdateMsgVer1 message) throws PcepParseException {
 
             int startIndex = cb.writerIndex();
             // first 3 bits set to version
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepErrorObject;
 import org.onosproject.pcepio.protocol.PcepOpenObject;
@@ -124,7 +124,7 @@ public class ErrorObjListWithOpen {
      * @return length of written Error object list with open
      * @throws PcepParseException when mandatory fields are not set
      */
-    public int write(ChannelBuffer cb) throws PcepParseException {
+    public int write(ByteBuf cb) throws PcepParseException {
         int iLenStartIndex = cb.writerIndex();
         boolean bIsErrObjListFound = false;
 
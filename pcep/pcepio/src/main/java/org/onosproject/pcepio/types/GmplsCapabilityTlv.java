@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,7 +109,7 @@ public class GmplsCapabilityTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -123,7 +123,7 @@ public class GmplsCapabilityTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of Gmpls-Capability-Tlv
      */
-    public static GmplsCapabilityTlv read(ChannelBuffer c) {
+    public static GmplsCapabilityTlv read(ByteBuf c) {
         return GmplsCapabilityTlv.of(c.readInt());
     }
 
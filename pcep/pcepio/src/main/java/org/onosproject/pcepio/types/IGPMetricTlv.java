@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,7 +111,7 @@ public class IGPMetricTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(hLength);
@@ -126,7 +126,7 @@ public class IGPMetricTlv implements PcepValueType {
      * @param hLength length
      * @return object of IGPMetricTlv
      */
-    public static PcepValueType read(ChannelBuffer c, short hLength) {
+    public static PcepValueType read(ByteBuf c, short hLength) {
         byte[] iIGPMetric = new byte[hLength];
         c.readBytes(iIGPMetric, 0, hLength);
         return new IGPMetricTlv(iIGPMetric, hLength);
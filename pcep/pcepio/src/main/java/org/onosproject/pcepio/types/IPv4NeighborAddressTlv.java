@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,7 +108,7 @@ public class IPv4NeighborAddressTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -122,7 +122,7 @@ public class IPv4NeighborAddressTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of IPv4-Neighbor-Address-Tlv
      */
-    public static IPv4NeighborAddressTlv read(ChannelBuffer c) {
+    public static IPv4NeighborAddressTlv read(ByteBuf c) {
         return IPv4NeighborAddressTlv.of(c.readInt());
     }
 
@@ -22,7 +22,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -146,7 +146,7 @@ public class IPv4SubObject implements PcepValueType {
      * @param c type of channel buffer
      * @return object of IPv4SubObject
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         int ipAddess = c.readInt();
         byte prefixLen = c.readByte();
         byte resvd = c.readByte();
@@ -154,7 +154,7 @@ public class IPv4SubObject implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         byte bValue = LBIT;
         bValue = (byte) (bValue << SHIFT_LBIT_POSITION);
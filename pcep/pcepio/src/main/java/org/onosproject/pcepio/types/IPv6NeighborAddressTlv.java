@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,7 +141,7 @@ public class IPv6NeighborAddressTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -155,7 +155,7 @@ public class IPv6NeighborAddressTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of IPv6NeighborAddressTlv
      */
-    public static IPv6NeighborAddressTlv read20Bytes(ChannelBuffer c) {
+    public static IPv6NeighborAddressTlv read20Bytes(ByteBuf c) {
         byte[] yTemp = new byte[20];
         c.readBytes(yTemp, 0, 20);
         return IPv6NeighborAddressTlv.of(yTemp);
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -184,7 +184,7 @@ public class IPv6SubObject implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -198,7 +198,7 @@ public class IPv6SubObject implements PcepValueType {
      * @param c type of channel buffer
      * @return object of IPv6SubObject
      */
-    public static IPv6SubObject read20Bytes(ChannelBuffer c) {
+    public static IPv6SubObject read20Bytes(ByteBuf c) {
         byte[] yTemp = new byte[20];
         c.readBytes(yTemp, 0, 20);
         return IPv6SubObject.of(yTemp);
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -141,7 +141,7 @@ public class IPv6TERouterIdofLocalNodeTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -155,7 +155,7 @@ public class IPv6TERouterIdofLocalNodeTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of IPv6TERouterIdofLocalNodeTlv
      */
-    public static IPv6TERouterIdofLocalNodeTlv read20Bytes(ChannelBuffer c) {
+    public static IPv6TERouterIdofLocalNodeTlv read20Bytes(ByteBuf c) {
         byte[] yTemp = new byte[20];
         c.readBytes(yTemp, 0, 20);
         return IPv6TERouterIdofLocalNodeTlv.of(yTemp);
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -135,7 +135,7 @@ public class LabelSubObject implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -151,7 +151,7 @@ public class LabelSubObject implements PcepValueType {
      * @param c type of channel buffer
      * @return object of LabelSubObject
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         byte flags = c.readByte();
         byte cType = c.readByte();
         int contents = c.readInt();
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,7 +122,7 @@ public class LinkLocalRemoteIdentifiersTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -137,7 +137,7 @@ public class LinkLocalRemoteIdentifiersTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of LinkLocalRemoteIdentifiersTlv
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         int iLinkLocalIdentifier = c.readInt();
         int iLinkRemoteIdentifier = c.readInt();
         return new LinkLocalRemoteIdentifiersTlv(iLinkLocalIdentifier, iLinkRemoteIdentifier);
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -110,7 +110,7 @@ public class LinkProtectionTypeTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -125,7 +125,7 @@ public class LinkProtectionTypeTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of LinkProtectionTypeTlv
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         byte protectionCap = c.readByte();
         byte reserved = c.readByte();
         return new LinkProtectionTypeTlv(protectionCap, reserved);
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -153,7 +153,7 @@ public class MPLSProtocolMaskTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -178,7 +178,7 @@ public class MPLSProtocolMaskTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of MPLS Protocol Mask Tlv
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         byte temp = c.readByte();
         boolean bLFlag;
         boolean bRFlag;
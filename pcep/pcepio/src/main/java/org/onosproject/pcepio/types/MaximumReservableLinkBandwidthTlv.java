@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -107,7 +107,7 @@ public class MaximumReservableLinkBandwidthTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -121,7 +121,7 @@ public class MaximumReservableLinkBandwidthTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of MaximumReservableLinkBandwidthTlv
      */
-    public static MaximumReservableLinkBandwidthTlv read(ChannelBuffer c) {
+    public static MaximumReservableLinkBandwidthTlv read(ByteBuf c) {
         return MaximumReservableLinkBandwidthTlv.of(c.readInt());
     }
 
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -114,7 +114,7 @@ public class NexthopIPv4addressTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -128,7 +128,7 @@ public class NexthopIPv4addressTlv implements PcepValueType {
      * @param c type of channel buffer
      * @return object of NexthopIPv4addressTlv
      */
-    public static NexthopIPv4addressTlv read(ChannelBuffer c) {
+    public static NexthopIPv4addressTlv read(ByteBuf c) {
         return NexthopIPv4addressTlv.of(c.readInt());
     }
 
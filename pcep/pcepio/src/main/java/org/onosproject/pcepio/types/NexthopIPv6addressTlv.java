@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -152,7 +152,7 @@ public class NexthopIPv6addressTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -166,7 +166,7 @@ public class NexthopIPv6addressTlv implements PcepValueType {
      * @param c type of channel buffer
      * @return object of NexthopIPv6addressTlv
      */
-    public static NexthopIPv6addressTlv read(ChannelBuffer c) {
+    public static NexthopIPv6addressTlv read(ByteBuf c) {
         byte[] yTemp = new byte[20];
         c.readBytes(yTemp, 0, 20);
         return NexthopIPv6addressTlv.of(yTemp);
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,7 +128,7 @@ public class NexthopUnnumberedIPv4IDTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -145,7 +145,7 @@ public class NexthopUnnumberedIPv4IDTlv implements PcepValueType {
      * @param cb type of channel buffer
      * @return object of NexthopUnnumberedIPv4IDTlv
      */
-    public static NexthopUnnumberedIPv4IDTlv read(ChannelBuffer cb) {
+    public static NexthopUnnumberedIPv4IDTlv read(ByteBuf cb) {
         int nodeID = cb.readInt();
         int interfaceID = cb.readInt();
         return new NexthopUnnumberedIPv4IDTlv(nodeID, interfaceID);
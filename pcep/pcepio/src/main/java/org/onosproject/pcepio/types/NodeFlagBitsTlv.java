@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.types;
 
 import java.util.Objects;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -183,7 +183,7 @@ public class NodeFlagBitsTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -214,7 +214,7 @@ public class NodeFlagBitsTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of NodeFlagBitsTlv
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
 
         return NodeFlagBitsTlv.of(c.readByte());
     }
@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.types;
 
 import java.util.Objects;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,7 +106,7 @@ public class OSPFareaIDsubTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -120,7 +120,7 @@ public class OSPFareaIDsubTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of OSPFAreaIdSubTlv
      */
-    public static OSPFareaIDsubTlv read(ChannelBuffer c) {
+    public static OSPFareaIDsubTlv read(ByteBuf c) {
         return OSPFareaIDsubTlv.of(c.readInt());
     }
 
@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.types;
 
 import java.util.Objects;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -115,7 +115,7 @@ public class OpaqueNodeAttributeTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(hLength);
@@ -130,7 +130,7 @@ public class OpaqueNodeAttributeTlv implements PcepValueType {
      * @param hLength length
      * @return object of OpaqueNodeAttributeTlv
      */
-    public static PcepValueType read(ChannelBuffer c, short hLength) {
+    public static PcepValueType read(ByteBuf c, short hLength) {
         byte[] iOpaqueValue = new byte[hLength];
         c.readBytes(iOpaqueValue, 0, hLength);
         return new OpaqueNodeAttributeTlv(iOpaqueValue, hLength);
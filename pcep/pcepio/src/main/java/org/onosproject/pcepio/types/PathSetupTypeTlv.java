@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -135,7 +135,7 @@ public class PathSetupTypeTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -149,7 +149,7 @@ public class PathSetupTypeTlv implements PcepValueType {
      * @param c is type Channel buffer
      * @return object of PathSetupTypeTlv
      */
-    public static PathSetupTypeTlv read(ChannelBuffer c) {
+    public static PathSetupTypeTlv read(ByteBuf c) {
         return PathSetupTypeTlv.of(c.readInt());
     }
 
@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.types;
 
 import java.util.Objects;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -154,7 +154,7 @@ public class PceccCapabilityTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         int temp = 0;
         c.writeShort(TYPE);
@@ -179,7 +179,7 @@ public class PceccCapabilityTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of PceccCapabilityTlv
      */
-    public static PceccCapabilityTlv read(ChannelBuffer c) {
+    public static PceccCapabilityTlv read(ByteBuf c) {
         return PceccCapabilityTlv.of(c.readInt());
     }
 
@@ -16,7 +16,7 @@
 package org.onosproject.pcepio.types;
 
 import java.util.Objects;
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -108,7 +108,7 @@ public class PcepLabelDbVerTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -122,7 +122,7 @@ public class PcepLabelDbVerTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of PcepLabelDbVerTlv
      */
-    public static PcepLabelDbVerTlv read(ChannelBuffer c) {
+    public static PcepLabelDbVerTlv read(ByteBuf c) {
         return PcepLabelDbVerTlv.of(c.readLong());
     }
 
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 
 import com.google.common.base.MoreObjects;
@@ -60,7 +60,7 @@ public class PcepNaiIpv4Adjacency implements PcepNai {
     }
 
     @Override
-    public int write(ChannelBuffer bb) {
+    public int write(ByteBuf bb) {
         int iLenStartIndex = bb.writerIndex();
         bb.writeInt(localIpv4Addr);
         bb.writeInt(remoteIpv4Addr);
@@ -73,7 +73,7 @@ public class PcepNaiIpv4Adjacency implements PcepNai {
      * @param cb of channel buffer
      * @return object of PcepNAIIpv4Adjacency
      */
-    public static PcepNaiIpv4Adjacency read(ChannelBuffer cb) {
+    public static PcepNaiIpv4Adjacency read(ByteBuf cb) {
         int localIpv4 = cb.readInt();
         int remoteIpv4 = cb.readInt();
         return new PcepNaiIpv4Adjacency(localIpv4, remoteIpv4);
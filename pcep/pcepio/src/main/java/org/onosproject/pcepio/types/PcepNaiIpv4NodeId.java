@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 
 import com.google.common.base.MoreObjects;
@@ -57,7 +57,7 @@ public class PcepNaiIpv4NodeId implements PcepNai {
     }
 
     @Override
-    public int write(ChannelBuffer bb) {
+    public int write(ByteBuf bb) {
         int iLenStartIndex = bb.writerIndex();
         bb.writeInt(ipv4NodeId);
         return bb.writerIndex() - iLenStartIndex;
@@ -69,7 +69,7 @@ public class PcepNaiIpv4NodeId implements PcepNai {
      * @param bb of channel buffer.
      * @return object of PcepNAIIpv4NodeIdVer1
      */
-    public static PcepNaiIpv4NodeId read(ChannelBuffer bb) {
+    public static PcepNaiIpv4NodeId read(ByteBuf bb) {
         return new PcepNaiIpv4NodeId(bb.readInt());
     }
 
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 
 import com.google.common.base.MoreObjects;
@@ -51,7 +51,7 @@ public class PcepNaiIpv6Adjacency implements PcepNai {
     }
 
     @Override
-    public int write(ChannelBuffer bb) {
+    public int write(ByteBuf bb) {
         int iLenStartIndex = bb.writerIndex();
         bb.writeBytes(localIpv6Addr);
         bb.writeBytes(remoteIpv6Addr);
@@ -64,7 +64,7 @@ public class PcepNaiIpv6Adjacency implements PcepNai {
      * @param bb of type channel buffer
      * @return object of PcepNAIIpv6AdjacencyVer1
      */
-    public static PcepNaiIpv6Adjacency read(ChannelBuffer bb) {
+    public static PcepNaiIpv6Adjacency read(ByteBuf bb) {
         byte[] localIpv6 = new byte[IPV6_LEN];
         bb.readBytes(localIpv6, 0, IPV6_LEN);
         byte[] remoteIpv6 = new byte[IPV6_LEN];
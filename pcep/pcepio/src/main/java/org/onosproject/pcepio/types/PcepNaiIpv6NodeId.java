@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 
 import com.google.common.base.MoreObjects;
@@ -58,7 +58,7 @@ public class PcepNaiIpv6NodeId implements PcepNai {
     }
 
     @Override
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int iLenStartIndex = cb.writerIndex();
         cb.writeBytes(ipv6NodeId);
         return cb.writerIndex() - iLenStartIndex;
@@ -70,7 +70,7 @@ public class PcepNaiIpv6NodeId implements PcepNai {
      * @param cb of type channel buffer.
      * @return object of PcepNAIIpv6NodeId
      */
-    public static PcepNaiIpv6NodeId read(ChannelBuffer cb) {
+    public static PcepNaiIpv6NodeId read(ByteBuf cb) {
         byte[] ipv6NodeId = new byte[IPV6_LEN];
         cb.readBytes(ipv6NodeId, 0, IPV6_LEN);
         return new PcepNaiIpv6NodeId(ipv6NodeId);
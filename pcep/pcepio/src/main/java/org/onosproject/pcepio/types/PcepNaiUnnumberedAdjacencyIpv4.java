@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 
 import com.google.common.base.MoreObjects;
@@ -72,7 +72,7 @@ public class PcepNaiUnnumberedAdjacencyIpv4 implements PcepNai {
     }
 
     @Override
-    public int write(ChannelBuffer bb) {
+    public int write(ByteBuf bb) {
         int iLenStartIndex = bb.writerIndex();
         bb.writeInt(localNodeId);
         bb.writeInt(localInterfaceId);
@@ -87,7 +87,7 @@ public class PcepNaiUnnumberedAdjacencyIpv4 implements PcepNai {
      * @param bb of type channel buffer
      * @return object of PcepNAIUnnumberedAdjacencyIpv4
      */
-    public static PcepNaiUnnumberedAdjacencyIpv4 read(ChannelBuffer bb) {
+    public static PcepNaiUnnumberedAdjacencyIpv4 read(ByteBuf bb) {
         int localNodeId;
         int localInterfaceId;
         int remoteNodeId;
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -173,7 +173,7 @@ public class PcepObjectHeader {
      * @param cb output channel buffer
      * @return objLenIndex object length index in channel buffer
      */
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
 
         cb.writeByte(this.objClass);
         byte temp = (byte) (this.objType << OBJECT_TYPE_SHIFT_VALUE);
@@ -195,7 +195,7 @@ public class PcepObjectHeader {
      * @param cb of type channel buffer
      * @return PCEP Object header
      */
-    public static PcepObjectHeader read(ChannelBuffer cb) {
+    public static PcepObjectHeader read(ByteBuf cb) {
 
         byte objClass;
         byte objType;
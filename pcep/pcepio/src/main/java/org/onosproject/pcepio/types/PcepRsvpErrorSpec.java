@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Abstraction of an entity which provides PCPE RSVP error spec.
@@ -28,7 +28,7 @@ public interface PcepRsvpErrorSpec extends PcepValueType {
      *  @param cb of type channel buffer
      */
     @Override
-    int write(ChannelBuffer cb);
+    int write(ByteBuf cb);
 
     /**
      * Returns class number.
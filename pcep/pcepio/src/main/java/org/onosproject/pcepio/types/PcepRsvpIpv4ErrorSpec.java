@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 
 import com.google.common.base.MoreObjects;
@@ -91,7 +91,7 @@ public class PcepRsvpIpv4ErrorSpec implements PcepRsvpErrorSpec {
     }
 
     @Override
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int objLenIndex = objHeader.write(cb);
         cb.writeInt(ipv4Addr);
         cb.writeByte(flags);
@@ -108,7 +108,7 @@ public class PcepRsvpIpv4ErrorSpec implements PcepRsvpErrorSpec {
      * @param cb channel buffer
      * @return PCEP rsvp IPv4 error spec object
      */
-    public static PcepRsvpErrorSpec read(ChannelBuffer cb) {
+    public static PcepRsvpErrorSpec read(ByteBuf cb) {
         PcepRsvpSpecObjHeader objHeader;
         int ipv4Addr;
         byte flags;
@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 
 import com.google.common.base.MoreObjects;
@@ -96,7 +96,7 @@ public class PcepRsvpIpv6ErrorSpec implements PcepRsvpErrorSpec {
     }
 
     @Override
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int objLenIndex = objHeader.write(cb);
         cb.writeBytes(ipv6Addr);
         cb.writeByte(flags);
@@ -113,7 +113,7 @@ public class PcepRsvpIpv6ErrorSpec implements PcepRsvpErrorSpec {
      * @param cb channel buffer
      * @return PCEP rsvp IPv6 error spce object
      */
-    public static PcepRsvpErrorSpec read(ChannelBuffer cb) {
+    public static PcepRsvpErrorSpec read(ByteBuf cb) {
         PcepRsvpSpecObjHeader objHeader;
         byte[] ipv6Addr = new byte[IPV6_LEN];
         byte flags;
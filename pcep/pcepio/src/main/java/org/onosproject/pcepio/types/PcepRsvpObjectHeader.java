@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,7 +124,7 @@ public class PcepRsvpObjectHeader {
      * @param cb of type channel buffer
      * @return object length index in channel buffer
      */
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int iLenStartIndex = cb.writerIndex();
         cb.writeShort((short) 0);
         cb.writeByte(this.objClassNum);
@@ -138,7 +138,7 @@ public class PcepRsvpObjectHeader {
      * @param cb input channel buffer
      * @return PcepRsvpObjectHeader
      */
-    public static PcepRsvpObjectHeader read(ChannelBuffer cb) {
+    public static PcepRsvpObjectHeader read(ByteBuf cb) {
         log.debug("read ");
         byte objClassNum;
         byte objClassType;
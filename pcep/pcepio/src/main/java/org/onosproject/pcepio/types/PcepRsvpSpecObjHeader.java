@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -119,7 +119,7 @@ public class PcepRsvpSpecObjHeader {
      * @param cb of type channel buffer
      * @return object length index
      */
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int objLenIndex = cb.writerIndex();
         objLen = 0;
         cb.writeShort(objLen);
@@ -134,7 +134,7 @@ public class PcepRsvpSpecObjHeader {
      * @param cb of type channel buffer
      * @return PcepRsvpObjectHeader
      */
-    public static PcepRsvpSpecObjHeader read(ChannelBuffer cb) {
+    public static PcepRsvpSpecObjHeader read(ByteBuf cb) {
         byte objClassNum;
         byte objClassType;
         short objLen;
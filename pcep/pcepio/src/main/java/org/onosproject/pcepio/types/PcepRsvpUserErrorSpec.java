@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 import java.util.LinkedList;
 import java.util.ListIterator;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepVersion;
 
@@ -94,7 +94,7 @@ public class PcepRsvpUserErrorSpec implements PcepRsvpErrorSpec {
     }
 
     @Override
-    public int write(ChannelBuffer cb) {
+    public int write(ByteBuf cb) {
         int objLenIndex = objHeader.write(cb);
         cb.writeInt(enterpriseNum);
         cb.writeByte(subOrg);
@@ -134,7 +134,7 @@ public class PcepRsvpUserErrorSpec implements PcepRsvpErrorSpec {
      * @return object of PcepRsvpErrorSpec
      * @throws PcepParseException when expected object is not received
      */
-    public static PcepRsvpErrorSpec read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepRsvpErrorSpec read(ByteBuf cb) throws PcepParseException {
         PcepRsvpSpecObjHeader objHeader;
         int enterpriseNum;
         byte subOrg;
@@ -161,7 +161,7 @@ public class PcepRsvpUserErrorSpec implements PcepRsvpErrorSpec {
                 llRsvpUserSpecSubObj);
     }
 
-    private static LinkedList<PcepValueType> parseErrSpecSubObj(ChannelBuffer cb) throws PcepParseException {
+    private static LinkedList<PcepValueType> parseErrSpecSubObj(ByteBuf cb) throws PcepParseException {
         LinkedList<PcepValueType> llRsvpUserSpecSubObj = new LinkedList<>();
         while (0 < cb.readableBytes()) {
             PcepValueType tlv = null;
@@ -16,7 +16,7 @@
 
 package org.onosproject.pcepio.types;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 
 /**
@@ -51,5 +51,5 @@ public interface PcepValueType {
      * @param bb of type channel buffer
      * @return length of bytes written to channel buffer
      */
-    int write(ChannelBuffer bb);
+    int write(ByteBuf bb);
 }
@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,7 +118,7 @@ public class RoutingUniverseTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -132,7 +132,7 @@ public class RoutingUniverseTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of RoutingUniverseTLV
      */
-    public static RoutingUniverseTlv read(ChannelBuffer c) {
+    public static RoutingUniverseTlv read(ByteBuf c) {
         return RoutingUniverseTlv.of(c.readLong());
     }
 
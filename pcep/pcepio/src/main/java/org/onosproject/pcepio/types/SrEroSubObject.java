@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepNai;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
@@ -233,7 +233,7 @@ public class SrEroSubObject implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
 
         c.writeShort(TYPE);
@@ -266,7 +266,7 @@ public class SrEroSubObject implements PcepValueType {
      * @param c of type channel buffer
      * @return object of SrEroSubObject
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         short temp = c.readShort();
         boolean bMFlag;
         boolean bCFlag;
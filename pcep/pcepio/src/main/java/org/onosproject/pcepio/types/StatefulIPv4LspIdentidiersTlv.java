@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -168,7 +168,7 @@ public class StatefulIPv4LspIdentidiersTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -187,7 +187,7 @@ public class StatefulIPv4LspIdentidiersTlv implements PcepValueType {
      * @param c of type channel buffer
      * @return object of StatefulIPv4LspIdentidiersTlv
      */
-    public static PcepValueType read(ChannelBuffer c) {
+    public static PcepValueType read(ByteBuf c) {
         int ipv4IngressAddress = c.readInt();
         short lspId = c.readShort();
         short tunnelId = c.readShort();
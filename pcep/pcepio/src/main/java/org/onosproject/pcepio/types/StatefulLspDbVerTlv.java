@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -114,7 +114,7 @@ public class StatefulLspDbVerTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
         c.writeLong(rawValue);
@@ -127,7 +127,7 @@ public class StatefulLspDbVerTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of StatefulLspDbVerTlv
      */
-    public static StatefulLspDbVerTlv read(ChannelBuffer c) {
+    public static StatefulLspDbVerTlv read(ByteBuf c) {
         return StatefulLspDbVerTlv.of(c.readLong());
     }
 
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -112,7 +112,7 @@ public class StatefulLspErrorCodeTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(LENGTH);
@@ -126,7 +126,7 @@ public class StatefulLspErrorCodeTlv implements PcepValueType {
      * @param c of type channel buffer
      * @return object of StatefulLspErrorCodeTlv
      */
-    public static StatefulLspErrorCodeTlv read(ChannelBuffer c) {
+    public static StatefulLspErrorCodeTlv read(ByteBuf c) {
         return StatefulLspErrorCodeTlv.of(c.readInt());
     }
 
@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
@@ -149,7 +149,7 @@ public class StatefulRsvpErrorSpecTlv implements PcepValueType {
      * @return object of StatefulRsvpErrorSpecTlv
      * @throws PcepParseException while parsing this tlv from channel buffer
      */
-    public static PcepValueType read(ChannelBuffer cb) throws PcepParseException {
+    public static PcepValueType read(ByteBuf cb) throws PcepParseException {
 
         PcepRsvpErrorSpec rsvpErrSpecObj = null;
         PcepRsvpSpecObjHeader rsvpErrSpecObjHeader;
@@ -189,7 +189,7 @@ public class StatefulRsvpErrorSpecTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         int tlvLenIndex = c.writerIndex();
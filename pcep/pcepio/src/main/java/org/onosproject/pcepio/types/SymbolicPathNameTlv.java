@@ -18,7 +18,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -129,7 +129,7 @@ public class SymbolicPathNameTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iLenStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         c.writeShort(hLength);
@@ -144,7 +144,7 @@ public class SymbolicPathNameTlv implements PcepValueType {
      * @param hLength length of bytes to read
      * @return object of SymbolicPathNameTlv
      */
-    public static SymbolicPathNameTlv read(ChannelBuffer c, short hLength) {
+    public static SymbolicPathNameTlv read(ByteBuf c, short hLength) {
         byte[] symbolicPathName = new byte[hLength];
         c.readBytes(symbolicPathName, 0, hLength);
         return new SymbolicPathNameTlv(symbolicPathName, hLength);
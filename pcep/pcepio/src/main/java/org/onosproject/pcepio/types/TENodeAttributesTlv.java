@@ -20,7 +20,7 @@ import java.util.LinkedList;
 import java.util.ListIterator;
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
@@ -141,7 +141,7 @@ public class TENodeAttributesTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int tlvStartIndex = c.writerIndex();
         c.writeShort(TYPE);
         int tlvLenIndex = c.writerIndex();
@@ -180,12 +180,12 @@ public class TENodeAttributesTlv implements PcepValueType {
      * @return object of TENodeAttributesTlv
      * @throws PcepParseException if mandatory fields are missing
      */
-    public static PcepValueType read(ChannelBuffer c, short hLength) throws PcepParseException {
+    public static PcepValueType read(ByteBuf c, short hLength) throws PcepParseException {
 
         // Node Descriptor Sub-TLVs (variable)
         LinkedList<PcepValueType> llNodeAttributesSubTLVs = new LinkedList<>();
 
-        ChannelBuffer tempCb = c.readBytes(hLength);
+        ByteBuf tempCb = c.readSlice(hLength);
 
         while (TLV_HEADER_LENGTH <= tempCb.readableBytes()) {
             PcepValueType tlv;
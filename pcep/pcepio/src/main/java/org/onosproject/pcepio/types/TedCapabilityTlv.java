@@ -17,7 +17,7 @@ package org.onosproject.pcepio.types;
 
 import java.util.Objects;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.onosproject.pcepio.protocol.PcepVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -144,7 +144,7 @@ public class TedCapabilityTlv implements PcepValueType {
     }
 
     @Override
-    public int write(ChannelBuffer c) {
+    public int write(ByteBuf c) {
         int iStartIndex = c.writerIndex();
         int temp = 0;
         c.writeShort(TYPE);
@@ -166,7 +166,7 @@ public class TedCapabilityTlv implements PcepValueType {
      * @param c input channel buffer
      * @return object of TedCapabilityTlv
      */
-    public static TedCapabilityTlv read(ChannelBuffer c) {
+    public static TedCapabilityTlv read(ByteBuf c) {
         return TedCapabilityTlv.of(c.readInt());
     }
 
@@ -15,7 +15,7 @@
  */
 package org.onosproject.pcepio.util;
 
-import org.jboss.netty.buffer.ChannelBuffer;
+import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,13 +28,13 @@ public final class HexDump {
     private HexDump() {
     }
 
-    public static void pcepHexDump(ChannelBuffer buff) {
+    public static void pcepHexDump(ByteBuf buff) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
 
         log.debug("==================== HEX DUMP ======================");
         try {
-            byte[] yTemp;
-            yTemp = buff.array();
-
             int iStartIndex = buff.readerIndex();
             int iEndIndex = buff.writerIndex();
             do {
@@ -43,7 +43,7 @@ public final class HexDump {
                     if (0 == k % 4) {
                         sb.append(String.format(" ")); //blank after 4 bytes
                     }
-                    sb.append(String.format("%02X ", yTemp[iStartIndex++]));
+                    sb.append(String.format("%02X ", buff.getByte(iStartIndex++)));
                 }
                 log.debug(sb.toString());
             } while (iStartIndex < iEndIndex);
@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepCloseMsg;
@@ -39,7 +39,7 @@ public class PcepCloseMsgTest {
         byte[] closeMsg = new byte[] {0x20, 0x07, 0x00, 0x0C, 0x0f, 0x10, 0x00, 0x08, 0x00, 0x00, 0x00, 0x02 };
 
         byte[] testCloseMsg = {0 };
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(closeMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -48,7 +48,7 @@ public class PcepCloseMsgTest {
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepCloseMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testCloseMsg = buf.array();
 
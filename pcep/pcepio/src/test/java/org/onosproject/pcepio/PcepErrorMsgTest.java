@@ -16,8 +16,8 @@
 package org.onosproject.pcepio;
 
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepErrorMsg;
@@ -53,7 +53,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x03, 0x00, (byte) 0x84, 0x00, 0x04, // TED Capability TLV
                 0x00, 0x00, 0x00, 0x00};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -62,7 +62,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
@@ -93,7 +93,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x03, 0x00, (byte) 0x84, 0x00, 0x04, // TED Capability TLV
                 0x00, 0x00, 0x00, 0x00};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -102,7 +102,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -131,7 +131,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x20, 0x00, 0x04, // PCECC-CAPABILITY-TLV
                 0x00, 0x00, 0x00, 0x03};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -140,7 +140,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -167,7 +167,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x05, 0x00, 0x0E, 0x00, 0x04, // GMPLS-CAPABILITY-TLV
                 0x00, 0x00, 0x00, 0x00};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -176,7 +176,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -202,7 +202,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x10, 0x00, 0x04, // STATEFUL-PCE-CAPABILITY
                 0x00, 0x00, 0x00, 0x05};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -211,7 +211,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -236,7 +236,7 @@ public class PcepErrorMsgTest {
                 0x20, 0x05, 0x1E, 0x01 // OPEN object
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -245,7 +245,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -269,7 +269,7 @@ public class PcepErrorMsgTest {
                 0x20, 0x05, 0x1E, 0x01 // OPEN object
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -278,7 +278,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -302,7 +302,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x03, 0x0D, 0x10, 0x00, 0x08, // PCERR Object Header
                 0x00, 0x00, 0x01, 0x03};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -311,7 +311,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -334,7 +334,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x01, 0x01, 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -343,7 +343,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -366,7 +366,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x01, 0x01, 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -375,7 +375,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -399,7 +399,7 @@ public class PcepErrorMsgTest {
                 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -408,7 +408,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -432,7 +432,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x03, 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -441,7 +441,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -465,7 +465,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x04, 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -474,7 +474,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -500,7 +500,7 @@ public class PcepErrorMsgTest {
                 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -509,7 +509,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -534,7 +534,7 @@ public class PcepErrorMsgTest {
                 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x03};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -543,7 +543,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -568,7 +568,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x04, 0x0D, 0x10, 0x00, 0x08, // PCERR Object Header
                 0x00, 0x00, 0x01, 0x03};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -577,7 +577,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -604,7 +604,7 @@ public class PcepErrorMsgTest {
                 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x03};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -613,7 +613,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -640,7 +640,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x01, 0x04, 0x0D, 0x10, 0x00, 0x08, // PCEP-ERROR Object Header
                 0x00, 0x00, 0x01, 0x06};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -649,7 +649,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -678,7 +678,7 @@ public class PcepErrorMsgTest {
                 0x00, 0x00, 0x01, 0x04, 0x0D, 0x10, 0x00, 0x08, // PCERR Object Header
                 0x00, 0x00, 0x01, 0x06};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -687,7 +687,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
         message.writeTo(buf);
         int iReadLen = buf.writerIndex();
@@ -717,7 +717,7 @@ public class PcepErrorMsgTest {
                 0x0D, 0x10, 0x00, 0x08, // PCERR Object Header
                 0x00, 0x00, 0x01, 0x06};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(errorMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -726,7 +726,7 @@ public class PcepErrorMsgTest {
         message = reader.readFrom(buffer);
 
         byte[] testErrorMsg = {0};
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         assertThat(message, instanceOf(PcepErrorMsg.class));
 
         message.writeTo(buf);
@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -62,7 +62,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -71,7 +71,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -118,7 +118,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -127,7 +127,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -172,7 +172,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -181,7 +181,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -225,7 +225,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -234,7 +234,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -276,7 +276,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -285,7 +285,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -328,7 +328,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -337,7 +337,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -381,7 +381,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -390,7 +390,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -433,7 +433,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -442,7 +442,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -484,7 +484,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -493,7 +493,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -531,7 +531,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -540,7 +540,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -581,7 +581,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -590,7 +590,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -628,7 +628,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -637,7 +637,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -678,7 +678,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -687,7 +687,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -726,7 +726,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -735,7 +735,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -773,7 +773,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -782,7 +782,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -819,7 +819,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -828,7 +828,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -863,7 +863,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -872,7 +872,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -908,7 +908,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -918,7 +918,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -955,7 +955,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -964,7 +964,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1000,7 +1000,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1009,7 +1009,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1044,7 +1044,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1053,7 +1053,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1087,7 +1087,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1096,7 +1096,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1131,7 +1131,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1140,7 +1140,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1176,7 +1176,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1185,7 +1185,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1223,7 +1223,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1232,7 +1232,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1267,7 +1267,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1276,7 +1276,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1310,7 +1310,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1319,7 +1319,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1352,7 +1352,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1361,7 +1361,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1395,7 +1395,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1404,7 +1404,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1437,7 +1437,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1446,7 +1446,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1483,7 +1483,7 @@ public class PcepInitiateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1492,7 +1492,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1528,7 +1528,7 @@ public class PcepInitiateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1537,7 +1537,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1572,7 +1572,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1581,7 +1581,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1617,7 +1617,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1626,7 +1626,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1661,7 +1661,7 @@ public class PcepInitiateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1670,7 +1670,7 @@ public class PcepInitiateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
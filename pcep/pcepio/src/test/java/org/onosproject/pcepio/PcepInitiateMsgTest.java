@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -51,7 +51,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -62,7 +62,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -91,7 +91,7 @@ public class PcepInitiateMsgTest {
                 0x00, 0x11, 0x00, 0x04, 0x54, 0x31, 0x32, 0x33}; //SymbolicPathTlv
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -102,7 +102,7 @@ public class PcepInitiateMsgTest {
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testInitiateDeletionMsg = buf.array();
 
@@ -139,7 +139,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -149,7 +149,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
         testInitiateCreationMsg = buf.array();
@@ -186,7 +186,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -196,7 +196,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testInitiateCreationMsg = buf.array();
 
@@ -231,7 +231,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -241,7 +241,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -278,7 +278,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -289,7 +289,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -325,7 +325,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -336,7 +336,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -371,7 +371,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -382,7 +382,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -415,7 +415,7 @@ public class PcepInitiateMsgTest {
                 0x07, 0x10, 0x00, 0x04};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -426,7 +426,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -459,7 +459,7 @@ public class PcepInitiateMsgTest {
         };
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -470,7 +470,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -503,7 +503,7 @@ public class PcepInitiateMsgTest {
                 0x00, 0x14, 0x00, 0x04, 0x00, 0x00, 0x00, 0x08}; //StatefulLspErrorCodeTlv
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -514,7 +514,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -546,7 +546,7 @@ public class PcepInitiateMsgTest {
         };
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -557,7 +557,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -588,7 +588,7 @@ public class PcepInitiateMsgTest {
                 0x00, 0x11, 0x00, 0x02, 0x54, 0x31, 0x00, 0x00}; //SymbolicPathNameTlv
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -599,7 +599,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -630,7 +630,7 @@ public class PcepInitiateMsgTest {
                 (byte) 0xb6, 0x02, 0x4e, 0x1f, (byte) 0xb6, 0x02, 0x4e, 0x20};
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -641,7 +641,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -671,7 +671,7 @@ public class PcepInitiateMsgTest {
                 (byte) 0xb6, 0x02, 0x4e, 0x1f, (byte) 0xb6, 0x02, 0x4e, 0x20};
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -682,7 +682,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -715,7 +715,7 @@ public class PcepInitiateMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -726,7 +726,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -760,7 +760,7 @@ public class PcepInitiateMsgTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -771,7 +771,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
         testInitiateCreationMsg = buf.array();
@@ -804,7 +804,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -815,7 +815,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -851,7 +851,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -862,7 +862,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -899,7 +899,7 @@ public class PcepInitiateMsgTest {
                 (byte) 0xb6, 0x02, 0x4e, 0x1f, (byte) 0xb6, 0x02, 0x4e, 0x20};
 
         byte[] testInitiateDeletionMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateDeletionMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -910,7 +910,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -953,7 +953,7 @@ public class PcepInitiateMsgTest {
                 0x01, 0x08, 0x0C, 0x01, 0x01, 0x02, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -964,7 +964,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1009,7 +1009,7 @@ public class PcepInitiateMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1019,7 +1019,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1065,7 +1065,7 @@ public class PcepInitiateMsgTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1076,7 +1076,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1122,7 +1122,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1133,7 +1133,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1183,7 +1183,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1194,7 +1194,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1245,7 +1245,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1256,7 +1256,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -1309,7 +1309,7 @@ public class PcepInitiateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testInitiateCreationMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(initiateCreationMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1320,7 +1320,7 @@ public class PcepInitiateMsgTest {
 
         assertThat(message, instanceOf(PcepInitiateMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Assert;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
@@ -40,7 +40,7 @@ public class PcepKeepaliveMsgTest {
         byte[] keepaliveMsg = new byte[] {0x20, 0x02, 0x00, 0x04 };
 
         byte[] testKeepaliveMsg = {0 };
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(keepaliveMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -48,7 +48,7 @@ public class PcepKeepaliveMsgTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepKeepaliveMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
 
         message.writeTo(buf);
 
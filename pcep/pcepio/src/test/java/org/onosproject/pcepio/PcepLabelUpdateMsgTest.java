@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -48,7 +48,7 @@ public class PcepLabelUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00,
                 0x00, 0x00, 0x00, 0x66};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -60,7 +60,7 @@ public class PcepLabelUpdateMsgTest {
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
 
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -91,7 +91,7 @@ public class PcepLabelUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00,
                 0x00, 0x00, 0x00, 0x77};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -101,7 +101,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -129,7 +129,7 @@ public class PcepLabelUpdateMsgTest {
                 0x24, 0x10, 0x00, 0x08, // FEC Object Header
                 0x0A, 0x0A, 0x0B, 0x0B};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -139,7 +139,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -178,7 +178,7 @@ public class PcepLabelUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00,
                 0x00, 0x00, 0x00, 0x44};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -188,7 +188,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -224,7 +224,7 @@ public class PcepLabelUpdateMsgTest {
                 0x24, 0x10, 0x00, 0x08, // FEC Object Header
                 0x0A, 0x0A, 0x0C, 0x0C};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -234,7 +234,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -273,7 +273,7 @@ public class PcepLabelUpdateMsgTest {
                 0x24, 0x10, 0x00, 0x08, // FEC Object Header
                 0x0A, 0x0A, 0x0D, 0x0D};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -283,7 +283,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -322,7 +322,7 @@ public class PcepLabelUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00,
                 0x00, 0x00, 0x00, 0x77};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -332,7 +332,7 @@ public class PcepLabelUpdateMsgTest {
 
         byte[] testLabelUpdateMsg = {0};
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -383,7 +383,7 @@ public class PcepLabelUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00,
                 0x00, 0x00, 0x00, 0x77};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(labelUpdate);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -394,7 +394,7 @@ public class PcepLabelUpdateMsgTest {
         byte[] testLabelUpdateMsg = {0};
 
         assertThat(message, instanceOf(PcepLabelUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
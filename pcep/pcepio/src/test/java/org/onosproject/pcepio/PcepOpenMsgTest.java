@@ -19,8 +19,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -46,7 +46,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -55,7 +55,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -78,7 +78,7 @@ public class PcepOpenMsgTest {
                 0x20, 0x1E, 0x78, 0x01, // OPEN object
                 0x00, 0x10, 0x00, 0x04, 0x00, 0x00, 0x00, 0x0f}; // STATEFUL-PCE-CAPABILITY
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -87,7 +87,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -111,7 +111,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x0e, 0x00, 0x04, 0x00, 0x00, 0x00, 0x00}; //GMPLS-CAPABILITY-TLV
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -120,7 +120,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -144,7 +144,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x17, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x02 }; //StatefulLspDbVerTlv
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -153,7 +153,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -175,7 +175,7 @@ public class PcepOpenMsgTest {
                 0x01, 0x10, 0x00, 0x08, 0x20, 0x1e, 0x78, (byte) 0xbd }; // no Tlvs in open messsage
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -184,7 +184,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -211,7 +211,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -220,7 +220,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -247,7 +247,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -256,7 +256,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -286,7 +286,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -295,7 +295,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -322,7 +322,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -331,7 +331,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -360,7 +360,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x00, 0x00, 0x00};
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -369,7 +369,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -398,7 +398,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x00, 0x00, 0x00 };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -407,7 +407,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -435,7 +435,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x00, 0x00, 0x03};
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -444,7 +444,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -471,7 +471,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x00, 0x00, 0x00};
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -480,7 +480,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -506,7 +506,7 @@ public class PcepOpenMsgTest {
                 0x00, 0x00, 0x00, 0x05};
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -515,7 +515,7 @@ public class PcepOpenMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
@@ -539,7 +539,7 @@ public class PcepOpenMsgTest {
         };
 
         byte[] testOpenMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(openMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -549,7 +549,7 @@ public class PcepOpenMsgTest {
 
         assertThat(message, instanceOf(PcepOpenMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testOpenMsg = buf.array();
 
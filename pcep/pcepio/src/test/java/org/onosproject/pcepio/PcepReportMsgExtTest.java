@@ -18,8 +18,8 @@ package org.onosproject.pcepio;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -58,7 +58,7 @@ public class PcepReportMsgExtTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -66,7 +66,7 @@ public class PcepReportMsgExtTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -99,7 +99,7 @@ public class PcepReportMsgExtTest {
                 0x01, 0x08, (byte) 0xb6, 0x02, 0x4e, 0x20, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -107,7 +107,7 @@ public class PcepReportMsgExtTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -144,7 +144,7 @@ public class PcepReportMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -152,7 +152,7 @@ public class PcepReportMsgExtTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -200,7 +200,7 @@ public class PcepReportMsgExtTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -209,7 +209,7 @@ public class PcepReportMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -44,7 +44,7 @@ public class PcepReportMsgTest {
                 0x07, 0x10, 0x00, 0x04}; //ERO Object
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -54,7 +54,7 @@ public class PcepReportMsgTest {
 
         assertThat(message, instanceOf(PcepReportMsg.class));
 
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -90,7 +90,7 @@ public class PcepReportMsgTest {
         };
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -99,7 +99,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -134,7 +134,7 @@ public class PcepReportMsgTest {
         };
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -143,7 +143,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -176,7 +176,7 @@ public class PcepReportMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -185,7 +185,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -216,7 +216,7 @@ public class PcepReportMsgTest {
                 0x01, 0x08, (byte) 0xb6, 0x02, 0x4e, 0x20, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -225,7 +225,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -259,7 +259,7 @@ public class PcepReportMsgTest {
         };
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -268,7 +268,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -297,7 +297,7 @@ public class PcepReportMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -306,7 +306,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -340,7 +340,7 @@ public class PcepReportMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric Object
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -349,7 +349,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -379,7 +379,7 @@ public class PcepReportMsgTest {
                 0x01, 0x08, (byte) 0xb6, 0x02, 0x4e, 0x20, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -388,7 +388,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -422,7 +422,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -431,7 +431,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -463,7 +463,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -472,7 +472,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -503,7 +503,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -512,7 +512,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -544,7 +544,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -553,7 +553,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -584,7 +584,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -593,7 +593,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -627,7 +627,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -636,7 +636,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -669,7 +669,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -678,7 +678,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -711,7 +711,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -720,7 +720,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -752,7 +752,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -761,7 +761,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -793,7 +793,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -802,7 +802,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -837,7 +837,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -846,7 +846,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -887,7 +887,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -896,7 +896,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -936,7 +936,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -945,7 +945,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -983,7 +983,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -992,7 +992,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1029,7 +1029,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1038,7 +1038,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1076,7 +1076,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1085,7 +1085,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1117,7 +1117,7 @@ public class PcepReportMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1126,7 +1126,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1156,7 +1156,7 @@ public class PcepReportMsgTest {
                 0x01, 0x08, (byte) 0xb6, 0x02, 0x4e, 0x20, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1165,7 +1165,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1199,7 +1199,7 @@ public class PcepReportMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1208,7 +1208,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1241,7 +1241,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1250,7 +1250,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1297,7 +1297,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1306,7 +1306,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1357,7 +1357,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1366,7 +1366,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1419,7 +1419,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1428,7 +1428,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1482,7 +1482,7 @@ public class PcepReportMsgTest {
                 0x01, 0x01, 0x04, 0x00, 0x01, 0x08, 0x05, 0x05, 0x05, 0x05, 0x04, 0x00};
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1491,7 +1491,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1533,7 +1533,7 @@ public class PcepReportMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric Object
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1542,7 +1542,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1580,7 +1580,7 @@ public class PcepReportMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric Object
 
         byte[] testReportMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(reportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1589,7 +1589,7 @@ public class PcepReportMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -15,8 +15,8 @@
  */
 package org.onosproject.pcepio;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
 import org.onosproject.pcepio.protocol.PcepFactories;
@@ -47,7 +47,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x64, 0x00, 0x04, //AutonomousSystem Tlv
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -58,7 +58,7 @@ public class PcepTEReportMsgTest {
         byte[] testReportMsg = {0};
 
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -85,7 +85,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x64, 0x00, 0x04, //AutonomousSystemTlv
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -95,7 +95,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -118,7 +118,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x0E, 0x00, 0x08, // Routing Universe TLV
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x01};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -128,7 +128,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -164,7 +164,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11,
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -174,7 +174,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -208,7 +208,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11,
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -218,7 +218,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -249,7 +249,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11,
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -259,7 +259,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -287,7 +287,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11,
                 0x00, 0x00, 0x00, 0x11};
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -297,7 +297,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -323,7 +323,7 @@ public class PcepTEReportMsgTest {
                 0x06, 0x65, 0x00, 0x00 // Local TE Node Descriptors TLV
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -333,7 +333,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -381,7 +381,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -391,7 +391,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -437,7 +437,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -447,7 +447,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -490,7 +490,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -500,7 +500,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -541,7 +541,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x00, 0x00, 0x11
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -551,7 +551,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -589,7 +589,7 @@ public class PcepTEReportMsgTest {
                 0x03, (byte) 0xEB, 0x00, 0x00, //RemoteTENodeDescriptorsTLV
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -599,7 +599,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -656,7 +656,7 @@ public class PcepTEReportMsgTest {
                 0x01, 0x011, 0x01, 0x10
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -666,7 +666,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -720,7 +720,7 @@ public class PcepTEReportMsgTest {
                 0x01, 0x011, 0x01, 0x10
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -730,7 +730,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -781,7 +781,7 @@ public class PcepTEReportMsgTest {
                 0x01, 0x011, 0x01, 0x10
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -791,7 +791,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -840,7 +840,7 @@ public class PcepTEReportMsgTest {
                 0x04, 0x2E, 0x00, 0x00, //TELinkDescriptorsTLV
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -850,7 +850,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -920,7 +920,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x01, 0x01, 0x02
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -930,7 +930,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1001,7 +1001,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x01, 0x01, 0x02
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1011,7 +1011,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1080,7 +1080,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x01, 0x01, 0x02
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1090,7 +1090,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1156,7 +1156,7 @@ public class PcepTEReportMsgTest {
                 0x00, 0x01, 0x01, 0x02
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1166,7 +1166,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1265,7 +1265,7 @@ public class PcepTEReportMsgTest {
                 0x04, 0x47, 0x00, 0x03
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1275,7 +1275,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1372,7 +1372,7 @@ public class PcepTEReportMsgTest {
                 0x04, 0x47, 0x00, 0x03
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1382,7 +1382,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1476,7 +1476,7 @@ public class PcepTEReportMsgTest {
                 0x04, 0x47, 0x00, 0x03
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1486,7 +1486,7 @@ public class PcepTEReportMsgTest {
 
         byte[] testReportMsg = {0};
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
@@ -1577,7 +1577,7 @@ public class PcepTEReportMsgTest {
                 0x09, (byte) 0x89, 0x07, 0x00
         };
 
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(teReportMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1588,7 +1588,7 @@ public class PcepTEReportMsgTest {
         byte[] testReportMsg = {0};
 
         assertThat(message, instanceOf(PcepTEReportMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
 
         int readLen = buf.writerIndex();
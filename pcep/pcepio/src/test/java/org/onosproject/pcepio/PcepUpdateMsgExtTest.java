@@ -18,8 +18,8 @@ package org.onosproject.pcepio;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.Matchers.instanceOf;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -61,7 +61,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -70,7 +70,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -102,7 +102,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -111,7 +111,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -140,7 +140,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -149,7 +149,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -179,7 +179,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -188,7 +188,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -219,7 +219,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -228,7 +228,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -258,7 +258,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -267,7 +267,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -298,7 +298,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -307,7 +307,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -338,7 +338,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -347,7 +347,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -377,7 +377,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -386,7 +386,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -415,7 +415,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -424,7 +424,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -454,7 +454,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00}; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -463,7 +463,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -492,7 +492,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -501,7 +501,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -531,7 +531,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -540,7 +540,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -571,7 +571,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -580,7 +580,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -608,7 +608,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -617,7 +617,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -646,7 +646,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -655,7 +655,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -685,7 +685,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -694,7 +694,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -723,7 +723,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -732,7 +732,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -762,7 +762,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -771,7 +771,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -801,7 +801,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -810,7 +810,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -837,7 +837,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -846,7 +846,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -874,7 +874,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -883,7 +883,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -912,7 +912,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -921,7 +921,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -949,7 +949,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -958,7 +958,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -987,7 +987,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -996,7 +996,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1026,7 +1026,7 @@ public class PcepUpdateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1035,7 +1035,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1061,7 +1061,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1070,7 +1070,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1097,7 +1097,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1106,7 +1106,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1136,7 +1136,7 @@ public class PcepUpdateMsgExtTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1145,7 +1145,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1174,7 +1174,7 @@ public class PcepUpdateMsgExtTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1183,7 +1183,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1212,7 +1212,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1221,7 +1221,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1252,7 +1252,7 @@ public class PcepUpdateMsgExtTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1261,7 +1261,7 @@ public class PcepUpdateMsgExtTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -18,8 +18,8 @@ package org.onosproject.pcepio;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
-import org.jboss.netty.buffer.ChannelBuffer;
-import org.jboss.netty.buffer.ChannelBuffers;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import static org.hamcrest.MatcherAssert.assertThat;
 import org.junit.Test;
 import org.onosproject.pcepio.exceptions.PcepParseException;
@@ -43,7 +43,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04 }; //ERO object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -52,7 +52,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -88,7 +88,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -96,7 +96,7 @@ public class PcepUpdateMsgTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -124,7 +124,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04 }; //ERO object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -133,7 +133,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -162,7 +162,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04 }; //ERO object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -171,7 +171,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -200,7 +200,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04 }; //ERO object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -209,7 +209,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -239,7 +239,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -248,7 +248,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -279,7 +279,7 @@ public class PcepUpdateMsgTest {
                 0x07, 0x10, 0x00, 0x04}; //ERO object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -288,7 +288,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -318,7 +318,7 @@ public class PcepUpdateMsgTest {
                 0x01, 0x01, 0x04, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -327,7 +327,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -359,7 +359,7 @@ public class PcepUpdateMsgTest {
                 0x01, 0x01, 0x04, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -368,7 +368,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -402,7 +402,7 @@ public class PcepUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -411,7 +411,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -446,7 +446,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -455,7 +455,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -489,7 +489,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -498,7 +498,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -532,7 +532,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -541,7 +541,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -574,7 +574,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -583,7 +583,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -616,7 +616,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -625,7 +625,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -657,7 +657,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -666,7 +666,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -697,7 +697,7 @@ public class PcepUpdateMsgTest {
                 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x07, 0x07, 0x00, 0x00 };
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -706,7 +706,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -736,7 +736,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -745,7 +745,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -776,7 +776,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -785,7 +785,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -821,7 +821,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -830,7 +830,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -860,7 +860,7 @@ public class PcepUpdateMsgTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -869,7 +869,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -901,7 +901,7 @@ public class PcepUpdateMsgTest {
                 0x05, 0x20, 0x00, 0x08, 0x00, 0x00, 0x00, 0x00 }; //Bandwidth object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -910,7 +910,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -943,7 +943,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -952,7 +952,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -986,7 +986,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -995,7 +995,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1029,7 +1029,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1038,7 +1038,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1074,7 +1074,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1082,7 +1082,7 @@ public class PcepUpdateMsgTest {
 
         message = reader.readFrom(buffer);
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1118,7 +1118,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1127,7 +1127,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1164,7 +1164,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1173,7 +1173,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1206,7 +1206,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1215,7 +1215,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1245,7 +1245,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20}; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1254,7 +1254,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1285,7 +1285,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1294,7 +1294,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1324,7 +1324,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1333,7 +1333,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1364,7 +1364,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1373,7 +1373,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
@@ -1405,7 +1405,7 @@ public class PcepUpdateMsgTest {
                 0x06, 0x10, 0x00, 0x0c, 0x00, 0x00, 0x01, 0x03, 0x00, 0x00, 0x00, 0x20 }; //Metric object
 
         byte[] testupdateMsg = {0};
-        ChannelBuffer buffer = ChannelBuffers.dynamicBuffer();
+        ByteBuf buffer = Unpooled.buffer();
         buffer.writeBytes(updateMsg);
 
         PcepMessageReader<PcepMessage> reader = PcepFactories.getGenericReader();
@@ -1414,7 +1414,7 @@ public class PcepUpdateMsgTest {
         message = reader.readFrom(buffer);
 
         assertThat(message, instanceOf(PcepUpdateMsg.class));
-        ChannelBuffer buf = ChannelBuffers.dynamicBuffer();
+        ByteBuf buf = Unpooled.buffer();
         message.writeTo(buf);
         testupdateMsg = buf.array();
 
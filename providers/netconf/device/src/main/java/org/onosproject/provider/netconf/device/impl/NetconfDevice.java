@@ -16,13 +16,13 @@
 package org.onosproject.provider.netconf.device.impl;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.onlab.util.Tools.delay;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.jdom2.Document;
 import org.jdom2.Element;
@@ -34,7 +34,6 @@ import org.slf4j.Logger;
 import com.tailf.jnc.Capabilities;
 import com.tailf.jnc.JNCException;
 import com.tailf.jnc.SSHConnection;
-import com.tailf.jnc.SSHSession;
 
 /**
  * This is a logical representation of actual NETCONF device, carrying all the
@@ -58,10 +57,9 @@ public class NetconfDevice {
     }
 
     private static final int DEFAULT_SSH_PORT = 22;
-    private static final int DEFAULT_CON_TIMEOUT = 0;
+    private static final int DEFAULT_CON_TIMEOUT = 5000;
+    private static final int DEFAULT_RPC_TIMEOUT = 10000;
     private static final String XML_CAPABILITY_KEY = "capability";
-    private static final int EVENTINTERVAL = 2000;
-    private static final int CONNECTION_CHECK_INTERVAL = 3;
     private static final String INPUT_HELLO_XML_MSG = new StringBuilder(
                                                                         "<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
             .append("<hello xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">")
@@ -71,12 +69,13 @@ public class NetconfDevice {
     private String sshHost;
     private int sshPort = DEFAULT_SSH_PORT;
     private int connectTimeout = DEFAULT_CON_TIMEOUT;
+    private int rpcTimeout = DEFAULT_RPC_TIMEOUT;
     private String username;
     private String password;
-    private boolean reachable = false;
+    private volatile boolean reachable = false;
 
     private List<String> capabilities = new ArrayList<String>();
-    private SSHConnection sshConnection = null;
+    private volatile NetconfSession session = null;
 
     private DeviceState deviceState = DeviceState.INVALID;
 
@@ -92,81 +91,56 @@ public class NetconfDevice {
 
     /**
      * This will try to connect to NETCONF device and find all the capabilities.
+     * The session is kept open and reused until the device is disconnected.
      *
      * @throws Exception if unable to connect to the device
      */
     // FIXME: this should not be a generic Exception; perhaps wrap in some RuntimeException
     public void init() throws Exception {
+        if (session != null && session.isOpen()) {
+            return;
+        }
+        SSHConnection sshConnection = null;
         try {
-            if (sshConnection == null) {
-                sshConnection = new SSHConnection(sshHost, sshPort, connectTimeout);
-                sshConnection.authenticateWithPassword(username, password);
-            }
-            // Send hello message to retrieve capabilities.
+            sshConnection = new SSHConnection(sshHost, sshPort, connectTimeout, connectTimeout);
+            sshConnection.authenticateWithPassword(username, password);
+            session = new NetconfSession(sshConnection, rpcTimeout);
         } catch (IOException e) {
             log.error("Fatal Error while creating connection to the device: "
                     + deviceInfo(), e);
+            closeQuietly(sshConnection);
             throw e;
         } catch (JNCException e) {
             log.error("Failed to connect to the device: " + deviceInfo(), e);
+            closeQuietly(sshConnection);
             throw e;
         }
 
         hello();
     }
 
-    private void hello() {
-        SSHSession ssh = null;
+    private void hello() throws IOException, JNCException {
+        String helloRequestXML = INPUT_HELLO_XML_MSG.trim();
+        log.debug("Sending Hello: {}", sshHost);
+        printPrettyXML(helloRequestXML);
         try {
-            ssh = new SSHSession(sshConnection);
-            String helloRequestXML = INPUT_HELLO_XML_MSG.trim();
-
-            log.debug("++++++++++++++++++++++++++++++++++Sending Hello: "
-                    + sshConnection.getGanymedConnection().getHostname()
-                    + "++++++++++++++++++++++++++++++++++");
-            printPrettyXML(helloRequestXML);
-            ssh.print(helloRequestXML);
-            // ssh.print(endCharSeq);
-            ssh.flush();
-            String xmlResponse = null;
-            int i = CONNECTION_CHECK_INTERVAL;
-            while (!ssh.ready() && i > 0) {
-                delay(EVENTINTERVAL);
-                i--;
-            }
-
-            if (ssh.ready()) {
-                StringBuffer readOne = ssh.readOne();
-                if (readOne == null) {
-                    log.error("The Hello Contains No Capabilites");
-                    throw new JNCException(
-                                           JNCException.SESSION_ERROR,
-                                           "server does not support NETCONF base capability: "
-                                                   + Capabilities.NETCONF_BASE_CAPABILITY);
-                } else {
-                    xmlResponse = readOne.toString().trim();
-
-                    log.debug("++++++++++++++++++++++++++++++++++Reading Capabilities: "
-                            + sshConnection.getGanymedConnection()
-                                    .getHostname()
-                            + "++++++++++++++++++++++++++++++++++");
-
-                    printPrettyXML(xmlResponse);
-                    processCapabilities(xmlResponse);
-                }
-            }
-            reachable = true;
-        } catch (IOException e) {
+            String xmlResponse = session.hello(helloRequestXML);
+            log.debug("Reading Capabilities: {}", sshHost);
+            printPrettyXML(xmlResponse);
+            capabilities.clear();
+            processCapabilities(xmlResponse);
+        } catch (IOException | JNCException e) {
             log.error("Fatal Error while sending Hello Message to the device: "
                     + deviceInfo(), e);
-        } catch (JNCException e) {
-            log.error("Fatal Error while sending Hello Message to the device: "
-                    + deviceInfo(), e);
-        } finally {
-            log.debug("Closing the session after successful execution");
-            if (ssh != null) {
-                ssh.close();
-            }
+            session.close();
+            throw e;
+        }
+        reachable = true;
+    }
+
+    private void closeQuietly(SSHConnection sshConnection) {
+        if (sshConnection != null) {
+            sshConnection.close();
         }
     }
 
@@ -230,8 +204,28 @@ public class NetconfDevice {
      * This will terminate the device connection.
      */
     public void disconnect() {
-        sshConnection.close();
         reachable = false;
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * Sends an RPC to the device over its session. RPCs are pipelined: the
+     * call does not wait for the replies of earlier RPCs.
+     *
+     * @param operation XML of the operation, the content of the rpc element
+     * @return future completed with the rpc-reply of the device
+     */
+    public CompletableFuture<String> rpc(String operation) {
+        NetconfSession current = session;
+        if (current == null) {
+            CompletableFuture<String> reply = new CompletableFuture<>();
+            reply.completeExceptionally(new IllegalStateException(
+                    "Device is not connected: " + deviceInfo()));
+            return reply;
+        }
+        return current.rpc(operation);
     }
 
     /**
@@ -247,7 +241,7 @@ public class NetconfDevice {
      * @return true if connected
      */
     public boolean isReachable() {
-        return reachable;
+        return reachable && session != null && session.isOpen();
     }
 
     /**
@@ -301,4 +295,12 @@ public class NetconfDevice {
     public void setConnectTimeout(int connectTimeout) {
         this.connectTimeout = connectTimeout;
     }
+
+    /**
+     * Sets the time to wait for the reply of an RPC, hello included.
+     * @param rpcTimeout timeout in milliseconds
+     */
+    public void setRpcTimeout(int rpcTimeout) {
+        this.rpcTimeout = rpcTimeout;
+    }
 }
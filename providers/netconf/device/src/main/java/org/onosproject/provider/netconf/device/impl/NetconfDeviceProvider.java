@@ -18,7 +18,6 @@ package org.onosproject.provider.netconf.device.impl;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.onlab.util.Tools.delay;
 import static org.onlab.util.Tools.get;
-import static org.onlab.util.Tools.groupedThreads;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.IOException;
@@ -29,9 +28,6 @@ import java.util.Dictionary;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.felix.scr.annotations.Activate;
 import org.apache.felix.scr.annotations.Component;
@@ -84,8 +80,12 @@ public class NetconfDeviceProvider extends AbstractProvider
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
     protected ComponentConfigService cfgService;
 
-    private ExecutorService deviceBuilder = Executors
-            .newFixedThreadPool(1, groupedThreads("onos/netconf", "device-creator"));
+    // Number of devices connected or disconnected at the same time
+    private static final int DEVICE_BUILDER_THREADS = 16;
+    // Time given to pending device tasks on deactivation, in ms
+    private static final int SHUTDOWN_TIMEOUT = 1000;
+
+    private NetconfSessionManager deviceBuilder = new NetconfSessionManager(DEVICE_BUILDER_THREADS);
 
     // Delay between events in ms.
     private static final int EVENTINTERVAL = 5;
@@ -116,17 +116,12 @@ public class NetconfDeviceProvider extends AbstractProvider
     @Deactivate
     public void deactivate(ComponentContext context) {
         cfgService.unregisterProperties(getClass(), false);
-        try {
-            for (Entry<DeviceId, NetconfDevice> deviceEntry : netconfDeviceMap
-                    .entrySet()) {
-                deviceBuilder.submit(new DeviceCreator(deviceEntry.getValue(),
-                                                       false));
-            }
-            deviceBuilder.awaitTermination(1000, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            log.error("Device builder did not terminate");
+        for (Entry<DeviceId, NetconfDevice> deviceEntry : netconfDeviceMap
+                .entrySet()) {
+            NetconfDevice device = deviceEntry.getValue();
+            deviceBuilder.submit(device, new DeviceCreator(device, false));
         }
-        deviceBuilder.shutdownNow();
+        deviceBuilder.shutdown(SHUTDOWN_TIMEOUT);
         netconfDeviceMap.clear();
         providerRegistry.unregister(this);
         providerService = null;
@@ -155,9 +150,9 @@ public class NetconfDeviceProvider extends AbstractProvider
                         device.getUsername(), device.getSshHost(),
                          device.getSshPort(), device.getDeviceState().name());
                 if (device.isActive()) {
-                    deviceBuilder.submit(new DeviceCreator(device, true));
+                    deviceBuilder.submit(device, new DeviceCreator(device, true));
                 } else {
-                    deviceBuilder.submit(new DeviceCreator(device, false));
+                    deviceBuilder.submit(device, new DeviceCreator(device, false));
                 }
             }
         }
@@ -283,15 +278,15 @@ public class NetconfDeviceProvider extends AbstractProvider
             }
             try {
                 DeviceId did = getDeviceId();
-                if (!netconfDeviceMap.containsKey(did)) {
+                NetconfDevice connected = netconfDeviceMap.remove(did);
+                if (connected == null) {
                     log.error("BAD Request: 'Currently device is not discovered, "
                             + "so cannot remove/disconnect the device: "
                             + device.deviceInfo() + "'");
                     return;
                 }
                 providerService.deviceDisconnected(did);
-                device.disconnect();
-                netconfDeviceMap.remove(did);
+                connected.disconnect();
                 delay(EVENTINTERVAL);
             } catch (URISyntaxException uriSyntaxExcpetion) {
                 log.error("Syntax Error while creating URI for the device: "
@@ -311,8 +306,18 @@ public class NetconfDeviceProvider extends AbstractProvider
                     log.warn("The Request Netconf Device is null, cannot proceed further");
                     return;
                 }
-                device.init();
                 DeviceId did = getDeviceId();
+                NetconfDevice connected = netconfDeviceMap.get(did);
+                if (connected != null && connected.isReachable()) {
+                    log.info("Device already connected, reusing its session: "
+                            + device.deviceInfo());
+                    return;
+                }
+                if (connected != null) {
+                    // Session lost; replaced by the one of this device
+                    connected.disconnect();
+                }
+                device.init();
                 ChassisId cid = new ChassisId();
                 DeviceDescription desc = new DefaultDeviceDescription(
                                                                       did.uri(),
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.netconf.device.impl;
+
+import static org.onlab.util.Tools.groupedThreads;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.onlab.util.SharedExecutors;
+import org.slf4j.Logger;
+
+import com.tailf.jnc.JNCException;
+import com.tailf.jnc.SSHConnection;
+import com.tailf.jnc.SSHSession;
+
+/**
+ * A NETCONF session to a device, kept open for the lifetime of the device
+ * connection.
+ * <p>
+ * RPCs are pipelined: each one is written as soon as it is issued, tagged
+ * with a message-id, and its reply is matched back to it by that id when
+ * the reader thread of the session receives it. An RPC without a reply
+ * within the RPC timeout fails with a {@link TimeoutException}.
+ * </p>
+ */
+public class NetconfSession {
+    private final Logger log = getLogger(NetconfSession.class);
+
+    private static final ThreadFactory READER_THREADS =
+            groupedThreads("onos/netconf", "session-reader-%d");
+
+    private static final String RPC_OPEN = "<rpc message-id=\"%d\" "
+            + "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">";
+    private static final String RPC_CLOSE = "</rpc>";
+    private static final String HELLO = "<hello";
+    private static final Pattern MESSAGE_ID =
+            Pattern.compile("<rpc-reply[^>]*message-id=\"(\\d+)\"");
+
+    private final SSHConnection connection;
+    private final SSHSession session;
+    private final long rpcTimeout;
+
+    private final AtomicInteger messageId = new AtomicInteger();
+    private final Map<Integer, CompletableFuture<String>> replies = new ConcurrentHashMap<>();
+    private final CompletableFuture<String> hello = new CompletableFuture<>();
+    private volatile boolean open = true;
+
+    /**
+     * Opens a NETCONF session over an authenticated SSH connection, and
+     * starts reading from it.
+     *
+     * @param connection authenticated SSH connection, closed with the session
+     * @param rpcTimeout time to wait for the reply of an RPC, in milliseconds
+     * @throws IOException if the netconf subsystem cannot be started
+     * @throws JNCException if the session cannot be opened
+     */
+    public NetconfSession(SSHConnection connection, long rpcTimeout)
+            throws IOException, JNCException {
+        this.connection = connection;
+        this.session = new SSHSession(connection);
+        this.rpcTimeout = rpcTimeout;
+        READER_THREADS.newThread(this::read).start();
+    }
+
+    /**
+     * Exchanges hello messages with the device.
+     *
+     * @param helloXml hello message of the client
+     * @return hello message of the device
+     * @throws IOException if the device does not answer within the RPC
+     *                     timeout or the session is closed
+     */
+    public String hello(String helloXml) throws IOException {
+        send(helloXml);
+        try {
+            return hello.get(rpcTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("No hello from the device within " + rpcTimeout + " ms");
+        } catch (ExecutionException e) {
+            throw new IOException("Session closed before the device hello", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the device hello", e);
+        }
+    }
+
+    /**
+     * Sends an RPC without waiting for the replies of the RPCs before it.
+     *
+     * @param operation XML of the operation, the content of the rpc element
+     * @return future completed with the rpc-reply of the device
+     */
+    public CompletableFuture<String> rpc(String operation) {
+        CompletableFuture<String> reply = new CompletableFuture<>();
+        if (!open) {
+            reply.completeExceptionally(new IOException("Session closed"));
+            return reply;
+        }
+        int id = messageId.incrementAndGet();
+        replies.put(id, reply);
+
+        TimerTask timeout = new TimerTask() {
+            @Override
+            public void run() {
+                CompletableFuture<String> expired = replies.remove(id);
+                if (expired != null) {
+                    expired.completeExceptionally(new TimeoutException(
+                            "No reply to message " + id + " within " + rpcTimeout + " ms"));
+                }
+            }
+        };
+        SharedExecutors.getTimer().schedule(timeout, rpcTimeout);
+        reply.whenComplete((r, e) -> timeout.cancel());
+
+        send(String.format(RPC_OPEN, id) + operation + RPC_CLOSE);
+        if (!open) {
+            // Closed while sending; the reader may have drained the replies already
+            fail(id, new IOException("Session closed"));
+        }
+        return reply;
+    }
+
+    /**
+     * Returns the number of RPCs waiting for their reply.
+     *
+     * @return number of outstanding RPCs
+     */
+    public int outstandingRpcs() {
+        return replies.size();
+    }
+
+    /**
+     * Returns whether the session is open.
+     *
+     * @return true if the session is open
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes the session and its SSH connection, failing the RPCs still
+     * waiting for a reply.
+     */
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        session.close();
+        connection.close();
+        failAll(new IOException("Session closed"));
+    }
+
+    private void send(String xml) {
+        // A message is written and framed as a whole
+        synchronized (session) {
+            session.print(xml);
+            session.flush();
+        }
+    }
+
+    private void read() {
+        try {
+            while (open) {
+                StringBuffer message = session.readOne();
+                if (message == null) {
+                    break;
+                }
+                dispatch(message.toString().trim());
+            }
+        } catch (IOException | JNCException e) {
+            if (open) {
+                log.warn("NETCONF session to {} lost: {}",
+                         connection.getGanymedConnection().getHostname(), e.getMessage());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void dispatch(String message) {
+        if (!hello.isDone() && message.contains(HELLO)) {
+            hello.complete(message);
+            return;
+        }
+        Matcher matcher = MESSAGE_ID.matcher(message);
+        if (!matcher.find()) {
+            log.debug("Dropping NETCONF message without a message-id: {}", message);
+            return;
+        }
+        CompletableFuture<String> reply = replies.remove(Integer.valueOf(matcher.group(1)));
+        if (reply == null) {
+            log.debug("Dropping late reply to message {}", matcher.group(1));
+            return;
+        }
+        reply.complete(message);
+    }
+
+    private void fail(int id, Throwable cause) {
+        CompletableFuture<String> reply = replies.remove(id);
+        if (reply != null) {
+            reply.completeExceptionally(cause);
+        }
+    }
+
+    private void failAll(Throwable cause) {
+        hello.completeExceptionally(cause);
+        replies.keySet().forEach(id -> fail(id, cause));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.netconf.device.impl;
+
+import static org.onlab.util.Tools.groupedThreads;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+
+/**
+ * Sets up and tears down the sessions of NETCONF devices on a pool of
+ * threads, so that a slow or unreachable device holds up only its own
+ * tasks. Tasks of the same device run one at a time, in the order they were
+ * submitted; tasks of different devices run in parallel.
+ */
+public class NetconfSessionManager {
+    private final Logger log = getLogger(NetconfSessionManager.class);
+
+    private final ExecutorService executor;
+
+    // Last task submitted for each device, keyed by host and port
+    private final Map<String, CompletableFuture<Void>> lastTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a session manager.
+     *
+     * @param threads number of devices set up or torn down at the same time
+     */
+    public NetconfSessionManager(int threads) {
+        executor = Executors.newFixedThreadPool(threads,
+                                                groupedThreads("onos/netconf", "device-creator-%d"));
+    }
+
+    /**
+     * Runs a task for a device once the tasks submitted before it for the
+     * same device are done.
+     *
+     * @param device NETCONF device
+     * @param task   task to run
+     * @return future completed when the task is done
+     */
+    public CompletableFuture<Void> submit(NetconfDevice device, Runnable task) {
+        String key = device.deviceInfo();
+        CompletableFuture<Void> next = lastTasks.compute(key, (k, last) -> last == null
+                ? CompletableFuture.runAsync(task, executor)
+                : last.handle((r, e) -> null).thenRunAsync(task, executor));
+        next.whenComplete((r, e) -> {
+            lastTasks.remove(key, next);
+            if (e != null) {
+                log.error("NETCONF task failed for device {}", key, e);
+            }
+        });
+        return next;
+    }
+
+    /**
+     * Waits for the submitted tasks to finish and stops the manager.
+     *
+     * @param timeoutMillis time to wait for the tasks, in milliseconds
+     */
+    public void shutdown(long timeoutMillis) {
+        CompletableFuture<?>[] pending = lastTasks.values().toArray(new CompletableFuture<?>[0]);
+        try {
+            CompletableFuture.allOf(pending).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("NETCONF device tasks did not finish within {} ms", timeoutMillis);
+        } catch (ExecutionException e) {
+            log.debug("NETCONF device task failed during shutdown", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        lastTasks.clear();
+    }
+}
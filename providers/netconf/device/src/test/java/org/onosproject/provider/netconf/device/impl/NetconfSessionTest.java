@@ -0,0 +1,409 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.netconf.device.impl;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.sshd.SshServer;
+import org.apache.sshd.common.NamedFactory;
+import org.apache.sshd.server.Command;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+
+import com.tailf.jnc.SSHConnection;
+
+/**
+ * Tests of the NETCONF session and session manager against a local
+ * SSH/NETCONF stand-in server.
+ */
+public class NetconfSessionTest {
+
+    private static final String USERNAME = "netconf";
+    private static final String PASSWORD = "netconf";
+    private static final String LOCALHOST = "127.0.0.1";
+    private static final int TIMEOUT = 10000;
+
+    private static final String END = "]]>]]>";
+    private static final String SERVER_HELLO =
+            "<hello xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><capabilities>"
+            + "<capability>urn:ietf:params:netconf:base:1.0</capability>"
+            + "<capability>urn:ietf:params:netconf:capability:candidate:1.0</capability>"
+            + "</capabilities><session-id>1</session-id></hello>";
+    private static final Pattern MESSAGE_ID = Pattern.compile("message-id=\"(\\d+)\"");
+    private static final Pattern DELAY = Pattern.compile("<delay>(\\d+)</delay>");
+
+    private static StandInServer server;
+    private final List<NetconfSession> sessions = new ArrayList<>();
+
+    @BeforeClass
+    public static void setUpServer() throws IOException {
+        server = new StandInServer();
+    }
+
+    @AfterClass
+    public static void tearDownServer() throws IOException {
+        server.close();
+    }
+
+    @After
+    public void tearDown() {
+        sessions.forEach(NetconfSession::close);
+    }
+
+    private NetconfSession open(int rpcTimeout) throws Exception {
+        SSHConnection connection = new SSHConnection(LOCALHOST, server.port(), TIMEOUT, TIMEOUT);
+        connection.authenticateWithPassword(USERNAME, PASSWORD);
+        NetconfSession session = new NetconfSession(connection, rpcTimeout);
+        sessions.add(session);
+        session.hello("<hello xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"/>");
+        return session;
+    }
+
+    private static String operation(int token, int delay) {
+        return "<get><token>" + token + "</token><delay>" + delay + "</delay></get>";
+    }
+
+    /**
+     * Tests that pipelined RPCs get their own reply when the replies arrive
+     * out of order.
+     */
+    @Test
+    public void testPipelinedRpcs() throws Exception {
+        NetconfSession session = open(TIMEOUT);
+        int count = 20;
+        List<CompletableFuture<String>> replies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Later RPCs are answered first
+            replies.add(session.rpc(operation(i, (count - i) * 10)));
+        }
+        for (int i = 0; i < count; i++) {
+            String reply = replies.get(i).get(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertThat(reply, containsString("<token>" + i + "</token>"));
+        }
+        assertEquals(0, session.outstandingRpcs());
+        assertTrue(server.maxOutstanding() > 1);
+    }
+
+    /**
+     * Tests that an RPC without a reply times out without affecting the
+     * session.
+     */
+    @Test
+    public void testRpcTimeout() throws Exception {
+        NetconfSession session = open(500);
+        CompletableFuture<String> silent = session.rpc("<silent/>");
+        try {
+            silent.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            fail("RPC without a reply should time out");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        }
+        assertTrue(session.isOpen());
+        assertThat(session.rpc(operation(1, 0)).get(TIMEOUT, TimeUnit.MILLISECONDS),
+                   containsString("<token>1</token>"));
+    }
+
+    /**
+     * Tests that closing a session fails its outstanding RPCs.
+     */
+    @Test
+    public void testCloseFailsOutstandingRpcs() throws Exception {
+        NetconfSession session = open(TIMEOUT);
+        CompletableFuture<String> silent = session.rpc("<silent/>");
+        session.close();
+        try {
+            silent.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            fail("RPC of a closed session should fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+        assertFalse(session.isOpen());
+        assertTrue(session.rpc(operation(1, 0)).isCompletedExceptionally());
+    }
+
+    /**
+     * Tests that devices are connected in parallel, that a device which does
+     * not answer holds up only itself, and that a connected device reuses
+     * its session.
+     */
+    @Test
+    public void testParallelDeviceSetup() throws Exception {
+        NetconfSessionManager manager = new NetconfSessionManager(4);
+        try (ServerSocket blackhole = new ServerSocket(0, 50, InetAddress.getByName(LOCALHOST))) {
+            NetconfDevice silentDevice = new NetconfDevice(LOCALHOST, blackhole.getLocalPort(),
+                                                           USERNAME, PASSWORD);
+            silentDevice.setConnectTimeout(3 * TIMEOUT);
+            CompletableFuture<Void> silentSetup = manager.submit(silentDevice, () -> {
+                try {
+                    silentDevice.init();
+                } catch (Exception e) {
+                    // No SSH server behind the socket
+                    assertFalse(silentDevice.isReachable());
+                }
+            });
+
+            List<NetconfDevice> devices = new ArrayList<>();
+            List<CompletableFuture<Void>> setups = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                NetconfDevice device = new NetconfDevice(LOCALHOST, server.port(), USERNAME + i, PASSWORD);
+                devices.add(device);
+                setups.add(manager.submit(device, () -> {
+                    try {
+                        device.init();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            CompletableFuture.allOf(setups.toArray(new CompletableFuture<?>[0]))
+                    .get(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertFalse(silentSetup.isDone());
+
+            for (NetconfDevice device : devices) {
+                assertTrue(device.isReachable());
+                assertThat(device.getCapabilities().toString(), containsString("candidate"));
+            }
+            int sessions = server.sessions();
+            devices.get(0).init();
+            assertEquals(sessions, server.sessions());
+            assertThat(devices.get(0).rpc(operation(7, 0)).get(TIMEOUT, TimeUnit.MILLISECONDS),
+                       containsString("<token>7</token>"));
+
+            // Resets the connection of the silent device
+            blackhole.close();
+            silentSetup.get(TIMEOUT, TimeUnit.MILLISECONDS);
+            assertFalse(silentDevice.isReachable());
+            devices.forEach(NetconfDevice::disconnect);
+        } finally {
+            manager.shutdown(TIMEOUT);
+        }
+    }
+
+    /**
+     * Tests that the tasks of a device run in the order they were submitted.
+     */
+    @Test
+    public void testTasksOfDeviceRunInOrder() throws Exception {
+        NetconfSessionManager manager = new NetconfSessionManager(4);
+        NetconfDevice device = new NetconfDevice(LOCALHOST, server.port(), USERNAME, PASSWORD);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < 20; i++) {
+            int task = i;
+            last = manager.submit(device, () -> {
+                if (task % 2 == 0) {
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                order.add(task);
+            });
+        }
+        last.get(TIMEOUT, TimeUnit.MILLISECONDS);
+        manager.shutdown(TIMEOUT);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+    }
+
+    /**
+     * SSH server running the NETCONF subsystem: it answers the hello, and
+     * replies to each RPC after the delay given in the RPC, echoing it back.
+     * RPCs with a silent element get no reply.
+     */
+    private static final class StandInServer {
+        private final SshServer sshd = SshServer.setUpDefaultServer();
+        private final AtomicInteger sessions = new AtomicInteger();
+        private int outstanding;
+        private int maxOutstanding;
+
+        private StandInServer() throws IOException {
+            sshd.setHost(LOCALHOST);
+            sshd.setPort(0);
+            sshd.setKeyPairProvider(new SimpleGeneratorHostKeyProvider(null, "RSA"));
+            sshd.setPasswordAuthenticator((username, password, session) -> PASSWORD.equals(password));
+            sshd.setSubsystemFactories(Collections.singletonList(new NamedFactory<Command>() {
+                @Override
+                public String getName() {
+                    return "netconf";
+                }
+
+                @Override
+                public Command create() {
+                    return new NetconfSubsystem();
+                }
+            }));
+            sshd.start();
+        }
+
+        private int port() {
+            return sshd.getPort();
+        }
+
+        private int sessions() {
+            return sessions.get();
+        }
+
+        private synchronized int maxOutstanding() {
+            return maxOutstanding;
+        }
+
+        private void close() throws IOException {
+            try {
+                sshd.stop(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private synchronized void rpcReceived() {
+            outstanding++;
+            maxOutstanding = Math.max(maxOutstanding, outstanding);
+        }
+
+        private synchronized void rpcAnswered() {
+            outstanding--;
+        }
+
+        private final class NetconfSubsystem implements Command {
+            private InputStream in;
+            private OutputStream out;
+            private ExitCallback exit;
+
+            @Override
+            public void setInputStream(InputStream in) {
+                this.in = in;
+            }
+
+            @Override
+            public void setOutputStream(OutputStream out) {
+                this.out = out;
+            }
+
+            @Override
+            public void setErrorStream(OutputStream err) {
+            }
+
+            @Override
+            public void setExitCallback(ExitCallback exit) {
+                this.exit = exit;
+            }
+
+            @Override
+            public void start(Environment env) {
+                sessions.incrementAndGet();
+                Thread reader = new Thread(this::serve, "netconf-stand-in");
+                reader.setDaemon(true);
+                reader.start();
+            }
+
+            @Override
+            public void destroy() {
+            }
+
+            private void serve() {
+                try {
+                    StringBuilder buffer = new StringBuilder();
+                    byte[] bytes = new byte[4096];
+                    int read;
+                    while ((read = in.read(bytes)) >= 0) {
+                        buffer.append(new String(bytes, 0, read, StandardCharsets.UTF_8));
+                        int end;
+                        while ((end = buffer.indexOf(END)) >= 0) {
+                            String message = buffer.substring(0, end);
+                            buffer.delete(0, end + END.length());
+                            handle(message);
+                        }
+                    }
+                } catch (IOException e) {
+                    // Session closed by the client
+                    exit.onExit(1);
+                    return;
+                }
+                exit.onExit(0);
+            }
+
+            private void handle(String message) {
+                if (message.contains("<hello")) {
+                    write(SERVER_HELLO);
+                    return;
+                }
+                Matcher id = MESSAGE_ID.matcher(message);
+                if (!id.find() || message.contains("<silent/>")) {
+                    return;
+                }
+                Matcher delay = DELAY.matcher(message);
+                long millis = delay.find() ? Long.parseLong(delay.group(1)) : 0;
+                String reply = "<rpc-reply message-id=\"" + id.group(1)
+                        + "\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><data>"
+                        + message + "</data></rpc-reply>";
+                rpcReceived();
+                Thread responder = new Thread(() -> {
+                    try {
+                        Thread.sleep(millis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    rpcAnswered();
+                    write(reply);
+                });
+                responder.setDaemon(true);
+                responder.start();
+            }
+
+            private synchronized void write(String message) {
+                try {
+                    out.write((message + END).getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                } catch (IOException e) {
+                    // Session closed by the client
+                    exit.onExit(1);
+                }
+            }
+        }
+    }
+}
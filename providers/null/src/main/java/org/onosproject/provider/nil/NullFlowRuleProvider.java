@@ -51,6 +51,7 @@ class NullFlowRuleProvider extends NullProviders.AbstractNullProvider
     private ConcurrentMap<DeviceId, Set<FlowEntry>> flowTable = new ConcurrentHashMap<>();
 
     private FlowRuleProviderService providerService;
+    private PacketLoadStatistics statistics;
 
     private HashedWheelTimer timer = Timer.getTimer();
     private Timeout timeout;
@@ -59,9 +60,12 @@ class NullFlowRuleProvider extends NullProviders.AbstractNullProvider
      * Starts the flow rule provider simulation.
      *
      * @param providerService flow rule provider service
+     * @param statistics      statistics to count installed flow rules in
      */
-    void start(FlowRuleProviderService providerService) {
+    void start(FlowRuleProviderService providerService,
+               PacketLoadStatistics statistics) {
         this.providerService = providerService;
+        this.statistics = statistics;
         timeout = timer.newTimeout(new StatisticTask(), 5, TimeUnit.SECONDS);
     }
 
@@ -93,10 +97,12 @@ class NullFlowRuleProvider extends NullProviders.AbstractNullProvider
         Set<FlowEntry> entries =
                 flowTable.getOrDefault(batch.deviceId(),
                                        Sets.newConcurrentHashSet());
+        int installed = 0;
         for (FlowRuleBatchEntry fbe : batch.getOperations()) {
             switch (fbe.operator()) {
                 case ADD:
                     entries.add(new DefaultFlowEntry(fbe.target()));
+                    installed++;
                     break;
                 case REMOVE:
                     entries.remove(new DefaultFlowEntry(fbe.target()));
@@ -111,6 +117,7 @@ class NullFlowRuleProvider extends NullProviders.AbstractNullProvider
             }
         }
         flowTable.put(batch.deviceId(), entries);
+        statistics.flowsInstalled(installed);
         CompletedBatchOperation op =
                 new CompletedBatchOperation(true, Collections.emptySet(),
                                             batch.deviceId());
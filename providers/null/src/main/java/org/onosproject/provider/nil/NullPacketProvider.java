@@ -15,14 +15,7 @@
  */
 package org.onosproject.provider.nil;
 
-import org.jboss.netty.util.HashedWheelTimer;
-import org.jboss.netty.util.Timeout;
-import org.jboss.netty.util.TimerTask;
-import org.onlab.packet.Ethernet;
-import org.onlab.packet.ICMP;
-import org.onlab.util.Timer;
 import org.onosproject.net.ConnectPoint;
-import org.onosproject.net.Device;
 import org.onosproject.net.PortNumber;
 import org.onosproject.net.device.DeviceAdminService;
 import org.onosproject.net.host.HostService;
@@ -36,61 +29,84 @@ import org.slf4j.Logger;
 
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.ImmutableList.copyOf;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.onlab.util.Tools.groupedThreads;
 import static org.onosproject.net.MastershipRole.MASTER;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Provider which generates simulated packets and acts as a sink for outbound
  * packets. To be used for benchmarking only.
+ * <p>
+ * Packets are generated by a number of threads, each pacing itself to its
+ * share of the packet rate, and follow a configurable mix of packet kinds.
+ * Each generated frame carries its send time in a trailer after the frame,
+ * so that packet-outs built from it can be timed as well.
+ * </p>
  */
 class NullPacketProvider extends NullProviders.AbstractNullProvider
         implements PacketProvider {
 
-    private static final int INITIAL_DELAY = 5;
+    private static final int INITIAL_DELAY = 5_000; // ms
     private final Logger log = getLogger(getClass());
 
-    // Arbitrary host src/dst
+    // Arbitrary host src port
     private static final int SRC_HOST = 2;
-    private static final int DST_HOST = 5;
 
-    // Time between event firing, in milliseconds
-    private int delay;
+    // Trailer appended to generated frames: magic number and send time
+    private static final long STAMP_MAGIC = 0x4e554c4c53544d50L;
+    private static final int STAMP_LENGTH = 2 * Long.BYTES;
+
+    // Most packets sent in a row before the generator checks its pace
+    private static final int MAX_BURST = 256;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final PacketLoadStatistics statistics = new PacketLoadStatistics();
 
     // TODO: use host service to pick legitimate hosts connected to devices
     private HostService hostService;
     private PacketProviderService providerService;
 
-    private List<Device> devices;
-    private int currentDevice = 0;
+    private List<ConnectPoint> ingressPoints;
 
-    private HashedWheelTimer timer = Timer.getTimer();
-    private Timeout timeout;
+    private volatile int packetRate;
+    private PacketMix packetMix;
+    private int threads;
+    private ExecutorService generators;
 
     /**
      * Starts the packet generation process.
      *
      * @param packetRate      packets per second
+     * @param packetMix       mix of packet kinds to generate
+     * @param threads         number of generator threads
      * @param hostService     host service
      * @param deviceService   device service
      * @param providerService packet provider service
      */
-    void start(int packetRate, HostService hostService,
-               DeviceAdminService deviceService,
-               PacketProviderService providerService) {
+    synchronized void start(int packetRate, PacketMix packetMix, int threads,
+                            HostService hostService,
+                            DeviceAdminService deviceService,
+                            PacketProviderService providerService) {
         this.hostService = hostService;
         this.providerService = providerService;
 
-        this.devices = copyOf(deviceService.getDevices()).stream()
+        this.ingressPoints = copyOf(deviceService.getDevices()).stream()
                 .filter(d -> deviceService.getRole(d.id()) == MASTER)
+                .map(d -> new ConnectPoint(d.id(), PortNumber.portNumber(SRC_HOST)))
                 .collect(Collectors.toList());
 
-        adjustRate(packetRate);
-        timeout = timer.newTimeout(new PacketDriverTask(), INITIAL_DELAY, SECONDS);
+        this.packetRate = packetRate;
+        this.packetMix = packetMix;
+        this.threads = threads;
+        statistics.reset();
+        startGenerators(INITIAL_DELAY);
     }
 
     /**
@@ -99,70 +115,179 @@ class NullPacketProvider extends NullProviders.AbstractNullProvider
      * @param packetRate new packet rate
      */
     void adjustRate(int packetRate) {
-        delay = 1000 / packetRate;
-        log.info("Settings: packetRate={}, delay={}", packetRate, delay);
+        this.packetRate = packetRate;
+        log.info("Settings: packetRate={}", packetRate);
+    }
+
+    /**
+     * Adjusts the mix of generated packets and the number of generator
+     * threads, restarting the generators if they are running.
+     *
+     * @param packetMix mix of packet kinds to generate
+     * @param threads   number of generator threads
+     */
+    synchronized void adjustLoad(PacketMix packetMix, int threads) {
+        this.packetMix = packetMix;
+        this.threads = threads;
+        log.info("Settings: packetMix={}, packetThreads={}", packetMix, threads);
+        if (generators != null) {
+            stopGenerators();
+            startGenerators(0);
+        }
     }
 
     /**
      * Stops the packet generation process.
      */
-    void stop() {
-        if (timeout != null) {
-            timeout.cancel();
+    synchronized void stop() {
+        if (generators != null) {
+            stopGenerators();
         }
     }
 
+    /**
+     * Returns the statistics of the generated packet load.
+     *
+     * @return packet load statistics
+     */
+    PacketLoadStatistics statistics() {
+        return statistics;
+    }
+
     @Override
     public void emit(OutboundPacket packet) {
-        // We don't have a network to emit to. Keep a counter here, maybe?
+        // We don't have a network to emit to; just time the packet-out
+        statistics.packetOut(latency(packet.data()));
+    }
+
+    private void startGenerators(long initialDelay) {
+        generators = Executors.newFixedThreadPool(threads,
+                                                  groupedThreads("onos/null-packets", "generator-%d"));
+        for (int i = 0; i < threads; i++) {
+            generators.execute(new PacketGenerator(i, initialDelay));
+        }
+    }
+
+    private void stopGenerators() {
+        generators.shutdownNow();
+        try {
+            if (!generators.awaitTermination(1, TimeUnit.SECONDS)) {
+                log.warn("Packet generators did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        generators = null;
+    }
+
+    // Returns the time elapsed since the frame was generated, or -1 if the
+    // frame does not carry a send time.
+    private static long latency(ByteBuffer data) {
+        if (data == null) {
+            return -1;
+        }
+        int end = data.limit();
+        if (end - data.position() < STAMP_LENGTH ||
+                data.getLong(end - STAMP_LENGTH) != STAMP_MAGIC) {
+            return -1;
+        }
+        return System.nanoTime() - data.getLong(end - Long.BYTES);
     }
 
     /**
-     * Generates packet events at a given rate.
+     * Generates packets at its share of the packet rate.
      */
-    private class PacketDriverTask implements TimerTask {
-
-        // Filler echo request
-        ICMP icmp;
-        Ethernet eth;
-
-        public PacketDriverTask() {
-            icmp = new ICMP();
-            icmp.setIcmpType((byte) 8).setIcmpCode((byte) 0).setChecksum((short) 0);
-            eth = new Ethernet();
-            eth.setEtherType(Ethernet.TYPE_IPV4);
-            eth.setPayload(icmp);
+    private class PacketGenerator implements Runnable {
+
+        private final int index;
+        private final long initialDelay;
+        private final PacketMix mix;
+        private final List<PacketMix.Kind> schedule;
+
+        private int nextKind;
+        private int nextIngress;
+
+        PacketGenerator(int index, long initialDelay) {
+            this.index = index;
+            this.initialDelay = initialDelay;
+            this.mix = packetMix;
+            this.schedule = packetMix.schedule();
+            this.nextKind = index % schedule.size();
+            this.nextIngress = index;
         }
 
         @Override
-        public void run(Timeout to) {
-            if (!devices.isEmpty() && !to.isCancelled()) {
-                sendEvent(devices.get(Math.min(currentDevice, devices.size() - 1)));
-                currentDevice = (currentDevice + 1) % devices.size();
-                timeout = timer.newTimeout(to.getTask(), delay, TimeUnit.MILLISECONDS);
+        public void run() {
+            if (initialDelay > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(initialDelay));
+            }
+
+            int rate = 0;
+            long start = 0;
+            long sent = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                int newRate = packetRate;
+                if (newRate != rate) {
+                    // Restart pacing whenever the rate changes
+                    rate = newRate;
+                    start = System.nanoTime();
+                    sent = 0;
+                }
+                double share = (double) rate / threads;
+                if (share <= 0 || ingressPoints.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_NANOS);
+                    continue;
+                }
+
+                long due = (long) ((System.nanoTime() - start) * share / 1e9) + 1;
+                if (sent < due) {
+                    long burst = Math.min(due - sent, MAX_BURST);
+                    for (int i = 0; i < burst; i++) {
+                        sendPacket();
+                    }
+                    sent += burst;
+                } else {
+                    long next = start + (long) (sent * 1e9 / share);
+                    LockSupport.parkNanos(Math.min(next - System.nanoTime(), IDLE_NANOS));
+                }
             }
         }
 
-        private void sendEvent(Device device) {
-            // Make it look like things came from ports attached to hosts
-            eth.setSourceMACAddress("00:00:10:00:00:0" + SRC_HOST)
-                    .setDestinationMACAddress("00:00:10:00:00:0" + DST_HOST);
-            InboundPacket inPkt = new DefaultInboundPacket(
-                    new ConnectPoint(device.id(), PortNumber.portNumber(SRC_HOST)),
-                    eth, ByteBuffer.wrap(eth.serialize()));
-            providerService.processPacket(new NullPacketContext(inPkt, null));
+        private void sendPacket() {
+            PacketMix.Kind kind = schedule.get(nextKind);
+            nextKind = (nextKind + 1) % schedule.size();
+            ConnectPoint ingress = ingressPoints.get(nextIngress % ingressPoints.size());
+            nextIngress = (nextIngress + 1) % ingressPoints.size();
+
+            long sendTime = System.nanoTime();
+            byte[] stamp = ByteBuffer.allocate(STAMP_LENGTH)
+                    .putLong(STAMP_MAGIC).putLong(sendTime).array();
+            InboundPacket inPkt = new DefaultInboundPacket(ingress, mix.frame(kind),
+                                                           mix.serialized(kind, stamp));
+            try {
+                providerService.processPacket(new NullPacketContext(inPkt, sendTime));
+            } catch (Exception e) {
+                log.warn("Packet processing failed on generator {}", index, e);
+            }
+            statistics.packetProcessed(System.nanoTime() - sendTime);
         }
     }
 
-     // Minimal PacketContext to make core and applications happy.
+    // Minimal PacketContext to make core and applications happy.
     private final class NullPacketContext extends DefaultPacketContext {
-        private NullPacketContext(InboundPacket inPkt, OutboundPacket outPkt) {
-            super(System.currentTimeMillis(), inPkt, outPkt, false);
+        private final long sendTime;
+
+        private NullPacketContext(InboundPacket inPkt, long sendTime) {
+            super(System.currentTimeMillis(), inPkt, null, false);
+            this.sendTime = sendTime;
         }
 
         @Override
         public void send() {
-            // We don't send anything out.
+            // We don't send anything out; just time the packet-out
+            if (!block()) {
+                statistics.packetOut(System.nanoTime() - sendTime);
+            }
         }
     }
 
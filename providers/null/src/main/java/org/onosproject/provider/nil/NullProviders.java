@@ -56,6 +56,7 @@ import org.slf4j.Logger;
 import java.util.Dictionary;
 import java.util.Properties;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.onlab.util.Tools.delay;
 import static org.onlab.util.Tools.get;
@@ -79,7 +80,8 @@ public class NullProviders {
 
     private static final String FORMAT =
             "Settings: enabled={}, topoShape={}, deviceCount={}, " +
-                    "hostCount={}, packetRate={}, mutationRate={}";
+                    "hostCount={}, packetRate={}, packetMix={}, " +
+                    "packetThreads={}, mutationRate={}";
 
 
     @Reference(cardinality = ReferenceCardinality.MANDATORY_UNARY)
@@ -156,6 +158,16 @@ public class NullProviders {
             label = "Packet-in/s rate; 0 for no packets")
     private int packetRate = DEFAULT_PACKET_RATE;
 
+    private static final String DEFAULT_PACKET_MIX = "icmp";
+    @Property(name = "packetMix", value = DEFAULT_PACKET_MIX,
+            label = "Packet-in mix given as kind=weight pairs, e.g. 'arp=1,tcp=8,lldp=1,dhcp=1,icmp=1'")
+    private String packetMix = DEFAULT_PACKET_MIX;
+
+    private static final int DEFAULT_PACKET_THREADS = 1;
+    @Property(name = "packetThreads", intValue = DEFAULT_PACKET_THREADS,
+            label = "Number of threads generating packet-ins")
+    private int packetThreads = DEFAULT_PACKET_THREADS;
+
     private static final double DEFAULT_MUTATION_RATE = 0;
     @Property(name = "mutationRate", doubleValue = DEFAULT_MUTATION_RATE,
             label = "Link event/s topology mutation rate; 0 for no mutations")
@@ -204,9 +216,9 @@ public class NullProviders {
         Dictionary<?, ?> properties = context != null ? context.getProperties() : new Properties();
 
         boolean newEnabled;
-        int newDeviceCount, newHostCount, newPacketRate;
+        int newDeviceCount, newHostCount, newPacketRate, newPacketThreads;
         double newMutationRate;
-        String newTopoShape, newMastership;
+        String newTopoShape, newMastership, newPacketMix;
         try {
             String s = get(properties, "enabled");
             newEnabled = isNullOrEmpty(s) ? enabled : Boolean.parseBoolean(s.trim());
@@ -223,16 +235,25 @@ public class NullProviders {
             s = get(properties, "packetRate");
             newPacketRate = isNullOrEmpty(s) ? packetRate : Integer.parseInt(s.trim());
 
+            s = get(properties, "packetMix");
+            newPacketMix = isNullOrEmpty(s) ? packetMix : PacketMix.valueOf(s.trim()).toString();
+
+            s = get(properties, "packetThreads");
+            newPacketThreads = isNullOrEmpty(s) ? packetThreads : Integer.parseInt(s.trim());
+            checkArgument(newPacketThreads > 0, "Packet thread count must be positive");
+
             s = get(properties, "mutationRate");
             newMutationRate = isNullOrEmpty(s) ? mutationRate : Double.parseDouble(s.trim());
 
-        } catch (NumberFormatException e) {
+        } catch (IllegalArgumentException e) {
             log.warn(e.getMessage());
             newEnabled = enabled;
             newTopoShape = topoShape;
             newDeviceCount = deviceCount;
             newHostCount = hostCount;
             newPacketRate = packetRate;
+            newPacketMix = packetMix;
+            newPacketThreads = packetThreads;
             newMutationRate = mutationRate;
             newMastership = mastership;
         }
@@ -245,10 +266,20 @@ public class NullProviders {
             deviceCount = newDeviceCount;
             hostCount = newHostCount;
             packetRate = newPacketRate;
+            packetMix = newPacketMix;
+            packetThreads = newPacketThreads;
             mutationRate = newMutationRate;
             restartSimulation();
         }
 
+        // Any change in the packet mix or threads implies restarting the
+        // packet generators
+        if (!newPacketMix.equals(packetMix) || newPacketThreads != packetThreads) {
+            packetMix = newPacketMix;
+            packetThreads = newPacketThreads;
+            packetProvider.adjustLoad(PacketMix.valueOf(packetMix), packetThreads);
+        }
+
         // Any change in the following parameters implies just a rate change
         if (newPacketRate != packetRate || newMutationRate != mutationRate) {
             packetRate = newPacketRate;
@@ -263,7 +294,16 @@ public class NullProviders {
         }
 
         log.info(FORMAT, enabled, topoShape, deviceCount, hostCount,
-                 packetRate, mutationRate);
+                 packetRate, packetMix, packetThreads, mutationRate);
+    }
+
+    /**
+     * Returns the statistics of the generated packet load.
+     *
+     * @return packet load statistics
+     */
+    public PacketLoadStatistics packetStatistics() {
+        return packetProvider.statistics();
     }
 
     /**
@@ -306,9 +346,9 @@ public class NullProviders {
                        deviceProviderService, hostProviderService,
                        linkProviderService);
         simulator.setUpTopology();
-        flowRuleProvider.start(flowRuleProviderService);
-        packetProvider.start(packetRate, hostService, deviceService,
-                             packetProviderService);
+        flowRuleProvider.start(flowRuleProviderService, packetProvider.statistics());
+        packetProvider.start(packetRate, PacketMix.valueOf(packetMix), packetThreads,
+                             hostService, deviceService, packetProviderService);
         topologyMutationDriver.start(mutationRate, linkService, deviceService,
                                      linkProviderService);
     }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.nil;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the packet load generated by the null packet provider and
+ * of the work it induces in the packet processors.
+ */
+public final class PacketLoadStatistics {
+
+    private final LongAdder packetsSent = new LongAdder();
+    private final LongAdder packetOuts = new LongAdder();
+    private final LongAdder flowsInstalled = new LongAdder();
+    private final LatencyHistogram processingLatency = new LatencyHistogram();
+    private final LatencyHistogram packetOutLatency = new LatencyHistogram();
+
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Returns the time elapsed since the statistics were last reset.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Returns the number of packets handed to the packet processors.
+     *
+     * @return packet count
+     */
+    public long packetsSent() {
+        return packetsSent.sum();
+    }
+
+    /**
+     * Returns the number of packets emitted by the packet processors.
+     *
+     * @return packet count
+     */
+    public long packetOuts() {
+        return packetOuts.sum();
+    }
+
+    /**
+     * Returns the number of flow rules installed on the null devices.
+     *
+     * @return flow rule count
+     */
+    public long flowsInstalled() {
+        return flowsInstalled.sum();
+    }
+
+    /**
+     * Returns the time taken by the packet processors to process a
+     * generated packet.
+     *
+     * @return latency histogram
+     */
+    public LatencyHistogram processingLatency() {
+        return processingLatency;
+    }
+
+    /**
+     * Returns the time from the generation of a packet to the packet-out it
+     * caused; packet-outs that cannot be traced back to a generated packet
+     * are counted but not timed.
+     *
+     * @return latency histogram
+     */
+    public LatencyHistogram packetOutLatency() {
+        return packetOutLatency;
+    }
+
+    /**
+     * Clears the statistics and restarts the elapsed time.
+     */
+    public void reset() {
+        packetsSent.reset();
+        packetOuts.reset();
+        flowsInstalled.reset();
+        processingLatency.reset();
+        packetOutLatency.reset();
+        startNanos = System.nanoTime();
+    }
+
+    // Records a generated packet and the time taken to process it.
+    void packetProcessed(long nanos) {
+        packetsSent.increment();
+        processingLatency.record(nanos);
+    }
+
+    // Records a packet-out; a negative latency marks an untimed packet-out.
+    void packetOut(long nanos) {
+        packetOuts.increment();
+        if (nanos >= 0) {
+            packetOutLatency.record(nanos);
+        }
+    }
+
+    // Records flow rules installed on the null devices.
+    void flowsInstalled(int count) {
+        flowsInstalled.add(count);
+    }
+}
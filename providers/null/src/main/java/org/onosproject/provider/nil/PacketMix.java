@@ -0,0 +1,268 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.nil;
+
+import com.google.common.collect.ImmutableList;
+import org.onlab.packet.ARP;
+import org.onlab.packet.DHCP;
+import org.onlab.packet.DHCPOption;
+import org.onlab.packet.DHCPPacketType;
+import org.onlab.packet.DeserializationException;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.ICMP;
+import org.onlab.packet.IPacket;
+import org.onlab.packet.IPv4;
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.LLDP;
+import org.onlab.packet.LLDPTLV;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.TCP;
+import org.onlab.packet.UDP;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Weighted mix of the kinds of packets generated by the null packet provider,
+ * given as a comma separated list of kind=weight pairs, e.g.
+ * {@code arp=1,tcp=8,lldp=1}; a kind without a weight counts once.
+ */
+final class PacketMix {
+
+    /**
+     * Kinds of generated packets.
+     */
+    enum Kind {
+        ICMP, ARP, TCP, LLDP, DHCP
+    }
+
+    // Arbitrary hosts, matching the ports the packets are received on
+    private static final MacAddress SRC_MAC = MacAddress.valueOf("00:00:10:00:00:02");
+    private static final MacAddress DST_MAC = MacAddress.valueOf("00:00:10:00:00:05");
+    private static final Ip4Address SRC_IP = Ip4Address.valueOf("10.0.0.2");
+    private static final Ip4Address DST_IP = Ip4Address.valueOf("10.0.0.5");
+
+    private static final MacAddress LLDP_MULTICAST = MacAddress.valueOf("01:80:c2:00:00:0e");
+    private static final short TCP_SYN = 0x02;
+
+    private final String spec;
+    private final List<Kind> schedule;
+    private final Map<Kind, byte[]> bytes = new EnumMap<>(Kind.class);
+
+    private PacketMix(String spec, List<Kind> schedule) {
+        this.spec = spec;
+        this.schedule = schedule;
+        for (Kind kind : schedule) {
+            bytes.computeIfAbsent(kind, k -> build(k).serialize());
+        }
+    }
+
+    /**
+     * Parses a packet mix specification.
+     *
+     * @param spec comma separated list of kind=weight pairs
+     * @return packet mix
+     * @throws IllegalArgumentException if the specification is malformed
+     */
+    static PacketMix valueOf(String spec) {
+        Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            checkArgument(pair.length <= 2 && !pair[0].isEmpty(),
+                          "Malformed packet mix entry: %s", entry);
+            Kind kind = kind(pair[0].trim());
+            int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 1;
+            checkArgument(weight >= 0, "Negative weight for %s", kind);
+            weights.merge(kind, weight, Integer::sum);
+        }
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        checkArgument(total > 0, "Packet mix %s has no packets", spec);
+
+        // Interleave the kinds in proportion to their weights, so that any
+        // stretch of the schedule is representative of the whole mix
+        List<Kind> schedule = new ArrayList<>(total);
+        Map<Kind, Integer> credit = new EnumMap<>(Kind.class);
+        for (int i = 0; i < total; i++) {
+            Kind next = null;
+            for (Map.Entry<Kind, Integer> entry : weights.entrySet()) {
+                int c = credit.getOrDefault(entry.getKey(), 0) + entry.getValue();
+                credit.put(entry.getKey(), c);
+                if (next == null || c > credit.get(next)) {
+                    next = entry.getKey();
+                }
+            }
+            credit.put(next, credit.get(next) - total);
+            schedule.add(next);
+        }
+        return new PacketMix(spec, ImmutableList.copyOf(schedule));
+    }
+
+    private static Kind kind(String name) {
+        try {
+            return Kind.valueOf(name.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown packet kind: " + name, e);
+        }
+    }
+
+    /**
+     * Returns the kinds of packets to generate, in order, one cycle of the
+     * mix.
+     *
+     * @return list of packet kinds
+     */
+    List<Kind> schedule() {
+        return schedule;
+    }
+
+    /**
+     * Returns a newly parsed frame of the given kind, which the caller may
+     * hand on without sharing it with other packets.
+     *
+     * @param kind packet kind
+     * @return ethernet frame
+     */
+    Ethernet frame(Kind kind) {
+        byte[] frame = bytes.get(kind);
+        try {
+            return Ethernet.deserializer().deserialize(frame, 0, frame.length);
+        } catch (DeserializationException e) {
+            throw new IllegalStateException("Unable to parse " + kind + " frame", e);
+        }
+    }
+
+    /**
+     * Returns a buffer holding the serialized frame of the given kind,
+     * followed by the given trailer.
+     *
+     * @param kind    packet kind
+     * @param trailer bytes appended after the frame
+     * @return byte buffer positioned at the start of the frame
+     */
+    ByteBuffer serialized(Kind kind, byte[] trailer) {
+        byte[] frame = bytes.get(kind);
+        byte[] data = new byte[frame.length + trailer.length];
+        System.arraycopy(frame, 0, data, 0, frame.length);
+        System.arraycopy(trailer, 0, data, frame.length, trailer.length);
+        return ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+
+    private static Ethernet build(Kind kind) {
+        Ethernet eth = new Ethernet()
+                .setSourceMACAddress(SRC_MAC)
+                .setDestinationMACAddress(DST_MAC);
+        switch (kind) {
+            case ARP:
+                eth.setDestinationMACAddress(MacAddress.BROADCAST)
+                        .setEtherType(Ethernet.TYPE_ARP)
+                        .setPayload(new ARP()
+                                .setHardwareType(ARP.HW_TYPE_ETHERNET)
+                                .setProtocolType(ARP.PROTO_TYPE_IP)
+                                .setHardwareAddressLength((byte) Ethernet.DATALAYER_ADDRESS_LENGTH)
+                                .setProtocolAddressLength((byte) Ip4Address.BYTE_LENGTH)
+                                .setOpCode(ARP.OP_REQUEST)
+                                .setSenderHardwareAddress(SRC_MAC.toBytes())
+                                .setSenderProtocolAddress(SRC_IP.toOctets())
+                                .setTargetHardwareAddress(MacAddress.ZERO.toBytes())
+                                .setTargetProtocolAddress(DST_IP.toOctets()));
+                break;
+            case TCP:
+                eth.setEtherType(Ethernet.TYPE_IPV4)
+                        .setPayload(ipv4(IPv4.PROTOCOL_TCP, SRC_IP, DST_IP,
+                                         new TCP().setSourcePort(40000)
+                                                 .setDestinationPort(80)
+                                                 .setFlags(TCP_SYN)
+                                                 .setWindowSize((short) 8192)));
+                break;
+            case LLDP:
+                eth.setDestinationMACAddress(LLDP_MULTICAST)
+                        .setEtherType(Ethernet.TYPE_LLDP)
+                        .setPayload(new LLDP()
+                                .setChassisId(tlv(LLDP.CHASSIS_TLV_TYPE, LLDP.CHASSIS_TLV_SUBTYPE,
+                                                  SRC_MAC.toBytes()))
+                                .setPortId(tlv(LLDP.PORT_TLV_TYPE, LLDP.PORT_TLV_SUBTYPE,
+                                               ByteBuffer.allocate(Integer.BYTES).putInt(2).array()))
+                                .setTtl(new LLDPTLV().setType(LLDP.TTL_TLV_TYPE)
+                                                .setLength(LLDP.TTL_TLV_SIZE)
+                                                .setValue(new byte[]{0, 120})));
+                break;
+            case DHCP:
+                UDP udp = new UDP().setSourcePort(UDP.DHCP_CLIENT_PORT)
+                        .setDestinationPort(UDP.DHCP_SERVER_PORT);
+                udp.setPayload(dhcpDiscover());
+                eth.setDestinationMACAddress(MacAddress.BROADCAST)
+                        .setEtherType(Ethernet.TYPE_IPV4)
+                        .setPayload(ipv4(IPv4.PROTOCOL_UDP, Ip4Address.valueOf(0),
+                                         Ip4Address.valueOf("255.255.255.255"), udp));
+                break;
+            case ICMP:
+            default:
+                eth.setEtherType(Ethernet.TYPE_IPV4)
+                        .setPayload(ipv4(IPv4.PROTOCOL_ICMP, SRC_IP, DST_IP,
+                                         new ICMP().setIcmpType(ICMP.TYPE_ECHO_REQUEST)
+                                                 .setIcmpCode((byte) 0)));
+                break;
+        }
+        return eth;
+    }
+
+    private static IPv4 ipv4(byte protocol, Ip4Address src, Ip4Address dst,
+                             IPacket payload) {
+        IPv4 ip = new IPv4();
+        ip.setProtocol(protocol)
+                .setSourceAddress(src.toInt())
+                .setDestinationAddress(dst.toInt())
+                .setTtl((byte) 64)
+                .setPayload(payload);
+        return ip;
+    }
+
+    private static LLDPTLV tlv(byte type, byte subtype, byte[] id) {
+        byte[] value = new byte[id.length + 1];
+        value[0] = subtype;
+        System.arraycopy(id, 0, value, 1, id.length);
+        return new LLDPTLV().setType(type).setLength((short) value.length).setValue(value);
+    }
+
+    private static DHCP dhcpDiscover() {
+        DHCPOption type = new DHCPOption()
+                .setCode(DHCP.DHCPOptionCode.OptionCode_MessageType.getValue())
+                .setLength((byte) 1)
+                .setData(new byte[]{(byte) DHCPPacketType.DHCPDISCOVER.getValue()});
+        DHCPOption end = new DHCPOption()
+                .setCode(DHCP.DHCPOptionCode.OptionCode_END.getValue())
+                .setLength((byte) 1)
+                .setData(new byte[]{0});
+        return new DHCP()
+                .setOpCode(DHCP.OPCODE_REQUEST)
+                .setHardwareType(DHCP.HWTYPE_ETHERNET)
+                .setHardwareAddressLength((byte) Ethernet.DATALAYER_ADDRESS_LENGTH)
+                .setTransactionId(0x1234)
+                .setClientHardwareAddress(SRC_MAC.toBytes())
+                .setOptions(ImmutableList.of(type, end));
+    }
+}
@@ -17,6 +17,7 @@ package org.onosproject.provider.nil.cli;
 
 import org.apache.karaf.shell.commands.Argument;
 import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.commands.Option;
 import org.onosproject.cfg.ComponentConfigService;
 import org.onosproject.cli.AbstractShellCommand;
 import org.onosproject.provider.nil.NullProviders;
@@ -39,12 +40,34 @@ public class NullControlCommand extends AbstractShellCommand {
             required = false, multiValued = false)
     String topoShape = null;
 
+    @Option(name = "-r", aliases = "--packetRate", description = "Packet-in/s rate",
+            required = false, multiValued = false)
+    Integer packetRate = null;
+
+    @Option(name = "-m", aliases = "--packetMix",
+            description = "Packet-in mix, e.g. arp=1,tcp=8,lldp=1,dhcp=1,icmp=1",
+            required = false, multiValued = false)
+    String packetMix = null;
+
+    @Option(name = "-t", aliases = "--packetThreads", description = "Number of packet-in generator threads",
+            required = false, multiValued = false)
+    Integer packetThreads = null;
+
     @Override
     protected void execute() {
         ComponentConfigService service = get(ComponentConfigService.class);
         if (topoShape != null) {
             service.setProperty(NullProviders.class.getName(), "topoShape", topoShape);
         }
+        if (packetRate != null) {
+            service.setProperty(NullProviders.class.getName(), "packetRate", packetRate.toString());
+        }
+        if (packetMix != null) {
+            service.setProperty(NullProviders.class.getName(), "packetMix", packetMix);
+        }
+        if (packetThreads != null) {
+            service.setProperty(NullProviders.class.getName(), "packetThreads", packetThreads.toString());
+        }
         service.setProperty(NullProviders.class.getName(), "enabled",
                             cmd.equals(START) ? "true" : "false");
     }
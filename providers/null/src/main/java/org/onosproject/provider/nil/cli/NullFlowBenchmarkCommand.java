@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.nil.cli;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import org.apache.karaf.shell.commands.Argument;
+import org.apache.karaf.shell.commands.Command;
+import org.onlab.packet.MacAddress;
+import org.onosproject.cli.AbstractShellCommand;
+import org.onosproject.core.ApplicationId;
+import org.onosproject.core.CoreService;
+import org.onosproject.net.Device;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.device.DeviceService;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowRule;
+import org.onosproject.net.flow.FlowRuleBulkResult;
+import org.onosproject.net.flow.FlowRuleOperation;
+import org.onosproject.net.flow.FlowRuleService;
+import org.onosproject.net.flow.TrafficTreatment;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures bulk flow rule installation throughput against the null devices.
+ */
+@Command(scope = "onos", name = "null-flow-benchmark",
+        description = "Measures bulk flow installation throughput on null devices")
+public class NullFlowBenchmarkCommand extends AbstractShellCommand {
+
+    private static final String SCHEME = "null";
+    private static final long TIMEOUT_SECONDS = 300;
+
+    @Argument(index = 0, name = "flowsPerDevice", description = "Number of flows to install per device",
+            required = true, multiValued = false)
+    int flowsPerDevice = 0;
+
+    @Argument(index = 1, name = "runs", description = "Number of install/remove iterations",
+            required = false, multiValued = false)
+    int runs = 1;
+
+    @Override
+    protected void execute() {
+        FlowRuleService flowService = get(FlowRuleService.class);
+        DeviceService deviceService = get(DeviceService.class);
+        ApplicationId appId = get(CoreService.class)
+                .registerApplication("org.onosproject.null.benchmark");
+
+        TrafficTreatment treatment = DefaultTrafficTreatment.builder()
+                .setOutput(PortNumber.portNumber(1)).build();
+        List<FlowRuleOperation> adds = Lists.newArrayList();
+        List<FlowRuleOperation> removes = Lists.newArrayList();
+        for (Device device : deviceService.getAvailableDevices()) {
+            if (!SCHEME.equals(device.id().uri().getScheme())) {
+                continue;
+            }
+            for (int i = 0; i < flowsPerDevice; i++) {
+                FlowRule rule = DefaultFlowRule.builder()
+                        .forDevice(device.id())
+                        .withSelector(DefaultTrafficSelector.builder()
+                                              .matchEthDst(MacAddress.valueOf(i + 1)).build())
+                        .withTreatment(treatment)
+                        .withPriority(100)
+                        .fromApp(appId)
+                        .makePermanent()
+                        .build();
+                adds.add(new FlowRuleOperation(rule, FlowRuleOperation.Type.ADD));
+                removes.add(new FlowRuleOperation(rule, FlowRuleOperation.Type.REMOVE));
+            }
+        }
+
+        if (adds.isEmpty()) {
+            print("No null devices available; start the null simulation first");
+            return;
+        }
+
+        for (int run = 0; run < runs; run++) {
+            try {
+                Stopwatch timer = Stopwatch.createStarted();
+                FlowRuleBulkResult result = flowService.applyBulk(adds, null)
+                        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                long elapsed = Math.max(timer.elapsed(TimeUnit.MILLISECONDS), 1);
+                print("Run %d: installed %d flows in %d ms (%d flows/s), %d failed",
+                      run, result.total(), elapsed, result.total() * 1000L / elapsed,
+                      result.failureCount());
+
+                flowService.applyBulk(removes, null).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                print("Run %d failed: %s", run, e);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.nil.cli;
+
+import org.apache.karaf.shell.commands.Command;
+import org.apache.karaf.shell.commands.Option;
+import org.onosproject.cli.AbstractShellCommand;
+import org.onosproject.provider.nil.LatencyHistogram;
+import org.onosproject.provider.nil.NullProviders;
+import org.onosproject.provider.nil.PacketLoadStatistics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Displays the packet-in load generated by the null packet provider and the
+ * latency of the resulting processing and packet-outs.
+ */
+@Command(scope = "onos", name = "null-packet-stats",
+        description = "Displays null packet-in load and processing latency")
+public class NullPacketStatsCommand extends AbstractShellCommand {
+
+    private static final String FMT =
+            "%-10s count=%d, mean=%.1fus, p50=%.1fus, p90=%.1fus, p99=%.1fus, p99.9=%.1fus, max=%.1fus";
+
+    @Option(name = "-r", aliases = "--reset", description = "Reset the statistics after displaying them",
+            required = false, multiValued = false)
+    private boolean reset = false;
+
+    @Override
+    protected void execute() {
+        PacketLoadStatistics stats = get(NullProviders.class).packetStatistics();
+        double seconds = Math.max(stats.elapsedNanos(), 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        print("elapsed=%.1fs, packetIns=%d (%.0f/s), packetOuts=%d (%.0f/s), flowsInstalled=%d (%.0f/s)",
+              seconds, stats.packetsSent(), stats.packetsSent() / seconds,
+              stats.packetOuts(), stats.packetOuts() / seconds,
+              stats.flowsInstalled(), stats.flowsInstalled() / seconds);
+        printLatency("processing", stats.processingLatency());
+        printLatency("packetOut", stats.packetOutLatency());
+
+        if (reset) {
+            stats.reset();
+        }
+    }
+
+    private void printLatency(String name, LatencyHistogram histogram) {
+        print(FMT, name, histogram.count(), micros(histogram.mean()),
+              micros(histogram.percentile(50)), micros(histogram.percentile(90)),
+              micros(histogram.percentile(99)), micros(histogram.percentile(99.9)),
+              micros(histogram.max()));
+    }
+
+    private static double micros(double nanos) {
+        return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.provider.nil;
+
+import org.junit.Test;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.IPv4;
+import org.onosproject.provider.nil.PacketMix.Kind;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the packet mix of the null packet provider.
+ */
+public class PacketMixTest {
+
+    @Test
+    public void weights() {
+        PacketMix mix = PacketMix.valueOf("arp=1, tcp=8,lldp");
+        List<Kind> schedule = mix.schedule();
+        assertEquals(10, schedule.size());
+        assertEquals(1, Collections.frequency(schedule, Kind.ARP));
+        assertEquals(8, Collections.frequency(schedule, Kind.TCP));
+        assertEquals(1, Collections.frequency(schedule, Kind.LLDP));
+        assertEquals("arp=1, tcp=8,lldp", mix.toString());
+    }
+
+    @Test
+    public void interleaved() {
+        List<Kind> schedule = PacketMix.valueOf("icmp=2,dhcp=2").schedule();
+        for (int i = 1; i < schedule.size(); i++) {
+            assertTrue("kinds should alternate", schedule.get(i) != schedule.get(i - 1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownKind() {
+        PacketMix.valueOf("udp=1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noPackets() {
+        PacketMix.valueOf("tcp=0");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformed() {
+        PacketMix.valueOf("tcp=1=2");
+    }
+
+    @Test
+    public void frames() {
+        PacketMix mix = PacketMix.valueOf("icmp,arp,tcp,lldp,dhcp");
+        assertEquals(Ethernet.TYPE_ARP, mix.frame(Kind.ARP).getEtherType());
+        assertEquals(Ethernet.TYPE_LLDP, mix.frame(Kind.LLDP).getEtherType());
+        assertEquals(IPv4.PROTOCOL_TCP,
+                     ((IPv4) mix.frame(Kind.TCP).getPayload()).getProtocol());
+        assertEquals(IPv4.PROTOCOL_ICMP,
+                     ((IPv4) mix.frame(Kind.ICMP).getPayload()).getProtocol());
+        assertEquals(IPv4.PROTOCOL_UDP,
+                     ((IPv4) mix.frame(Kind.DHCP).getPayload()).getProtocol());
+    }
+
+    @Test
+    public void framesNotShared() {
+        PacketMix mix = PacketMix.valueOf("tcp");
+        Ethernet first = mix.frame(Kind.TCP);
+        Ethernet second = mix.frame(Kind.TCP);
+        assertNotSame("each packet should get its own frame", first, second);
+        assertNotSame(first.getPayload(), second.getPayload());
+
+        // Changes made by one receiver are not seen by the next
+        first.setVlanID((short) 10);
+        assertEquals(Ethernet.VLAN_UNTAGGED, mix.frame(Kind.TCP).getVlanID());
+    }
+
+    @Test
+    public void serialized() {
+        PacketMix mix = PacketMix.valueOf("arp");
+        byte[] frame = mix.frame(Kind.ARP).serialize();
+        byte[] trailer = {1, 2, 3};
+        ByteBuffer buffer = mix.serialized(Kind.ARP, trailer);
+        assertEquals(frame.length + trailer.length, buffer.remaining());
+
+        byte[] head = new byte[frame.length];
+        byte[] tail = new byte[trailer.length];
+        buffer.get(head).get(tail);
+        assertArrayEquals(frame, head);
+        assertArrayEquals(trailer, tail);
+    }
+}
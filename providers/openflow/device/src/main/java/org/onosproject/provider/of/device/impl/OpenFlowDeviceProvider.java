@@ -16,7 +16,6 @@
 package org.onosproject.provider.of.device.impl;
 
 import com.google.common.base.Strings;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.felix.scr.annotations.Activate;
@@ -77,7 +76,6 @@ import org.projectfloodlight.openflow.protocol.OFPortStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFPortStatsReply;
 import org.projectfloodlight.openflow.protocol.OFPortStatus;
 import org.projectfloodlight.openflow.protocol.OFStatsReply;
-import org.projectfloodlight.openflow.protocol.OFStatsReplyFlags;
 import org.projectfloodlight.openflow.protocol.OFStatsType;
 import org.projectfloodlight.openflow.protocol.OFVersion;
 import org.projectfloodlight.openflow.types.PortSpeed;
@@ -87,9 +85,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -130,7 +128,7 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
     label = "Frequency (in seconds) for polling switch Port statistics")
     private int portStatsPollFrequency = POLL_INTERVAL;
 
-    private HashMap<Dpid, PortStatsCollector> collectors = Maps.newHashMap();
+    private final Map<Dpid, PortStatsCollector> collectors = Maps.newConcurrentMap();
 
     /**
      * Creates an OpenFlow device provider.
@@ -154,9 +152,6 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
                 // disconnect to trigger switch-add later
                 sw.disconnectSwitch();
             }
-            PortStatsCollector psc = new PortStatsCollector(sw, portStatsPollFrequency);
-            psc.start();
-            collectors.put(new Dpid(sw.getId()), psc);
         }
         LOG.info("Started");
     }
@@ -289,8 +284,6 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
 
     private class InternalDeviceProvider implements OpenFlowSwitchListener, OpenFlowEventListener {
 
-        private HashMap<Dpid, List<OFPortStatsEntry>> portStatsReplies = new HashMap<>();
-
         @Override
         public void switchAdded(Dpid dpid) {
             if (providerService == null) {
@@ -317,7 +310,8 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
             providerService.updatePorts(did, buildPortDescriptions(sw));
 
             PortStatsCollector psc =
-                    new PortStatsCollector(controller.getSwitch(dpid), portStatsPollFrequency);
+                    new PortStatsCollector(controller.statsPollScheduler(),
+                                           controller.getSwitch(dpid), portStatsPollFrequency);
             psc.start();
             collectors.put(dpid, psc);
         }
@@ -547,16 +541,12 @@ public class OpenFlowDeviceProvider extends AbstractProvider implements DevicePr
             switch (msg.getType()) {
                 case STATS_REPLY:
                     if (((OFStatsReply) msg).getStatsType() == OFStatsType.PORT) {
-                        OFPortStatsReply portStatsReply = (OFPortStatsReply) msg;
-                        List<OFPortStatsEntry> portStatsReplyList = portStatsReplies.get(dpid);
-                        if (portStatsReplyList == null) {
-                            portStatsReplyList = Lists.newArrayList();
-                        }
-                        portStatsReplyList.addAll(portStatsReply.getEntries());
-                        portStatsReplies.put(dpid, portStatsReplyList);
-                        if (!portStatsReply.getFlags().contains(OFStatsReplyFlags.REPLY_MORE)) {
-                            pushPortMetrics(dpid, portStatsReplies.get(dpid));
-                            portStatsReplies.get(dpid).clear();
+                        // Multipart replies are reassembled by the controller
+                        List<OFPortStatsEntry> entries = ((OFPortStatsReply) msg).getEntries();
+                        pushPortMetrics(dpid, entries);
+                        PortStatsCollector collector = collectors.get(dpid);
+                        if (collector != null) {
+                            collector.statsReceived();
                         }
                     }
                     break;
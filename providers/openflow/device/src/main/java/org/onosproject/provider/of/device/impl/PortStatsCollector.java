@@ -16,98 +16,79 @@
 
 package org.onosproject.provider.of.device.impl;
 
-import org.jboss.netty.util.HashedWheelTimer;
-import org.jboss.netty.util.Timeout;
-import org.jboss.netty.util.TimerTask;
-import org.onlab.util.Timer;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.projectfloodlight.openflow.protocol.OFPortStatsRequest;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.slf4j.Logger;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 /*
- * Sends Group Stats Request and collect the group statistics with a time interval.
+ * Sends Port Stats Request and collect the port statistics with a time interval.
  */
-public class PortStatsCollector implements TimerTask {
+public class PortStatsCollector {
 
-    // TODO: Refactoring is required using ScheduledExecutorService
-
-    private final HashedWheelTimer timer = Timer.getTimer();
     private final OpenFlowSwitch sw;
     private final Logger log = getLogger(getClass());
-    private int refreshInterval;
     private final AtomicLong xidAtomic = new AtomicLong(1);
-
-    private Timeout timeout;
-    private volatile boolean stopped;
+    private final StatsPollScheduler.Poller poller;
 
     /**
-     * Creates a GroupStatsCollector object.
+     * Creates a PortStatsCollector object.
      *
+     * @param scheduler scheduler to poll with
      * @param sw Open Flow switch
-     * @param interval time interval for collecting group statistic
+     * @param interval time interval for collecting port statistic
      */
-    public PortStatsCollector(OpenFlowSwitch sw, int interval) {
+    public PortStatsCollector(StatsPollScheduler scheduler, OpenFlowSwitch sw, int interval) {
         this.sw = sw;
-        this.refreshInterval = interval;
+        this.poller = scheduler
+                .newPoller("port-" + sw.getStringId(), interval, false,
+                           this::sendPortStatistic);
     }
 
-    @Override
-    public void run(Timeout to) throws Exception {
-        if (stopped || timeout.isCancelled()) {
-            return;
-        }
-        log.trace("Collecting stats for {}", sw.getStringId());
-
-        sendPortStatistic();
-
-        if (!stopped && !timeout.isCancelled()) {
-            log.trace("Scheduling stats collection in {} seconds for {}",
-                    this.refreshInterval, this.sw.getStringId());
-            timeout.getTimer().newTimeout(this, refreshInterval, TimeUnit.SECONDS);
-        }
+    void adjustPollInterval(int pollInterval) {
+        poller.adjustPollInterval(pollInterval);
     }
 
-    synchronized void adjustPollInterval(int pollInterval) {
-        this.refreshInterval = pollInterval;
-        // task.cancel();
-        // task = new InternalTimerTask();
-        // timer.scheduleAtFixedRate(task, pollInterval * SECONDS, pollInterval * 1000);
+    /**
+     * Notifies the collector that a complete port stats reply was received.
+     */
+    void statsReceived() {
+        poller.completed(true);
     }
 
-    private void sendPortStatistic() {
+    private boolean sendPortStatistic() {
         if (sw.getRole() != RoleState.MASTER) {
-            return;
+            return false;
         }
+        log.trace("Collecting stats for {}", sw.getStringId());
         Long statsXid = xidAtomic.getAndIncrement();
         OFPortStatsRequest statsRequest = sw.factory().buildPortStatsRequest()
                 .setPortNo(OFPort.ANY)
                 .setXid(statsXid)
                 .build();
         sw.sendMsg(statsRequest);
+        return true;
     }
 
     /**
      * Starts the collector.
      */
-    public synchronized void start() {
+    public void start() {
         log.info("Starting Port Stats collection thread for {}", sw.getStringId());
-        stopped = false;
-        timeout = timer.newTimeout(this, 1, TimeUnit.SECONDS);
+        poller.start();
     }
 
     /**
      * Stops the collector.
      */
-    public synchronized void stop() {
+    public void stop() {
         log.info("Stopping Port Stats collection thread for {}", sw.getStringId());
-        stopped = true;
-        timeout.cancel();
+        poller.stop();
     }
 }
@@ -41,6 +41,7 @@ import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.OpenFlowSwitchListener;
 import org.onosproject.openflow.controller.PacketListener;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
@@ -98,6 +99,7 @@ public class OpenFlowDeviceProviderTest {
     @After
     public void tearDown() {
         provider.deactivate(null);
+        controller.statsPollScheduler.shutdown();
         assertNull("listener should be removed", controller.listener);
         provider.controller = null;
         provider.providerRegistry = null;
@@ -228,6 +230,7 @@ public class OpenFlowDeviceProviderTest {
         OpenFlowSwitchListener listener = null;
         Map<Dpid, RoleState> roleMap = new HashMap<Dpid, RoleState>();
         Map<Dpid, OpenFlowSwitch> switchMap = new HashMap<Dpid, OpenFlowSwitch>();
+        StatsPollScheduler statsPollScheduler = new StatsPollScheduler(8);
 
         @Override
         public Iterable<OpenFlowSwitch> getSwitches() {
@@ -298,6 +301,11 @@ public class OpenFlowDeviceProviderTest {
         public void setRole(Dpid dpid, RoleState role) {
             roleMap.put(dpid, role);
         }
+
+        @Override
+        public StatsPollScheduler statsPollScheduler() {
+            return statsPollScheduler;
+        }
     }
 
     private static class TestOpenFlowSwitch implements OpenFlowSwitch {
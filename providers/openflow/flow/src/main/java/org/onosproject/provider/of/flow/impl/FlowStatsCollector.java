@@ -15,17 +15,14 @@
  */
 package org.onosproject.provider.of.flow.impl;
 
-import org.onlab.util.SharedExecutors;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.projectfloodlight.openflow.types.TableId;
 import org.slf4j.Logger;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -35,25 +32,25 @@ class FlowStatsCollector {
 
     private final Logger log = getLogger(getClass());
 
-    public static final int SECONDS = 1000;
-
     private final OpenFlowSwitch sw;
-    private Timer timer;
-    private TimerTask task;
-
-    private int pollInterval;
+    private final StatsPollScheduler.Poller poller;
 
     /**
      * Creates a new collector for the given switch and poll frequency.
+     * <p>
+     * Flow statistics are polled at a fixed interval, as the flow load
+     * computation relies on a known poll interval.
+     * </p>
      *
-     * @param timer        timer to use for scheduling
+     * @param scheduler    scheduler to poll with
      * @param sw           switch to pull
      * @param pollInterval poll frequency in seconds
      */
-    FlowStatsCollector(Timer timer, OpenFlowSwitch sw, int pollInterval) {
-        this.timer = timer;
+    FlowStatsCollector(StatsPollScheduler scheduler, OpenFlowSwitch sw, int pollInterval) {
         this.sw = sw;
-        this.pollInterval = pollInterval;
+        this.poller = scheduler
+                .newPoller("flow-" + sw.getStringId(), pollInterval, false,
+                           this::sendFlowStatistic);
     }
 
     /**
@@ -61,40 +58,39 @@ class FlowStatsCollector {
      *
      * @param pollInterval poll frequency in seconds
      */
-    synchronized void adjustPollInterval(int pollInterval) {
-        this.pollInterval = pollInterval;
-        task.cancel();
-        task = new InternalTimerTask();
-        timer.scheduleAtFixedRate(task, pollInterval * SECONDS, pollInterval * 1000);
+    void adjustPollInterval(int pollInterval) {
+        poller.adjustPollInterval(pollInterval);
+    }
+
+    /**
+     * Notifies the collector that a complete flow stats reply was received.
+     */
+    void statsReceived() {
+        poller.completed(true);
     }
 
-    private class InternalTimerTask extends TimerTask {
-        @Override
-        public void run() {
-            if (sw.getRole() == RoleState.MASTER) {
-                log.trace("Collecting stats for {}", sw.getStringId());
-                OFFlowStatsRequest request = sw.factory().buildFlowStatsRequest()
-                        .setMatch(sw.factory().matchWildcardAll())
-                        .setTableId(TableId.ALL)
-                        .setOutPort(OFPort.NO_MASK)
-                        .build();
-                sw.sendMsg(request);
-            }
+    private boolean sendFlowStatistic() {
+        if (sw.getRole() != RoleState.MASTER) {
+            return false;
         }
+        log.trace("Collecting stats for {}", sw.getStringId());
+        OFFlowStatsRequest request = sw.factory().buildFlowStatsRequest()
+                .setMatch(sw.factory().matchWildcardAll())
+                .setTableId(TableId.ALL)
+                .setOutPort(OFPort.NO_MASK)
+                .build();
+        sw.sendMsg(request);
+        return true;
     }
 
-    public synchronized void start() {
-        // Initially start polling quickly. Then drop down to configured value
+    public void start() {
         log.debug("Starting Stats collection thread for {}", sw.getStringId());
-        task = new InternalTimerTask();
-        SharedExecutors.getTimer().scheduleAtFixedRate(task, 1 * SECONDS,
-                                                       pollInterval * SECONDS);
+        poller.start();
     }
 
-    public synchronized void stop() {
+    public void stop() {
         log.debug("Stopping Stats collection thread for {}", sw.getStringId());
-        task.cancel();
-        task = null;
+        poller.stop();
     }
 
 }
@@ -72,7 +72,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Timer;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -110,8 +109,7 @@ public class OpenFlowRuleProvider extends AbstractProvider
 
     private Cache<Long, InternalCacheEntry> pendingBatches;
 
-    private final Timer timer = new Timer("onos-openflow-collector");
-    private final Map<Dpid, FlowStatsCollector> collectors = Maps.newHashMap();
+    private final Map<Dpid, FlowStatsCollector> collectors = Maps.newConcurrentMap();
 
     /**
      * Creates an OpenFlow host provider.
@@ -179,7 +177,7 @@ public class OpenFlowRuleProvider extends AbstractProvider
     }
 
     private void createCollector(OpenFlowSwitch sw) {
-        FlowStatsCollector fsc = new FlowStatsCollector(timer, sw, flowPollFrequency);
+        FlowStatsCollector fsc = new FlowStatsCollector(controller.statsPollScheduler(), sw, flowPollFrequency);
         fsc.start();
         collectors.put(new Dpid(sw.getId()), fsc);
     }
@@ -393,6 +391,11 @@ public class OpenFlowRuleProvider extends AbstractProvider
                     .collect(Collectors.toList());
 
             providerService.pushFlowMetrics(did, flowEntries);
+
+            FlowStatsCollector collector = collectors.get(dpid);
+            if (collector != null) {
+                collector.statsReceived();
+            }
         }
     }
 
@@ -16,66 +16,78 @@
 
 package org.onosproject.provider.of.group.impl;
 
-import org.jboss.netty.util.HashedWheelTimer;
-import org.jboss.netty.util.Timeout;
-import org.jboss.netty.util.TimerTask;
-import org.onlab.util.Timer;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
+import org.projectfloodlight.openflow.protocol.OFGroupDescStatsReply;
 import org.projectfloodlight.openflow.protocol.OFGroupDescStatsRequest;
+import org.projectfloodlight.openflow.protocol.OFGroupStatsReply;
 import org.projectfloodlight.openflow.protocol.OFGroupStatsRequest;
 import org.projectfloodlight.openflow.types.OFGroup;
 import org.slf4j.Logger;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Arrays;
+import java.util.Objects;
 
+import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /*
  * Sends Group Stats Request and collect the group statistics with a time interval.
  */
-public class GroupStatsCollector implements TimerTask {
+public class GroupStatsCollector {
 
-    private final HashedWheelTimer timer = Timer.getTimer();
     private final OpenFlowSwitch sw;
     private final Logger log = getLogger(getClass());
-    private final int refreshInterval;
+    private final StatsPollScheduler.Poller poller;
 
-    private Timeout timeout;
-
-    private boolean stopTimer = false;
+    private volatile int lastStatsHash;
 
     /**
      * Creates a GroupStatsCollector object.
      *
+     * @param scheduler scheduler to poll with
      * @param sw Open Flow switch
      * @param interval time interval for collecting group statistic
      */
-    public GroupStatsCollector(OpenFlowSwitch sw, int interval) {
+    public GroupStatsCollector(StatsPollScheduler scheduler, OpenFlowSwitch sw, int interval) {
         this.sw = sw;
-        this.refreshInterval = interval;
+        this.poller = scheduler
+                .newPoller("group-" + sw.getStringId(), interval, true,
+                           this::sendGroupStatistic);
     }
 
-    @Override
-    public void run(Timeout timeout) throws Exception {
-        log.trace("Collecting stats for {}", sw.getStringId());
-
-        sendGroupStatistic();
+    /**
+     * Notifies the collector that both group stats and group description
+     * replies were received.
+     *
+     * @param statsReply group stats reply
+     * @param descReply  group description stats reply
+     */
+    void statsReceived(OFGroupStatsReply statsReply, OFGroupDescStatsReply descReply) {
+        // The counters count too, so that the stats of a group in use are
+        // kept current; only the durations are left out
+        int hash = Objects.hash(descReply.getEntries(), statsReply.getEntries().stream()
+                .map(e -> Arrays.asList(e.getGroup(), e.getRefCount(), e.getPacketCount(),
+                                        e.getByteCount(), e.getBucketStats()))
+                .collect(toList()));
+        poller.completed(hash != lastStatsHash);
+        lastStatsHash = hash;
+    }
 
-        if (!this.stopTimer) {
-            log.trace("Scheduling stats collection in {} seconds for {}",
-                    this.refreshInterval, this.sw.getStringId());
-            timeout.getTimer().newTimeout(this, refreshInterval,
-                    TimeUnit.SECONDS);
-        }
+    /**
+     * Notifies the collector that the groups of the switch were modified.
+     */
+    void groupsModified() {
+        poller.resetBackoff();
     }
 
-    private void sendGroupStatistic() {
+    private boolean sendGroupStatistic() {
         if (log.isTraceEnabled()) {
             log.trace("sendGroupStatistics {}:{}", sw.getStringId(), sw.getRole());
         }
         if (sw.getRole() != RoleState.MASTER) {
-            return;
+            return false;
         }
         Long statsXid = OpenFlowGroupProvider.getXidAndAdd(2);
         OFGroupStatsRequest statsRequest = sw.factory().buildGroupStatsRequest()
@@ -90,6 +102,7 @@ public class GroupStatsCollector implements TimerTask {
                         .setXid(descXid)
                         .build();
         sw.sendMsg(descStatsRequest);
+        return true;
     }
 
     /**
@@ -97,7 +110,7 @@ public class GroupStatsCollector implements TimerTask {
      */
     public void start() {
         log.info("Starting Group Stats collection thread for {}", sw.getStringId());
-        timeout = timer.newTimeout(this, 1, TimeUnit.SECONDS);
+        poller.start();
     }
 
     /**
@@ -105,7 +118,6 @@ public class GroupStatsCollector implements TimerTask {
      */
     public void stop() {
         log.info("Stopping Group Stats collection thread for {}", sw.getStringId());
-        this.stopTimer = true;
-        timeout.cancel();
+        poller.stop();
     }
 }
@@ -88,7 +88,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
     private final InternalGroupProvider listener = new InternalGroupProvider();
 
     private static final AtomicLong XID_COUNTER = new AtomicLong(1);
-    private final Map<Dpid, GroupStatsCollector> collectors = Maps.newHashMap();
+    private final Map<Dpid, GroupStatsCollector> collectors = Maps.newConcurrentMap();
     private final Map<Long, OFStatsReply> groupStats = Maps.newConcurrentMap();
     private final Map<GroupId, GroupOperation> pendingGroupOperations =
             Maps.newConcurrentMap();
@@ -111,7 +111,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
 
         for (OpenFlowSwitch sw : controller.getSwitches()) {
             if (isGroupSupported(sw)) {
-                GroupStatsCollector gsc = new GroupStatsCollector(sw, POLL_INTERVAL);
+                GroupStatsCollector gsc = new GroupStatsCollector(controller.statsPollScheduler(), sw, POLL_INTERVAL);
                 gsc.start();
                 collectors.put(new Dpid(sw.getId()), gsc);
             }
@@ -164,6 +164,11 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
             pendingGroupOperations.put(groudId, groupOperation);
             pendingXidMaps.put(groudId, groupModXid);
         }
+
+        GroupStatsCollector collector = collectors.get(dpid);
+        if (collector != null) {
+            collector.groupsModified();
+        }
      }
 
     private void pushGroupMetrics(Dpid dpid, OFStatsReply statsReply) {
@@ -202,6 +207,11 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
                 pendingGroupOperations.remove(group.id());
                 pendingXidMaps.remove(group.id());
             }
+
+            GroupStatsCollector collector = collectors.get(dpid);
+            if (collector != null) {
+                collector.statsReceived(groupStatsReply, groupDescStatsReply);
+            }
         }
     }
 
@@ -336,7 +346,7 @@ public class OpenFlowGroupProvider extends AbstractProvider implements GroupProv
             OpenFlowSwitch sw = controller.getSwitch(dpid);
             if (isGroupSupported(sw)) {
                 GroupStatsCollector gsc = new GroupStatsCollector(
-                        controller.getSwitch(dpid), POLL_INTERVAL);
+                        controller.statsPollScheduler(), sw, POLL_INTERVAL);
                 gsc.start();
                 collectors.put(dpid, gsc);
             }
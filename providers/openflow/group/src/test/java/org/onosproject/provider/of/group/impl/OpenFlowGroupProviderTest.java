@@ -45,6 +45,7 @@ import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.OpenFlowSwitchListener;
 import org.onosproject.openflow.controller.PacketListener;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.projectfloodlight.openflow.protocol.OFFactories;
 import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.OFGroupDescStatsReply;
@@ -175,6 +176,7 @@ public class OpenFlowGroupProviderTest {
     @After
     public void tearDown() {
         provider.deactivate();
+        controller.statsPollScheduler().shutdown();
         provider.providerRegistry = null;
         provider.controller = null;
     }
@@ -209,6 +211,7 @@ public class OpenFlowGroupProviderTest {
 
         OpenFlowEventListener eventListener = null;
         List<OpenFlowSwitch> switches = Lists.newArrayList();
+        StatsPollScheduler statsPollScheduler = new StatsPollScheduler(8);
 
         public TestController() {
             OpenFlowSwitch testSwitch = new TestOpenFlowSwitch();
@@ -259,6 +262,11 @@ public class OpenFlowGroupProviderTest {
 
         }
 
+        @Override
+        public StatsPollScheduler statsPollScheduler() {
+            return statsPollScheduler;
+        }
+
         @Override
         public Iterable<OpenFlowSwitch> getSwitches() {
             return switches;
@@ -16,64 +16,72 @@
 
 package org.onosproject.provider.of.meter.impl;
 
-import org.jboss.netty.util.HashedWheelTimer;
-import org.jboss.netty.util.Timeout;
-import org.jboss.netty.util.TimerTask;
-import org.onlab.util.Timer;
 import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
+import org.projectfloodlight.openflow.protocol.OFMeterStatsReply;
 import org.projectfloodlight.openflow.protocol.OFMeterStatsRequest;
 import org.slf4j.Logger;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Arrays;
 
+import static java.util.stream.Collectors.toList;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /*
  * Sends Meter Stats Request and collect the Meter statistics with a time interval.
  */
-public class MeterStatsCollector implements TimerTask {
+public class MeterStatsCollector {
 
-    private final HashedWheelTimer timer = Timer.getTimer();
     private final OpenFlowSwitch sw;
     private final Logger log = getLogger(getClass());
-    private final int refreshInterval;
+    private final StatsPollScheduler.Poller poller;
 
-    private Timeout timeout;
-
-    private boolean stopTimer = false;
+    private volatile int lastStatsHash;
 
     /**
-     * Creates a GroupStatsCollector object.
+     * Creates a MeterStatsCollector object.
      *
+     * @param scheduler scheduler to poll with
      * @param sw Open Flow switch
-     * @param interval time interval for collecting group statistic
+     * @param interval time interval for collecting meter statistic
      */
-    public MeterStatsCollector(OpenFlowSwitch sw, int interval) {
+    public MeterStatsCollector(StatsPollScheduler scheduler, OpenFlowSwitch sw, int interval) {
         this.sw = sw;
-        this.refreshInterval = interval;
+        this.poller = scheduler
+                .newPoller("meter-" + sw.getStringId(), interval, true,
+                           this::sendMeterStatistic);
     }
 
-    @Override
-    public void run(Timeout timeout) throws Exception {
-        log.trace("Collecting stats for {}", sw.getStringId());
-
-        sendMeterStatistic();
+    /**
+     * Notifies the collector that a meter stats reply was received.
+     *
+     * @param reply meter stats reply
+     */
+    void statsReceived(OFMeterStatsReply reply) {
+        // The counters count too, so that the stats of a meter in use are
+        // kept current; only the durations are left out
+        int hash = reply.getEntries().stream()
+                .map(e -> Arrays.asList(e.getMeterId(), e.getFlowCount(), e.getPacketInCount(),
+                                        e.getByteInCount(), e.getBandStats()))
+                .collect(toList()).hashCode();
+        poller.completed(hash != lastStatsHash);
+        lastStatsHash = hash;
+    }
 
-        if (!this.stopTimer) {
-            log.trace("Scheduling stats collection in {} seconds for {}",
-                    this.refreshInterval, this.sw.getStringId());
-            timeout.getTimer().newTimeout(this, refreshInterval,
-                    TimeUnit.SECONDS);
-        }
+    /**
+     * Notifies the collector that the meters of the switch were modified.
+     */
+    void metersModified() {
+        poller.resetBackoff();
     }
 
-    private void sendMeterStatistic() {
+    private boolean sendMeterStatistic() {
         if (log.isTraceEnabled()) {
             log.trace("sendMeterStatistics {}:{}", sw.getStringId(), sw.getRole());
         }
         if (sw.getRole() != RoleState.MASTER) {
-            return;
+            return false;
         }
 
         OFMeterStatsRequest.Builder builder =
@@ -81,7 +89,7 @@ public class MeterStatsCollector implements TimerTask {
         builder.setXid(0).setMeterId(0xFFFFFFFF);
 
         sw.sendMsg(builder.build());
-
+        return true;
     }
 
     /**
@@ -89,7 +97,7 @@ public class MeterStatsCollector implements TimerTask {
      */
     public void start() {
         log.info("Starting Meter Stats collection thread for {}", sw.getStringId());
-        timeout = timer.newTimeout(this, 1, TimeUnit.SECONDS);
+        poller.start();
     }
 
     /**
@@ -97,7 +105,6 @@ public class MeterStatsCollector implements TimerTask {
      */
     public void stop() {
         log.info("Stopping Meter Stats collection thread for {}", sw.getStringId());
-        this.stopTimer = true;
-        timeout.cancel();
+        poller.stop();
     }
 }
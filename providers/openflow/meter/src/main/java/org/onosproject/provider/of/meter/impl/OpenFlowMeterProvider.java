@@ -101,7 +101,7 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
 
 
     private InternalMeterListener listener = new InternalMeterListener();
-    private Map<Dpid, MeterStatsCollector> collectors = Maps.newHashMap();
+    private Map<Dpid, MeterStatsCollector> collectors = Maps.newConcurrentMap();
 
     /**
      * Creates a OpenFlow meter provider.
@@ -199,11 +199,15 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
                                                      MeterFailReason.UNKNOWN_COMMAND);
         }
 
+        MeterStatsCollector collector = collectors.get(new Dpid(sw.getId()));
+        if (collector != null) {
+            collector.metersModified();
+        }
     }
 
     private void createStatsCollection(OpenFlowSwitch sw) {
         if (isMeterSupported(sw)) {
-            MeterStatsCollector msc = new MeterStatsCollector(sw, POLL_INTERVAL);
+            MeterStatsCollector msc = new MeterStatsCollector(controller.statsPollScheduler(), sw, POLL_INTERVAL);
             msc.start();
             collectors.put(new Dpid(sw.getId()), msc);
         }
@@ -227,6 +231,11 @@ public class OpenFlowMeterProvider extends AbstractProvider implements MeterProv
             Collection<Meter> meters = buildMeters(deviceId, reply.getEntries());
             //TODO do meter accounting here.
             providerService.pushMeterMetrics(deviceId, meters);
+
+            MeterStatsCollector collector = collectors.get(dpid);
+            if (collector != null) {
+                collector.statsReceived(reply);
+            }
         } else if (msg.getStatsType() == OFStatsType.METER_CONFIG) {
             OFMeterConfigStatsReply reply  = (OFMeterConfigStatsReply) msg;
             // FIXME: Map<Long, Meter> meters = collectMeters(deviceId, reply);
@@ -45,6 +45,7 @@ import org.onosproject.openflow.controller.OpenFlowSwitch;
 import org.onosproject.openflow.controller.OpenFlowSwitchListener;
 import org.onosproject.openflow.controller.PacketListener;
 import org.onosproject.openflow.controller.RoleState;
+import org.onosproject.openflow.controller.StatsPollScheduler;
 import org.projectfloodlight.openflow.protocol.OFFactory;
 import org.projectfloodlight.openflow.protocol.OFMessage;
 import org.projectfloodlight.openflow.protocol.OFPacketIn;
@@ -327,6 +328,11 @@ public class OpenFlowPacketProviderTest {
         public void setRole(Dpid dpid, RoleState role) {
         }
 
+        @Override
+        public StatsPollScheduler statsPollScheduler() {
+            return null;
+        }
+
     }
 
     private class TestOpenFlowSwitch implements OpenFlowSwitch {
@@ -15,8 +15,8 @@
  */
 package org.onosproject.provider.pcep.tunnel.impl;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.collections.map.MultiKeyMap;
 import org.onosproject.incubator.net.tunnel.TunnelId;
@@ -50,10 +50,11 @@ public class PcepTunnelApiMapper {
      */
     public PcepTunnelApiMapper() {
         //TODO check if the map need to initialize
-        tunnelRequestQueue = new HashMap<Integer, PcepTunnelData>();
-        coreTunnelRequestQueue = new HashMap<TunnelId, PcepTunnelData>();
-        tunnelDB = new HashMap<Integer, PcepTunnelData>();
-        tunnelIdMap = new HashMap<TunnelId, Integer>();
+        // Reports and replies are handled on the PCEP worker threads
+        tunnelRequestQueue = new ConcurrentHashMap<Integer, PcepTunnelData>();
+        coreTunnelRequestQueue = new ConcurrentHashMap<TunnelId, PcepTunnelData>();
+        tunnelDB = new ConcurrentHashMap<Integer, PcepTunnelData>();
+        tunnelIdMap = new ConcurrentHashMap<TunnelId, Integer>();
     }
 
     /**
@@ -200,7 +201,9 @@ public class PcepTunnelApiMapper {
      * @param pcepTunnelData pcep tunnel data
      */
     public void addPccTunnelDB(PcepTunnelData pcepTunnelData) {
-        pccTunnelDB.put(pcepTunnelData.statefulIpv4IndentifierTlv().getTunnelId() & 0xFFFFL,
-                        pcepTunnelData.statefulIpv4IndentifierTlv().getIpv4IngressAddress(), pcepTunnelData);
+        synchronized (pccTunnelDB) {
+            pccTunnelDB.put(pcepTunnelData.statefulIpv4IndentifierTlv().getTunnelId() & 0xFFFFL,
+                            pcepTunnelData.statefulIpv4IndentifierTlv().getIpv4IngressAddress(), pcepTunnelData);
+        }
     }
 }
@@ -27,11 +27,11 @@ import static org.slf4j.LoggerFactory.getLogger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Dictionary;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.Maps;
 import org.apache.felix.scr.annotations.Activate;
@@ -150,9 +150,11 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
 
     TunnelProviderService service;
 
-    HashMap<String, TunnelId> tunnelMap = new HashMap<String, TunnelId>();
-    HashMap<TunnelId, TunnelStatistics> tunnelStatisticsMap = new HashMap<>();
-    private HashMap<Long, TunnelStatsCollector> collectors = Maps.newHashMap();
+    // Tunnel ids by PCEP tunnel key, and the reverse index by tunnel id value
+    ConcurrentMap<String, TunnelId> tunnelMap = Maps.newConcurrentMap();
+    private final ConcurrentMap<Long, String> tunnelKeys = Maps.newConcurrentMap();
+    ConcurrentMap<TunnelId, TunnelStatistics> tunnelStatisticsMap = Maps.newConcurrentMap();
+    private ConcurrentMap<Long, TunnelStatsCollector> collectors = Maps.newConcurrentMap();
 
     private InnerTunnelProvider listener = new InnerTunnelProvider();
 
@@ -412,7 +414,7 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
         TunnelDescription tunnelAdded = buildOpticalTunnel(pcepTunnel, null);
         TunnelId tunnelId = service.tunnelAdded(tunnelAdded);
 
-        tunnelMap.put(String.valueOf(pcepTunnel.id()), tunnelId);
+        addTunnelKey(String.valueOf(pcepTunnel.id()), tunnelId);
         return tunnelId;
     }
 
@@ -435,7 +437,7 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
             error("Delete tunnel failed, Maybe some devices have been disconnected.");
             return;
         }
-        tunnelMap.remove(pcepTunnelId);
+        removeTunnelKey(pcepTunnelId);
         service.tunnelRemoved(tunnel);
     }
 
@@ -610,12 +612,7 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
      * @return corresponding tunnel id of the a tunnel key.
      */
     private TunnelId getTunnelId(String tunnelKey) {
-        for (String key : tunnelMap.keySet()) {
-            if (key.equals(tunnelKey)) {
-                return tunnelMap.get(key);
-            }
-        }
-        return null;
+        return tunnelMap.get(tunnelKey);
     }
 
     /**
@@ -625,13 +622,36 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
      * @return corresponding a tunnel key of the tunnel id.
      */
     private String getPCEPTunnelKey(TunnelId tunnelId) {
-        for (String key : tunnelMap.keySet()) {
-            if (tunnelMap.get(key).id() == tunnelId.id()) {
-                return key;
-            }
+        return tunnelKeys.get(tunnelId.id());
+    }
+
+    /**
+     * Maps a tunnel key to its tunnelID, in both directions.
+     *
+     * @param tunnelKey tunnel key
+     * @param tunnelId tunnel id
+     */
+    private void addTunnelKey(String tunnelKey, TunnelId tunnelId) {
+        if (tunnelId == null) {
+            return;
+        }
+        TunnelId old = tunnelMap.put(tunnelKey, tunnelId);
+        if (old != null) {
+            tunnelKeys.remove(old.id(), tunnelKey);
         }
-        return null;
+        tunnelKeys.put(tunnelId.id(), tunnelKey);
+    }
 
+    /**
+     * Removes the mapping of a tunnel key, in both directions.
+     *
+     * @param tunnelKey tunnel key
+     */
+    private void removeTunnelKey(String tunnelKey) {
+        TunnelId tunnelId = tunnelMap.remove(tunnelKey);
+        if (tunnelId != null) {
+            tunnelKeys.remove(tunnelId.id(), tunnelKey);
+        }
     }
 
     /**
@@ -937,7 +957,7 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
             switch (operType) {
             case ADD:
                 tunnelId = service.tunnelAdded(tunnel);
-                tunnelMap.put(tunnelKey, tunnelId);
+                addTunnelKey(tunnelKey, tunnelId);
                 break;
 
             case UPDATE:
@@ -946,7 +966,7 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
 
             case DELETE:
                 service.tunnelRemoved(tunnel);
-                tunnelMap.remove(tunnelKey);
+                removeTunnelKey(tunnelKey);
                 break;
 
             default:
@@ -1219,7 +1239,9 @@ public class PcepTunnelProvider extends AbstractProvider implements TunnelProvid
         public void handlePcepTunnelStatistics(PcepTunnelStatistics pcepTunnelStatistics) {
             TunnelId id = getTunnelId(String.valueOf(pcepTunnelStatistics.id()));
             TunnelStatistics tunnelStatistics = buildTunnelStatistics(pcepTunnelStatistics);
-            tunnelStatisticsMap.put(id, tunnelStatistics);
+            if (id != null) {
+                tunnelStatisticsMap.put(id, tunnelStatistics);
+            }
         }
     }
 
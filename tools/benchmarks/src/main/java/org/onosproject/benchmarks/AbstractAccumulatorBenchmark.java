@@ -0,0 +1,107 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onlab.util.AbstractAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Intake of items by an accumulator, which schedules and cancels its timer
+ * tasks on every item added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AbstractAccumulatorBenchmark {
+
+    private static final int MAX_BATCH_MS = 50;
+    private static final int MAX_IDLE_MS = 10;
+    private static final Integer ITEM = 1;
+
+    @Param({"100", "1000"})
+    private int maxItems;
+
+    private Timer timer;
+    private CountingAccumulator accumulator;
+
+    /**
+     * Creates the accumulator.
+     */
+    @Setup
+    public void setUp() {
+        timer = new Timer("accumulator-benchmark", true);
+        accumulator = new CountingAccumulator(timer, maxItems);
+    }
+
+    /**
+     * Stops the accumulator timer.
+     */
+    @TearDown
+    public void tearDown() {
+        timer.cancel();
+    }
+
+    /**
+     * Adds an item from a single thread.
+     */
+    @Benchmark
+    public void add() {
+        accumulator.add(ITEM);
+    }
+
+    /**
+     * Adds an item from four contending threads.
+     */
+    @Benchmark
+    @Threads(4)
+    public void addContended() {
+        accumulator.add(ITEM);
+    }
+
+    // Accumulator counting the items it processes
+    private static final class CountingAccumulator extends AbstractAccumulator<Integer> {
+        private final LongAdder processed = new LongAdder();
+
+        private CountingAccumulator(Timer timer, int maxItems) {
+            super(timer, maxItems, MAX_BATCH_MS, MAX_IDLE_MS);
+        }
+
+        @Override
+        public void processItems(List<Integer> items) {
+            processed.add(items.size());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onosproject.common.DefaultTopology;
+import org.onosproject.net.Device;
+import org.onosproject.net.Link;
+import org.onosproject.net.topology.DefaultGraphDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of the topology of a square grid of switches, as done by the
+ * topology store on every topology change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultTopologyBenchmark {
+
+    @Param({"10", "30"})
+    private int side;
+
+    private List<Device> devices;
+    private List<Link> links;
+
+    /**
+     * Generates the devices and links of the grid.
+     */
+    @Setup
+    public void setUp() {
+        devices = Topologies.gridDevices(side);
+        links = Topologies.gridLinks(side);
+    }
+
+    /**
+     * Builds the graph description and the topology.
+     *
+     * @return topology
+     */
+    @Benchmark
+    public DefaultTopology build() {
+        return new DefaultTopology(Topologies.PID,
+                                   new DefaultGraphDescription(System.nanoTime(),
+                                                               System.currentTimeMillis(),
+                                                               devices, links));
+    }
+
+    /**
+     * Builds the topology and computes its clusters, which is needed before
+     * it can be published.
+     *
+     * @return topology
+     */
+    @Benchmark
+    public DefaultTopology buildWithClusters() {
+        DefaultTopology topology = build();
+        topology.clusterCount();
+        return topology;
+    }
+}
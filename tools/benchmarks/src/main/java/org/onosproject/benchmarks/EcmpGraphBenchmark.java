@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.segmentrouting.ECMPShortestPathGraph;
+import org.onosproject.segmentrouting.SegmentRoutingManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computation of the ECMP shortest path graphs of every switch of a
+ * leaf-spine fabric, as done by segment routing on a topology change,
+ * sequentially and in parallel over a snapshot of the links.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EcmpGraphBenchmark {
+
+    @Param({"100", "500", "1000"})
+    private int leaves;
+
+    @Param({"4"})
+    private int spines;
+
+    private final SegmentRoutingManager srManager = new SegmentRoutingManager();
+    private final ForkJoinPool pool =
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private ListMultimap<DeviceId, Link> links;
+
+    /**
+     * Builds the egress links of every switch of the fabric.
+     */
+    @Setup
+    public void setUp() {
+        ImmutableListMultimap.Builder<DeviceId, Link> builder = ImmutableListMultimap.builder();
+        for (Link link : Topologies.leafSpineLinks(spines, leaves)) {
+            builder.put(link.src().deviceId(), link);
+        }
+        links = builder.build();
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Computes the graph of every root one after the other.
+     *
+     * @return computed graphs
+     */
+    @Benchmark
+    public List<ECMPShortestPathGraph> sequential() {
+        List<ECMPShortestPathGraph> spgs = new ArrayList<>();
+        for (DeviceId root : links.keySet()) {
+            spgs.add(new ECMPShortestPathGraph(root, srManager, links));
+        }
+        return spgs;
+    }
+
+    /**
+     * Computes the graphs of all roots concurrently on a fork-join pool.
+     *
+     * @return computed graphs
+     */
+    @Benchmark
+    public List<ECMPShortestPathGraph> parallel() {
+        List<CompletableFuture<ECMPShortestPathGraph>> futures = new ArrayList<>();
+        for (DeviceId root : links.keySet()) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> new ECMPShortestPathGraph(root, srManager, links), pool));
+        }
+        List<ECMPShortestPathGraph> spgs = new ArrayList<>();
+        futures.forEach(future -> spgs.add(future.join()));
+        return spgs;
+    }
+}
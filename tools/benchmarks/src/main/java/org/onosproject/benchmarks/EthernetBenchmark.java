@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onlab.packet.Data;
+import org.onlab.packet.DeserializationException;
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.IPv4;
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.TCP;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and building of Ethernet frames carrying TCP over IPv4, as done
+ * for every packet-in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EthernetBenchmark {
+
+    @Param({"64", "1400"})
+    private int payloadSize;
+
+    private TCP segment;
+    private Ethernet frame;
+    private byte[] bytes;
+
+    /**
+     * Builds the frame to serialize and its serialized form.
+     */
+    @Setup
+    public void setUp() {
+        segment = new TCP()
+                .setSourcePort(49152)
+                .setDestinationPort(80);
+        segment.setPayload(new Data(new byte[payloadSize]));
+        IPv4 ip = new IPv4()
+                .setSourceAddress("10.0.0.1")
+                .setDestinationAddress("10.0.0.2")
+                .setProtocol(IPv4.PROTOCOL_TCP)
+                .setTtl((byte) 64);
+        ip.setPayload(segment);
+        frame = new Ethernet()
+                .setSourceMACAddress(MacAddress.valueOf("00:00:00:00:00:01"))
+                .setDestinationMACAddress(MacAddress.valueOf("00:00:00:00:00:02"))
+                .setEtherType(Ethernet.TYPE_IPV4);
+        frame.setPayload(ip);
+        bytes = frame.serialize();
+    }
+
+    /**
+     * Parses a frame with the validating deserializer.
+     *
+     * @return parsed frame
+     * @throws DeserializationException if the frame is malformed
+     */
+    @Benchmark
+    public Ethernet deserialize() throws DeserializationException {
+        return Ethernet.deserializer().deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Serializes a frame, computing the IPv4 and TCP checksums.
+     *
+     * @return serialized frame
+     */
+    @Benchmark
+    public byte[] serialize() {
+        segment.resetChecksum();
+        return frame.serialize();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.onlab.util.KryoNamespace;
+import org.onosproject.cluster.ClusterServiceAdapter;
+import org.onosproject.store.cluster.messaging.ClusterCommunicationServiceAdapter;
+import org.onosproject.store.ecmap.EventuallyConsistentMapBuilderImpl;
+import org.onosproject.store.impl.LogicalTimestamp;
+import org.onosproject.store.serializers.KryoNamespaces;
+import org.onosproject.store.service.EventuallyConsistentMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local updates and reads of an eventually consistent map on a single node
+ * cluster, which measures the cost of the map itself rather than that of
+ * the replication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventuallyConsistentMapBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final String[] keys = new String[KEY_COUNT];
+
+    private EventuallyConsistentMap<String, String> map;
+    private int next;
+
+    /**
+     * Builds the map and fills it with all the keys.
+     */
+    @Setup
+    public void setUp() {
+        map = new EventuallyConsistentMapBuilderImpl<String, String>(
+                        new ClusterServiceAdapter(), new ClusterCommunicationServiceAdapter())
+                .withName("benchmark")
+                .withSerializer(KryoNamespace.newBuilder().register(KryoNamespaces.API))
+                .withTimestampProvider((k, v) -> new LogicalTimestamp(clock.incrementAndGet()))
+                .withEventExecutor(MoreExecutors.newDirectExecutorService())
+                .withCommunicationExecutor(MoreExecutors.newDirectExecutorService())
+                .build();
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "key" + i;
+            map.put(keys[i], keys[i]);
+        }
+    }
+
+    /**
+     * Destroys the map.
+     */
+    @TearDown
+    public void tearDown() {
+        map.destroy();
+    }
+
+    private String nextKey() {
+        next = next + 1 < KEY_COUNT ? next + 1 : 0;
+        return keys[next];
+    }
+
+    /**
+     * Replaces the value of a key.
+     */
+    @Benchmark
+    public void put() {
+        String key = nextKey();
+        map.put(key, key);
+    }
+
+    /**
+     * Reads the value of a key.
+     *
+     * @return value read
+     */
+    @Benchmark
+    public String get() {
+        return map.get(nextKey());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import com.google.common.collect.ImmutableSet;
+import org.onlab.graph.AbstractEdge;
+import org.onlab.graph.AdjacencyListsGraph;
+import org.onlab.graph.BreadthFirstSearch;
+import org.onlab.graph.DijkstraGraphSearch;
+import org.onlab.graph.EdgeWeight;
+import org.onlab.graph.Graph;
+import org.onlab.graph.GraphPathSearch;
+import org.onlab.graph.KshortestPathSearch;
+import org.onlab.graph.SuurballeGraphSearch;
+import org.onlab.graph.TarjanGraphSearch;
+import org.onlab.graph.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph searches between the opposite corners of a square grid.
+ * <p>
+ * Edges have random weights, so that shortest paths are unique: with equal
+ * weights the number of shortest paths between the corners grows
+ * exponentially with the size of the grid.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphSearchBenchmark {
+
+    private static final int K = 4;
+    private static final long SEED = 42;
+    private static final EdgeWeight<GridVertex, GridEdge> WEIGHT = edge -> edge.weight;
+
+    @Param({"10", "20"})
+    private int side;
+
+    private Graph<GridVertex, GridEdge> graph;
+    private GridVertex src;
+    private GridVertex dst;
+
+    /**
+     * Builds the grid graph.
+     */
+    @Setup
+    public void setUp() {
+        GridVertex[][] vertexes = new GridVertex[side][side];
+        ImmutableSet.Builder<GridVertex> allVertexes = ImmutableSet.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                vertexes[row][column] = new GridVertex(row * side + column);
+                allVertexes.add(vertexes[row][column]);
+            }
+        }
+        Random random = new Random(SEED);
+        ImmutableSet.Builder<GridEdge> edges = ImmutableSet.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                GridVertex vertex = vertexes[row][column];
+                if (column + 1 < side) {
+                    edges.add(new GridEdge(vertex, vertexes[row][column + 1], random));
+                    edges.add(new GridEdge(vertexes[row][column + 1], vertex, random));
+                }
+                if (row + 1 < side) {
+                    edges.add(new GridEdge(vertex, vertexes[row + 1][column], random));
+                    edges.add(new GridEdge(vertexes[row + 1][column], vertex, random));
+                }
+            }
+        }
+        graph = new AdjacencyListsGraph<>(allVertexes.build(), edges.build());
+        src = vertexes[0][0];
+        dst = vertexes[side - 1][side - 1];
+    }
+
+    /**
+     * Finds a shortest path with Dijkstra's algorithm.
+     *
+     * @return search result
+     */
+    @Benchmark
+    public GraphPathSearch.Result<GridVertex, GridEdge> dijkstra() {
+        return new DijkstraGraphSearch<GridVertex, GridEdge>()
+                .search(graph, src, dst, WEIGHT, 1);
+    }
+
+    /**
+     * Finds a shortest path with a breadth-first search.
+     *
+     * @return search result
+     */
+    @Benchmark
+    public GraphPathSearch.Result<GridVertex, GridEdge> breadthFirst() {
+        return new BreadthFirstSearch<GridVertex, GridEdge>()
+                .search(graph, src, dst, null, 1);
+    }
+
+    /**
+     * Finds a pair of disjoint paths with Suurballe's algorithm.
+     *
+     * @return search result
+     */
+    @Benchmark
+    public GraphPathSearch.Result<GridVertex, GridEdge> suurballe() {
+        return new SuurballeGraphSearch<GridVertex, GridEdge>()
+                .search(graph, src, dst, WEIGHT, GraphPathSearch.ALL_PATHS);
+    }
+
+    /**
+     * Finds the k shortest paths.
+     *
+     * @return paths found
+     */
+    @Benchmark
+    public List<List<GridEdge>> kShortest() {
+        return new KshortestPathSearch<>(graph).search(src, dst, WEIGHT, K);
+    }
+
+    /**
+     * Finds the strongly connected components with Tarjan's algorithm.
+     *
+     * @return search result
+     */
+    @Benchmark
+    public TarjanGraphSearch.SCCResult<GridVertex, GridEdge> tarjan() {
+        return new TarjanGraphSearch<GridVertex, GridEdge>().search(graph, WEIGHT);
+    }
+
+    /**
+     * Vertex of the grid.
+     */
+    public static final class GridVertex implements Vertex {
+        private final int id;
+
+        private GridVertex(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof GridVertex && ((GridVertex) obj).id == id;
+        }
+    }
+
+    /**
+     * Edge between neighbouring vertexes of the grid.
+     */
+    public static final class GridEdge extends AbstractEdge<GridVertex> {
+        private final double weight;
+
+        private GridEdge(GridVertex src, GridVertex dst, Random random) {
+            super(src, dst);
+            this.weight = 1.0 + random.nextDouble();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onlab.packet.MacAddress;
+import org.onlab.packet.VlanId;
+import org.onlab.util.KryoNamespace;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.HostId;
+import org.onosproject.net.LinkKey;
+import org.onosproject.net.PortNumber;
+import org.onosproject.store.serializers.KryoNamespaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.net.DeviceId.deviceId;
+import static org.onosproject.net.PortNumber.portNumber;
+
+/**
+ * Lookup of the interned network identifiers in hash maps, the way the
+ * stores find the state of a device, host, port or link, and their decoding
+ * with the Kryo namespace shared by the distributed stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    private static final PortNumber PORT = portNumber(1);
+
+    @Param({"10000"})
+    private int count;
+
+    private KryoNamespace serializer;
+
+    private String[] deviceNames;
+    private MacAddress[] macs;
+    private DeviceId[] deviceIds;
+    private ConnectPoint[] connectPoints;
+
+    private Map<DeviceId, Integer> devices;
+    private Map<HostId, Integer> hosts;
+    private Map<ConnectPoint, Integer> ports;
+    private Map<LinkKey, Integer> links;
+
+    private byte[][] deviceIdBytes;
+    private byte[][] hostIdBytes;
+    private byte[][] connectPointBytes;
+    private byte[][] linkKeyBytes;
+
+    private int next;
+
+    /**
+     * Builds the identifiers, the maps keyed by them and their encodings.
+     */
+    @Setup
+    public void setUp() {
+        serializer = KryoNamespace.newBuilder()
+                .register(KryoNamespaces.API)
+                .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
+                .build();
+
+        deviceNames = new String[count];
+        macs = new MacAddress[count];
+        deviceIds = new DeviceId[count];
+        connectPoints = new ConnectPoint[count];
+        devices = new HashMap<>();
+        hosts = new HashMap<>();
+        ports = new HashMap<>();
+        links = new HashMap<>();
+        deviceIdBytes = new byte[count][];
+        hostIdBytes = new byte[count][];
+        connectPointBytes = new byte[count][];
+        linkKeyBytes = new byte[count][];
+
+        for (int i = 0; i < count; i++) {
+            deviceNames[i] = String.format("of:%016x", i);
+            macs[i] = MacAddress.valueOf(i);
+            deviceIds[i] = deviceId(deviceNames[i]);
+            connectPoints[i] = new ConnectPoint(deviceIds[i], PORT);
+        }
+        for (int i = 0; i < count; i++) {
+            HostId hostId = HostId.hostId(macs[i], VlanId.NONE);
+            LinkKey linkKey = LinkKey.linkKey(connectPoints[i], connectPoints[(i + 1) % count]);
+            devices.put(deviceIds[i], i);
+            hosts.put(hostId, i);
+            ports.put(connectPoints[i], i);
+            links.put(linkKey, i);
+            deviceIdBytes[i] = serializer.serialize(deviceIds[i]);
+            hostIdBytes[i] = serializer.serialize(hostId);
+            connectPointBytes[i] = serializer.serialize(connectPoints[i]);
+            linkKeyBytes[i] = serializer.serialize(linkKey);
+        }
+    }
+
+    private int next() {
+        int i = next;
+        next = i + 1 == count ? 0 : i + 1;
+        return i;
+    }
+
+    /**
+     * Looks a device up by the identifier parsed from its name.
+     *
+     * @return value mapped to the device
+     */
+    @Benchmark
+    public Integer deviceIdLookup() {
+        return devices.get(deviceId(deviceNames[next()]));
+    }
+
+    /**
+     * Looks a host up by the identifier built from its MAC address.
+     *
+     * @return value mapped to the host
+     */
+    @Benchmark
+    public Integer hostIdLookup() {
+        return hosts.get(HostId.hostId(macs[next()], VlanId.NONE));
+    }
+
+    /**
+     * Looks a port up by a newly built connect point.
+     *
+     * @return value mapped to the port
+     */
+    @Benchmark
+    public Integer connectPointLookup() {
+        return ports.get(new ConnectPoint(deviceIds[next()], PORT));
+    }
+
+    /**
+     * Looks a link up by the key built from its end points.
+     *
+     * @return value mapped to the link
+     */
+    @Benchmark
+    public Integer linkKeyLookup() {
+        int i = next();
+        return links.get(LinkKey.linkKey(connectPoints[i], connectPoints[(i + 1) % count]));
+    }
+
+    /**
+     * Decodes a device identifier.
+     *
+     * @return decoded identifier
+     */
+    @Benchmark
+    public DeviceId decodeDeviceId() {
+        return serializer.deserialize(deviceIdBytes[next()]);
+    }
+
+    /**
+     * Decodes a host identifier.
+     *
+     * @return decoded identifier
+     */
+    @Benchmark
+    public HostId decodeHostId() {
+        return serializer.deserialize(hostIdBytes[next()]);
+    }
+
+    /**
+     * Decodes a connect point.
+     *
+     * @return decoded connect point
+     */
+    @Benchmark
+    public ConnectPoint decodeConnectPoint() {
+        return serializer.deserialize(connectPointBytes[next()]);
+    }
+
+    /**
+     * Decodes a link key.
+     *
+     * @return decoded link key
+     */
+    @Benchmark
+    public LinkKey decodeLinkKey() {
+        return serializer.deserialize(linkKeyBytes[next()]);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onlab.packet.Ethernet;
+import org.onlab.packet.IpPrefix;
+import org.onlab.packet.MacAddress;
+import org.onlab.util.KryoNamespace;
+import org.onosproject.core.DefaultApplicationId;
+import org.onosproject.net.Device;
+import org.onosproject.net.Link;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.flow.DefaultFlowEntry;
+import org.onosproject.net.flow.DefaultFlowRule;
+import org.onosproject.net.flow.DefaultTrafficSelector;
+import org.onosproject.net.flow.DefaultTrafficTreatment;
+import org.onosproject.net.flow.FlowEntry;
+import org.onosproject.store.serializers.KryoNamespaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of the core store types with the Kryo namespace
+ * shared by the distributed stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KryoNamespaceBenchmark {
+
+    private static final int GRID_SIDE = 10;
+    private static final int FLOW_COUNT = 100;
+
+    private KryoNamespace serializer;
+
+    private Device device;
+    private Link link;
+    private FlowEntry flowEntry;
+    private List<Link> links;
+    private List<FlowEntry> flowEntries;
+
+    private byte[] deviceBytes;
+    private byte[] linkBytes;
+    private byte[] flowEntryBytes;
+    private byte[] linksBytes;
+    private byte[] flowEntriesBytes;
+
+    /**
+     * Builds the serializer and the objects to encode and decode.
+     */
+    @Setup
+    public void setUp() {
+        serializer = KryoNamespace.newBuilder()
+                .register(KryoNamespaces.API)
+                .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID)
+                .build();
+
+        device = Topologies.gridDevices(1).get(0);
+        links = new ArrayList<>(Topologies.gridLinks(GRID_SIDE));
+        link = links.get(0);
+        flowEntries = new ArrayList<>();
+        for (int i = 0; i < FLOW_COUNT; i++) {
+            flowEntries.add(flowEntry(i));
+        }
+        flowEntry = flowEntries.get(0);
+
+        deviceBytes = serializer.serialize(device);
+        linkBytes = serializer.serialize(link);
+        flowEntryBytes = serializer.serialize(flowEntry);
+        linksBytes = serializer.serialize(links);
+        flowEntriesBytes = serializer.serialize(flowEntries);
+    }
+
+    private FlowEntry flowEntry(int i) {
+        return new DefaultFlowEntry(DefaultFlowRule.builder()
+                .forDevice(device.id())
+                .fromApp(new DefaultApplicationId(1, "org.onosproject.benchmarks"))
+                .withPriority(40000)
+                .withSelector(DefaultTrafficSelector.builder()
+                                      .matchInPort(PortNumber.portNumber(1))
+                                      .matchEthType(Ethernet.TYPE_IPV4)
+                                      .matchEthDst(MacAddress.valueOf(i))
+                                      .matchIPDst(IpPrefix.valueOf(0x0a000000 + i, 32))
+                                      .build())
+                .withTreatment(DefaultTrafficTreatment.builder()
+                                       .setOutput(PortNumber.portNumber(2))
+                                       .build())
+                .makePermanent()
+                .build());
+    }
+
+    /**
+     * Encodes a device.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeDevice() {
+        return serializer.serialize(device);
+    }
+
+    /**
+     * Decodes a device.
+     *
+     * @return decoded device
+     */
+    @Benchmark
+    public Device decodeDevice() {
+        return serializer.deserialize(deviceBytes);
+    }
+
+    /**
+     * Encodes a link.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeLink() {
+        return serializer.serialize(link);
+    }
+
+    /**
+     * Decodes a link.
+     *
+     * @return decoded link
+     */
+    @Benchmark
+    public Link decodeLink() {
+        return serializer.deserialize(linkBytes);
+    }
+
+    /**
+     * Encodes a flow entry.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeFlowEntry() {
+        return serializer.serialize(flowEntry);
+    }
+
+    /**
+     * Decodes a flow entry.
+     *
+     * @return decoded flow entry
+     */
+    @Benchmark
+    public FlowEntry decodeFlowEntry() {
+        return serializer.deserialize(flowEntryBytes);
+    }
+
+    /**
+     * Encodes the links of a grid topology, as in a link store advertisement.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeLinks() {
+        return serializer.serialize(links);
+    }
+
+    /**
+     * Decodes the links of a grid topology.
+     *
+     * @return decoded links
+     */
+    @Benchmark
+    public List<Link> decodeLinks() {
+        return serializer.deserialize(linksBytes);
+    }
+
+    /**
+     * Encodes the flow entries of a device, as in a flow rule store backup.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public byte[] encodeFlowEntries() {
+        return serializer.serialize(flowEntries);
+    }
+
+    /**
+     * Decodes the flow entries of a device.
+     *
+     * @return decoded flow entries
+     */
+    @Benchmark
+    public List<FlowEntry> decodeFlowEntries() {
+        return serializer.deserialize(flowEntriesBytes);
+    }
+}
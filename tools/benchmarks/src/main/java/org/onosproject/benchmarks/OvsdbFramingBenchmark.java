@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.onosproject.ovsdb.rfc.jsonrpc.JsonReadContext;
+import org.onosproject.ovsdb.rfc.utils.JsonRpcReaderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Framing and parsing of the initial monitor dump of an OVSDB server, as
+ * done when a hypervisor connects.
+ * <p>
+ * The dump is synthesized: one update notification per bridge, each with
+ * the given number of ports and interfaces, delivered in segments of the
+ * size read from the channel.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OvsdbFramingBenchmark {
+
+    private static final int BRIDGES = 4;
+    private static final int SEGMENT_SIZE = 1460;
+
+    @Param({"100", "1000"})
+    private int interfacesPerBridge;
+
+    private final List<byte[]> segments = new ArrayList<>();
+
+    /**
+     * Synthesizes the monitor dump and splits it into segments.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder dump = new StringBuilder();
+        for (int b = 0; b < BRIDGES; b++) {
+            dump.append(update(b));
+        }
+        byte[] bytes = dump.toString().getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += SEGMENT_SIZE) {
+            byte[] segment = new byte[Math.min(SEGMENT_SIZE, bytes.length - i)];
+            System.arraycopy(bytes, i, segment, 0, segment.length);
+            segments.add(segment);
+        }
+    }
+
+    /**
+     * Frames and parses the dump, cumulating segments as the channel
+     * decoder does.
+     *
+     * @return parsed messages
+     * @throws IOException if a message cannot be parsed
+     */
+    @Benchmark
+    public List<Object> frameAndParse() throws IOException {
+        JsonReadContext context = new JsonReadContext();
+        List<Object> out = new ArrayList<>();
+        ByteBuf cumulation = Unpooled.buffer();
+        for (byte[] segment : segments) {
+            cumulation.writeBytes(segment);
+            JsonRpcReaderUtil.readToJsonNode(cumulation, out, context);
+            cumulation.discardReadBytes();
+        }
+        cumulation.release();
+        return out;
+    }
+
+    // Update notification carrying a bridge with its ports and interfaces
+    private String update(int bridge) {
+        StringBuilder ports = new StringBuilder();
+        StringBuilder interfaces = new StringBuilder();
+        StringBuilder portRefs = new StringBuilder();
+        for (int i = 0; i < interfacesPerBridge; i++) {
+            String name = "tap" + bridge + "-" + i;
+            String portUuid = uuid(1, bridge, i);
+            String intfUuid = uuid(2, bridge, i);
+            separate(portRefs).append("[\"uuid\",\"").append(portUuid).append("\"]");
+            separate(ports).append('"').append(portUuid).append("\":{\"new\":{")
+                    .append("\"name\":\"").append(name).append("\",")
+                    .append("\"interfaces\":[\"uuid\",\"").append(intfUuid).append("\"]}}");
+            separate(interfaces).append('"').append(intfUuid).append("\":{\"new\":{")
+                    .append("\"name\":\"").append(name).append("\",")
+                    .append("\"type\":\"\",\"ofport\":").append(i + 1).append(',')
+                    .append("\"external_ids\":[\"map\",[[\"iface-id\",\"")
+                    .append(uuid(3, bridge, i)).append("\"],")
+                    .append("[\"attached-mac\",\"fa:16:3e:00:")
+                    .append(String.format("%02x:%02x", bridge, i & 0xff))
+                    .append("\"]]]}}");
+        }
+        return "{\"id\":null,\"method\":\"update\",\"params\":[null,{" +
+                "\"Bridge\":{\"" + uuid(0, bridge, 0) + "\":{\"new\":{" +
+                "\"name\":\"br" + bridge + "\"," +
+                "\"datapath_id\":\"" + String.format("%016x", bridge + 1) + "\"," +
+                "\"ports\":[\"set\",[" + portRefs + "]]}}}," +
+                "\"Port\":{" + ports + "}," +
+                "\"Interface\":{" + interfaces + "}}]}\n";
+    }
+
+    private static StringBuilder separate(StringBuilder sb) {
+        return sb.length() > 0 ? sb.append(',') : sb;
+    }
+
+    private static String uuid(int table, int bridge, int index) {
+        return String.format("%08x-0000-4000-8000-%04x%08x", table, bridge, index);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import org.onlab.packet.Ip4Address;
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onosproject.routing.RouteEntry;
+import org.onosproject.routing.RouteUpdate;
+import org.onosproject.routing.impl.RouterHook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of a full Internet routing table into the RIB of the router, and
+ * longest prefix match against it.
+ * <p>
+ * Routes are read from the file given by the {@code dump} parameter, either
+ * in {@code bgpdump -m} format or as one "prefix next-hop" pair per line.
+ * Without it, a synthetic table of IPv4 routes with a realistic prefix
+ * length mix is used. Run with {@code -prof gc} to see the memory cost of
+ * the table.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RouterBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int LOOKUPS = 1 << 16;
+
+    // Approximate share of each prefix length in a full table, from /16 up
+    private static final int[] LENGTH_WEIGHTS =
+            {1, 1, 1, 2, 3, 4, 6, 8, 54, 0, 0, 0, 0, 0, 0, 0, 20};
+
+    @Param({""})
+    private String dump;
+
+    @Param({"800000"})
+    private int syntheticRoutes;
+
+    private List<List<RouteUpdate>> batches;
+    private RouterHook loaded;
+    private IpAddress[] addresses;
+    private int next;
+
+    /**
+     * Reads or generates the routing table and loads it once for lookups.
+     *
+     * @throws IOException if the dump cannot be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        List<RouteEntry> routes = dump.isEmpty() ? syntheticRoutes() : readRoutes();
+        batches = new ArrayList<>();
+        for (int i = 0; i < routes.size(); i += BATCH_SIZE) {
+            List<RouteUpdate> batch = new ArrayList<>(BATCH_SIZE);
+            for (RouteEntry route : routes.subList(i, Math.min(i + BATCH_SIZE, routes.size()))) {
+                batch.add(new RouteUpdate(RouteUpdate.Type.UPDATE, route));
+            }
+            batches.add(batch);
+        }
+        loaded = load();
+
+        Random random = new Random(2);
+        addresses = new IpAddress[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            addresses[i] = Ip4Address.valueOf(random.nextInt());
+        }
+    }
+
+    /**
+     * Loads the whole table into an empty RIB, in batches as coalesced by
+     * the update thread.
+     *
+     * @return router holding the table
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public RouterHook loadFullTable() {
+        return load();
+    }
+
+    /**
+     * Finds the route of a random IPv4 address in the full table.
+     *
+     * @return matching route, or null if none
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public RouteEntry longestMatch() {
+        return loaded.longestMatch(addresses[next++ & (LOOKUPS - 1)]);
+    }
+
+    private RouterHook load() {
+        RouterHook router = new RouterHook();
+        batches.forEach(router::process);
+        return router;
+    }
+
+    private List<RouteEntry> readRoutes() throws IOException {
+        List<RouteEntry> routes = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(dump))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                boolean bgpdump = line.contains("|");
+                String[] fields = bgpdump ? line.split("\\|") : line.trim().split("\\s+");
+                int prefixField = bgpdump ? 5 : 0;
+                int nextHopField = bgpdump ? 8 : 1;
+                if (fields.length <= nextHopField) {
+                    continue;
+                }
+                IpPrefix prefix = IpPrefix.valueOf(fields[prefixField]);
+                IpAddress nextHop = IpAddress.valueOf(fields[nextHopField]);
+                if (prefix.version() == nextHop.version()) {
+                    routes.add(new RouteEntry(prefix, nextHop));
+                }
+            }
+        }
+        return routes;
+    }
+
+    private List<RouteEntry> syntheticRoutes() {
+        int total = 0;
+        for (int weight : LENGTH_WEIGHTS) {
+            total += weight;
+        }
+        Random random = new Random(1);
+        IpAddress[] nextHops = new IpAddress[16];
+        for (int i = 0; i < nextHops.length; i++) {
+            nextHops[i] = Ip4Address.valueOf(0xc0a80001 + i);
+        }
+        List<RouteEntry> routes = new ArrayList<>(syntheticRoutes);
+        for (int i = 0; i < syntheticRoutes; i++) {
+            int pick = random.nextInt(total);
+            int length = 16;
+            while (pick >= LENGTH_WEIGHTS[length - 16]) {
+                pick -= LENGTH_WEIGHTS[length - 16];
+                length++;
+            }
+            IpPrefix prefix = IpPrefix.valueOf(Ip4Address.valueOf(random.nextInt()), length);
+            routes.add(new RouteEntry(prefix, nextHops[random.nextInt(nextHops.length)]));
+        }
+        return routes;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import org.onlab.packet.ChassisId;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.DefaultAnnotations;
+import org.onosproject.net.DefaultDevice;
+import org.onosproject.net.DefaultLink;
+import org.onosproject.net.Device;
+import org.onosproject.net.DeviceId;
+import org.onosproject.net.Link;
+import org.onosproject.net.PortNumber;
+import org.onosproject.net.provider.ProviderId;
+
+import java.util.List;
+
+import static org.onosproject.net.DeviceId.deviceId;
+import static org.onosproject.net.PortNumber.portNumber;
+
+/**
+ * Generated network topologies for the benchmarks.
+ */
+final class Topologies {
+
+    static final ProviderId PID = new ProviderId("of", "org.onosproject.benchmarks");
+
+    // Ports towards the neighbours on the right and below
+    private static final PortNumber EAST = portNumber(1);
+    private static final PortNumber WEST = portNumber(2);
+    private static final PortNumber SOUTH = portNumber(3);
+    private static final PortNumber NORTH = portNumber(4);
+
+    // Not instantiable
+    private Topologies() {
+    }
+
+    /**
+     * Returns the identifier of the switch at the given position of a grid.
+     *
+     * @param row    row of the switch
+     * @param column column of the switch
+     * @return device identifier
+     */
+    static DeviceId gridDeviceId(int row, int column) {
+        return deviceId(String.format("of:%08x%08x", row, column));
+    }
+
+    /**
+     * Returns the switches of a square grid.
+     *
+     * @param side number of switches on each side of the grid
+     * @return list of devices
+     */
+    static List<Device> gridDevices(int side) {
+        ImmutableList.Builder<Device> devices = ImmutableList.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                devices.add(new DefaultDevice(PID, gridDeviceId(row, column),
+                                              Device.Type.SWITCH, "Nicira, Inc.",
+                                              "Open vSwitch", "2.3.1", "None",
+                                              new ChassisId(row * side + column),
+                                              DefaultAnnotations.builder()
+                                                      .set("protocol", "OF_13")
+                                                      .build()));
+            }
+        }
+        return devices.build();
+    }
+
+    /**
+     * Returns the links of a square grid of switches, each switch being
+     * connected in both directions to its horizontal and vertical neighbours.
+     *
+     * @param side number of switches on each side of the grid
+     * @return list of links
+     */
+    static List<Link> gridLinks(int side) {
+        ImmutableList.Builder<Link> links = ImmutableList.builder();
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                DeviceId device = gridDeviceId(row, column);
+                if (column + 1 < side) {
+                    addLinks(links, new ConnectPoint(device, EAST),
+                             new ConnectPoint(gridDeviceId(row, column + 1), WEST));
+                }
+                if (row + 1 < side) {
+                    addLinks(links, new ConnectPoint(device, SOUTH),
+                             new ConnectPoint(gridDeviceId(row + 1, column), NORTH));
+                }
+            }
+        }
+        return links.build();
+    }
+
+    /**
+     * Returns the identifier of a switch of a leaf-spine fabric.
+     *
+     * @param spine true for a spine switch, false for a leaf
+     * @param index index of the switch among the spines or the leaves
+     * @return device identifier
+     */
+    static DeviceId fabricDeviceId(boolean spine, int index) {
+        return deviceId(String.format("of:%08x%08x", spine ? 1 : 2, index));
+    }
+
+    /**
+     * Returns the links of a leaf-spine fabric, each leaf being connected in
+     * both directions to every spine.
+     *
+     * @param spines number of spine switches
+     * @param leaves number of leaf switches
+     * @return list of links
+     */
+    static List<Link> leafSpineLinks(int spines, int leaves) {
+        ImmutableList.Builder<Link> links = ImmutableList.builder();
+        for (int spine = 0; spine < spines; spine++) {
+            for (int leaf = 0; leaf < leaves; leaf++) {
+                addLinks(links,
+                         new ConnectPoint(fabricDeviceId(true, spine), portNumber(leaf + 1)),
+                         new ConnectPoint(fabricDeviceId(false, leaf), portNumber(spine + 1)));
+            }
+        }
+        return links.build();
+    }
+
+    private static void addLinks(ImmutableList.Builder<Link> links,
+                                 ConnectPoint one, ConnectPoint two) {
+        links.add(new DefaultLink(PID, one, two, Link.Type.DIRECT));
+        links.add(new DefaultLink(PID, two, one, Link.Type.DIRECT));
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * JMH micro-benchmarks of the core hot paths.
+ * <p>
+ * Build with {@code mvn -Pbenchmarks install} and run the shaded jar with
+ * {@code java -jar tools/benchmarks/target/onos-benchmarks-*.jar}; any JMH
+ * option may be given on the command line. Results are written as JSON to
+ * {@code jmh-result.json} unless another result format or file is requested.
+ * </p>
+ */
+package org.onosproject.benchmarks;
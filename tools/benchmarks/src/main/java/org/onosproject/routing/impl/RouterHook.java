@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.routing.impl;
+
+import org.onlab.packet.IpAddress;
+import org.onlab.packet.IpPrefix;
+import org.onlab.packet.MacAddress;
+import org.onosproject.core.CoreServiceAdapter;
+import org.onosproject.net.ConnectPoint;
+import org.onosproject.net.Host;
+import org.onosproject.net.host.HostServiceAdapter;
+import org.onosproject.routing.RouteEntry;
+import org.onosproject.routing.RouteUpdate;
+import org.onosproject.routing.config.BgpPeer;
+import org.onosproject.routing.config.BgpSpeaker;
+import org.onosproject.routing.config.Interface;
+import org.onosproject.routing.config.RoutingConfigurationService;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gives the benchmarks access to the package-private route processing of
+ * the router, with the services it depends on stubbed out. No next hop is
+ * ever resolved, so routes are only added to the RIB.
+ */
+public final class RouterHook {
+
+    private final Router router = new Router();
+
+    /**
+     * Creates a new router with an empty RIB.
+     */
+    public RouterHook() {
+        router.coreService = new CoreServiceAdapter();
+        router.hostService = new HostServiceAdapter() {
+            @Override
+            public Set<Host> getHostsByIp(IpAddress ip) {
+                return Collections.emptySet();
+            }
+        };
+        router.routingConfigurationService = new NoLocalRoutes();
+        router.activate();
+        router.addFibListener((updates, withdraws) -> { });
+    }
+
+    /**
+     * Processes a batch of route updates, as the update thread does.
+     *
+     * @param updates route updates
+     */
+    public void process(Collection<RouteUpdate> updates) {
+        router.processRouteUpdates(updates);
+    }
+
+    /**
+     * Returns the route whose prefix is the longest match of an address.
+     *
+     * @param address IP address
+     * @return matching route, or null if none
+     */
+    public RouteEntry longestMatch(IpAddress address) {
+        return router.getLongestMatchableRouteEntry(address);
+    }
+
+    /**
+     * Returns the number of routes in the RIB.
+     *
+     * @return number of routes
+     */
+    public int size() {
+        return router.getRoutes4().size() + router.getRoutes6().size();
+    }
+
+    // Configuration with no local prefixes
+    private static final class NoLocalRoutes implements RoutingConfigurationService {
+        @Override
+        public Map<String, BgpSpeaker> getBgpSpeakers() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Map<IpAddress, BgpPeer> getBgpPeers() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public MacAddress getVirtualGatewayMacAddress() {
+            return null;
+        }
+
+        @Override
+        public boolean isVirtualGatewayIpAddress(IpAddress ipAddress) {
+            return false;
+        }
+
+        @Override
+        public boolean isIpAddressLocal(IpAddress ipAddress) {
+            return false;
+        }
+
+        @Override
+        public boolean isIpPrefixLocal(IpPrefix ipPrefix) {
+            return false;
+        }
+
+        @Override
+        public Set<Interface> getInterfaces() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<ConnectPoint> getBgpPeerConnectPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Interface getInterface(ConnectPoint connectPoint) {
+            return null;
+        }
+
+        @Override
+        public Interface getInterface(IpAddress ip) {
+            return null;
+        }
+
+        @Override
+        public Interface getMatchingInterface(IpAddress ipAddress) {
+            return null;
+        }
+    }
+}
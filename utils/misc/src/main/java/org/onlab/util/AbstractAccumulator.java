@@ -91,12 +91,15 @@ public abstract class AbstractAccumulator<T> implements Accumulator<T> {
 
     /**
      * Finalizes the current batch, if ready, and schedules a new processor
-     * in the immediate future.
+     * in the immediate future; otherwise schedules the idle task to check
+     * for readiness again later.
      */
     private void scheduleNow() {
         if (isReady()) {
             TimerTask task = new ProcessorTask(finalizeCurrentBatch());
             timer.schedule(task, 1);
+        } else {
+            idleTask = schedule(maxIdleMillis);
         }
     }
 
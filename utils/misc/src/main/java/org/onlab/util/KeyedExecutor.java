@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import com.codahale.metrics.Timer;
+import org.slf4j.Logger;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Executor which runs tasks on a fixed set of single-threaded lanes, chosen
+ * by hashing a key supplied with each task.
+ * <p>
+ * Tasks submitted with equal keys always run on the same lane and therefore
+ * execute in submission order, one at a time. Tasks with different keys may
+ * run concurrently, and a key flooding its lane cannot occupy any of the
+ * other lanes.
+ * </p>
+ */
+public final class KeyedExecutor {
+
+    private final Logger log = getLogger(getClass());
+
+    private final Lane[] lanes;
+
+    /**
+     * Creates a new keyed executor.
+     *
+     * @param laneCount     number of lanes
+     * @param threadFactory thread factory for the lane threads
+     */
+    public KeyedExecutor(int laneCount, ThreadFactory threadFactory) {
+        checkArgument(laneCount > 0, "Lane count must be greater than 0");
+        checkNotNull(threadFactory);
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(threadFactory);
+        }
+    }
+
+    /**
+     * Executes the given task on the lane of the given key.
+     *
+     * @param key  key determining the lane
+     * @param task task to execute
+     */
+    public void execute(Object key, Runnable task) {
+        lanes[lane(key)].execute(task);
+    }
+
+    /**
+     * Returns the index of the lane serving the given key.
+     *
+     * @param key key
+     * @return lane index
+     */
+    public int lane(Object key) {
+        int h = key.hashCode();
+        // Spread the bits; keys such as datapath ids often differ only in
+        // their low-order bits
+        h ^= (h >>> 16);
+        return (h & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return lane count
+     */
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Returns the number of tasks waiting to be run on the given lane.
+     *
+     * @param lane lane index
+     * @return lane queue depth
+     */
+    public int queueDepth(int lane) {
+        return lanes[lane].executor.getQueue().size();
+    }
+
+    /**
+     * Returns the timer recording the time from submission to completion of
+     * the tasks run on the given lane.
+     *
+     * @param lane lane index
+     * @return lane latency timer
+     */
+    public Timer latency(int lane) {
+        return lanes[lane].latency;
+    }
+
+    /**
+     * Initiates an orderly shutdown of all lanes; previously submitted tasks
+     * are executed, but no new tasks are accepted.
+     */
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    /**
+     * Shuts down all lanes, discarding tasks that have not yet been run.
+     */
+    public void shutdownNow() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdownNow();
+        }
+    }
+
+    private final class Lane {
+
+        private final ThreadPoolExecutor executor;
+        private final Timer latency = new Timer();
+
+        private Lane(ThreadFactory threadFactory) {
+            executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                                              new LinkedBlockingQueue<>(),
+                                              threadFactory);
+        }
+
+        private void execute(Runnable task) {
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.warn("Uncaught exception on lane task", e);
+                } finally {
+                    latency.update(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Dictionary encoding of strings that repeat within a serialized message,
+ * for use by Kryo serializers.
+ * <p>
+ * The first occurrence of a string in a message is written in full and
+ * assigned the next id of the dictionary; later occurrences are written as
+ * that id, a varint of one or two bytes. The dictionary lives in the graph
+ * context of the Kryo instance, which Kryo clears once the top-level object
+ * is written or read, so each message carries its own dictionary and can be
+ * decoded on its own.
+ * </p>
+ */
+public final class KryoDictionary {
+
+    // Graph context keys of the writer and reader dictionaries
+    private static final Object WRITE_KEY = new Object();
+    private static final Object READ_KEY = new Object();
+
+    // Marks a string written in full
+    private static final int LITERAL = 0;
+
+    // Strings longer than this are always written in full
+    private static final int MAX_ENTRY_LENGTH = 256;
+
+    // Not instantiable
+    private KryoDictionary() {
+    }
+
+    /**
+     * Writes a string, replacing it with its dictionary id if it was
+     * already written as part of the current message.
+     *
+     * @param kryo   Kryo instance writing the message
+     * @param output output to write to
+     * @param value  string to write, may be null
+     */
+    public static void writeString(Kryo kryo, Output output, String value) {
+        if (value == null || value.length() > MAX_ENTRY_LENGTH) {
+            output.writeVarInt(LITERAL, true);
+            output.writeString(value);
+            return;
+        }
+        Map<String, Integer> ids = writerDictionary(kryo);
+        Integer id = ids.get(value);
+        if (id != null) {
+            output.writeVarInt(id, true);
+            return;
+        }
+        ids.put(value, ids.size() + 1);
+        output.writeVarInt(LITERAL, true);
+        output.writeString(value);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(Kryo, Output, String)}.
+     *
+     * @param kryo  Kryo instance reading the message
+     * @param input input to read from
+     * @return string read, may be null
+     */
+    public static String readString(Kryo kryo, Input input) {
+        int id = input.readVarInt(true);
+        List<String> strings = readerDictionary(kryo);
+        if (id != LITERAL) {
+            if (id > strings.size()) {
+                throw new KryoException("Unknown dictionary id " + id);
+            }
+            return strings.get(id - 1);
+        }
+        String value = input.readString();
+        if (value != null && value.length() <= MAX_ENTRY_LENGTH) {
+            strings.add(value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Integer> writerDictionary(Kryo kryo) {
+        Map<String, Integer> ids = (Map<String, Integer>) kryo.getGraphContext().get(WRITE_KEY);
+        if (ids == null) {
+            ids = new HashMap<>();
+            kryo.getGraphContext().put(WRITE_KEY, ids);
+        }
+        return ids;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> readerDictionary(Kryo kryo) {
+        List<String> strings = (List<String>) kryo.getGraphContext().get(READ_KEY);
+        if (strings == null) {
+            strings = new ArrayList<>();
+            kryo.getGraphContext().put(READ_KEY, strings);
+        }
+        return strings;
+    }
+}
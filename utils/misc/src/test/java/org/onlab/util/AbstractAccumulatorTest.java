@@ -138,6 +138,17 @@ public class AbstractAccumulatorTest {
         assertEquals("incorrect batch", "abcdefg", accumulator.batch);
     }
 
+    @Test
+    public void readyMaxStall() {
+        TestAccumulator accumulator = new TestAccumulator();
+        accumulator.ready = false;
+        IntStream.range(0, 5).forEach(i -> accumulator.add(new TestItem("#" + i)));
+        assertTrue("should not have fired yet", accumulator.batch.isEmpty());
+        accumulator.ready = true;
+        assertAfter(500, () -> assertEquals("full batch should be processed",
+                                            5, accumulator.itemCount));
+    }
+
     @Ignore("FIXME: timing sensitive test failing randomly.")
     @Test
     public void stormTest() {
@@ -158,9 +169,9 @@ public class AbstractAccumulatorTest {
     private class TestAccumulator extends AbstractAccumulator<TestItem> {
 
         String batch = "";
-        boolean ready = true;
+        volatile boolean ready = true;
         int batchCount = 0;
-        int itemCount = 0;
+        volatile int itemCount = 0;
 
         protected TestAccumulator() {
             super(timer, 5, 100, 70);
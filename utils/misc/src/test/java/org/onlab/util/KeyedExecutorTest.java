@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Open Networking Laboratory
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onlab.util;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.onlab.util.Tools.namedThreads;
+
+/**
+ * Test of KeyedExecutor.
+ */
+public class KeyedExecutorTest {
+
+    private final KeyedExecutor executor =
+            new KeyedExecutor(4, namedThreads("keyed-test-%d"));
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void sameKeySameLane() {
+        for (long key = 0; key < 100; key++) {
+            assertEquals(executor.lane(key), executor.lane(Long.valueOf(key)));
+            assertTrue(executor.lane(key) < executor.laneCount());
+        }
+    }
+
+    @Test
+    public void perKeyOrdering() throws InterruptedException {
+        int count = 1000;
+        List<Integer> seen = Collections.synchronizedList(Lists.newArrayList());
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            final int n = i;
+            executor.execute("switch", () -> {
+                seen.add(n);
+                latch.countDown();
+            });
+        }
+        assertTrue("tasks not run", latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < count; i++) {
+            assertEquals("out of order", i, (int) seen.get(i));
+        }
+        assertEquals(count, executor.latency(executor.lane("switch")).getCount());
+    }
+
+    @Test
+    public void busyLaneDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        int blocked = executor.lane(0);
+        int other = (blocked + 1) % executor.laneCount();
+        Object otherKey = null;
+        for (int key = 1; otherKey == null; key++) {
+            if (executor.lane(key) == other) {
+                otherKey = key;
+            }
+        }
+
+        executor.execute(0, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(0, () -> { });
+        executor.execute(otherKey, done::countDown);
+
+        assertTrue("other lane blocked", done.await(1, TimeUnit.SECONDS));
+        assertEquals(1, executor.queueDepth(blocked));
+        release.countDown();
+    }
+
+    @Test
+    public void exceptionDoesNotKillLane() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute("key", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("key", done::countDown);
+        assertTrue("lane stopped", done.await(1, TimeUnit.SECONDS));
+    }
+}